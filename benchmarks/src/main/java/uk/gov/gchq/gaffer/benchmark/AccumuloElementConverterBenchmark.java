@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityAccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.classic.ClassicAccumuloElementConverter;
+import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks converting elements to Accumulo keys and values and back again,
+ * using each of the {@link AccumuloElementConverter}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccumuloElementConverterBenchmark {
+    private static final int ELEMENTS = 1000;
+
+    @Param({"byteEntity", "classic"})
+    public String converterName;
+
+    private AccumuloElementConverter converter;
+    private List<Element> elements;
+    private Key[] keys;
+    private Value[] values;
+
+    @Setup
+    public void setup() {
+        final Schema schema = BenchmarkData.createSchema();
+        if ("byteEntity".equals(converterName)) {
+            converter = new ByteEntityAccumuloElementConverter(schema);
+        } else if ("classic".equals(converterName)) {
+            converter = new ClassicAccumuloElementConverter(schema);
+        } else {
+            throw new IllegalArgumentException("Unknown converter: " + converterName);
+        }
+
+        elements = BenchmarkData.createElements(ELEMENTS);
+        keys = new Key[ELEMENTS];
+        values = new Value[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            keys[i] = converter.getKeysFromElement(elements.get(i)).getFirst();
+            values[i] = converter.getValueFromElement(elements.get(i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void elementToKeyValue(final Blackhole blackhole) {
+        for (final Element element : elements) {
+            final Pair<Key, Key> elementKeys = converter.getKeysFromElement(element);
+            blackhole.consume(elementKeys);
+            blackhole.consume(converter.getValueFromElement(element));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void keyValueToElement(final Blackhole blackhole) {
+        for (int i = 0; i < ELEMENTS; i++) {
+            blackhole.consume(converter.getFullElement(keys[i], values[i], false));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void keyToElementId(final Blackhole blackhole) {
+        for (final Key key : keys) {
+            blackhole.consume(converter.getElementId(key, false));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks ingest and query aggregation using {@link AggregatorUtil}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregationBenchmark {
+
+    @Param({"10000", "100000"})
+    public int elementCount;
+
+    private Schema schema;
+    private View view;
+    private List<Element> elements;
+
+    @Setup
+    public void setup() {
+        schema = BenchmarkData.createSchema();
+        view = new View.Builder()
+                .entity(BenchmarkData.ENTITY)
+                .edge(BenchmarkData.EDGE)
+                .build();
+        elements = BenchmarkData.createElements(elementCount);
+    }
+
+    @Benchmark
+    public void ingestAggregate(final Blackhole blackhole) {
+        for (final Element element : AggregatorUtil.ingestAggregate(elements, schema)) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void queryAggregate(final Blackhole blackhole) {
+        for (final Element element : AggregatorUtil.queryAggregate(elements, schema, view)) {
+            blackhole.consume(element);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.apache.datasketches.hll.HllSketch;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawLongSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.binaryoperator.HllSketchAggregator;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation.HllSketchSerialiser;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.gaffer.time.CommonTimeUtil.TimeBucket;
+import uk.gov.gchq.gaffer.time.RBMBackedTimestampSet;
+import uk.gov.gchq.gaffer.time.binaryoperator.RBMBackedTimestampSetAggregator;
+import uk.gov.gchq.gaffer.time.serialisation.RBMBackedTimestampSetSerialiser;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic data for the benchmarks. All the data is
+ * generated from a seeded {@link Random}, so the same data is used every time
+ * the benchmarks are run and results can be compared between runs.
+ * <p>
+ * The data contains a single entity group and a single edge group, each with
+ * a group-by label, a count, a cardinality sketch and a set of timestamps.
+ * Vertices are drawn from a pool a tenth of the size of the data, so there are
+ * duplicate elements to aggregate.
+ */
+public final class BenchmarkData {
+    public static final long SEED = 42L;
+
+    public static final String ENTITY = "BenchmarkEntity";
+    public static final String EDGE = "BenchmarkEdge";
+
+    public static final String LABEL = "label";
+    public static final String COUNT = "count";
+    public static final String CARDINALITY = "cardinality";
+    public static final String TIMESTAMPS = "timestamps";
+
+    private static final String VERTEX_TYPE = "vertex.string";
+    private static final String DIRECTED_TYPE = "directed.either";
+    private static final String LABEL_TYPE = "label.string";
+    private static final String COUNT_TYPE = "count.long";
+    private static final String CARDINALITY_TYPE = "cardinality.hllsketch";
+    private static final String TIMESTAMPS_TYPE = "timestamps.rbm";
+
+    private static final String[] LABELS = {"red", "green", "blue", "yellow"};
+    private static final long START_TIME = 1704067200000L;
+    private static final long ONE_DAY = 24L * 60 * 60 * 1000;
+
+    private BenchmarkData() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static Schema createSchema() {
+        return new Schema.Builder()
+                .entity(ENTITY, new SchemaEntityDefinition.Builder()
+                        .vertex(VERTEX_TYPE)
+                        .property(LABEL, LABEL_TYPE)
+                        .property(COUNT, COUNT_TYPE)
+                        .property(CARDINALITY, CARDINALITY_TYPE)
+                        .property(TIMESTAMPS, TIMESTAMPS_TYPE)
+                        .groupBy(LABEL)
+                        .build())
+                .edge(EDGE, new SchemaEdgeDefinition.Builder()
+                        .source(VERTEX_TYPE)
+                        .destination(VERTEX_TYPE)
+                        .directed(DIRECTED_TYPE)
+                        .property(LABEL, LABEL_TYPE)
+                        .property(COUNT, COUNT_TYPE)
+                        .property(CARDINALITY, CARDINALITY_TYPE)
+                        .property(TIMESTAMPS, TIMESTAMPS_TYPE)
+                        .groupBy(LABEL)
+                        .build())
+                .type(VERTEX_TYPE, new TypeDefinition.Builder()
+                        .clazz(String.class)
+                        .serialiser(new StringSerialiser())
+                        .build())
+                .type(DIRECTED_TYPE, Boolean.class)
+                .type(LABEL_TYPE, new TypeDefinition.Builder()
+                        .clazz(String.class)
+                        .serialiser(new StringSerialiser())
+                        .build())
+                .type(COUNT_TYPE, new TypeDefinition.Builder()
+                        .clazz(Long.class)
+                        .serialiser(new CompactRawLongSerialiser())
+                        .aggregateFunction(new Sum())
+                        .build())
+                .type(CARDINALITY_TYPE, new TypeDefinition.Builder()
+                        .clazz(HllSketch.class)
+                        .serialiser(new HllSketchSerialiser())
+                        .aggregateFunction(new HllSketchAggregator())
+                        .build())
+                .type(TIMESTAMPS_TYPE, new TypeDefinition.Builder()
+                        .clazz(RBMBackedTimestampSet.class)
+                        .serialiser(new RBMBackedTimestampSetSerialiser())
+                        .aggregateFunction(new RBMBackedTimestampSetAggregator())
+                        .build())
+                .vertexSerialiser(new StringSerialiser())
+                .build();
+    }
+
+    /**
+     * Creates a list of alternating entities and edges.
+     *
+     * @param size the number of elements to create
+     * @return the elements
+     */
+    public static List<Element> createElements(final int size) {
+        final Random random = new Random(SEED);
+        final int vertices = Math.max(1, size / 10);
+        final List<Element> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final String label = LABELS[random.nextInt(LABELS.length)];
+            final String source = createVertex(random.nextInt(vertices));
+            final Element element;
+            if (0 == i % 2) {
+                element = new Entity.Builder()
+                        .group(ENTITY)
+                        .vertex(source)
+                        .build();
+            } else {
+                element = new Edge.Builder()
+                        .group(EDGE)
+                        .source(source)
+                        .dest(createVertex(random.nextInt(vertices)))
+                        .directed(random.nextBoolean())
+                        .build();
+            }
+            element.putProperty(LABEL, label);
+            element.putProperty(COUNT, (long) random.nextInt(100));
+            element.putProperty(CARDINALITY, createSketch(random));
+            element.putProperty(TIMESTAMPS, createTimestamps(random));
+            elements.add(element);
+        }
+        return elements;
+    }
+
+    /**
+     * Creates seeds for vertices that exist in the data created by
+     * {@link #createElements(int)} with the same size.
+     *
+     * @param size  the size of the data
+     * @param seeds the number of seeds to create
+     * @return the seeds
+     */
+    public static List<EntitySeed> createSeeds(final int size, final int seeds) {
+        final Random random = new Random(SEED);
+        final int vertices = Math.max(1, size / 10);
+        final List<EntitySeed> entitySeeds = new ArrayList<>(seeds);
+        for (int i = 0; i < seeds; i++) {
+            entitySeeds.add(new EntitySeed(createVertex(random.nextInt(vertices))));
+        }
+        return entitySeeds;
+    }
+
+    /**
+     * Creates a view containing both groups, with a filter on the count that
+     * roughly half the elements pass.
+     *
+     * @return the view
+     */
+    public static View createView() {
+        final ViewElementDefinition filtered = new ViewElementDefinition.Builder()
+                .preAggregationFilter(new ElementFilter.Builder()
+                        .select(COUNT)
+                        .execute(new IsMoreThan(50L))
+                        .build())
+                .build();
+        return new View.Builder()
+                .entity(ENTITY, filtered)
+                .edge(EDGE, filtered)
+                .build();
+    }
+
+    public static HllSketch createSketch(final Random random) {
+        final HllSketch sketch = new HllSketch();
+        final int values = 1 + random.nextInt(20);
+        for (int i = 0; i < values; i++) {
+            sketch.update("value" + random.nextInt(1000));
+        }
+        return sketch;
+    }
+
+    public static RBMBackedTimestampSet createTimestamps(final Random random) {
+        final RBMBackedTimestampSet timestamps = new RBMBackedTimestampSet(TimeBucket.SECOND);
+        final int values = 1 + random.nextInt(10);
+        for (int i = 0; i < values; i++) {
+            timestamps.add(Instant.ofEpochMilli(START_TIME + (long) (random.nextDouble() * 30 * ONE_DAY)));
+        }
+        return timestamps;
+    }
+
+    private static String createVertex(final int index) {
+        return "vertex" + index;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks round trips of operation chains through the
+ * {@link JSONSerialiser}, as is done for every request to the REST API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerialiserBenchmark {
+
+    @Param({"query", "addElements"})
+    public String chainType;
+
+    private OperationChain<?> chain;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws SerialisationException {
+        if ("query".equals(chainType)) {
+            chain = new OperationChain.Builder()
+                    .first(new GetAdjacentIds.Builder()
+                            .input(BenchmarkData.createSeeds(1000, 100))
+                            .build())
+                    .then(new GetElements.Builder()
+                            .view(BenchmarkData.createView())
+                            .build())
+                    .then(new Limit<>(1000))
+                    .build();
+        } else if ("addElements".equals(chainType)) {
+            chain = new OperationChain<>(new AddElements.Builder()
+                    .input(BenchmarkData.createElements(100))
+                    .build());
+        } else {
+            throw new IllegalArgumentException("Unknown chain type: " + chainType);
+        }
+        json = JSONSerialiser.serialise(chain);
+    }
+
+    @Benchmark
+    public byte[] serialise() throws SerialisationException {
+        return JSONSerialiser.serialise(chain);
+    }
+
+    @Benchmark
+    public OperationChain<?> deserialise() throws SerialisationException {
+        return JSONSerialiser.deserialise(json, OperationChain.class);
+    }
+
+    @Benchmark
+    public OperationChain<?> roundTrip() throws SerialisationException {
+        return JSONSerialiser.deserialise(JSONSerialiser.serialise(chain), OperationChain.class);
+    }
+}
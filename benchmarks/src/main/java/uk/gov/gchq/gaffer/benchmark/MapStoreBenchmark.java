@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks adding and getting elements using the
+ * {@link uk.gov.gchq.gaffer.mapstore.MapStore} handlers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapStoreBenchmark {
+    private static final int SEEDS = 100;
+    private static final User USER = new User();
+
+    @Param({"10000", "100000"})
+    public int elementCount;
+
+    @Param({"true", "false"})
+    public boolean createIndex;
+
+    private List<Element> elements;
+    private List<EntitySeed> seeds;
+    private Graph emptyGraph;
+    private Graph populatedGraph;
+
+    @Setup
+    public void setup() throws OperationException {
+        elements = BenchmarkData.createElements(elementCount);
+        seeds = BenchmarkData.createSeeds(elementCount, SEEDS);
+        populatedGraph = createGraph();
+        populatedGraph.execute(new AddElements.Builder()
+                .input(elements)
+                .build(), USER);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupEmptyGraph() {
+        emptyGraph = createGraph();
+    }
+
+    @Benchmark
+    public void addElements() throws OperationException {
+        emptyGraph.execute(new AddElements.Builder()
+                .input(elements)
+                .validate(false)
+                .build(), USER);
+    }
+
+    @Benchmark
+    public void getElements(final Blackhole blackhole) throws OperationException {
+        for (final Element element : populatedGraph.execute(new GetElements.Builder()
+                .input(seeds)
+                .view(BenchmarkData.createView())
+                .build(), USER)) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void getAllElements(final Blackhole blackhole) throws OperationException {
+        for (final Element element : populatedGraph.execute(new GetAllElements(), USER)) {
+            blackhole.consume(element);
+        }
+    }
+
+    private Graph createGraph() {
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setCreateIndex(createIndex);
+        return new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("benchmark")
+                        .build())
+                .addSchema(BenchmarkData.createSchema())
+                .storeProperties(properties)
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.roaringbitmap.RoaringBitmap;
+
+import uk.gov.gchq.gaffer.bitmap.serialisation.RoaringBitmapSerialiser;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedDateSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedDoubleSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedLongSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawIntegerSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawLongSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation.HllSketchSerialiser;
+import uk.gov.gchq.gaffer.time.serialisation.RBMBackedTimestampSetSerialiser;
+
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks serialising and deserialising values with the
+ * {@link ToBytesSerialiser}s used to store properties and vertices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerialiserBenchmark {
+    private static final int VALUES = 1000;
+
+    @Param({"orderedLong", "orderedDouble", "orderedDate", "compactRawLong", "compactRawInteger",
+            "string", "rbmBackedTimestampSet", "hllSketch", "roaringBitmap"})
+    public String serialiserName;
+
+    private ToBytesSerialiser<Object> serialiser;
+    private Object[] values;
+    private byte[][] serialisedValues;
+
+    @Setup
+    public void setup() throws SerialisationException {
+        final Random random = new Random(BenchmarkData.SEED);
+        switch (serialiserName) {
+            case "orderedLong":
+                init(new OrderedLongSerialiser(), r -> r.nextLong(), random);
+                break;
+            case "orderedDouble":
+                init(new OrderedDoubleSerialiser(), r -> r.nextDouble(), random);
+                break;
+            case "orderedDate":
+                init(new OrderedDateSerialiser(), r -> new Date(Math.abs(r.nextLong() % 4102444800000L)), random);
+                break;
+            case "compactRawLong":
+                init(new CompactRawLongSerialiser(), r -> (long) r.nextInt(1_000_000), random);
+                break;
+            case "compactRawInteger":
+                init(new CompactRawIntegerSerialiser(), r -> r.nextInt(1_000_000), random);
+                break;
+            case "string":
+                init(new StringSerialiser(), r -> "vertex" + r.nextInt(1_000_000), random);
+                break;
+            case "rbmBackedTimestampSet":
+                init(new RBMBackedTimestampSetSerialiser(), BenchmarkData::createTimestamps, random);
+                break;
+            case "hllSketch":
+                init(new HllSketchSerialiser(), BenchmarkData::createSketch, random);
+                break;
+            case "roaringBitmap":
+                init(new RoaringBitmapSerialiser(), SerialiserBenchmark::createBitmap, random);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown serialiser: " + serialiserName);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void serialise(final Blackhole blackhole) throws SerialisationException {
+        for (final Object value : values) {
+            blackhole.consume(serialiser.serialise(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void deserialise(final Blackhole blackhole) throws SerialisationException {
+        for (final byte[] bytes : serialisedValues) {
+            blackhole.consume(serialiser.deserialise(bytes, 0, bytes.length));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void init(final ToBytesSerialiser<T> toBytesSerialiser, final Function<Random, T> generator, final Random random)
+            throws SerialisationException {
+        serialiser = (ToBytesSerialiser<Object>) toBytesSerialiser;
+        values = new Object[VALUES];
+        serialisedValues = new byte[VALUES][];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = generator.apply(random);
+            serialisedValues[i] = serialiser.serialise(values[i]);
+        }
+    }
+
+    private static RoaringBitmap createBitmap(final Random random) {
+        final RoaringBitmap bitmap = new RoaringBitmap();
+        final int values = 1 + random.nextInt(100);
+        for (int i = 0; i < values; i++) {
+            bitmap.add(random.nextInt(100_000));
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.store.ElementValidator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks filtering elements with a view and validating elements against
+ * the schema using the {@link ElementValidator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewFilterBenchmark {
+    private static final int ELEMENTS = 10000;
+
+    private ElementValidator viewValidator;
+    private ElementValidator schemaValidator;
+    private List<Element> elements;
+
+    @Setup
+    public void setup() {
+        viewValidator = new ElementValidator(BenchmarkData.createView());
+        schemaValidator = new ElementValidator(BenchmarkData.createSchema());
+        elements = BenchmarkData.createElements(ELEMENTS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void filterWithView(final Blackhole blackhole) {
+        for (final Element element : elements) {
+            blackhole.consume(viewValidator.validate(element));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void validateWithSchema(final Blackhole blackhole) {
+        for (final Element element : elements) {
+            blackhole.consume(schemaValidator.validate(element));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.commonutil;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Utility methods for classes whose instances cannot be modified, so can be
+ * shared rather than copied.
+ */
+public final class ImmutableClassUtil {
+    /**
+     * The common immutable classes: {@link String}, the boxed primitives,
+     * {@link BigInteger} and {@link BigDecimal}.
+     */
+    public static final Set<Class<?>> IMMUTABLE_CLASSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, Character.class, BigInteger.class, BigDecimal.class)));
+
+    private ImmutableClassUtil() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * @param value the value to check
+     * @return true if the value is null or an instance of one of the
+     * {@link #IMMUTABLE_CLASSES}
+     */
+    public static boolean isImmutable(final Object value) {
+        return null == value || IMMUTABLE_CLASSES.contains(value.getClass());
+    }
+}
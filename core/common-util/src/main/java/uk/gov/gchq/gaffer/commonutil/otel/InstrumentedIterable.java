@@ -0,0 +1,247 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.commonutil.otel;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@code InstrumentedIterable} wraps the lazy output of an operation so
+ * that the work done whilst the output is consumed can be attributed to the
+ * operation that produced it.
+ * <p>
+ * The number of elements produced, the time spent in {@link Iterator#hasNext()}
+ * and {@link Iterator#next()}, the latency to the first element and the time
+ * taken to close the underlying iterable are recorded. When the iterable is
+ * closed, or any of its iterators is exhausted, these are recorded as metrics
+ * and as the attributes of an iteration {@link Span}, which is a child of the
+ * operation's span covering the time from the creation of this iterable.
+ * <p>
+ * No span is held open whilst the output is consumed, so the operation's span
+ * can be ended as soon as the operation has been handled. Nothing is recorded
+ * for iterables which are abandoned before they are exhausted or closed.
+ *
+ * @param <T> the type of items in the iterable
+ */
+public class InstrumentedIterable<T> implements Closeable, Iterable<T> {
+    public static final String ELEMENTS = "gaffer.iterable.elements";
+    public static final String ITERATION_TIME = "gaffer.iterable.iterationTimeMs";
+    public static final String HAS_NEXT_TIME = "gaffer.iterable.hasNextTimeMs";
+    public static final String NEXT_TIME = "gaffer.iterable.nextTimeMs";
+    public static final String FIRST_ELEMENT_LATENCY = "gaffer.iterable.firstElementLatencyMs";
+    public static final String CLOSE_TIME = "gaffer.iterable.closeTimeMs";
+    public static final String OPEN_TIME = "gaffer.iterable.openTimeMs";
+    public static final String OPERATION = "gaffer.operation";
+    public static final String ITERATION_SPAN_SUFFIX = ".iteration";
+
+    private static final String INSTRUMENTATION_NAME = InstrumentedIterable.class.getName();
+
+    private final Iterable<T> input;
+    private final Span parent;
+    private final String operationName;
+    private final Tracer tracer;
+    private final long createdMillis = System.currentTimeMillis();
+    private final long createdNanos = System.nanoTime();
+
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder hasNextNanos = new LongAdder();
+    private final LongAdder nextNanos = new LongAdder();
+    private final AtomicLong firstElementNanos = new AtomicLong(-1L);
+    private final AtomicBoolean finished = new AtomicBoolean(false);
+
+    /**
+     * Constructs an {@code InstrumentedIterable}.
+     *
+     * @param input         the iterable to instrument
+     * @param parent        the span of the operation that produced the input,
+     *                      the parent of the iteration span
+     * @param operationName the name of the operation that produced the input
+     */
+    public InstrumentedIterable(final Iterable<T> input, final Span parent, final String operationName) {
+        this(input, parent, operationName, null);
+    }
+
+    /**
+     * Constructs an {@code InstrumentedIterable} which creates its iteration
+     * span with the given {@link Tracer}.
+     *
+     * @param input         the iterable to instrument
+     * @param parent        the span of the operation that produced the input,
+     *                      the parent of the iteration span
+     * @param operationName the name of the operation that produced the input
+     * @param tracer        the tracer for the iteration span, or null to use
+     *                      the global tracer when OpenTelemetry is active
+     */
+    public InstrumentedIterable(final Iterable<T> input, final Span parent, final String operationName, final Tracer tracer) {
+        if (null == input) {
+            throw new IllegalArgumentException("Input iterable is required");
+        }
+        this.input = input;
+        this.parent = null != parent ? parent : Span.getInvalid();
+        this.operationName = operationName;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InstrumentedIterator(input.iterator());
+    }
+
+    @Override
+    public void close() {
+        final long closeStart = System.nanoTime();
+        CloseableUtil.close(input);
+        finish(System.nanoTime() - closeStart);
+    }
+
+    /**
+     * @return true if the statistics have been reported
+     */
+    @JsonIgnore
+    public boolean isFinished() {
+        return finished.get();
+    }
+
+    private void finish(final long closeNanos) {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+
+        final long count = elements.sum();
+        final long hasNextMs = toMillis(hasNextNanos.sum());
+        final long nextMs = toMillis(nextNanos.sum());
+        final long firstElement = firstElementNanos.get();
+
+        final Span span = startIterationSpan();
+        span.setAttribute(ELEMENTS, count);
+        span.setAttribute(HAS_NEXT_TIME, hasNextMs);
+        span.setAttribute(NEXT_TIME, nextMs);
+        span.setAttribute(ITERATION_TIME, hasNextMs + nextMs);
+        span.setAttribute(CLOSE_TIME, toMillis(closeNanos));
+        span.setAttribute(OPEN_TIME, toMillis(System.nanoTime() - createdNanos));
+        if (firstElement >= 0) {
+            span.setAttribute(FIRST_ELEMENT_LATENCY, toMillis(firstElement));
+        }
+        span.end();
+
+        if (OtelUtil.getOpenTelemetryActive()) {
+            final Attributes attributes = Attributes.of(AttributeKey.stringKey(OPERATION), String.valueOf(operationName));
+            Instruments.ELEMENTS_COUNTER.add(count, attributes);
+            Instruments.ITERATION_TIME_HISTOGRAM.record(hasNextMs + nextMs, attributes);
+            Instruments.CLOSE_TIME_HISTOGRAM.record(toMillis(closeNanos), attributes);
+            if (firstElement >= 0) {
+                Instruments.FIRST_ELEMENT_LATENCY_HISTOGRAM.record(toMillis(firstElement), attributes);
+            }
+        }
+    }
+
+    private Span startIterationSpan() {
+        final Tracer iterationTracer;
+        if (null != tracer) {
+            iterationTracer = tracer;
+        } else if (OtelUtil.getOpenTelemetryActive()) {
+            iterationTracer = OtelUtil.getTracer(INSTRUMENTATION_NAME);
+        } else {
+            return Span.getInvalid();
+        }
+        return iterationTracer.spanBuilder(operationName + ITERATION_SPAN_SUFFIX)
+                .setParent(Context.root().with(parent))
+                .setStartTimestamp(createdMillis, TimeUnit.MILLISECONDS)
+                .startSpan();
+    }
+
+    private static long toMillis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * The metric instruments, created the first time they are used so that
+     * the global meter is not requested before OpenTelemetry is configured.
+     */
+    private static final class Instruments {
+        private static final Meter METER = OtelUtil.getMeter(INSTRUMENTATION_NAME);
+        private static final LongCounter ELEMENTS_COUNTER = METER.counterBuilder(ELEMENTS).build();
+        private static final LongHistogram ITERATION_TIME_HISTOGRAM = METER.histogramBuilder(ITERATION_TIME)
+                .setUnit("ms").ofLongs().build();
+        private static final LongHistogram CLOSE_TIME_HISTOGRAM = METER.histogramBuilder(CLOSE_TIME)
+                .setUnit("ms").ofLongs().build();
+        private static final LongHistogram FIRST_ELEMENT_LATENCY_HISTOGRAM = METER.histogramBuilder(FIRST_ELEMENT_LATENCY)
+                .setUnit("ms").ofLongs().build();
+
+        private Instruments() {
+            // Holder class
+        }
+    }
+
+    private final class InstrumentedIterator implements Closeable, Iterator<T> {
+        private final Iterator<T> iterator;
+
+        private InstrumentedIterator(final Iterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            final long start = System.nanoTime();
+            final boolean hasNext = iterator.hasNext();
+            hasNextNanos.add(System.nanoTime() - start);
+            if (!hasNext) {
+                final long closeStart = System.nanoTime();
+                CloseableUtil.close(iterator);
+                finish(System.nanoTime() - closeStart);
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            final long start = System.nanoTime();
+            final T next = iterator.next();
+            final long end = System.nanoTime();
+            nextNanos.add(end - start);
+            elements.increment();
+            firstElementNanos.compareAndSet(-1L, end - createdNanos);
+            return next;
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+        }
+
+        @Override
+        public void close() {
+            CloseableUtil.close(iterator);
+        }
+    }
+}
@@ -17,7 +17,10 @@
 package uk.gov.gchq.gaffer.commonutil.otel;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
 
 public final class OtelUtil {
 
@@ -47,6 +50,34 @@ public final class OtelUtil {
             .startSpan();
     }
 
+    /**
+     * Gets a {@link Tracer} with the given instrumentation name, note will
+     * return a no-op tracer if OpenTelemetry is turned off.
+     *
+     * @param tracerName Name of the Tracer
+     * @return the {@link Tracer}
+     */
+    public static Tracer getTracer(final String tracerName) {
+        if (!openTelemetryActive) {
+            return OpenTelemetry.noop().getTracer(tracerName);
+        }
+        return GlobalOpenTelemetry.getTracer(tracerName);
+    }
+
+    /**
+     * Gets a {@link Meter} for recording metrics with the given instrumentation
+     * name, note will return a no-op meter if OpenTelemetry is turned off.
+     *
+     * @param instrumentationName Name of the instrumentation scope
+     * @return the {@link Meter}
+     */
+    public static Meter getMeter(final String instrumentationName) {
+        if (!openTelemetryActive) {
+            return OpenTelemetry.noop().getMeter(instrumentationName);
+        }
+        return GlobalOpenTelemetry.getMeter(instrumentationName);
+    }
+
     /**
      * Get if OpenTelemetry is in use.
      *
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.commonutil;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ImmutableClassUtilTest {
+
+    @Test
+    void shouldTreatNullStringsNumbersAndBooleansAsImmutable() {
+        assertThat(ImmutableClassUtil.isImmutable(null)).isTrue();
+        assertThat(ImmutableClassUtil.isImmutable("a")).isTrue();
+        assertThat(ImmutableClassUtil.isImmutable(1L)).isTrue();
+        assertThat(ImmutableClassUtil.isImmutable(BigInteger.ONE)).isTrue();
+        assertThat(ImmutableClassUtil.isImmutable(true)).isTrue();
+    }
+
+    @Test
+    void shouldNotTreatMutableClassesAsImmutable() {
+        assertThat(ImmutableClassUtil.isImmutable(new Date())).isFalse();
+        assertThat(ImmutableClassUtil.isImmutable(new ArrayList<>())).isFalse();
+    }
+
+    @Test
+    void shouldNotAllowTheImmutableClassesToBeModified() {
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> ImmutableClassUtil.IMMUTABLE_CLASSES.add(Date.class));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.commonutil.otel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.Tracer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class InstrumentedIterableTest {
+    private Span parent;
+    private Span span;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        parent = mock(Span.class);
+        span = mock(Span.class);
+        tracer = mock(Tracer.class);
+        final SpanBuilder spanBuilder = mock(SpanBuilder.class, RETURNS_SELF);
+        when(spanBuilder.startSpan()).thenReturn(span);
+        when(tracer.spanBuilder(anyString())).thenReturn(spanBuilder);
+    }
+
+    @Test
+    void shouldReturnAllItemsAndRecordIterationSpanWhenExhausted() {
+        // Given
+        final List<Integer> input = Arrays.asList(1, 2, 3);
+        final InstrumentedIterable<Integer> iterable = new InstrumentedIterable<>(input, parent, "op", tracer);
+
+        // When
+        final Iterator<Integer> itr = iterable.iterator();
+
+        // Then
+        verify(tracer, never()).spanBuilder(anyString());
+        assertThat(itr).toIterable().containsExactly(1, 2, 3);
+        assertThat(iterable.isFinished()).isTrue();
+        verify(tracer).spanBuilder("op" + InstrumentedIterable.ITERATION_SPAN_SUFFIX);
+        verify(span).setAttribute(InstrumentedIterable.ELEMENTS, 3L);
+        verify(span).setAttribute(eq(InstrumentedIterable.FIRST_ELEMENT_LATENCY), anyLong());
+        verify(span).setAttribute(eq(InstrumentedIterable.ITERATION_TIME), anyLong());
+        verify(span).end();
+        verify(parent, never()).end();
+    }
+
+    @Test
+    void shouldRecordIterationSpanOnlyOnceWhenClosedAfterExhaustion() {
+        // Given
+        final InstrumentedIterable<Integer> iterable = new InstrumentedIterable<>(Arrays.asList(1, 2), parent, "op", tracer);
+
+        // When
+        iterable.forEach(i -> { });
+        iterable.close();
+
+        // Then
+        verify(tracer, times(1)).spanBuilder(anyString());
+        verify(span, times(1)).end();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldCloseInputAndRecordIterationSpanWhenClosedEarly() throws IOException {
+        // Given
+        final Iterable<Integer> input = mock(Iterable.class, withSettings().extraInterfaces(Closeable.class));
+        when(input.iterator()).thenReturn(Arrays.asList(1, 2, 3).iterator());
+        final InstrumentedIterable<Integer> iterable = new InstrumentedIterable<>(input, parent, "op", tracer);
+
+        // When
+        final Iterator<Integer> itr = iterable.iterator();
+        itr.next();
+        iterable.close();
+
+        // Then
+        verify((Closeable) input).close();
+        verify(span).setAttribute(InstrumentedIterable.ELEMENTS, 1L);
+        verify(span).setAttribute(eq(InstrumentedIterable.CLOSE_TIME), anyLong());
+        verify(span).end();
+    }
+
+    @Test
+    void shouldNotHoldAnySpanOpenForAbandonedIterators() {
+        // Given
+        final InstrumentedIterable<Integer> iterable = new InstrumentedIterable<>(Arrays.asList(1, 2, 3), parent, "op", tracer);
+
+        // When
+        iterable.iterator().next();
+
+        // Then
+        assertThat(iterable.isFinished()).isFalse();
+        verify(tracer, never()).spanBuilder(anyString());
+        verify(parent, never()).end();
+    }
+
+    @Test
+    void shouldNotRecordFirstElementLatencyForEmptyInput() {
+        // Given
+        final InstrumentedIterable<Integer> iterable = new InstrumentedIterable<>(Arrays.asList(), parent, "op", tracer);
+
+        // When
+        assertThat(iterable).isEmpty();
+
+        // Then
+        verify(span).setAttribute(InstrumentedIterable.ELEMENTS, 0L);
+        verify(span, never()).setAttribute(eq(InstrumentedIterable.FIRST_ELEMENT_LATENCY), anyLong());
+        verify(span).end();
+    }
+
+    @Test
+    void shouldJsonSerialiseAsTheItemsOfTheInput() throws JsonProcessingException {
+        // Given
+        final InstrumentedIterable<Integer> iterable = new InstrumentedIterable<>(Arrays.asList(1, 2, 3), Span.getInvalid(), "op");
+
+        // When
+        final String json = new ObjectMapper().writeValueAsString(iterable);
+
+        // Then
+        assertThat(json).isEqualTo("[1,2,3]");
+        assertThat(iterable.isFinished()).isTrue();
+    }
+
+    @Test
+    void shouldRequireInput() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new InstrumentedIterable<>(null, Span.getInvalid(), "op"))
+                .withMessage("Input iterable is required");
+    }
+}
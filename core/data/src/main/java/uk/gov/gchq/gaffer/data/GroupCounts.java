@@ -16,8 +16,12 @@
 
 package uk.gov.gchq.gaffer.data;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,29 +29,48 @@ import java.util.Map;
  * Summary of element groups. If the limitHit flag is true then the counts will
  * not be fully populated - they are simply the counts of the groups up to the
  * point at which the limit was reached.
+ * <p>
+ * The counts are held as longs, so they can hold counts computed natively by
+ * large stores. The int getters and setters are kept for compatibility, and
+ * cap the counts at {@link Integer#MAX_VALUE}.
  */
 public class GroupCounts {
-    private Map<String, Integer> entityGroups = new HashMap<>();
-    private Map<String, Integer> edgeGroups = new HashMap<>();
+    private Map<String, Long> entityGroupCounts = new HashMap<>();
+    private Map<String, Long> edgeGroupCounts = new HashMap<>();
     private boolean limitHit;
 
     public void addEntityGroup(final String group) {
-        addElementGroup(group, entityGroups);
+        addElementGroupCount(group, 1L, entityGroupCounts);
     }
 
     public void addEdgeGroup(final String group) {
-        addElementGroup(group, edgeGroups);
+        addElementGroupCount(group, 1L, edgeGroupCounts);
     }
 
-    private void addElementGroup(final String group, final Map<String, Integer> elementGroups) {
-        Integer count = elementGroups.get(group);
-        if (null == count) {
-            count = 1;
-        } else {
-            count += 1;
-        }
+    /**
+     * Adds a count of entities in a group, e.g. a count that has been
+     * computed natively by a store.
+     *
+     * @param group the entity group
+     * @param count the number of entities in the group
+     */
+    public void addEntityGroupCount(final String group, final long count) {
+        addElementGroupCount(group, count, entityGroupCounts);
+    }
+
+    /**
+     * Adds a count of edges in a group, e.g. a count that has been
+     * computed natively by a store.
+     *
+     * @param group the edge group
+     * @param count the number of edges in the group
+     */
+    public void addEdgeGroupCount(final String group, final long count) {
+        addElementGroupCount(group, count, edgeGroupCounts);
+    }
 
-        elementGroups.put(group, count);
+    private void addElementGroupCount(final String group, final long count, final Map<String, Long> elementGroups) {
+        elementGroups.merge(group, count, Long::sum);
     }
 
     public boolean isLimitHit() {
@@ -58,27 +81,83 @@ public class GroupCounts {
         this.limitHit = limitHit;
     }
 
+    @JsonProperty("entityGroups")
+    public Map<String, Long> getEntityGroupCounts() {
+        return entityGroupCounts;
+    }
+
+    @JsonProperty("entityGroups")
+    public void setEntityGroupCounts(final Map<String, Long> entityGroupCounts) {
+        this.entityGroupCounts = entityGroupCounts;
+    }
+
+    @JsonProperty("edgeGroups")
+    public Map<String, Long> getEdgeGroupCounts() {
+        return edgeGroupCounts;
+    }
+
+    @JsonProperty("edgeGroups")
+    public void setEdgeGroupCounts(final Map<String, Long> edgeGroupCounts) {
+        this.edgeGroupCounts = edgeGroupCounts;
+    }
+
+    /**
+     * Gets the entity group counts as ints. This is an unmodifiable copy, so
+     * the counts must be changed through the long count methods.
+     *
+     * @return an unmodifiable copy of the entity group counts, capped at
+     * {@link Integer#MAX_VALUE}
+     * @see #getEntityGroupCounts()
+     */
+    @JsonIgnore
     public Map<String, Integer> getEntityGroups() {
-        return entityGroups;
+        return toIntCounts(entityGroupCounts);
     }
 
+    @JsonIgnore
     public void setEntityGroups(final Map<String, Integer> entityGroups) {
-        this.entityGroups = entityGroups;
+        this.entityGroupCounts = toLongCounts(entityGroups);
     }
 
+    /**
+     * Gets the edge group counts as ints. This is an unmodifiable copy, so
+     * the counts must be changed through the long count methods.
+     *
+     * @return an unmodifiable copy of the edge group counts, capped at
+     * {@link Integer#MAX_VALUE}
+     * @see #getEdgeGroupCounts()
+     */
+    @JsonIgnore
     public Map<String, Integer> getEdgeGroups() {
-        return edgeGroups;
+        return toIntCounts(edgeGroupCounts);
     }
 
+    @JsonIgnore
     public void setEdgeGroups(final Map<String, Integer> edgeGroups) {
-        this.edgeGroups = edgeGroups;
+        this.edgeGroupCounts = toLongCounts(edgeGroups);
+    }
+
+    private static Map<String, Integer> toIntCounts(final Map<String, Long> counts) {
+        final Map<String, Integer> intCounts = new HashMap<>();
+        if (null != counts) {
+            counts.forEach((group, count) -> intCounts.put(group, (int) Math.min(count, Integer.MAX_VALUE)));
+        }
+        return Collections.unmodifiableMap(intCounts);
+    }
+
+    private static Map<String, Long> toLongCounts(final Map<String, Integer> counts) {
+        final Map<String, Long> longCounts = new HashMap<>();
+        if (null != counts) {
+            counts.forEach((group, count) -> longCounts.put(group, count.longValue()));
+        }
+        return longCounts;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .append("entityGroups", entityGroups)
-                .append("edgeGroups", edgeGroups)
+                .append("entityGroups", entityGroupCounts)
+                .append("edgeGroups", edgeGroupCounts)
                 .append("limitHit", limitHit)
                 .build();
     }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.element;
+
+import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * An {@code ElementKey} is an immutable key for grouping {@link Element}s,
+ * consisting of the group, the identifiers and the values of the group-by
+ * properties of an element. The hash code is computed once when the key is
+ * created, so the key is cheap to use in hash based collections and it is not
+ * affected if the element it was created from is later modified.
+ * <p>
+ * Keys should only be compared with keys created using the same group-by
+ * properties, as only the property values are held by the key.
+ */
+public final class ElementKey {
+    private final String group;
+    private final Object[] identifiers;
+    private final Object[] groupByValues;
+    private final Element element;
+    private final int hash;
+
+    private ElementKey(final String group, final Object[] identifiers, final Object[] groupByValues, final Element element) {
+        this.group = group;
+        this.identifiers = identifiers;
+        this.groupByValues = groupByValues;
+        this.element = element;
+        this.hash = 31 * (31 * Objects.hashCode(group) + Arrays.hashCode(identifiers)) + Arrays.hashCode(groupByValues);
+    }
+
+    /**
+     * Creates a key for an element. The matched vertex of an {@link Edge} is
+     * not included in the key.
+     *
+     * @param element the element to create the key for
+     * @param groupBy the names of the group-by properties
+     * @return the key
+     */
+    public static ElementKey create(final Element element, final Collection<String> groupBy) {
+        return create(element, groupBy, false);
+    }
+
+    /**
+     * Creates a key for an element.
+     *
+     * @param element              the element to create the key for
+     * @param groupBy              the names of the group-by properties
+     * @param includeMatchedVertex whether the matched vertex of an {@link Edge}
+     *                             should be included in the key
+     * @return the key
+     */
+    public static ElementKey create(final Element element, final Collection<String> groupBy, final boolean includeMatchedVertex) {
+        final Object[] identifiers;
+        if (element instanceof Entity) {
+            identifiers = new Object[]{((Entity) element).getVertex()};
+        } else {
+            final Edge edge = (Edge) element;
+            if (includeMatchedVertex) {
+                identifiers = new Object[]{edge.getSource(), edge.getDestination(), edge.isDirected(), edge.getMatchedVertex()};
+            } else {
+                identifiers = new Object[]{edge.getSource(), edge.getDestination(), edge.isDirected()};
+            }
+        }
+
+        final Object[] groupByValues;
+        if (null == groupBy || groupBy.isEmpty()) {
+            groupByValues = new Object[0];
+        } else {
+            groupByValues = new Object[groupBy.size()];
+            int i = 0;
+            for (final String propertyName : groupBy) {
+                groupByValues[i++] = element.getProperty(propertyName);
+            }
+        }
+
+        return new ElementKey(element.getGroup(), identifiers, groupByValues, element);
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    /**
+     * Gets the element this key was created from. The element is not used
+     * when comparing keys.
+     *
+     * @return the element this key was created from
+     */
+    public Element getElement() {
+        return element;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (null == obj || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final ElementKey key = (ElementKey) obj;
+        return hash == key.hash
+                && Objects.equals(group, key.group)
+                && Arrays.equals(identifiers, key.identifiers)
+                && Arrays.equals(groupByValues, key.groupByValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("group", group)
+                .append("identifiers", identifiers)
+                .append("groupByValues", groupByValues)
+                .toString();
+    }
+}
@@ -22,16 +22,23 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.types.binaryoperator.AccumulatingBinaryOperator;
+import uk.gov.gchq.gaffer.types.binaryoperator.Accumulators;
 import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
 import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperatorComposite;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BinaryOperator;
 
 /**
  * An {@link ElementAggregator} is a {@link BinaryOperator} which aggregates two
- * {@link Element} objects into a single element.
+ * {@link Element} objects into a single element. It can also aggregate a run
+ * of {@link Properties} in a single pass, using the
+ * {@link AccumulatingBinaryOperator}s of its components where available.
  */
 public class ElementAggregator extends TupleAdaptedBinaryOperatorComposite<String> {
     private final PropertiesTuple stateTuple = new PropertiesTuple();
@@ -66,6 +73,103 @@ public class ElementAggregator extends TupleAdaptedBinaryOperatorComposite<Strin
         return state;
     }
 
+    /**
+     * Aggregates a run of properties into the first properties, which are
+     * returned.
+     * <p>
+     * Components with an {@link AccumulatingBinaryOperator} accumulate their
+     * property across all of the properties and build the aggregated value
+     * once, rather than creating intermediate values for every pair. Other
+     * components are applied pairwise as usual. If any component selects more
+     * than one property, or a property is selected by more than one component,
+     * the properties are aggregated pairwise using
+     * {@link #apply(Properties, Properties)}.
+     *
+     * @param propertiesIterator the properties to aggregate
+     * @return the aggregated properties, or null if there were no non null
+     * properties
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Properties aggregate(final Iterator<Properties> propertiesIterator) {
+        Properties first = null;
+        while (null == first && propertiesIterator.hasNext()) {
+            first = propertiesIterator.next();
+        }
+        if (null == first || !propertiesIterator.hasNext()) {
+            return first;
+        }
+
+        final Properties state = first;
+        final List<TupleAdaptedBinaryOperator<String, ?>> components = getComponents();
+        final int size = components.size();
+        final String[] propertyNames = new String[size];
+        final BinaryOperator[] binaryOperators = new BinaryOperator[size];
+        final AccumulatingBinaryOperator[] accumulators = new AccumulatingBinaryOperator[size];
+        if (!canAccumulate(components, propertyNames, binaryOperators, accumulators)) {
+            while (propertiesIterator.hasNext()) {
+                final Properties properties = propertiesIterator.next();
+                if (null != properties) {
+                    apply(state, properties);
+                }
+            }
+            return state;
+        }
+
+        // Accumulators are only begun when a non null value is found
+        final Object[] values = new Object[size];
+        final boolean[] begun = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = state.get(propertyNames[i]);
+            if (null != accumulators[i] && null != values[i]) {
+                values[i] = accumulators[i].begin(values[i]);
+                begun[i] = true;
+            }
+        }
+
+        while (propertiesIterator.hasNext()) {
+            final Properties properties = propertiesIterator.next();
+            if (null == properties) {
+                continue;
+            }
+            for (int i = 0; i < size; i++) {
+                final Object value = properties.get(propertyNames[i]);
+                if (null == accumulators[i]) {
+                    values[i] = binaryOperators[i].apply(values[i], value);
+                } else if (null != value) {
+                    values[i] = begun[i] ? accumulators[i].accumulate(values[i], value) : accumulators[i].begin(value);
+                    begun[i] = true;
+                }
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            state.put(propertyNames[i], begun[i] ? accumulators[i].finish(values[i]) : values[i]);
+        }
+        return state;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean canAccumulate(final List<TupleAdaptedBinaryOperator<String, ?>> components,
+                                         final String[] propertyNames,
+                                         final BinaryOperator[] binaryOperators,
+                                         final AccumulatingBinaryOperator... accumulators) {
+        boolean hasAccumulator = false;
+        final Set<String> selected = new HashSet<>();
+        for (int i = 0; i < components.size(); i++) {
+            final TupleAdaptedBinaryOperator<String, ?> component = components.get(i);
+            final String[] selection = component.getSelection();
+            if (null == selection || 1 != selection.length || !selected.add(selection[0])
+                    || null == component.getBinaryOperator()) {
+                return false;
+            }
+            propertyNames[i] = selection[0];
+            binaryOperators[i] = component.getBinaryOperator();
+            accumulators[i] = Accumulators.getAccumulator(binaryOperators[i]);
+            hasAccumulator |= null != accumulators[i];
+        }
+        return hasAccumulator;
+    }
+
     @Override
     public List<TupleAdaptedBinaryOperator<String, ?>> getComponents() {
         if (readOnly) {
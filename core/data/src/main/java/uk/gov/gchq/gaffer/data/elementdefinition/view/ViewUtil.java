@@ -20,6 +20,7 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Properties;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 
 /**
  * Utility class containing methods for modifying {@link View} objects.
@@ -99,4 +100,48 @@ public final class ViewUtil {
                 .edges(edges)
                 .build();
     }
+
+    /**
+     * Checks whether a {@link View} only selects groups, i.e. it does not
+     * filter, transform or change the aggregation of any of the elements in
+     * those groups. Restrictions on the properties returned are allowed as
+     * they do not change which elements are returned.
+     *
+     * @param view the view to check
+     * @return true if the view only selects groups
+     */
+    public static boolean isGroupSelectionOnly(final View view) {
+        if (null == view || view.isAllEntities() || view.isAllEdges()
+                || isNotEmpty(view.getGlobalElements())
+                || isNotEmpty(view.getGlobalEntities())
+                || isNotEmpty(view.getGlobalEdges())) {
+            return false;
+        }
+
+        for (final ViewElementDefinition elDef : view.getEntities().values()) {
+            if (!isGroupSelectionOnly(elDef)) {
+                return false;
+            }
+        }
+        for (final ViewElementDefinition elDef : view.getEdges().values()) {
+            if (!isGroupSelectionOnly(elDef)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isGroupSelectionOnly(final ViewElementDefinition elDef) {
+        return null == elDef
+                || (!elDef.hasPreAggregationFilters()
+                && !elDef.hasPostAggregationFilters()
+                && !elDef.hasPostTransformFilters()
+                && !elDef.hasTransform()
+                && null == elDef.getAggregator()
+                && null == elDef.getGroupBy());
+    }
+
+    private static boolean isNotEmpty(final List<?> list) {
+        return null != list && !list.isEmpty();
+    }
 }
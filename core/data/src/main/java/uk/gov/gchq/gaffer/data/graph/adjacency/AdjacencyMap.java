@@ -16,12 +16,19 @@
 
 package uk.gov.gchq.gaffer.data.graph.adjacency;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Sets;
-
 import uk.gov.gchq.gaffer.data.element.Edge;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,13 +37,30 @@ import static java.util.stream.Collectors.toSet;
 /**
  * An {@code AdjacencyMap} is used to store the contents of a graph in memory in
  * a format which can easily be interrogated.
+ * <p>
+ * Each edge is held once in a list and the pairs of vertices refer to their
+ * edges by index, so a pair joined by a single edge only needs a one element
+ * array rather than a {@link Set} of its own.
  */
 public class AdjacencyMap {
 
     /**
-     * Backing object used to store the AdjacencyMap representation.
+     * The edges in this AdjacencyMap. Removed edges are replaced with
+     * {@code null} so the indexes of the remaining edges do not change.
      */
-    private final HashBasedTable<Object, Object, Set<Edge>> edgeGraph = HashBasedTable.create();
+    private final List<Edge> edges = new ArrayList<>();
+
+    /**
+     * The indexes of the edges between each pair of vertices, keyed by the
+     * source vertex and then the destination vertex.
+     */
+    private final Map<Object, Map<Object, int[]>> edgeGraph = new HashMap<>();
+
+    /**
+     * The number of source vertices linked to each destination vertex, in the
+     * order the destinations were first added.
+     */
+    private final Map<Object, Integer> destinationCounts = new LinkedHashMap<>();
 
     /**
      * Get the entries in the AdjacencyMap which match the provided source and
@@ -49,8 +73,9 @@ public class AdjacencyMap {
      * vertices
      */
     public Set<Edge> getEdges(final Object source, final Object destination) {
-        final Set<Edge> results = edgeGraph.get(source, destination);
-        return null != results ? results : Collections.emptySet();
+        final Map<Object, int[]> destinations = edgeGraph.get(source);
+        final int[] indexes = null != destinations ? destinations.get(destination) : null;
+        return null != indexes ? new EdgeSet(indexes) : Collections.emptySet();
     }
 
     /**
@@ -80,14 +105,19 @@ public class AdjacencyMap {
      * source and destination vertices
      */
     public Set<Edge> putEdge(final Object source, final Object destination, final Edge edge) {
-        final Set<Edge> existing = edgeGraph.get(source, destination);
-        if (null == existing) {
-            final Set<Edge> set = Sets.newHashSet(edge);
-            return edgeGraph.put(source, destination, set);
+        final Map<Object, int[]> destinations = edgeGraph.computeIfAbsent(source, k -> new HashMap<>());
+        int[] indexes = destinations.get(destination);
+        if (null == indexes) {
+            indexes = new int[]{addEdge(edge)};
+            destinationCounts.merge(destination, 1, Integer::sum);
+        } else if (!new EdgeSet(indexes).contains(edge)) {
+            indexes = Arrays.copyOf(indexes, indexes.length + 1);
+            indexes[indexes.length - 1] = addEdge(edge);
         } else {
-            existing.add(edge);
-            return existing;
+            return new EdgeSet(indexes);
         }
+        destinations.put(destination, indexes);
+        return new EdgeSet(indexes);
     }
 
     /**
@@ -99,7 +129,8 @@ public class AdjacencyMap {
      * @return a {@link Set} of the destination vertices
      */
     public Set<Object> getDestinations(final Object source) {
-        return Collections.unmodifiableSet(edgeGraph.row(source).keySet());
+        final Map<Object, int[]> destinations = edgeGraph.get(source);
+        return null != destinations ? Collections.unmodifiableSet(destinations.keySet()) : Collections.emptySet();
     }
 
     /**
@@ -111,7 +142,16 @@ public class AdjacencyMap {
      * @return a {@link Set} of the source vertices
      */
     public Set<Object> getSources(final Object destination) {
-        return Collections.unmodifiableSet(edgeGraph.column(destination).keySet());
+        if (!destinationCounts.containsKey(destination)) {
+            return Collections.emptySet();
+        }
+        final Set<Object> sources = new LinkedHashSet<>();
+        for (final Map.Entry<Object, Map<Object, int[]>> entry : edgeGraph.entrySet()) {
+            if (entry.getValue().containsKey(destination)) {
+                sources.add(entry.getKey());
+            }
+        }
+        return Collections.unmodifiableSet(sources);
     }
 
     /**
@@ -121,17 +161,17 @@ public class AdjacencyMap {
      * @return an immutable set containing the source vertices
      */
     public Set<Object> getAllSources() {
-        return Collections.unmodifiableSet(edgeGraph.rowKeySet());
+        return Collections.unmodifiableSet(edgeGraph.keySet());
     }
 
     /**
      * Get a {@link Set} containing all of the destination vertices in this
-     * AdjacencyMap.
+     * AdjacencyMap, in the order they were first added.
      *
      * @return an immutable set containing the destination vertices
      */
     public Set<Object> getAllDestinations() {
-        return Collections.unmodifiableSet(edgeGraph.columnKeySet());
+        return Collections.unmodifiableSet(destinationCounts.keySet());
     }
 
     /**
@@ -141,12 +181,25 @@ public class AdjacencyMap {
      * @param destination the destination vertex
      */
     public void removeAllWithDestination(final Object destination) {
-        final Set<Object> set = Sets.newHashSet(getSources(destination));
-        for (final Object v : set) {
-            edgeGraph.remove(v, destination);
+        if (destinationCounts.containsKey(destination)) {
+            retainDestinations(Collections.singleton(destination), true);
         }
     }
 
+    /**
+     * Remove all entries in the AdjacencyMap which do not have one of the
+     * provided vertices as a destination. This is done in a single pass over
+     * the AdjacencyMap, however many entries are removed.
+     *
+     * @param destinations the destination vertices to keep
+     *
+     * @return {@code true} if any entries were removed, otherwise
+     * {@code false}
+     */
+    public boolean retainDestinations(final Set<?> destinations) {
+        return retainDestinations(destinations, false);
+    }
+
     /**
      * Determines whether this AdjacencyMap contains the specified source
      * vertex.
@@ -157,7 +210,7 @@ public class AdjacencyMap {
      * {@code false}
      */
     public boolean containsSource(final Object source) {
-        return edgeGraph.rowKeySet().contains(source);
+        return edgeGraph.containsKey(source);
     }
 
     /**
@@ -170,7 +223,7 @@ public class AdjacencyMap {
      * otherwise {@code false}
      */
     public boolean containsDestination(final Object destination) {
-        return edgeGraph.columnKeySet().contains(destination);
+        return destinationCounts.containsKey(destination);
     }
 
     public String toStringFull() {
@@ -179,8 +232,75 @@ public class AdjacencyMap {
 
     @Override
     public String toString() {
-        return edgeGraph.rowKeySet().stream()
+        return edgeGraph.keySet().stream()
                 .map(s -> s.toString() + "->" + getDestinations(s))
                 .collect(Collectors.joining(", ", "{", "}"));
     }
+
+    private int addEdge(final Edge edge) {
+        edges.add(edge);
+        return edges.size() - 1;
+    }
+
+    // Removes the entries whose destination is (if remove is true) or is not
+    // (if remove is false) in the provided set of destinations.
+    private boolean retainDestinations(final Set<?> destinations, final boolean remove) {
+        boolean removed = false;
+        final Iterator<Map<Object, int[]>> rows = edgeGraph.values().iterator();
+        while (rows.hasNext()) {
+            final Map<Object, int[]> row = rows.next();
+            final Iterator<Map.Entry<Object, int[]>> entries = row.entrySet().iterator();
+            while (entries.hasNext()) {
+                final Map.Entry<Object, int[]> entry = entries.next();
+                if (remove == destinations.contains(entry.getKey())) {
+                    for (final int index : entry.getValue()) {
+                        edges.set(index, null);
+                    }
+                    destinationCounts.computeIfPresent(entry.getKey(), (k, count) -> count > 1 ? count - 1 : null);
+                    entries.remove();
+                    removed = true;
+                }
+            }
+            if (row.isEmpty()) {
+                rows.remove();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * An immutable view of the edges at a set of indexes.
+     */
+    private final class EdgeSet extends AbstractSet<Edge> {
+        private final int[] indexes;
+
+        private EdgeSet(final int... indexes) {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public Iterator<Edge> iterator() {
+            return new Iterator<Edge>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < indexes.length;
+                }
+
+                @Override
+                public Edge next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return edges.get(indexes[next++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return indexes.length;
+        }
+    }
 }
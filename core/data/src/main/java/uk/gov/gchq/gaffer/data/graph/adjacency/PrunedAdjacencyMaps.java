@@ -18,7 +18,6 @@ package uk.gov.gchq.gaffer.data.graph.adjacency;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * A {@code PrunedAdjacencyMaps} object represents a collection of {@link
@@ -49,35 +48,21 @@ public class PrunedAdjacencyMaps implements AdjacencyMaps {
      * An orphaned edge is one which does not form part of a walk which reaches
      * a destination vertex in the "topmost" adjacency map under consideration.
      * <p>
-     * This method will recursively process all maps in the provided adjacency
-     * map list.
+     * Each of the maps in the provided adjacency map list is processed in a
+     * single pass, starting with the most recent. Once nothing is removed from
+     * a map, the maps before it cannot contain any more orphaned edges.
      *
      * @param maps the list of adjacency maps being considered
      * @param curr the "topmost" adjacency map under consideration
      */
     private void removeOrphans(final List<AdjacencyMap> maps, final AdjacencyMap curr) {
-        if (!maps.isEmpty()) {
-            final AdjacencyMap prev = maps.get(maps.size() - 1);
-
-            final Set<Object> prevDestinations = prev.getAllDestinations();
-
-            final List<Object> verticesToRemove = new ArrayList<>();
-
-            // Build up the list of destination vertices in the previous map which
-            // do not connect to any source vertices in the current map
-            for (final Object dest : prevDestinations) {
-                if (!curr.containsSource(dest)) {
-                    verticesToRemove.add(dest);
-                }
+        AdjacencyMap next = curr;
+        for (int i = maps.size() - 1; i >= 0; i--) {
+            final AdjacencyMap prev = maps.get(i);
+            if (!prev.retainDestinations(next.getAllSources())) {
+                break;
             }
-
-            // Remove all orphaned vertices
-            for (final Object dest : verticesToRemove) {
-                prev.removeAllWithDestination(dest);
-            }
-
-            // Recursively call this method
-            removeOrphans(maps.subList(0, maps.size() - 1), prev);
+            next = prev;
         }
     }
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+class GroupCountsTest {
+    private static final long LARGE_COUNT = 20_000_000_000L;
+
+    @Test
+    void shouldHoldCountsLargerThanAnInt() {
+        // Given
+        final GroupCounts groupCounts = new GroupCounts();
+
+        // When
+        groupCounts.addEntityGroupCount(TestGroups.ENTITY, LARGE_COUNT);
+        groupCounts.addEntityGroup(TestGroups.ENTITY);
+        groupCounts.addEdgeGroupCount(TestGroups.EDGE, LARGE_COUNT);
+        groupCounts.addEdgeGroupCount(TestGroups.EDGE, LARGE_COUNT);
+
+        // Then
+        assertThat(groupCounts.getEntityGroupCounts()).containsExactly(entry(TestGroups.ENTITY, LARGE_COUNT + 1));
+        assertThat(groupCounts.getEdgeGroupCounts()).containsExactly(entry(TestGroups.EDGE, 2 * LARGE_COUNT));
+        assertThat(groupCounts.getEntityGroups()).containsExactly(entry(TestGroups.ENTITY, Integer.MAX_VALUE));
+        assertThat(groupCounts.getEdgeGroups()).containsExactly(entry(TestGroups.EDGE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldSetCountsAsInts() {
+        // Given
+        final GroupCounts groupCounts = new GroupCounts();
+
+        // When
+        groupCounts.setEntityGroups(Collections.singletonMap(TestGroups.ENTITY, 3));
+
+        // Then
+        assertThat(groupCounts.getEntityGroupCounts()).containsExactly(entry(TestGroups.ENTITY, 3L));
+    }
+
+    @Test
+    void shouldNotAllowIntCountsToBeModified() {
+        // Given
+        final GroupCounts groupCounts = new GroupCounts();
+        groupCounts.addEntityGroup(TestGroups.ENTITY);
+        groupCounts.addEdgeGroup(TestGroups.EDGE);
+
+        // When / Then
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> groupCounts.getEntityGroups().put(TestGroups.ENTITY, 2));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> groupCounts.getEdgeGroups().put(TestGroups.EDGE, 2));
+        assertThat(groupCounts.getEntityGroupCounts()).containsExactly(entry(TestGroups.ENTITY, 1L));
+    }
+
+    @Test
+    void shouldJsonSerialiseAndDeserialise() throws SerialisationException {
+        // Given
+        final GroupCounts groupCounts = new GroupCounts();
+        groupCounts.addEntityGroupCount(TestGroups.ENTITY, LARGE_COUNT);
+        groupCounts.addEdgeGroup(TestGroups.EDGE);
+        groupCounts.setLimitHit(true);
+
+        // When
+        final byte[] json = JSONSerialiser.serialise(groupCounts);
+        final GroupCounts deserialised = JSONSerialiser.deserialise(json, GroupCounts.class);
+
+        // Then
+        assertThat(new String(json)).contains("\"entityGroups\":{\"" + TestGroups.ENTITY + "\":" + LARGE_COUNT + "}")
+                .doesNotContain("entityGroupCounts");
+        assertThat(deserialised.getEntityGroupCounts()).containsExactly(entry(TestGroups.ENTITY, LARGE_COUNT));
+        assertThat(deserialised.getEdgeGroups()).containsExactly(entry(TestGroups.EDGE, 1));
+        assertThat(deserialised.isLimitHit()).isTrue();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.data.element;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.id.EdgeId;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElementKeyTest {
+    private static final Set<String> GROUP_BY = Collections.singleton(TestPropertyNames.PROP_1);
+
+    @Test
+    void shouldBeEqualForElementsWithSameIdentifiersAndGroupByValues() {
+        // Given
+        final Edge edge1 = new Edge.Builder().group(TestGroups.EDGE).source("A").dest("B").directed(true)
+                .property(TestPropertyNames.PROP_1, "group by")
+                .property(TestPropertyNames.COUNT, 1L)
+                .build();
+        final Edge edge2 = new Edge.Builder().group(TestGroups.EDGE).source("A").dest("B").directed(true)
+                .property(TestPropertyNames.PROP_1, "group by")
+                .property(TestPropertyNames.COUNT, 2L)
+                .build();
+
+        // When
+        final ElementKey key1 = ElementKey.create(edge1, GROUP_BY);
+        final ElementKey key2 = ElementKey.create(edge2, GROUP_BY);
+
+        // Then
+        assertThat(key1).isEqualTo(key2).hasSameHashCodeAs(key2);
+        assertThat(key1.getGroup()).isEqualTo(TestGroups.EDGE);
+        assertThat(key1.getElement()).isSameAs(edge1);
+    }
+
+    @Test
+    void shouldNotBeEqualForDifferentGroupByValues() {
+        // Given
+        final Entity entity1 = new Entity.Builder().group(TestGroups.ENTITY).vertex("A")
+                .property(TestPropertyNames.PROP_1, "a")
+                .build();
+        final Entity entity2 = new Entity.Builder().group(TestGroups.ENTITY).vertex("A")
+                .property(TestPropertyNames.PROP_1, "b")
+                .build();
+
+        // When / Then
+        assertThat(ElementKey.create(entity1, GROUP_BY)).isNotEqualTo(ElementKey.create(entity2, GROUP_BY));
+        assertThat(ElementKey.create(entity1, Collections.emptySet())).isEqualTo(ElementKey.create(entity2, Collections.emptySet()));
+    }
+
+    @Test
+    void shouldNotBeEqualForDifferentIdentifiersOrGroups() {
+        // Given
+        final Entity entity = new Entity(TestGroups.ENTITY, "A");
+        final Entity otherVertex = new Entity(TestGroups.ENTITY, "B");
+        final Entity otherGroup = new Entity(TestGroups.ENTITY_2, "A");
+        final Edge directed = new Edge(TestGroups.EDGE, "A", "B", true);
+        final Edge undirected = new Edge(TestGroups.EDGE, "A", "B", false);
+
+        // When / Then
+        assertThat(ElementKey.create(entity, GROUP_BY))
+                .isNotEqualTo(ElementKey.create(otherVertex, GROUP_BY))
+                .isNotEqualTo(ElementKey.create(otherGroup, GROUP_BY));
+        assertThat(ElementKey.create(directed, GROUP_BY)).isNotEqualTo(ElementKey.create(undirected, GROUP_BY));
+    }
+
+    @Test
+    void shouldOnlyIncludeMatchedVertexWhenRequested() {
+        // Given
+        final Edge source = new Edge(TestGroups.EDGE, "A", "B", true, EdgeId.MatchedVertex.SOURCE, new Properties());
+        final Edge destination = new Edge(TestGroups.EDGE, "A", "B", true, EdgeId.MatchedVertex.DESTINATION, new Properties());
+
+        // When / Then
+        assertThat(ElementKey.create(source, GROUP_BY)).isEqualTo(ElementKey.create(destination, GROUP_BY));
+        assertThat(ElementKey.create(source, GROUP_BY, true)).isNotEqualTo(ElementKey.create(destination, GROUP_BY, true));
+    }
+
+    @Test
+    void shouldNotChangeWhenElementIsModified() {
+        // Given
+        final Entity entity = new Entity.Builder().group(TestGroups.ENTITY).vertex("A")
+                .property(TestPropertyNames.PROP_1, "a")
+                .build();
+        final ElementKey key = ElementKey.create(entity, GROUP_BY);
+        final int hashCode = key.hashCode();
+
+        // When
+        entity.putProperty(TestPropertyNames.PROP_1, "b");
+
+        // Then
+        assertThat(key.hashCode()).isEqualTo(hashCode);
+        assertThat(key).isNotEqualTo(ElementKey.create(entity, GROUP_BY));
+    }
+}
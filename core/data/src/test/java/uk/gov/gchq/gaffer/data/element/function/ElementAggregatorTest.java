@@ -22,10 +22,14 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Properties;
 import uk.gov.gchq.gaffer.function.ExampleTuple2BinaryOperator;
+import uk.gov.gchq.gaffer.types.binaryoperator.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
 import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
 import uk.gov.gchq.koryphe.tuple.n.Tuple3;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BinaryOperator;
 
@@ -221,6 +225,96 @@ public class ElementAggregatorTest {
                .hasFieldOrPropertyWithValue("range", 990);
     }
 
+    @Test
+    public void shouldAggregateRunOfPropertiesUsingAccumulators() {
+        // Given
+        final CountingConcat concat = new CountingConcat();
+        final BinaryOperator<Integer> max = Math::max;
+        final ElementAggregator aggregator = new ElementAggregator.Builder()
+                .select("concat")
+                .execute(concat)
+                .select("sum")
+                .execute(new Sum())
+                .select("max")
+                .execute(max)
+                .build();
+
+        final List<Properties> properties = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final Properties props = new Properties();
+            props.put("concat", String.valueOf(i));
+            props.put("sum", (long) i);
+            props.put("max", i % 3);
+            properties.add(props);
+        }
+        properties.get(2).remove("concat");
+
+        // When
+        final Properties result = aggregator.aggregate(properties.iterator());
+
+        // Then
+        assertSame(properties.get(0), result);
+        assertThat(result)
+                .containsEntry("concat", "0134")
+                .containsEntry("sum", 10L)
+                .containsEntry("max", 2);
+        assertEquals(1, concat.begun);
+        assertEquals(1, concat.finished);
+    }
+
+    @Test
+    public void shouldAggregateRunOfPropertiesPairwiseWithMultipleSelection() {
+        // Given
+        final BinaryOperator<Tuple3<Integer, Integer, Integer>> maxMinRange =
+                (t1, t2) -> new Tuple3<>(
+                        Math.max(t1.get0(), t2.get0()),
+                        Math.min(t1.get1(), t2.get1()),
+                        Math.max(t1.get0(), t2.get0()) - Math.min(t1.get1(), t2.get1())
+                );
+        final CountingConcat concat = new CountingConcat();
+        final ElementAggregator aggregator = new ElementAggregator.Builder()
+                .select("max", "min", "range")
+                .execute(maxMinRange)
+                .select("concat")
+                .execute(concat)
+                .build();
+
+        final List<Properties> properties = new ArrayList<>();
+        for (final int value : new int[] {10, 100, 1000}) {
+            final Properties props = new Properties();
+            props.put("max", value);
+            props.put("min", value);
+            props.put("concat", String.valueOf(value));
+            properties.add(props);
+        }
+
+        // When
+        final Properties result = aggregator.aggregate(properties.iterator());
+
+        // Then
+        assertThat(result)
+                .containsEntry("max", 1000)
+                .containsEntry("min", 10)
+                .containsEntry("range", 990)
+                .containsEntry("concat", "101001000");
+        assertEquals(0, concat.begun);
+    }
+
+    @Test
+    public void shouldReturnNullWhenAggregatingNoProperties() {
+        // Given
+        final ElementAggregator aggregator = new ElementAggregator.Builder()
+                .select("sum")
+                .execute(new Sum())
+                .build();
+
+        // When
+        final Properties result = aggregator.aggregate(Collections.emptyIterator());
+
+        // Then
+        assertThat(result).isNull();
+    }
+
     @Test
     public void shouldAggregateWithNoPropertiesOrFunctions() {
         // Given
@@ -330,4 +424,32 @@ public class ElementAggregatorTest {
 
         assertThatNoException().isThrownBy(() -> components.add(null));
     }
+
+    private static final class CountingConcat extends KorypheBinaryOperator<String>
+            implements AccumulatingBinaryOperator<String, StringBuilder> {
+        private int begun;
+        private int finished;
+
+        @Override
+        protected String _apply(final String a, final String b) {
+            return a + b;
+        }
+
+        @Override
+        public StringBuilder begin(final String first) {
+            begun++;
+            return new StringBuilder(first);
+        }
+
+        @Override
+        public StringBuilder accumulate(final StringBuilder accumulator, final String value) {
+            return accumulator.append(value);
+        }
+
+        @Override
+        public String finish(final StringBuilder accumulator) {
+            finished++;
+            return accumulator.toString();
+        }
+    }
 }
@@ -834,6 +834,32 @@ public class ViewUtilTest {
                 .withMessage("View cannot be null");
     }
 
+    @Test
+    public void shouldIdentifyViewThatOnlySelectsGroups() {
+        final View view = new View.Builder()
+                .entity(TestGroups.ENTITY)
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .excludeProperties(TestPropertyNames.PROP_1)
+                        .build())
+                .build();
+
+        assertTrue(ViewUtil.isGroupSelectionOnly(view));
+        assertTrue(ViewUtil.isGroupSelectionOnly(new View()));
+    }
+
+    @Test
+    public void shouldIdentifyViewThatDoesMoreThanSelectGroups() {
+        final View groupByView = new View.Builder()
+                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                        .groupBy()
+                        .build())
+                .build();
+
+        assertFalse(ViewUtil.isGroupSelectionOnly(null));
+        assertFalse(ViewUtil.isGroupSelectionOnly(createView()));
+        assertFalse(ViewUtil.isGroupSelectionOnly(groupByView));
+    }
+
     private View createView() {
         return new View.Builder()
                 .globalElements(new GlobalViewElementDefinition.Builder()
@@ -168,6 +168,53 @@ public class AdjacencyMapTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    public void shouldNotAddTheSameEdgeTwice() {
+        // Given
+        final AdjacencyMap adjacencyMap = new AdjacencyMap();
+        adjacencyMap.putEdge(1, 2, makeEdge(1, 2));
+
+        // When
+        final Set<Edge> results = adjacencyMap.putEdge(1, 2, makeEdge(1, 2));
+
+        // Then
+        assertThat(results).containsExactly(makeEdge(1, 2));
+        assertThat(adjacencyMap.getEdges(1, 2)).containsExactly(makeEdge(1, 2));
+    }
+
+    @Test
+    public void shouldRetainDestinations() {
+        // Given
+        final AdjacencyMap adjacencyMap = getAdjacencyMap();
+
+        // When
+        final boolean removed = adjacencyMap.retainDestinations(Sets.newHashSet(1, 3));
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(adjacencyMap.getAllDestinations()).containsExactlyInAnyOrder(1, 3);
+        assertThat(adjacencyMap.getAllSources()).containsExactlyInAnyOrder(1, 2, 4, 6);
+        assertThat(adjacencyMap.getSources(3)).containsExactlyInAnyOrder(2, 6);
+        assertThat(adjacencyMap.getEdges(1, 2)).isEmpty();
+        assertThat(adjacencyMap.getEdges(4, 1)).containsExactly(makeEdge(4, 1));
+        assertThat(adjacencyMap.retainDestinations(Sets.newHashSet(1, 3))).isFalse();
+    }
+
+    @Test
+    public void shouldRemoveAllWithDestination() {
+        // Given
+        final AdjacencyMap adjacencyMap = getAdjacencyMap();
+
+        // When
+        adjacencyMap.removeAllWithDestination(3);
+
+        // Then
+        assertThat(adjacencyMap.containsDestination(3)).isFalse();
+        assertThat(adjacencyMap.containsSource(2)).isFalse();
+        assertThat(adjacencyMap.containsSource(6)).isFalse();
+        assertThat(adjacencyMap.getAllDestinations()).containsExactlyInAnyOrder(1, 2, 4, 5, 6);
+    }
+
     private AdjacencyMap getAdjacencyMap() {
         final AdjacencyMap adjacencyMap = new AdjacencyMap();
 
@@ -23,14 +23,21 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonSetter;
 
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.commonutil.exception.UnauthorisedException;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.core.exception.Status;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.operation.handler.ScoreOperationChainHandler;
 import uk.gov.gchq.gaffer.store.operation.resolver.ScoreResolver;
 
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An {@code OperationChainLimiter} is a {@link GraphHook} that checks a
@@ -47,10 +54,30 @@ import java.util.Map;
  * The class delegates the logic to {@link ScoreOperationChainHandler}. If you
  * wish to use the {@link uk.gov.gchq.gaffer.operation.impl.ScoreOperationChain} operation and this graph hook,
  * then both need to have the same score configuration.
+ * <p>
+ * The hook can also limit the total score of the chains running at the same
+ * time, using {@code maxConcurrentScore} for all users and
+ * {@code maxConcurrentUserScore} for each user. A chain that would exceed
+ * either budget waits, in arrival order, for up to {@code admissionTimeout}
+ * milliseconds for running chains to finish, and is rejected if it is still
+ * over budget after that. With the default timeout of 0 such chains are
+ * rejected straight away. The score of a chain is released when it fails, or
+ * when it completes, unless the result is a lazy {@link Iterable}, in which
+ * case the score is held until the result is closed or fully read. So that
+ * an abandoned result does not hold its score forever, the score is also
+ * released if the result is not read for {@code resultLeaseTimeout}
+ * milliseconds, 10 minutes by default. Setting this to 0 or less means the
+ * score is held until the result is closed or fully read.
  */
 @JsonPropertyOrder(alphabetic = true)
 public class OperationChainLimiter implements GraphHook {
+    public static final long DEFAULT_RESULT_LEASE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+    private static final String ADMISSION_VARIABLE = OperationChainLimiter.class.getName() + ".admission";
+
     private final ScoreOperationChainHandler scorer;
+    private final ScoreAdmissionController admissionController = new ScoreAdmissionController();
+    private long admissionTimeout = 0;
+    private long resultLeaseTimeout = DEFAULT_RESULT_LEASE_TIMEOUT;
 
     @JsonCreator
     public OperationChainLimiter(@JsonProperty("suffixNamedOperationCacheName") final String cacheServiceNameSuffix) {
@@ -67,6 +94,9 @@ public class OperationChainLimiter implements GraphHook {
      * This is done by checking the user's auths against the auth scores getting the users maximum score limit value.
      * Then checking the operation score of all operations in the chain and comparing the total score value of the chain against a users maximum score limit.
      * If an operation cannot be executed then an {@link IllegalAccessError} is thrown.
+     * If concurrent score budgets are configured, the chain is then admitted
+     * against them, waiting if required. If the chain cannot be admitted a
+     * {@link GafferRuntimeException} is thrown.
      *
      * @param context the Context containing the user to authorise.
      * @param opChain the operation chain.
@@ -82,20 +112,76 @@ public class OperationChainLimiter implements GraphHook {
                         context.getUser().toString() + " is " + maxAuthScore + ".\n" +
                         "The requested operation chain exceeded this score limit.");
             }
+
+            admit(chainScore, context);
         }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T postExecute(final T result, final OperationChain<?> opChain, final Context context) {
         // This method can be overridden to add additional authorisation checks on the results.
+        final ScoreAdmissionController.Ticket ticket = removeTicket(context);
+        if (null != ticket && result instanceof Iterable && !(result instanceof Collection)) {
+            admissionController.lease(ticket, resultLeaseTimeout);
+            return (T) new ReleasingIterable<>((Iterable<?>) result, ticket);
+        }
+        admissionController.release(ticket);
         return result;
     }
 
     @Override
     public <T> T onFailure(final T result, final OperationChain<?> opChain, final Context context, final Exception e) {
+        admissionController.release(removeTicket(context));
         return result;
     }
 
+    public Integer getMaxConcurrentScore() {
+        return admissionController.getMaxScore();
+    }
+
+    public void setMaxConcurrentScore(final Integer maxConcurrentScore) {
+        admissionController.setMaxScore(maxConcurrentScore);
+    }
+
+    public Integer getMaxConcurrentUserScore() {
+        return admissionController.getMaxUserScore();
+    }
+
+    public void setMaxConcurrentUserScore(final Integer maxConcurrentUserScore) {
+        admissionController.setMaxUserScore(maxConcurrentUserScore);
+    }
+
+    public long getAdmissionTimeout() {
+        return admissionTimeout;
+    }
+
+    public void setAdmissionTimeout(final long admissionTimeout) {
+        this.admissionTimeout = admissionTimeout;
+    }
+
+    public long getResultLeaseTimeout() {
+        return resultLeaseTimeout;
+    }
+
+    public void setResultLeaseTimeout(final long resultLeaseTimeout) {
+        this.resultLeaseTimeout = resultLeaseTimeout;
+    }
+
+    @JsonIgnore
+    public int getInFlightScore() {
+        return admissionController.getTotalScore();
+    }
+
+    public int getInFlightScore(final String userId) {
+        return admissionController.getUserScore(userId);
+    }
+
+    @JsonIgnore
+    public int getWaitingChainCount() {
+        return admissionController.getWaitingCount();
+    }
+
     @JsonIgnore
     public Map<Class<? extends Operation>, Integer> getOpScores() {
         return scorer.getOpScores();
@@ -131,4 +217,72 @@ public class OperationChainLimiter implements GraphHook {
     public void setScoreResolvers(final Map<Class<? extends Operation>, ScoreResolver> resolvers) {
         scorer.setScoreResolvers(resolvers);
     }
+
+    private void admit(final int chainScore, final Context context) {
+        if (null == getMaxConcurrentScore() && null == getMaxConcurrentUserScore()) {
+            return;
+        }
+
+        final String userId = context.getUser().getUserId();
+        final ScoreAdmissionController.Ticket ticket;
+        try {
+            ticket = admissionController.acquire(userId, chainScore, admissionTimeout);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GafferRuntimeException("Interrupted while waiting to run the operation chain", e, Status.SERVICE_UNAVAILABLE);
+        }
+        if (null == ticket) {
+            throw new GafferRuntimeException("Too many operation chains are running for user: " + userId
+                    + ". The operation chain score of " + chainScore + " exceeds the remaining concurrent score budget.",
+                    Status.TOO_MANY_REQUESTS);
+        }
+        context.setVariable(ADMISSION_VARIABLE, ticket);
+    }
+
+    private static ScoreAdmissionController.Ticket removeTicket(final Context context) {
+        return null == context.getVariables() ? null : (ScoreAdmissionController.Ticket) context.getVariables().remove(ADMISSION_VARIABLE);
+    }
+
+    /**
+     * Releases the admitted score once the result has been closed or an
+     * iterator over it has been fully read. Reading the result renews the
+     * lease of the score.
+     */
+    private final class ReleasingIterable<T> implements Iterable<T>, Closeable {
+        private final Iterable<T> result;
+        private final ScoreAdmissionController.Ticket ticket;
+
+        private ReleasingIterable(final Iterable<T> result, final ScoreAdmissionController.Ticket ticket) {
+            this.result = result;
+            this.ticket = ticket;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final Iterator<T> iterator = result.iterator();
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    ticket.renew();
+                    final boolean hasNext = iterator.hasNext();
+                    if (!hasNext) {
+                        admissionController.release(ticket);
+                    }
+                    return hasNext;
+                }
+
+                @Override
+                public T next() {
+                    ticket.renew();
+                    return iterator.next();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            admissionController.release(ticket);
+            CloseableUtil.close(result);
+        }
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.graph.hook;
+
+import uk.gov.gchq.gaffer.cache.Cache;
+import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+
+import java.io.Serializable;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wrapper around the {@link uk.gov.gchq.gaffer.cache.CacheServiceLoader} to
+ * hold the results of operation chains cached by the {@link ResultCacheHook}.
+ * Each entry has an expiry time, after which it is treated as missing, and
+ * the number of entries is bounded by removing expired entries and then the
+ * oldest entries whenever the cache is full. The age of each entry is tracked
+ * in an index, so the cached results do not need to be read to find them.
+ */
+public class QueryResultCache extends Cache<String, QueryResultCache.CachedResult> {
+    public static final String CACHE_SERVICE_NAME_PREFIX = "QueryResultCache";
+    public static final String QUERY_RESULT_CACHE_SERVICE_NAME = "QueryResultCache";
+
+    // The expiry times of the cached results, oldest first
+    private Map<String, Long> expiries;
+
+    public QueryResultCache(final String suffixCacheName) {
+        super(getCacheNameFrom(suffixCacheName), QUERY_RESULT_CACHE_SERVICE_NAME);
+    }
+
+    public static String getCacheNameFrom(final String suffixCacheName) {
+        return Cache.getCacheNameFrom(CACHE_SERVICE_NAME_PREFIX, suffixCacheName);
+    }
+
+    public String getSuffixCacheName() {
+        return getSuffixCacheNameWithoutPrefix(CACHE_SERVICE_NAME_PREFIX);
+    }
+
+    /**
+     * Gets a cached result, removing it if it has expired.
+     *
+     * @param key the key of the result
+     * @return the cached result, or null if there is no result or it has expired
+     * @throws CacheOperationException if the result could not be read from the cache
+     */
+    public CachedResult getResult(final String key) throws CacheOperationException {
+        final CachedResult result = getFromCache(key);
+        if (null != result && result.hasExpired(System.currentTimeMillis())) {
+            deleteFromCache(key);
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * Adds a result to the cache, first making room for it if the cache
+     * already holds the maximum number of entries.
+     *
+     * @param key        the key of the result
+     * @param result     the result to cache
+     * @param timeToLive the time in milliseconds to keep the result for
+     * @param maxEntries the maximum number of entries in the cache
+     * @throws CacheOperationException if the result could not be added to the cache
+     */
+    public synchronized void addResult(final String key, final Object result, final long timeToLive, final int maxEntries)
+            throws CacheOperationException {
+        final long now = System.currentTimeMillis();
+        final Map<String, Long> index = getIndex();
+        index.remove(key);
+        makeRoom(index, now, maxEntries);
+        addToCache(key, new CachedResult(result, now, now + timeToLive), true);
+        index.put(key, now + timeToLive);
+    }
+
+    @Override
+    public synchronized void clearCache() throws CacheOperationException {
+        super.clearCache();
+        expiries = null;
+    }
+
+    @Override
+    public synchronized void deleteFromCache(final String key) {
+        super.deleteFromCache(key);
+        if (null != expiries) {
+            expiries.remove(key);
+        }
+    }
+
+    // The index is loaded from the cache the first time it is needed, in case
+    // results were cached before this instance was created
+    private Map<String, Long> getIndex() throws CacheOperationException {
+        if (null == expiries) {
+            final List<Map.Entry<String, CachedResult>> existing = new ArrayList<>();
+            for (final String key : getAllKeys()) {
+                final CachedResult cached = getFromCache(key);
+                if (null != cached) {
+                    existing.add(new SimpleImmutableEntry<>(key, cached));
+                }
+            }
+            existing.sort(Comparator.comparingLong(entry -> entry.getValue().getCreated()));
+            expiries = new LinkedHashMap<>();
+            existing.forEach(entry -> expiries.put(entry.getKey(), entry.getValue().getExpiry()));
+        }
+        return expiries;
+    }
+
+    private void makeRoom(final Map<String, Long> index, final long now, final int maxEntries) {
+        if (index.size() < maxEntries) {
+            return;
+        }
+
+        final Iterator<Map.Entry<String, Long>> expired = index.entrySet().iterator();
+        while (expired.hasNext()) {
+            final Map.Entry<String, Long> entry = expired.next();
+            if (now >= entry.getValue()) {
+                super.deleteFromCache(entry.getKey());
+                expired.remove();
+            }
+        }
+
+        final Iterator<String> oldest = index.keySet().iterator();
+        while (index.size() >= maxEntries && oldest.hasNext()) {
+            super.deleteFromCache(oldest.next());
+            oldest.remove();
+        }
+    }
+
+    /**
+     * A cached result with the times it was created and expires.
+     */
+    public static class CachedResult implements Serializable {
+        private static final long serialVersionUID = -2404227342366592467L;
+        private final Object result;
+        private final long created;
+        private final long expiry;
+
+        public CachedResult(final Object result, final long created, final long expiry) {
+            this.result = result;
+            this.created = created;
+            this.expiry = expiry;
+        }
+
+        public Object getResult() {
+            return result;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+
+        public long getExpiry() {
+            return expiry;
+        }
+
+        public boolean hasExpired(final long now) {
+            return now >= expiry;
+        }
+    }
+}
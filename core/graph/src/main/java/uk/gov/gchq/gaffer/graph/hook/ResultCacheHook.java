@@ -0,0 +1,578 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.graph.hook;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.commonutil.ImmutableClassUtil;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.Operations;
+import uk.gov.gchq.gaffer.operation.graph.SeededGraphFilters;
+import uk.gov.gchq.gaffer.operation.impl.Count;
+import uk.gov.gchq.gaffer.operation.impl.CountGroups;
+import uk.gov.gchq.gaffer.operation.impl.GetWalks;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElementsFromFile;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElementsFromKafka;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElementsFromSocket;
+import uk.gov.gchq.gaffer.operation.impl.compare.Max;
+import uk.gov.gchq.gaffer.operation.impl.compare.Min;
+import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
+import uk.gov.gchq.gaffer.operation.impl.delete.DeleteElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.operation.impl.output.ToArray;
+import uk.gov.gchq.gaffer.operation.impl.output.ToEntitySeeds;
+import uk.gov.gchq.gaffer.operation.impl.output.ToList;
+import uk.gov.gchq.gaffer.operation.impl.output.ToSet;
+import uk.gov.gchq.gaffer.operation.impl.output.ToVertices;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.operation.DeleteAllData;
+import uk.gov.gchq.koryphe.impl.function.Identity;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A {@code ResultCacheHook} is a {@link GraphHook} that caches the results of
+ * read only operation chains, so repeated requests are served from a
+ * {@link QueryResultCache} rather than the store.
+ * <p>
+ * An operation chain is cacheable if every operation in it is one of the
+ * cacheableOperations. The cache key is a hash of the operation chain as
+ * canonical JSON, with the properties of each object sorted and the seeds of
+ * {@link SeededGraphFilters} operations sorted, together with the user's data
+ * auths. Operation options are included in the key unless ignoreOptions is
+ * set. When there is a cached result the operations in the chain are replaced
+ * by a {@link uk.gov.gchq.gaffer.operation.impl.Map} which just returns it.
+ * Results are copied, including any elements and their properties, both when
+ * they are cached and when they are returned, so the cached results cannot be
+ * changed by the caller.
+ * <p>
+ * Collection results are cached straight away if they have no more than
+ * maxResultSize items. Other {@link Iterable} results are cached once they
+ * have been iterated over in full. Results are cached for timeToLive
+ * milliseconds and at most maxEntries are held, removing the oldest first.
+ * All cached results are removed whenever an operation chain containing one of
+ * the invalidatingOperations is executed on this graph.
+ * <p>
+ * This hook should be added after any hooks that authorise operation chains,
+ * such as the {@link OperationAuthoriser}, so they can check the original
+ * operation chain. The suffixCacheName should be unique to the graph, so the
+ * results of different graphs are not mixed up.
+ */
+@JsonPropertyOrder(alphabetic = true)
+public class ResultCacheHook implements GraphHook {
+    public static final long DEFAULT_TIME_TO_LIVE = 60_000L;
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    public static final int DEFAULT_MAX_RESULT_SIZE = 10_000;
+    public static final List<Class<? extends Operation>> DEFAULT_CACHEABLE_OPERATIONS = Collections.unmodifiableList(Arrays.asList(
+            GetElements.class, GetAdjacentIds.class, GetAllElements.class, GetWalks.class,
+            Count.class, CountGroups.class, Limit.class, Max.class, Min.class, Sort.class,
+            ToArray.class, ToEntitySeeds.class, ToList.class, ToSet.class, ToVertices.class));
+    public static final List<Class<? extends Operation>> DEFAULT_INVALIDATING_OPERATIONS = Collections.unmodifiableList(Arrays.asList(
+            AddElements.class, AddElementsFromFile.class, AddElementsFromKafka.class, AddElementsFromSocket.class,
+            DeleteElements.class, DeleteAllData.class));
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultCacheHook.class);
+    private static final String KEY_VARIABLE = ResultCacheHook.class.getName() + ".key";
+    private static final String GENERATION_VARIABLE = ResultCacheHook.class.getName() + ".generation";
+    private static final String CLASS_PROPERTY = "class";
+    private static final String OPTIONS_PROPERTY = "options";
+    private static final String INPUT_PROPERTY = "input";
+    private static final Map<String, Class<?>> CLASSES = new ConcurrentHashMap<>();
+
+    private final QueryResultCache cache;
+    private Set<Class<? extends Operation>> cacheableOperations = new LinkedHashSet<>(DEFAULT_CACHEABLE_OPERATIONS);
+    private Set<Class<? extends Operation>> invalidatingOperations = new LinkedHashSet<>(DEFAULT_INVALIDATING_OPERATIONS);
+    private boolean ignoreOptions = false;
+    private long timeToLive = DEFAULT_TIME_TO_LIVE;
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private int maxResultSize = DEFAULT_MAX_RESULT_SIZE;
+    private long generation;
+
+    @JsonCreator
+    public ResultCacheHook(@JsonProperty("suffixCacheName") final String suffixCacheName) {
+        this(new QueryResultCache(suffixCacheName));
+    }
+
+    public ResultCacheHook(final QueryResultCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void preExecute(final OperationChain<?> opChain, final Context context) {
+        if (containsAny(opChain, invalidatingOperations)) {
+            invalidate();
+            return;
+        }
+        if (!isCacheable(opChain)) {
+            return;
+        }
+
+        final String key;
+        try {
+            key = createKey(opChain, context);
+        } catch (final SerialisationException e) {
+            LOGGER.warn("Unable to create a result cache key, the operation chain will not be cached: {}", e.getMessage());
+            return;
+        }
+
+        Object cached = null;
+        try {
+            final QueryResultCache.CachedResult cachedResult = cache.getResult(key);
+            if (null != cachedResult) {
+                cached = copy(cachedResult.getResult());
+            }
+        } catch (final CacheOperationException | SerialisationException | RuntimeException e) {
+            LOGGER.warn("Unable to get result from cache: {}", e.getMessage());
+        }
+
+        if (null != cached) {
+            LOGGER.debug("Returning cached result for key {}", key);
+            opChain.getOperations().clear();
+            opChain.getOperations().add(new uk.gov.gchq.gaffer.operation.impl.Map.Builder<>()
+                    .input(cached)
+                    .first(new Identity())
+                    .build());
+        } else {
+            context.setVariable(KEY_VARIABLE, key);
+            context.setVariable(GENERATION_VARIABLE, getGeneration());
+        }
+    }
+
+    @Override
+    public <T> T postExecute(final T result, final OperationChain<?> opChain, final Context context) {
+        if (containsAny(opChain, invalidatingOperations)) {
+            invalidate();
+            return result;
+        }
+
+        final String key = (String) context.getVariable(KEY_VARIABLE);
+        if (null == key) {
+            return result;
+        }
+        final long keyGeneration = (Long) context.getVariable(GENERATION_VARIABLE);
+        removeVariables(context);
+        return cacheResult(key, keyGeneration, result);
+    }
+
+    @Override
+    public <T> T onFailure(final T result, final OperationChain<?> opChain, final Context context, final Exception e) {
+        removeVariables(context);
+        if (containsAny(opChain, invalidatingOperations)) {
+            invalidate();
+        }
+        return result;
+    }
+
+    /**
+     * Removes all the cached results and stops any results which are still
+     * being read from being cached.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        try {
+            cache.clearCache();
+        } catch (final CacheOperationException | RuntimeException e) {
+            LOGGER.warn("Unable to clear result cache: {}", e.getMessage());
+        }
+    }
+
+    @JsonGetter("suffixCacheName")
+    public String getSuffixCacheName() {
+        return cache.getSuffixCacheName();
+    }
+
+    @JsonIgnore
+    public Set<Class<? extends Operation>> getCacheableOperations() {
+        return cacheableOperations;
+    }
+
+    @JsonIgnore
+    public void setCacheableOperations(final Set<Class<? extends Operation>> cacheableOperations) {
+        this.cacheableOperations = null != cacheableOperations ? cacheableOperations : new LinkedHashSet<>();
+    }
+
+    @JsonGetter("cacheableOperations")
+    public Set<String> getCacheableOperationsAsStrings() {
+        return toStrings(cacheableOperations);
+    }
+
+    @JsonSetter("cacheableOperations")
+    public void setCacheableOperationsFromStrings(final Set<String> cacheableOperations) throws ClassNotFoundException {
+        this.cacheableOperations = toClasses(cacheableOperations);
+    }
+
+    @JsonIgnore
+    public Set<Class<? extends Operation>> getInvalidatingOperations() {
+        return invalidatingOperations;
+    }
+
+    @JsonIgnore
+    public void setInvalidatingOperations(final Set<Class<? extends Operation>> invalidatingOperations) {
+        this.invalidatingOperations = null != invalidatingOperations ? invalidatingOperations : new LinkedHashSet<>();
+    }
+
+    @JsonGetter("invalidatingOperations")
+    public Set<String> getInvalidatingOperationsAsStrings() {
+        return toStrings(invalidatingOperations);
+    }
+
+    @JsonSetter("invalidatingOperations")
+    public void setInvalidatingOperationsFromStrings(final Set<String> invalidatingOperations) throws ClassNotFoundException {
+        this.invalidatingOperations = toClasses(invalidatingOperations);
+    }
+
+    public boolean isIgnoreOptions() {
+        return ignoreOptions;
+    }
+
+    public void setIgnoreOptions(final boolean ignoreOptions) {
+        this.ignoreOptions = ignoreOptions;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(final int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public int getMaxResultSize() {
+        return maxResultSize;
+    }
+
+    public void setMaxResultSize(final int maxResultSize) {
+        this.maxResultSize = maxResultSize;
+    }
+
+    /**
+     * Creates the cache key for an operation chain and the user in the context.
+     *
+     * @param opChain the operation chain
+     * @param context the context containing the user
+     * @return the cache key
+     * @throws SerialisationException if the operation chain could not be serialised
+     */
+    public String createKey(final OperationChain<?> opChain, final Context context) throws SerialisationException {
+        final ObjectMapper mapper = JSONSerialiser.getMapper();
+        final String chain;
+        try {
+            chain = mapper.writeValueAsString(normalise(mapper.readTree(JSONSerialiser.serialise(opChain)), mapper));
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to normalise operation chain: " + e.getMessage(), e);
+        }
+        final Set<String> dataAuths = null != context.getUser() ? new TreeSet<>(context.getUser().getDataAuths()) : Collections.emptySet();
+
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(chain.getBytes(StandardCharsets.UTF_8));
+            for (final String dataAuth : dataAuths) {
+                digest.update((byte) 0);
+                digest.update(dataAuth.getBytes(StandardCharsets.UTF_8));
+            }
+            final StringBuilder key = new StringBuilder();
+            for (final byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new SerialisationException("Unable to hash operation chain: " + e.getMessage(), e);
+        }
+    }
+
+    private JsonNode normalise(final JsonNode node, final ObjectMapper mapper) throws IOException {
+        if (node.isArray()) {
+            final ArrayNode normalised = mapper.createArrayNode();
+            for (final JsonNode child : node) {
+                normalised.add(normalise(child, mapper));
+            }
+            return normalised;
+        }
+        if (!node.isObject()) {
+            return node;
+        }
+
+        final Class<?> clazz = node.has(CLASS_PROPERTY) ? getClass(node.get(CLASS_PROPERTY).asText()) : null;
+        final boolean isOperation = null != clazz && Operation.class.isAssignableFrom(clazz);
+        final Map<String, JsonNode> fields = new TreeMap<>();
+        final Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, JsonNode> field = iterator.next();
+            if (isOperation && ignoreOptions && OPTIONS_PROPERTY.equals(field.getKey())) {
+                continue;
+            }
+            JsonNode value = normalise(field.getValue(), mapper);
+            if (isOperation && SeededGraphFilters.class.isAssignableFrom(clazz)
+                    && INPUT_PROPERTY.equals(field.getKey()) && value.isArray()) {
+                value = sortArray((ArrayNode) value, mapper);
+            }
+            fields.put(field.getKey(), value);
+        }
+
+        final ObjectNode normalised = mapper.createObjectNode();
+        fields.forEach(normalised::set);
+        return normalised;
+    }
+
+    private static ArrayNode sortArray(final ArrayNode array, final ObjectMapper mapper) throws IOException {
+        final List<String> items = new ArrayList<>(array.size());
+        for (final JsonNode item : array) {
+            items.add(mapper.writeValueAsString(item));
+        }
+        items.sort(Comparator.naturalOrder());
+        final ArrayNode sorted = mapper.createArrayNode();
+        for (final String item : items) {
+            sorted.add(mapper.readTree(item));
+        }
+        return sorted;
+    }
+
+    private static Class<?> getClass(final String className) {
+        return CLASSES.computeIfAbsent(className, name -> {
+            try {
+                return Class.forName(name);
+            } catch (final ClassNotFoundException e) {
+                return Object.class;
+            }
+        });
+    }
+
+    private boolean isCacheable(final Operations<?> operations) {
+        if (operations.getOperations().isEmpty()) {
+            return false;
+        }
+        for (final Operation operation : operations.getOperations()) {
+            if (!(operation instanceof OperationChain) && !cacheableOperations.contains(operation.getClass())) {
+                return false;
+            }
+            if (operation instanceof Operations && !((Operations<?>) operation).getOperations().isEmpty()
+                    && !isCacheable((Operations<?>) operation)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsAny(final Operations<?> operations, final Set<Class<? extends Operation>> classes) {
+        for (final Operation operation : operations.getOperations()) {
+            if (classes.contains(operation.getClass())
+                    || (operation instanceof Operations && containsAny((Operations<?>) operation, classes))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cacheResult(final String key, final long keyGeneration, final T result) {
+        if (null == result) {
+            return null;
+        }
+        if (result instanceof Set) {
+            if (((Set<?>) result).size() <= maxResultSize) {
+                addResult(key, keyGeneration, result);
+            }
+            return result;
+        }
+        if (result instanceof Collection) {
+            if (((Collection<?>) result).size() <= maxResultSize) {
+                addResult(key, keyGeneration, new ArrayList<>((Collection<?>) result));
+            }
+            return result;
+        }
+        if (result instanceof Iterable) {
+            return (T) new CachingIterable<>(key, keyGeneration, (Iterable<?>) result);
+        }
+        addResult(key, keyGeneration, result);
+        return result;
+    }
+
+    private synchronized void addResult(final String key, final long keyGeneration, final Object result) {
+        if (keyGeneration != generation) {
+            return;
+        }
+        try {
+            cache.addResult(key, copy(result), timeToLive, maxEntries);
+        } catch (final CacheOperationException | SerialisationException | RuntimeException e) {
+            LOGGER.warn("Unable to add result to cache: {}", e.getMessage());
+        }
+    }
+
+    private synchronized long getGeneration() {
+        return generation;
+    }
+
+    // Copies results going into and out of the cache, including any elements
+    // and their properties, so changes made by the caller do not change the
+    // cached result
+    private static Object copy(final Object result) throws SerialisationException {
+        if (result instanceof Set) {
+            final Set<Object> copy = new LinkedHashSet<>();
+            for (final Object item : (Set<?>) result) {
+                copy.add(copyItem(item));
+            }
+            return copy;
+        }
+        if (result instanceof List) {
+            final List<Object> copy = new ArrayList<>(((List<?>) result).size());
+            for (final Object item : (List<?>) result) {
+                copy.add(copyItem(item));
+            }
+            return copy;
+        }
+        if (result instanceof Object[]) {
+            final Object[] copy = ((Object[]) result).clone();
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = copyItem(copy[i]);
+            }
+            return copy;
+        }
+        return copyItem(result);
+    }
+
+    private static Object copyItem(final Object item) throws SerialisationException {
+        if (ImmutableClassUtil.isImmutable(item)) {
+            return item;
+        }
+        if (item instanceof Element) {
+            final Element copy = ((Element) item).shallowClone();
+            for (final Map.Entry<String, Object> property : ((Element) item).getProperties().entrySet()) {
+                copy.putProperty(property.getKey(), copyItem(property.getValue()));
+            }
+            return copy;
+        }
+        return JSONSerialiser.deserialise(JSONSerialiser.serialise(item), item.getClass());
+    }
+
+    private static void removeVariables(final Context context) {
+        context.getVariables().remove(KEY_VARIABLE);
+        context.getVariables().remove(GENERATION_VARIABLE);
+    }
+
+    private static Set<String> toStrings(final Set<Class<? extends Operation>> classes) {
+        return classes.stream().map(Class::getName).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Set<Class<? extends Operation>> toClasses(final Set<String> classNames) throws ClassNotFoundException {
+        final Set<Class<? extends Operation>> classes = new LinkedHashSet<>();
+        if (null != classNames) {
+            for (final String className : classNames) {
+                classes.add(Class.forName(className).asSubclass(Operation.class));
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Wraps a lazy result, caching the items once they have all been read if
+     * there are no more than maxResultSize of them.
+     */
+    private final class CachingIterable<T> implements Iterable<T>, Closeable {
+        private final String key;
+        private final long keyGeneration;
+        private final Iterable<T> result;
+
+        private CachingIterable(final String key, final long keyGeneration, final Iterable<T> result) {
+            this.key = key;
+            this.keyGeneration = keyGeneration;
+            this.result = result;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final Iterator<T> iterator = result.iterator();
+            return new Iterator<T>() {
+                private List<T> items = new ArrayList<>();
+
+                @Override
+                public boolean hasNext() {
+                    final boolean hasNext = iterator.hasNext();
+                    if (!hasNext && null != items) {
+                        addResult(key, keyGeneration, items);
+                        items = null;
+                    }
+                    return hasNext;
+                }
+
+                @Override
+                public T next() {
+                    final T item = iterator.next();
+                    if (null != items) {
+                        if (items.size() < maxResultSize) {
+                            items.add(item);
+                        } else {
+                            items = null;
+                        }
+                    }
+                    return item;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            CloseableUtil.close(result);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.graph.hook;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the total score of the operation chains currently running, both
+ * globally and for each user, and decides whether a new chain can be admitted
+ * within the configured concurrent score budgets.
+ * <p>
+ * Chains that cannot be admitted straight away wait in arrival order. A
+ * waiting chain is only admitted once no chain that arrived before it is
+ * waiting for the global budget, so large chains are not starved by a steady
+ * stream of smaller ones. A chain waiting for its own user's budget does not
+ * hold up other users. A chain whose score is larger than a budget on its own
+ * is admitted once nothing else is using that budget.
+ * <p>
+ * A ticket can be leased, in which case it is released automatically if it
+ * has not been used for the lease timeout. This stops the score of a result
+ * which is never fully read or closed from being held forever.
+ */
+class ScoreAdmissionController {
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private final List<Ticket> waiting = new LinkedList<>();
+    private final Set<Ticket> leased = new HashSet<>();
+    private final Map<String, Integer> userScores = new HashMap<>();
+    private int totalScore;
+    private volatile Integer maxScore;
+    private volatile Integer maxUserScore;
+
+    /**
+     * Admits a chain with the given score, waiting up to the timeout for
+     * enough of the budget to be released.
+     *
+     * @param userId        the id of the user running the chain
+     * @param score         the score of the chain
+     * @param timeoutMillis the maximum time to wait, 0 to reject the chain
+     *                      immediately if it cannot be admitted
+     * @return the ticket to release once the chain has finished, or null if
+     * the chain could not be admitted within the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Ticket acquire(final String userId, final int score, final long timeoutMillis) throws InterruptedException {
+        final Ticket ticket = new Ticket(userId, score);
+        lock.lock();
+        try {
+            long nextLeaseExpiryNanos = expireLeases();
+            if (canAdmit(ticket)) {
+                admit(ticket);
+                return ticket;
+            }
+            if (timeoutMillis <= 0) {
+                return null;
+            }
+
+            waiting.add(ticket);
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            try {
+                while (!canAdmit(ticket)) {
+                    if (remainingNanos <= 0) {
+                        return null;
+                    }
+                    // Wake up when the next lease expires, as that may free enough of the budget
+                    final long waitNanos = Math.min(remainingNanos, nextLeaseExpiryNanos);
+                    remainingNanos -= waitNanos - released.awaitNanos(waitNanos);
+                    nextLeaseExpiryNanos = expireLeases();
+                }
+                admit(ticket);
+                return ticket;
+            } finally {
+                waiting.remove(ticket);
+                // Chains waiting behind this one may now be admitted
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the score held by a ticket. Releasing a ticket more than once
+     * has no effect.
+     *
+     * @param ticket the ticket to release
+     */
+    void release(final Ticket ticket) {
+        if (null == ticket || !ticket.released.compareAndSet(false, true)) {
+            return;
+        }
+        lock.lock();
+        try {
+            unadmit(ticket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Leases a ticket, so it is released if {@link Ticket#renew()} is not
+     * called for the given time.
+     *
+     * @param ticket        the ticket to lease
+     * @param timeoutMillis the time the ticket can go unused before it is released
+     */
+    void lease(final Ticket ticket, final long timeoutMillis) {
+        if (null == ticket || timeoutMillis <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (!ticket.released.get()) {
+                ticket.leaseTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+                ticket.renew();
+                leased.add(ticket);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getTotalScore() {
+        lock.lock();
+        try {
+            expireLeases();
+            return totalScore;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getUserScore(final String userId) {
+        lock.lock();
+        try {
+            expireLeases();
+            return userScores.getOrDefault(userId, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getWaitingCount() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Integer getMaxScore() {
+        return maxScore;
+    }
+
+    void setMaxScore(final Integer maxScore) {
+        this.maxScore = maxScore;
+        signalAll();
+    }
+
+    Integer getMaxUserScore() {
+        return maxUserScore;
+    }
+
+    void setMaxUserScore(final Integer maxUserScore) {
+        this.maxUserScore = maxUserScore;
+        signalAll();
+    }
+
+    private boolean canAdmit(final Ticket ticket) {
+        if (!fitsUserBudget(ticket) || !fits(totalScore, ticket.score, maxScore)) {
+            return false;
+        }
+        final Iterator<Ticket> itr = waiting.iterator();
+        while (itr.hasNext()) {
+            final Ticket earlier = itr.next();
+            if (earlier == ticket) {
+                break;
+            }
+            if (fitsUserBudget(earlier)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fitsUserBudget(final Ticket ticket) {
+        return fits(userScores.getOrDefault(ticket.userId, 0), ticket.score, maxUserScore);
+    }
+
+    private static boolean fits(final int current, final int score, final Integer max) {
+        return null == max || 0 == current || current + score <= max;
+    }
+
+    private void admit(final Ticket ticket) {
+        totalScore += ticket.score;
+        userScores.merge(ticket.userId, ticket.score, Integer::sum);
+    }
+
+    private void unadmit(final Ticket ticket) {
+        leased.remove(ticket);
+        totalScore -= ticket.score;
+        userScores.computeIfPresent(ticket.userId, (user, score) -> score == ticket.score ? null : score - ticket.score);
+        released.signalAll();
+    }
+
+    // Releases any leased tickets which have not been used for their timeout,
+    // returning the time until the next lease expires
+    private long expireLeases() {
+        long nextExpiryNanos = Long.MAX_VALUE;
+        if (leased.isEmpty()) {
+            return nextExpiryNanos;
+        }
+        final long now = System.nanoTime();
+        final Iterator<Ticket> itr = leased.iterator();
+        while (itr.hasNext()) {
+            final Ticket ticket = itr.next();
+            final long remainingNanos = ticket.leaseTimeoutNanos - (now - ticket.lastUsedNanos);
+            if (remainingNanos > 0) {
+                nextExpiryNanos = Math.min(nextExpiryNanos, remainingNanos);
+            } else {
+                itr.remove();
+                if (ticket.released.compareAndSet(false, true)) {
+                    unadmit(ticket);
+                }
+            }
+        }
+        return nextExpiryNanos;
+    }
+
+    private void signalAll() {
+        lock.lock();
+        try {
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The score admitted for a single operation chain.
+     */
+    static final class Ticket {
+        private final String userId;
+        private final int score;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private long leaseTimeoutNanos;
+        private volatile long lastUsedNanos;
+
+        private Ticket(final String userId, final int score) {
+            this.userId = userId;
+            this.score = score;
+        }
+
+        int getScore() {
+            return score;
+        }
+
+        boolean isReleased() {
+            return released.get();
+        }
+
+        /**
+         * Renews the lease of this ticket, if it has one.
+         */
+        void renew() {
+            lastUsedNanos = System.nanoTime();
+        }
+    }
+}
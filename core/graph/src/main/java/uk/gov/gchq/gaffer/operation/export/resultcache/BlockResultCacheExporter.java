@@ -0,0 +1,415 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.operation.export.resultcache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.CollectionUtil;
+import uk.gov.gchq.gaffer.commonutil.iterable.EmptyIterable;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.export.Exporter;
+import uk.gov.gchq.gaffer.operation.export.resultcache.block.BlockStore;
+import uk.gov.gchq.gaffer.store.Context;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Implementation of the {@link Exporter} interface for exporting the results of
+ * a Gaffer query to a {@link BlockStore}-backed results cache.
+ * <p>
+ * Unlike the {@link GafferResultCacheExporter}, results are not written to a
+ * {@link uk.gov.gchq.gaffer.graph.Graph} as individual elements. Instead they
+ * are serialised in blocks of up to {@code blockSize} results, and each block
+ * is compressed and written to the block store in one go. Only one block is
+ * held in memory at a time when adding or getting results.
+ * <p>
+ * The results for each job and key are only visible once they have all been
+ * written. They can be read by users with all of the required op auths until
+ * the time to live has passed, after which they are deleted when results are
+ * next added. Expired results are looked for at most once a minute.
+ * <p>
+ * Adds to the same job and key are serialised within a JVM, so concurrent
+ * adds cannot overwrite each other's blocks.
+ */
+public class BlockResultCacheExporter implements Exporter {
+    public static final int DEFAULT_BLOCK_SIZE = 10_000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockResultCacheExporter.class);
+    private static final String METADATA_ID = "metadata";
+    private static final String SEPARATOR = "/";
+    private static final byte NULL_RESULT = 0;
+    private static final byte RESULT = 1;
+    private static final byte END_OF_BLOCK = 2;
+    private static final long REMOVE_EXPIRED_INTERVAL_MILLIS = 60_000L;
+    private static final Object[] KEY_LOCKS = new Object[64];
+    private static final AtomicLong NEXT_REMOVE_EXPIRED_MILLIS = new AtomicLong();
+
+    static {
+        for (int i = 0; i < KEY_LOCKS.length; i++) {
+            KEY_LOCKS[i] = new Object();
+        }
+    }
+
+    private final String jobId;
+    private final Context context;
+    private final BlockStore blockStore;
+    private final long timeToLive;
+    private final int blockSize;
+    private final TreeSet<String> requiredOpAuths;
+    private final Set<String> userOpAuths;
+
+    public BlockResultCacheExporter(final Context context,
+                                    final String jobId,
+                                    final BlockStore blockStore,
+                                    final Set<String> requiredOpAuths,
+                                    final long timeToLive,
+                                    final int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1 but was " + blockSize);
+        }
+        this.context = context;
+        this.jobId = jobId;
+        this.blockStore = blockStore;
+        this.timeToLive = timeToLive;
+        this.blockSize = blockSize;
+        if (null == requiredOpAuths) {
+            this.requiredOpAuths = CollectionUtil.treeSet(context.getUser().getUserId());
+        } else {
+            this.requiredOpAuths = new TreeSet<>(requiredOpAuths);
+        }
+
+        userOpAuths = new HashSet<>(context.getUser().getOpAuths());
+        userOpAuths.add(context.getUser().getUserId());
+    }
+
+    @Override
+    public void add(final String key, final Iterable<?> values) throws OperationException {
+        if (isNull(values)) {
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        final long nextRemoval = NEXT_REMOVE_EXPIRED_MILLIS.get();
+        if (now >= nextRemoval && NEXT_REMOVE_EXPIRED_MILLIS.compareAndSet(nextRemoval, now + REMOVE_EXPIRED_INTERVAL_MILLIS)) {
+            removeExpired();
+        }
+
+        final String prefix = getPrefix(key);
+        // Adds to the same key are serialised so they cannot write over each other's blocks
+        synchronized (KEY_LOCKS[Math.floorMod(prefix.hashCode(), KEY_LOCKS.length)]) {
+            try {
+                final Metadata existing = readMetadata(prefix);
+                final Set<String> opAuths = null != existing ? existing.opAuths : requiredOpAuths;
+                if (null != existing && !userOpAuths.containsAll(opAuths)) {
+                    throw new OperationException("User does not have the op auths required to add to export: " + key);
+                }
+
+                int blocks = null != existing ? existing.blocks : 0;
+                BlockWriter writer = new BlockWriter();
+                try {
+                    for (final Object value : values) {
+                        writer.write(value);
+                        if (writer.size == blockSize) {
+                            blockStore.put(prefix + blocks++, writer.finish());
+                            writer = new BlockWriter();
+                        }
+                    }
+                    if (writer.size > 0) {
+                        blockStore.put(prefix + blocks++, writer.finish());
+                    }
+                } finally {
+                    writer.release();
+                }
+
+                // The metadata is written last so the new blocks are only read once
+                // they have all been written.
+                blockStore.put(prefix + METADATA_ID,
+                        new Metadata(System.currentTimeMillis() + timeToLive, blocks, opAuths).serialise());
+            } catch (final IOException e) {
+                throw new OperationException("Unable to add results to the result cache for job " + jobId + " and key " + key, e);
+            }
+        }
+    }
+
+    @Override
+    public Iterable<?> get(final String key) throws OperationException {
+        final String prefix = getPrefix(key);
+        final Metadata metadata;
+        try {
+            metadata = readMetadata(prefix);
+        } catch (final IOException e) {
+            throw new OperationException("Unable to get results from the result cache for job " + jobId + " and key " + key, e);
+        }
+
+        if (null == metadata || metadata.isExpired() || !userOpAuths.containsAll(metadata.opAuths)) {
+            return new EmptyIterable<>();
+        }
+        return new BlockIterable(prefix, metadata.blocks);
+    }
+
+    /**
+     * Deletes the results of any job which have passed their time to live.
+     */
+    public void removeExpired() {
+        try {
+            for (final String id : blockStore.getIds()) {
+                if (id.endsWith(SEPARATOR + METADATA_ID)) {
+                    final String prefix = id.substring(0, id.length() - METADATA_ID.length());
+                    final Metadata metadata = readMetadata(prefix);
+                    if (null != metadata && metadata.isExpired()) {
+                        blockStore.delete(id);
+                        for (int i = 0; i < metadata.blocks; i++) {
+                            blockStore.delete(prefix + i);
+                        }
+                    }
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn("Unable to remove expired results from the result cache", e);
+        }
+    }
+
+    private String getPrefix(final String key) {
+        try {
+            return URLEncoder.encode(jobId, StandardCharsets.UTF_8.name())
+                    + SEPARATOR + URLEncoder.encode(key, StandardCharsets.UTF_8.name()) + SEPARATOR;
+        } catch (final UnsupportedEncodingException e) {
+            throw new GafferRuntimeException("Unable to encode result cache key", e);
+        }
+    }
+
+    private Metadata readMetadata(final String prefix) throws IOException {
+        final byte[] bytes = blockStore.get(prefix + METADATA_ID);
+        return null != bytes ? Metadata.deserialise(bytes) : null;
+    }
+
+    protected String getJobId() {
+        return jobId;
+    }
+
+    protected Context getContext() {
+        return context;
+    }
+
+    protected BlockStore getBlockStore() {
+        return blockStore;
+    }
+
+    protected long getTimeToLive() {
+        return timeToLive;
+    }
+
+    protected int getBlockSize() {
+        return blockSize;
+    }
+
+    protected TreeSet<String> getRequiredOpAuths() {
+        return requiredOpAuths;
+    }
+
+    protected Set<String> getUserOpAuths() {
+        return userOpAuths;
+    }
+
+    private static final class Metadata {
+        private final long expiry;
+        private final int blocks;
+        private final Set<String> opAuths;
+
+        private Metadata(final long expiry, final int blocks, final Set<String> opAuths) {
+            this.expiry = expiry;
+            this.blocks = blocks;
+            this.opAuths = opAuths;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiry;
+        }
+
+        private byte[] serialise() throws IOException {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (final DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeLong(expiry);
+                out.writeInt(blocks);
+                out.writeInt(opAuths.size());
+                for (final String opAuth : opAuths) {
+                    out.writeUTF(opAuth);
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        private static Metadata deserialise(final byte[] bytes) throws IOException {
+            try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                final long expiry = in.readLong();
+                final int blocks = in.readInt();
+                final int size = in.readInt();
+                final Set<String> opAuths = new TreeSet<>();
+                for (int i = 0; i < size; i++) {
+                    opAuths.add(in.readUTF());
+                }
+                return new Metadata(expiry, blocks, opAuths);
+            }
+        }
+    }
+
+    /**
+     * Serialises results into a compressed block. Each result is written as
+     * its class name followed by its JSON, so any result which can be
+     * serialised with the {@link JSONSerialiser} can be exported.
+     */
+    private static final class BlockWriter {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater));
+        private int size;
+
+        private void write(final Object value) throws IOException {
+            if (isNull(value)) {
+                out.writeByte(NULL_RESULT);
+            } else {
+                final byte[] json = JSONSerialiser.serialise(value);
+                out.writeByte(RESULT);
+                out.writeUTF(value.getClass().getName());
+                out.writeInt(json.length);
+                out.write(json);
+            }
+            size++;
+        }
+
+        private byte[] finish() throws IOException {
+            try {
+                out.writeByte(END_OF_BLOCK);
+                out.close();
+            } finally {
+                release();
+            }
+            return bytes.toByteArray();
+        }
+
+        // Frees the native memory of the deflater, this can be called more than once
+        private void release() {
+            deflater.end();
+        }
+    }
+
+    private final class BlockIterable implements Iterable<Object> {
+        private final String prefix;
+        private final int blocks;
+
+        private BlockIterable(final String prefix, final int blocks) {
+            this.prefix = prefix;
+            this.blocks = blocks;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new BlockIterator(prefix, blocks);
+        }
+    }
+
+    /**
+     * Reads the results one block at a time, deserialising each result as it
+     * is iterated over.
+     */
+    private final class BlockIterator implements Iterator<Object> {
+        private final String prefix;
+        private final int blocks;
+        private final Map<String, Class<?>> classes = new HashMap<>();
+        private int nextBlock;
+        private DataInputStream in;
+        private byte nextType = END_OF_BLOCK;
+
+        private BlockIterator(final String prefix, final int blocks) {
+            this.prefix = prefix;
+            this.blocks = blocks;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (END_OF_BLOCK == nextType && nextBlock < blocks) {
+                    final byte[] block = blockStore.get(prefix + nextBlock++);
+                    if (null == block) {
+                        throw new GafferRuntimeException("Result cache block " + (nextBlock - 1) + " is missing for job " + jobId);
+                    }
+                    in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(block)));
+                    nextType = in.readByte();
+                }
+            } catch (final IOException e) {
+                throw new GafferRuntimeException("Unable to read results from the result cache for job " + jobId, e);
+            }
+            return END_OF_BLOCK != nextType;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                final Object result;
+                if (NULL_RESULT == nextType) {
+                    result = null;
+                } else {
+                    final Class<?> resultClass = getClass(in.readUTF());
+                    final byte[] json = new byte[in.readInt()];
+                    in.readFully(json);
+                    result = JSONSerialiser.deserialise(json, resultClass);
+                }
+                nextType = in.readByte();
+                return result;
+            } catch (final IOException e) {
+                throw new GafferRuntimeException("Unable to read results from the result cache for job " + jobId, e);
+            }
+        }
+
+        private Class<?> getClass(final String className) {
+            return classes.computeIfAbsent(className, name -> {
+                try {
+                    return Class.forName(name);
+                } catch (final ClassNotFoundException e) {
+                    LOGGER.error("Result class name was not found: {}", name, e);
+                    throw new GafferRuntimeException("Result class name was not found: " + name, e);
+                }
+            });
+        }
+    }
+}
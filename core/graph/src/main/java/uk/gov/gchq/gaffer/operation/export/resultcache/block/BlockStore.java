@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.operation.export.resultcache.block;
+
+import java.io.IOException;
+
+/**
+ * A {@code BlockStore} holds blocks of bytes against string ids. It is used
+ * by the {@link uk.gov.gchq.gaffer.operation.export.resultcache.BlockResultCacheExporter}
+ * to store the compressed blocks of exported results.
+ */
+public interface BlockStore {
+
+    /**
+     * Stores a block, replacing any existing block with the same id.
+     *
+     * @param id    the id of the block
+     * @param block the block
+     * @throws IOException if the block could not be stored
+     */
+    void put(final String id, final byte[] block) throws IOException;
+
+    /**
+     * Gets a block.
+     *
+     * @param id the id of the block
+     * @return the block, or {@code null} if there is no block with the id
+     * @throws IOException if the block could not be read
+     */
+    byte[] get(final String id) throws IOException;
+
+    /**
+     * Deletes a block, if it exists.
+     *
+     * @param id the id of the block
+     * @throws IOException if the block could not be deleted
+     */
+    void delete(final String id) throws IOException;
+
+    /**
+     * Gets the ids of all the blocks in this store.
+     *
+     * @return the ids of the blocks
+     * @throws IOException if the ids could not be read
+     */
+    Iterable<String> getIds() throws IOException;
+}
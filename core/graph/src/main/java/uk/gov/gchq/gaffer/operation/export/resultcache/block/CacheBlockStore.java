@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.operation.export.resultcache.block;
+
+import uk.gov.gchq.gaffer.cache.Cache;
+import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
+
+import java.io.IOException;
+
+/**
+ * A {@link BlockStore} which holds the blocks in a cache provided by the
+ * {@link uk.gov.gchq.gaffer.cache.CacheServiceLoader}.
+ */
+public class CacheBlockStore extends Cache<String, byte[]> implements BlockStore {
+    public static final String CACHE_SERVICE_NAME_PREFIX = "BlockResultCache";
+    public static final String BLOCK_RESULT_CACHE_SERVICE_NAME = "BlockResultCache";
+
+    public CacheBlockStore(final String suffixCacheName) {
+        super(getCacheNameFrom(suffixCacheName), BLOCK_RESULT_CACHE_SERVICE_NAME);
+    }
+
+    public static String getCacheNameFrom(final String suffixCacheName) {
+        return Cache.getCacheNameFrom(CACHE_SERVICE_NAME_PREFIX, suffixCacheName);
+    }
+
+    public String getSuffixCacheName() {
+        return getSuffixCacheNameWithoutPrefix(CACHE_SERVICE_NAME_PREFIX);
+    }
+
+    @Override
+    public void put(final String id, final byte[] block) throws IOException {
+        try {
+            addToCache(id, block, true);
+        } catch (final CacheOperationException e) {
+            throw new IOException("Unable to add block to cache: " + id, e);
+        }
+    }
+
+    @Override
+    public byte[] get(final String id) throws IOException {
+        try {
+            return getFromCache(id);
+        } catch (final CacheOperationException e) {
+            throw new IOException("Unable to get block from cache: " + id, e);
+        }
+    }
+
+    @Override
+    public void delete(final String id) {
+        deleteFromCache(id);
+    }
+
+    @Override
+    public Iterable<String> getIds() {
+        return getAllKeys();
+    }
+}
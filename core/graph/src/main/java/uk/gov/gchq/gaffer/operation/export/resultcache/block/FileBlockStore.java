@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.operation.export.resultcache.block;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link BlockStore} which writes each block to its own file in a local
+ * directory. Blocks are written to a temporary file first and then moved into
+ * place, so a block is never read while it is partially written.
+ */
+public class FileBlockStore implements BlockStore {
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    public FileBlockStore(final String directory) {
+        this(Paths.get(directory));
+    }
+
+    public FileBlockStore(final Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void put(final String id, final byte[] block) throws IOException {
+        Files.createDirectories(directory);
+        final Path file = getFile(id);
+        final Path tempFile = Files.createTempFile(directory, null, TEMP_SUFFIX);
+        try {
+            Files.write(tempFile, block);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public byte[] get(final String id) throws IOException {
+        try {
+            return Files.readAllBytes(getFile(id));
+        } catch (final NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void delete(final String id) throws IOException {
+        Files.deleteIfExists(getFile(id));
+    }
+
+    @Override
+    public Iterable<String> getIds() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (final Stream<Path> files = Files.list(directory)) {
+            final List<String> fileNames = files
+                    .map(file -> file.getFileName().toString())
+                    .filter(fileName -> !fileName.endsWith(TEMP_SUFFIX))
+                    .collect(Collectors.toList());
+            final List<String> ids = new ArrayList<>(fileNames.size());
+            for (final String fileName : fileNames) {
+                ids.add(URLDecoder.decode(fileName, StandardCharsets.UTF_8.name()));
+            }
+            return ids;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Path getFile(final String id) throws UnsupportedEncodingException {
+        return directory.resolve(URLEncoder.encode(id, StandardCharsets.UTF_8.name()));
+    }
+}
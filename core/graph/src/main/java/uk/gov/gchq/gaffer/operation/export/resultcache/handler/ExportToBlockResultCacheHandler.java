@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.operation.export.resultcache.handler;
+
+import uk.gov.gchq.gaffer.operation.export.resultcache.BlockResultCacheExporter;
+import uk.gov.gchq.gaffer.operation.export.resultcache.handler.util.GafferResultCacheUtil;
+import uk.gov.gchq.gaffer.operation.impl.export.resultcache.ExportToGafferResultCache;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.operation.handler.export.ExportToHandler;
+
+/**
+ * An alternative {@link uk.gov.gchq.gaffer.store.operation.handler.OperationHandler}
+ * for {@link ExportToGafferResultCache} operations, which exports results to
+ * compressed blocks using a {@link BlockResultCacheExporter} rather than
+ * adding them to a Gaffer graph. The blocks are written to a local directory
+ * if one is set, otherwise they are held in a cache.
+ * <p>
+ * It must be used together with the {@link GetBlockResultCacheExportHandler},
+ * configured with the same directory or cache name.
+ */
+public class ExportToBlockResultCacheHandler extends ExportToHandler<ExportToGafferResultCache, BlockResultCacheExporter> {
+    private String directory;
+
+    private String cacheNameSuffix;
+
+    /**
+     * Time to live in milliseconds.
+     */
+    private Long timeToLive = GafferResultCacheUtil.DEFAULT_TIME_TO_LIVE;
+
+    private int blockSize = BlockResultCacheExporter.DEFAULT_BLOCK_SIZE;
+
+    @Override
+    protected Class<BlockResultCacheExporter> getExporterClass() {
+        return BlockResultCacheExporter.class;
+    }
+
+    @Override
+    protected BlockResultCacheExporter createExporter(final ExportToGafferResultCache export, final Context context, final Store store) {
+        return new BlockResultCacheExporter(
+                context, context.getJobId(),
+                GafferResultCacheUtil.createBlockStore(directory, cacheNameSuffix),
+                export.getOpAuths(), timeToLive, blockSize);
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+
+    public String getCacheNameSuffix() {
+        return cacheNameSuffix;
+    }
+
+    public void setCacheNameSuffix(final String cacheNameSuffix) {
+        this.cacheNameSuffix = cacheNameSuffix;
+    }
+
+    public Long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(final Long timeToLive) {
+        this.timeToLive = null != timeToLive ? timeToLive : GafferResultCacheUtil.DEFAULT_TIME_TO_LIVE;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(final int blockSize) {
+        this.blockSize = blockSize;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.operation.export.resultcache.handler;
+
+import uk.gov.gchq.gaffer.operation.export.resultcache.BlockResultCacheExporter;
+import uk.gov.gchq.gaffer.operation.export.resultcache.handler.util.GafferResultCacheUtil;
+import uk.gov.gchq.gaffer.operation.impl.export.resultcache.GetGafferResultCacheExport;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.operation.handler.export.GetExportHandler;
+
+/**
+ * An alternative handler for {@link GetGafferResultCacheExport} operations,
+ * which streams the results exported by the {@link ExportToBlockResultCacheHandler}
+ * back using a {@link BlockResultCacheExporter}.
+ */
+public class GetBlockResultCacheExportHandler extends GetExportHandler<GetGafferResultCacheExport, BlockResultCacheExporter> {
+    private String directory;
+
+    private String cacheNameSuffix;
+
+    @Override
+    protected Class<BlockResultCacheExporter> getExporterClass() {
+        return BlockResultCacheExporter.class;
+    }
+
+    @Override
+    protected BlockResultCacheExporter createExporter(final GetGafferResultCacheExport export, final Context context, final Store store) {
+        final String jobId = null != export.getJobId() ? export.getJobId() : context.getJobId();
+        return new BlockResultCacheExporter(
+                context, jobId,
+                GafferResultCacheUtil.createBlockStore(directory, cacheNameSuffix),
+                null, GafferResultCacheUtil.DEFAULT_TIME_TO_LIVE, BlockResultCacheExporter.DEFAULT_BLOCK_SIZE);
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+
+    public String getCacheNameSuffix() {
+        return cacheNameSuffix;
+    }
+
+    public void setCacheNameSuffix(final String cacheNameSuffix) {
+        this.cacheNameSuffix = cacheNameSuffix;
+    }
+}
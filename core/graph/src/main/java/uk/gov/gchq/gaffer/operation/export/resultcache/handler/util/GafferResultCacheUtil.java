@@ -24,6 +24,9 @@ import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.graph.GraphConfig;
 import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.export.resultcache.block.BlockStore;
+import uk.gov.gchq.gaffer.operation.export.resultcache.block.CacheBlockStore;
+import uk.gov.gchq.gaffer.operation.export.resultcache.block.FileBlockStore;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.StoreTrait;
 import uk.gov.gchq.gaffer.store.operation.HasTrait;
@@ -73,6 +76,22 @@ public final class GafferResultCacheUtil {
         return graph;
     }
 
+    /**
+     * Creates the {@link BlockStore} for a block result cache. The blocks are
+     * written to the directory if one is provided, otherwise they are held in
+     * the {@link CacheBlockStore} with the given cache name suffix.
+     *
+     * @param directory       the directory to write the blocks to, or null
+     * @param suffixCacheName the suffix of the cache name
+     * @return the block store
+     */
+    public static BlockStore createBlockStore(final String directory, final String suffixCacheName) {
+        if (null != directory) {
+            return new FileBlockStore(directory);
+        }
+        return new CacheBlockStore(suffixCacheName);
+    }
+
     public static Schema createSchema(final Long timeToLive) {
         final Schema.Builder builder = new Schema.Builder()
                 .json(StreamUtil.openStreams(GafferResultCacheUtil.class, "gafferResultCache/schema"));
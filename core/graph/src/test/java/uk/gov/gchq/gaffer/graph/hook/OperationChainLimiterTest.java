@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.graph.hook;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.exception.UnauthorisedException;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.core.exception.Status;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.impl.generate.GenerateObjects;
@@ -28,10 +30,17 @@ import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.user.User;
 
+import java.io.Closeable;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -180,6 +189,204 @@ public class OperationChainLimiterTest extends GraphHookTest<OperationChainLimit
         assertSame(result, returnedResult);
     }
 
+    @Test
+    public void shouldRejectOperationChainWhenConcurrentScoreBudgetIsUsed() {
+        // Given
+        final OperationChainLimiter hook = fromJson(OP_CHAIN_LIMITER_PATH);
+        hook.setMaxConcurrentScore(3);
+        final Context firstContext = new Context(user("user1"));
+
+        // When
+        hook.preExecute(getElementsChain(), firstContext);
+        hook.preExecute(getElementsChain(), new Context(user("user2")));
+
+        // Then
+        assertThat(hook.getInFlightScore()).isEqualTo(2);
+        assertThatExceptionOfType(GafferRuntimeException.class)
+                .isThrownBy(() -> hook.preExecute(getAdjacentIdsAndElementsChain(), new Context(user("user3"))))
+                .satisfies(e -> assertThat(e.getStatus()).isEqualTo(Status.TOO_MANY_REQUESTS));
+        assertThat(hook.getInFlightScore()).isEqualTo(2);
+
+        // When
+        hook.postExecute(Arrays.asList(1, 2), getElementsChain(), firstContext);
+
+        // Then
+        assertThat(hook.getInFlightScore()).isEqualTo(1);
+        hook.preExecute(getAdjacentIdsAndElementsChain(), new Context(user("user3")));
+        assertThat(hook.getInFlightScore()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldLimitConcurrentScorePerUser() {
+        // Given
+        final OperationChainLimiter hook = fromJson(OP_CHAIN_LIMITER_PATH);
+        hook.setMaxConcurrentUserScore(2);
+        hook.preExecute(getAdjacentIdsAndElementsChain(), new Context(user("user1")));
+
+        // When / Then
+        assertThatExceptionOfType(GafferRuntimeException.class)
+                .isThrownBy(() -> hook.preExecute(getElementsChain(), new Context(user("user1"))));
+        hook.preExecute(getAdjacentIdsAndElementsChain(), new Context(user("user2")));
+        assertThat(hook.getInFlightScore("user1")).isEqualTo(2);
+        assertThat(hook.getInFlightScore("user2")).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldAdmitChainLargerThanBudgetWhenNothingElseIsRunning() {
+        // Given
+        final OperationChainLimiter hook = fromJson(OP_CHAIN_LIMITER_PATH);
+        hook.setMaxConcurrentScore(1);
+        final Context context = new Context(user("user1"));
+
+        // When
+        hook.preExecute(getAdjacentIdsAndElementsChain(), context);
+
+        // Then
+        assertThat(hook.getInFlightScore()).isEqualTo(2);
+        hook.onFailure(null, getAdjacentIdsAndElementsChain(), context, new RuntimeException());
+        assertThat(hook.getInFlightScore()).isZero();
+    }
+
+    @Test
+    public void shouldWaitForScoreToBeReleased() throws Exception {
+        // Given
+        final OperationChainLimiter hook = fromJson(OP_CHAIN_LIMITER_PATH);
+        hook.setMaxConcurrentScore(2);
+        hook.setAdmissionTimeout(TimeUnit.SECONDS.toMillis(30));
+        final Context firstContext = new Context(user("user1"));
+        hook.preExecute(getAdjacentIdsAndElementsChain(), firstContext);
+
+        // When
+        final CompletableFuture<Void> waiting = CompletableFuture.runAsync(
+                () -> hook.preExecute(getElementsChain(), new Context(user("user2"))));
+        while (0 == hook.getWaitingChainCount()) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertThat(waiting).isNotDone();
+        hook.onFailure(null, getAdjacentIdsAndElementsChain(), firstContext, new RuntimeException());
+        waiting.get(30, TimeUnit.SECONDS);
+        assertThat(hook.getInFlightScore()).isEqualTo(1);
+        assertThat(hook.getWaitingChainCount()).isZero();
+    }
+
+    @Test
+    public void shouldRejectChainWhenAdmissionTimesOut() {
+        // Given
+        final OperationChainLimiter hook = fromJson(OP_CHAIN_LIMITER_PATH);
+        hook.setMaxConcurrentScore(2);
+        hook.setAdmissionTimeout(50);
+        hook.preExecute(getAdjacentIdsAndElementsChain(), new Context(user("user1")));
+
+        // When / Then
+        assertThatExceptionOfType(GafferRuntimeException.class)
+                .isThrownBy(() -> hook.preExecute(getElementsChain(), new Context(user("user2"))));
+        assertThat(hook.getWaitingChainCount()).isZero();
+        assertThat(hook.getInFlightScore()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldHoldScoreUntilLazyResultIsClosed() throws Exception {
+        // Given
+        final OperationChainLimiter hook = fromJson(OP_CHAIN_LIMITER_PATH);
+        hook.setMaxConcurrentScore(2);
+        final Context context = new Context(user("user1"));
+        hook.preExecute(getElementsChain(), context);
+        final List<Integer> items = Arrays.asList(1, 2);
+        final Iterable<Integer> lazyResult = items::iterator;
+
+        // When
+        final Iterable<Integer> result = hook.postExecute(lazyResult, getElementsChain(), context);
+
+        // Then
+        assertThat(result).containsExactly(1, 2);
+        assertThat(hook.getInFlightScore()).isZero();
+
+        // Given
+        final Context secondContext = new Context(user("user1"));
+        hook.preExecute(getElementsChain(), secondContext);
+
+        // When
+        final Iterable<Integer> unreadResult = hook.postExecute(lazyResult, getElementsChain(), secondContext);
+
+        // Then
+        assertThat(hook.getInFlightScore()).isEqualTo(1);
+        ((Closeable) unreadResult).close();
+        assertThat(hook.getInFlightScore()).isZero();
+    }
+
+    @Test
+    public void shouldReleaseScoreOfAbandonedLazyResultAfterLeaseTimeout() throws Exception {
+        // Given
+        final OperationChainLimiter hook = fromJson(OP_CHAIN_LIMITER_PATH);
+        hook.setMaxConcurrentScore(2);
+        hook.setResultLeaseTimeout(100);
+        hook.setAdmissionTimeout(TimeUnit.SECONDS.toMillis(30));
+        final Context context = new Context(user("user1"));
+        hook.preExecute(getAdjacentIdsAndElementsChain(), context);
+        final List<Integer> items = Arrays.asList(1, 2, 3);
+        final Iterable<Integer> lazyResult = items::iterator;
+
+        // When
+        final Iterator<Integer> abandoned = hook.postExecute(lazyResult, getAdjacentIdsAndElementsChain(), context).iterator();
+        abandoned.next();
+
+        // Then
+        assertThat(hook.getInFlightScore()).isEqualTo(2);
+
+        // When
+        final long start = System.nanoTime();
+        hook.preExecute(getElementsChain(), new Context(user("user2")));
+
+        // Then
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(hook.getInFlightScore()).isEqualTo(1);
+        assertThat(hook.getInFlightScore("user1")).isZero();
+    }
+
+    @Test
+    public void shouldNotReleaseScoreOfLazyResultWhileItIsBeingRead() throws Exception {
+        // Given
+        final OperationChainLimiter hook = fromJson(OP_CHAIN_LIMITER_PATH);
+        hook.setMaxConcurrentScore(2);
+        hook.setResultLeaseTimeout(300);
+        final Context context = new Context(user("user1"));
+        hook.preExecute(getElementsChain(), context);
+        final List<Integer> items = Arrays.asList(1, 2, 3, 4, 5, 6, 7);
+        final Iterable<Integer> lazyResult = items::iterator;
+        final Iterator<Integer> iterator = hook.postExecute(lazyResult, getElementsChain(), context).iterator();
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            iterator.next();
+            Thread.sleep(100);
+        }
+
+        // Then
+        assertThat(hook.getInFlightScore()).isEqualTo(1);
+    }
+
+    private static User user(final String userId) {
+        return new User.Builder()
+                .userId(userId)
+                .opAuths("User")
+                .build();
+    }
+
+    private static OperationChain<?> getElementsChain() {
+        return new OperationChain.Builder()
+                .first(new GetElements())
+                .build();
+    }
+
+    private static OperationChain<?> getAdjacentIdsAndElementsChain() {
+        return new OperationChain.Builder()
+                .first(new GetAdjacentIds())
+                .then(new GetElements())
+                .build();
+    }
+
     @Override
     protected OperationChainLimiter getTestObject() {
         return fromJson(OP_CHAIN_LIMITER_PATH);
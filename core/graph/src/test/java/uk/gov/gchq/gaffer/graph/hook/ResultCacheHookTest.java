@@ -0,0 +1,319 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.graph.hook;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.cache.CacheServiceLoader;
+import uk.gov.gchq.gaffer.cache.impl.HashMapCacheService;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.Map;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.generate.GenerateObjects;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.operation.impl.output.ToSet;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultCacheHookTest extends GraphHookTest<ResultCacheHook> {
+    private static final String SUFFIX = "resultCacheHookTest";
+    private static final User USER = new User.Builder().userId("user").dataAuths("A", "B").build();
+
+    ResultCacheHookTest() {
+        super(ResultCacheHook.class);
+    }
+
+    @BeforeEach
+    void before() {
+        CacheServiceLoader.initialise(HashMapCacheService.class.getName());
+    }
+
+    @AfterEach
+    void after() {
+        CacheServiceLoader.shutdown();
+    }
+
+    @Test
+    void shouldReturnCachedResultForTheSameChainWithSeedsInADifferentOrder() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        final List<Entity> result = Arrays.asList(new Entity("BasicEntity", "1"), new Entity("BasicEntity", "2"));
+        execute(hook, getElements("1", "2"), USER, result);
+
+        // When
+        final OperationChain<?> opChain = getElements("2", "1");
+        final Object cached = execute(hook, opChain, USER, Collections.emptyList());
+
+        // Then
+        assertThat(opChain.getOperations()).singleElement().isInstanceOf(Map.class);
+        assertThat(cached).isEqualTo(result).isNotSameAs(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldCopyElementsAndPropertiesWhenCachingAndReturningResults() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        final Entity entity = new Entity.Builder()
+                .group("BasicEntity")
+                .vertex("1")
+                .property("count", 1L)
+                .property("names", new TreeSet<>(Arrays.asList("a", "b")))
+                .build();
+        final Entity expected = entity.shallowClone();
+        expected.putProperty("names", new TreeSet<>(Arrays.asList("a", "b")));
+        execute(hook, getElements("1"), USER, Collections.singletonList(entity));
+
+        // When
+        entity.putProperty("count", 2L);
+        ((Set<String>) entity.getProperty("names")).add("c");
+        final List<Entity> firstHit = (List<Entity>) execute(hook, getElements("1"), USER, Collections.emptyList());
+        ((Set<String>) firstHit.get(0).getProperty("names")).add("d");
+        final Object secondHit = execute(hook, getElements("1"), USER, Collections.emptyList());
+
+        // Then
+        assertThat(firstHit.get(0)).isNotSameAs(entity);
+        assertThat(secondHit).isEqualTo(Collections.singletonList(expected));
+    }
+
+    @Test
+    void shouldNotShareResultsBetweenUsersWithDifferentDataAuths() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        final User otherUser = new User.Builder().userId("user").dataAuths("A").build();
+        final User sameAuthsUser = new User.Builder().userId("other").dataAuths("B", "A").build();
+        execute(hook, getElements("1"), USER, Collections.singletonList("first"));
+
+        // When
+        final Object otherResult = execute(hook, getElements("1"), otherUser, Collections.singletonList("second"));
+        final Object sameAuthsResult = execute(hook, getElements("1"), sameAuthsUser, Collections.singletonList("third"));
+
+        // Then
+        assertThat(otherResult).isEqualTo(Collections.singletonList("second"));
+        assertThat(sameAuthsResult).isEqualTo(Collections.singletonList("first"));
+    }
+
+    @Test
+    void shouldIncludeOptionsInKeyUnlessIgnored() throws Exception {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        final OperationChain<?> withOption = getElements("1");
+        withOption.getOperations().get(0).addOption("option", "value");
+        final Context context = new Context(USER);
+
+        // When
+        final String key = hook.createKey(getElements("1"), context);
+        final String keyWithOption = hook.createKey(withOption, context);
+        hook.setIgnoreOptions(true);
+        final String keyIgnoringOption = hook.createKey(withOption, context);
+
+        // Then
+        assertThat(keyWithOption).isNotEqualTo(key);
+        assertThat(keyIgnoringOption).isEqualTo(key);
+    }
+
+    @Test
+    void shouldNotCacheChainsWithOperationsWhichAreNotCacheable() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new GenerateObjects<>())
+                .build();
+        execute(hook, opChain, USER, Collections.singletonList("first"));
+
+        // When
+        final Object result = execute(hook, opChain.shallowClone(), USER, Collections.singletonList("second"));
+
+        // Then
+        assertThat(result).isEqualTo(Collections.singletonList("second"));
+    }
+
+    @Test
+    void shouldRemoveCachedResultsWhenElementsAreAdded() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        execute(hook, getElements("1"), USER, Collections.singletonList("first"));
+
+        // When
+        execute(hook, new OperationChain<>(new AddElements()), USER, null);
+        final Object result = execute(hook, getElements("1"), USER, Collections.singletonList("second"));
+
+        // Then
+        assertThat(result).isEqualTo(Collections.singletonList("second"));
+    }
+
+    @Test
+    void shouldNotCacheResultsReadWhileElementsWereAdded() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        final OperationChain<?> opChain = getElements("1");
+        final Context context = new Context(USER);
+        hook.preExecute(opChain, context);
+
+        // When
+        execute(hook, new OperationChain<>(new AddElements()), USER, null);
+        hook.postExecute(Collections.singletonList("stale"), opChain, context);
+        final Object result = execute(hook, getElements("1"), USER, Collections.singletonList("fresh"));
+
+        // Then
+        assertThat(result).isEqualTo(Collections.singletonList("fresh"));
+    }
+
+    @Test
+    void shouldCacheLazyResultsOnceTheyHaveBeenRead() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        final Iterable<String> lazy = () -> Arrays.asList("1", "2", "3").iterator();
+        final Iterable<?> result = (Iterable<?>) execute(hook, getElements("1"), USER, lazy);
+        assertThat(execute(hook, getElements("1"), USER, Collections.emptyList())).isEqualTo(Collections.emptyList());
+
+        // When
+        final List<Object> items = new ArrayList<>();
+        result.forEach(items::add);
+        final Object cached = execute(hook, getElements("1"), USER, Collections.emptyList());
+
+        // Then
+        assertThat(items).containsExactly("1", "2", "3");
+        assertThat(cached).isEqualTo(Arrays.asList("1", "2", "3"));
+    }
+
+    @Test
+    void shouldNotCacheResultsWithTooManyItems() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        hook.setMaxResultSize(2);
+        execute(hook, getElements("1"), USER, Arrays.asList("1", "2", "3"));
+
+        // When
+        final Object result = execute(hook, getElements("1"), USER, Collections.emptyList());
+
+        // Then
+        assertThat(result).isEqualTo(Collections.emptyList());
+    }
+
+    @Test
+    void shouldKeepSetResultsAsSets() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        final Set<String> result = new LinkedHashSet<>(Arrays.asList("1", "2"));
+        final OperationChain<?> opChain = new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new ToSet<>())
+                .build();
+        execute(hook, opChain, USER, result);
+
+        // When
+        final Object cached = execute(hook, opChain.shallowClone(), USER, null);
+
+        // Then
+        assertThat(cached).isInstanceOf(Set.class).isEqualTo(result);
+    }
+
+    @Test
+    void shouldExpireResults() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        hook.setTimeToLive(0);
+        execute(hook, getElements("1"), USER, Collections.singletonList("first"));
+
+        // When
+        final Object result = execute(hook, getElements("1"), USER, Collections.singletonList("second"));
+
+        // Then
+        assertThat(result).isEqualTo(Collections.singletonList("second"));
+    }
+
+    @Test
+    void shouldRemoveOldestResultsWhenFull() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        hook.setMaxEntries(2);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            execute(hook, getElements(String.valueOf(i)), USER, Collections.singletonList(i));
+        }
+
+        // Then
+        assertThat(new QueryResultCache(SUFFIX).getAllKeys()).hasSize(2);
+        assertThat(execute(hook, getElements("4"), USER, Collections.emptyList())).isEqualTo(Collections.singletonList(4));
+        assertThat(execute(hook, getElements("0"), USER, Collections.emptyList())).isEqualTo(Collections.emptyList());
+    }
+
+    @Test
+    void shouldSerialiseConfiguration() {
+        // Given
+        final ResultCacheHook hook = getTestObject();
+        hook.setCacheableOperations(new LinkedHashSet<>(Arrays.asList(GetElements.class, ToSet.class)));
+        hook.setIgnoreOptions(true);
+        hook.setTimeToLive(1000L);
+        hook.setMaxEntries(10);
+        hook.setMaxResultSize(100);
+
+        // When
+        final ResultCacheHook deserialised = fromJson(toJson(hook));
+
+        // Then
+        assertThat(deserialised.getSuffixCacheName()).isEqualTo(SUFFIX.toLowerCase());
+        assertThat(deserialised.getCacheableOperations()).containsExactlyInAnyOrder(GetElements.class, ToSet.class);
+        assertThat(deserialised.getInvalidatingOperations()).containsExactlyInAnyOrderElementsOf(ResultCacheHook.DEFAULT_INVALIDATING_OPERATIONS);
+        assertThat(deserialised.isIgnoreOptions()).isTrue();
+        assertThat(deserialised.getTimeToLive()).isEqualTo(1000L);
+        assertThat(deserialised.getMaxEntries()).isEqualTo(10);
+        assertThat(deserialised.getMaxResultSize()).isEqualTo(100);
+    }
+
+    @Override
+    protected ResultCacheHook getTestObject() {
+        return new ResultCacheHook(SUFFIX);
+    }
+
+    private static OperationChain<?> getElements(final String... seeds) {
+        final List<EntitySeed> input = new ArrayList<>();
+        for (final String seed : seeds) {
+            input.add(new EntitySeed(seed));
+        }
+        return new OperationChain<>(new GetElements.Builder().input(input).build());
+    }
+
+    // Runs the hook in the same way as the Graph, returning the store result
+    // unless the chain has been replaced with the cached result
+    private static Object execute(final ResultCacheHook hook, final OperationChain<?> opChain, final User user, final Object storeResult) {
+        final Context context = new Context(user);
+        hook.preExecute(opChain, context);
+        final Operation first = opChain.getOperations().get(0);
+        final Object result = first instanceof Map ? ((Map<?, ?>) first).getInput() : storeResult;
+        return hook.postExecute(result, opChain, context);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.operation.export.resultcache;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import uk.gov.gchq.gaffer.cache.CacheServiceLoader;
+import uk.gov.gchq.gaffer.cache.impl.HashMapCacheService;
+import uk.gov.gchq.gaffer.commonutil.CollectionUtil;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.export.resultcache.block.CacheBlockStore;
+import uk.gov.gchq.gaffer.operation.export.resultcache.block.FileBlockStore;
+import uk.gov.gchq.gaffer.operation.export.resultcache.handler.ExportToBlockResultCacheHandler;
+import uk.gov.gchq.gaffer.operation.export.resultcache.handler.GetBlockResultCacheExportHandler;
+import uk.gov.gchq.gaffer.operation.impl.export.resultcache.ExportToGafferResultCache;
+import uk.gov.gchq.gaffer.operation.impl.export.resultcache.GetGafferResultCacheExport;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockResultCacheExporterTest {
+    private static final long TIME_TO_LIVE = 60_000L;
+
+    private final Context context = new Context(new User.Builder()
+            .userId("user01")
+            .opAuths("auth1")
+            .build());
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void setUp() {
+        CacheServiceLoader.initialise(HashMapCacheService.class.getName());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        CacheServiceLoader.shutdown();
+    }
+
+    @Test
+    void shouldExportAndGetResultsInBlocksInADirectory() throws OperationException {
+        // Given
+        final FileBlockStore blockStore = new FileBlockStore(directory);
+        final BlockResultCacheExporter exporter = new BlockResultCacheExporter(context, "job/1", blockStore, null, TIME_TO_LIVE, 3);
+        final List<Object> results = createResults();
+
+        // When
+        exporter.add("key", results);
+
+        // Then
+        assertThat(toList(exporter.get("key"))).containsExactlyElementsOf(results);
+        assertThat(toList(exporter.get("otherKey"))).isEmpty();
+        // 3 blocks of results and the metadata
+        assertThat(directory.toFile().list()).hasSize(4);
+    }
+
+    @Test
+    void shouldExportAndGetResultsInBlocksInACache() throws OperationException {
+        // Given
+        final BlockResultCacheExporter exporter = new BlockResultCacheExporter(context, "job1", new CacheBlockStore("test"), null, TIME_TO_LIVE, 2);
+        final List<Object> results = createResults();
+
+        // When
+        exporter.add("key", results);
+
+        // Then
+        assertThat(toList(exporter.get("key"))).containsExactlyElementsOf(results);
+    }
+
+    @Test
+    void shouldAppendResultsToAnExistingExport() throws OperationException {
+        // Given
+        final BlockResultCacheExporter exporter = new BlockResultCacheExporter(context, "job1", new FileBlockStore(directory), null, TIME_TO_LIVE, 2);
+        exporter.add("key", Arrays.asList(1, 2, 3));
+
+        // When
+        exporter.add("key", Arrays.asList(4, 5));
+
+        // Then
+        assertThat(toList(exporter.get("key"))).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void shouldNotGetResultsWithoutTheRequiredOpAuths() throws OperationException {
+        // Given
+        final FileBlockStore blockStore = new FileBlockStore(directory);
+        new BlockResultCacheExporter(context, "job1", blockStore, CollectionUtil.treeSet("auth2"), TIME_TO_LIVE, 2)
+                .add("key", Arrays.asList(1, 2, 3));
+        final Context otherContext = new Context(new User.Builder()
+                .userId("user02")
+                .opAuths("auth1", "auth2")
+                .build());
+
+        // When / Then
+        assertThat(toList(new BlockResultCacheExporter(context, "job1", blockStore, null, TIME_TO_LIVE, 2).get("key"))).isEmpty();
+        assertThat(toList(new BlockResultCacheExporter(otherContext, "job1", blockStore, null, TIME_TO_LIVE, 2).get("key"))).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldRemoveExpiredResults() throws OperationException {
+        // Given
+        final FileBlockStore blockStore = new FileBlockStore(directory);
+        final BlockResultCacheExporter expired = new BlockResultCacheExporter(context, "job1", blockStore, null, -1L, 2);
+        expired.add("key", Arrays.asList(1, 2, 3));
+        assertThat(toList(expired.get("key"))).isEmpty();
+
+        final BlockResultCacheExporter exporter = new BlockResultCacheExporter(context, "job2", blockStore, null, TIME_TO_LIVE, 2);
+        exporter.add("key", Collections.singletonList(4));
+
+        // When
+        exporter.removeExpired();
+
+        // Then
+        assertThat(directory.toFile().list()).hasSize(2);
+    }
+
+    @Test
+    void shouldNotLoseResultsWhenAddingToTheSameKeyConcurrently() throws Exception {
+        // Given
+        final FileBlockStore blockStore = new FileBlockStore(directory);
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < threads; i++) {
+                final int thread = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10; j++) {
+                        new BlockResultCacheExporter(context, "job1", blockStore, null, TIME_TO_LIVE, 2)
+                                .add("key", Arrays.asList(thread * 100 + j * 2, thread * 100 + j * 2 + 1));
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        final List<Object> results = toList(new BlockResultCacheExporter(context, "job1", blockStore, null, TIME_TO_LIVE, 2).get("key"));
+        assertThat(results).hasSize(threads * 20).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldExportAndGetResultsUsingTheHandlers() throws OperationException {
+        // Given
+        final ExportToBlockResultCacheHandler exportHandler = new ExportToBlockResultCacheHandler();
+        exportHandler.setDirectory(directory.toString());
+        exportHandler.setBlockSize(2);
+        final GetBlockResultCacheExportHandler getHandler = new GetBlockResultCacheExportHandler();
+        getHandler.setDirectory(directory.toString());
+        final List<Object> results = createResults();
+
+        // When
+        final Object exportResult = exportHandler.doOperation(new ExportToGafferResultCache.Builder<>()
+                .key("key")
+                .input(results)
+                .build(), context, null);
+        final Object getResult = getHandler.doOperation(new GetGafferResultCacheExport.Builder()
+                .jobId(context.getJobId())
+                .key("key")
+                .build(), new Context(context.getUser()), null);
+
+        // Then
+        assertThat(exportResult).isSameAs(results);
+        assertThat(toList((Iterable<?>) getResult)).containsExactlyElementsOf(results);
+    }
+
+    private static List<Object> createResults() {
+        return Arrays.asList("a", 1L, null, new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source("A")
+                .dest("B")
+                .directed(true)
+                .property("count", 1)
+                .build(), new ArrayList<>(Arrays.asList("b", "c")), 2, 3.5);
+    }
+
+    private static List<Object> toList(final Iterable<?> iterable) {
+        final List<Object> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+}
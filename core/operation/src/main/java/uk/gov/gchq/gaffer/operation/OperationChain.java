@@ -105,21 +105,20 @@ public class OperationChain<OUT> extends OperationLibrary implements Output<OUT>
         }
     }
 
-
-    public OperationChain<Void> first(Operation op) {
+    public OperationChain<Void> first(final Operation op) {
         return then(op);
     }
 
-    public <T> OperationChain<T> first(Output op) {
+    public <T> OperationChain<T> first(final Output op) {
         return then(op);
     }
 
-    public OperationChain<Void> then(Operation op) {
+    public OperationChain<Void> then(final Operation op) {
         this.operations.add(op);
         return (OperationChain<Void>) this;
     }
 
-    public <T> OperationChain<T> then(Output op) {
+    public <T> OperationChain<T> then(final Output op) {
         this.operations.add(op);
         return (OperationChain<T>) this;
     }
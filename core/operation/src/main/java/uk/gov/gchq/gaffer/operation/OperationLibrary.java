@@ -17,7 +17,6 @@
 package uk.gov.gchq.gaffer.operation;
 
 import com.google.common.collect.Lists;
-import org.apache.commons.collections.map.SingletonMap;
 
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
@@ -84,6 +83,7 @@ import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.operation.util.AggregatePair;
 import uk.gov.gchq.gaffer.operation.util.OperationUtil;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -94,6 +94,10 @@ import java.util.function.Function;
 import static uk.gov.gchq.gaffer.data.elementdefinition.view.View.createView;
 
 public class OperationLibrary {
+    protected OperationLibrary() {
+        // Only extended by OperationChain so the methods can be called without a prefix
+    }
+
     public static OperationChain<Void> chain() {
         return new OperationChain<>();
     }
@@ -109,7 +113,7 @@ public class OperationLibrary {
     public static <I, O> If<I, O> condition() {
         return _if();
     }
-    
+
     public static AddNamedOperation addNamedOperation(final String operationName, final OperationChain operations) {
         return new AddNamedOperation.Builder().name(operationName).operationChain(operations).build();
     }
@@ -207,11 +211,11 @@ public class OperationLibrary {
     }
 
     public static Filter filterEdge(final String group, final ElementFilter filter) {
-        return filterEdges(new SingletonMap(group, filter));
+        return filterEdges(Collections.singletonMap(group, filter));
     }
 
     public static Filter filterEntity(final String group, final ElementFilter filter) {
-        return filterEntities(new SingletonMap(group, filter));
+        return filterEntities(Collections.singletonMap(group, filter));
     }
 
     public static Filter filterEdges(final Map<String, ElementFilter> edges) {
@@ -410,7 +414,7 @@ public class OperationLibrary {
         return new SplitStoreFromIterable<>();
     }
 
-    public static Validate validate() {
+    public static Validate validateElements() {
         return new Validate();
     }
 
@@ -461,7 +465,7 @@ public class OperationLibrary {
     public static class OpBuilder {
         private Object tmpInput;
 
-        private static OpBuilder input(Object... input) {
+        private static OpBuilder input(final Object... input) {
             final OpBuilder opChain = new OpBuilder();
             if (1 == input.length) {
                 opChain.tmpInput = input[0];
@@ -469,7 +473,7 @@ public class OperationLibrary {
             return opChain;
         }
 
-        private static OpBuilder input(Iterable input) {
+        private static OpBuilder input(final Iterable input) {
             final OpBuilder opChain = new OpBuilder();
             opChain.tmpInput = input;
             return opChain;
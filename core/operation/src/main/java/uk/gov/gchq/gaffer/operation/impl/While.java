@@ -55,6 +55,14 @@ import static uk.gov.gchq.gaffer.operation.util.OperationUtil.extractNextOp;
  * attempting to configure both will throw an exception.</p>
  * <p>By default, the operation is configured with a large number of repeats,
  * which will need altering using {@link While#setMaxRepeats(int)}.</p>
+ * <p>If the While is incremental, the input must be an {@link Iterable}, and
+ * each repeat is only given the items output by the previous repeat that have
+ * not been seen before, rather than the whole of its output. The While stops
+ * as soon as a repeat outputs no new items, and its output is all the distinct
+ * items seen, including the original input. This avoids re-running the
+ * delegate operation on items, such as seeds, that have already been
+ * processed, for example when finding everything reachable within a number
+ * of hops.</p>
  */
 @Since("1.5.0")
 @Summary("Repeatedly executes an operation while a condition is met")
@@ -67,6 +75,7 @@ public class While<I, O> extends GenericInput<I> implements InputOutput<I, O>,
 
     private Operation operation;
     private int maxRepeats = MAX_REPEATS;
+    private boolean incremental;
 
     /**
      * A boolean as to whether or not the While logic should run.
@@ -117,6 +126,7 @@ public class While<I, O> extends GenericInput<I> implements InputOutput<I, O>,
         While.Builder<I, O> builder = new Builder<I, O>()
                 .input(getInput())
                 .maxRepeats(maxRepeats)
+                .incremental(incremental)
                 .condition(condition)
                 .options(options);
 
@@ -213,6 +223,14 @@ public class While<I, O> extends GenericInput<I> implements InputOutput<I, O>,
         this.maxRepeats = maxRepeats;
     }
 
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(final boolean incremental) {
+        this.incremental = incremental;
+    }
+
     public Boolean isCondition() {
         return condition;
     }
@@ -226,6 +244,7 @@ public class While<I, O> extends GenericInput<I> implements InputOutput<I, O>,
         return new HashCodeBuilder(37, 83)
                 .append(getInput())
                 .append(maxRepeats)
+                .append(incremental)
                 .append(condition)
                 .append(conditional)
                 .append(operation)
@@ -251,6 +270,7 @@ public class While<I, O> extends GenericInput<I> implements InputOutput<I, O>,
                 .append(conditional, whileOp.conditional)
                 .append(operation, whileOp.operation)
                 .append(maxRepeats, whileOp.maxRepeats)
+                .append(incremental, whileOp.incremental)
                 .append(options, whileOp.options)
                 .isEquals();
     }
@@ -260,6 +280,7 @@ public class While<I, O> extends GenericInput<I> implements InputOutput<I, O>,
         return new ToStringBuilder(this)
                 .append(getInput())
                 .append(maxRepeats)
+                .append(incremental)
                 .append(condition)
                 .append(conditional)
                 .append(operation)
@@ -285,6 +306,11 @@ public class While<I, O> extends GenericInput<I> implements InputOutput<I, O>,
             return _self();
         }
 
+        public Builder<I, O> incremental(final boolean incremental) {
+            _getOp().setIncremental(incremental);
+            return _self();
+        }
+
         public Builder<I, O> condition(final Boolean condition) {
             if (null != condition && null != _getOp().getConditional()) {
                 throw new IllegalArgumentException("Tried to set condition when conditional has already been configured.");
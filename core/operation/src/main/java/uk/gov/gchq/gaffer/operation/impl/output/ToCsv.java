@@ -51,18 +51,18 @@ public class ToCsv implements
     private Map<String, String> options;
 
     public ToCsv vertex(final String vertexHeader) {
-        if (null == elementGenerator) {
-            elementGenerator = new CsvGenerator();
+        if (null == csvGenerator) {
+            csvGenerator = new CsvGenerator();
         }
-        elementGenerator.getFields().put(IdentifierType.VERTEX.name(), vertexHeader);
+        csvGenerator.getFields().put(IdentifierType.VERTEX.name(), vertexHeader);
         return this;
     }
 
     public ToCsv property(final String property, final String propertyHeader) {
-        if (null == elementGenerator) {
-            elementGenerator = new CsvGenerator();
+        if (null == csvGenerator) {
+            csvGenerator = new CsvGenerator();
         }
-        elementGenerator.getFields().put(property, propertyHeader);
+        csvGenerator.getFields().put(property, propertyHeader);
         return this;
     }
 
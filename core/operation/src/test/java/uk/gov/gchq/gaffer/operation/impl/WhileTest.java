@@ -41,11 +41,13 @@ public class WhileTest extends OperationTest<While> {
                 .input(new EntitySeed(1))
                 .maxRepeats(10)
                 .condition(true)
+                .incremental(true)
                 .operation(new GetAdjacentIds())
                 .build();
 
         // When / Then
         assertThat(operation.getInput()).isNotNull();
+        assertTrue(operation.isIncremental());
         assertTrue(operation.getOperation() instanceof GetAdjacentIds);
         assertTrue(operation.isCondition());
         assertEquals(10, operation.getMaxRepeats());
@@ -78,6 +80,7 @@ public class WhileTest extends OperationTest<While> {
                 .maxRepeats(maxRepeats)
                 .conditional(predicate)
                 .operation(delegate)
+                .incremental(true)
                 .build();
 
         // When
@@ -87,6 +90,7 @@ public class WhileTest extends OperationTest<While> {
         assertNotSame(operation, clone);
         assertEquals(input, clone.getInput());
         assertEquals(maxRepeats, clone.getMaxRepeats());
+        assertTrue(clone.isIncremental());
     }
 
     @Override
@@ -20,6 +20,10 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * A class that implements this interface is responsible for serialising an
  * object of class T to a byte array, and for deserialising it back again.
@@ -52,6 +56,29 @@ public interface ToBytesSerialiser<T> extends Serialiser<T, byte[]> {
     @Override
     byte[] serialise(final T object) throws SerialisationException;
 
+    /**
+     * Serialise some object and write the serialised bytes to the provided
+     * {@link OutputStream}. The bytes written are identical to those returned
+     * by {@link #serialise(Object)}.
+     * <p>
+     * The default implementation simply writes out the result of
+     * {@link #serialise(Object)}, implementations should override this if they
+     * are able to write directly to the stream without creating an
+     * intermediate byte array.
+     *
+     * @param object the object to be serialised
+     * @param out    the stream to write the serialised bytes to
+     * @throws SerialisationException if the object fails to serialise
+     */
+    default void serialise(final T object, final OutputStream out) throws SerialisationException {
+        final byte[] bytes = serialise(object);
+        try {
+            out.write(bytes);
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to write serialised bytes to output stream", e);
+        }
+    }
+
     /**
      * @param allBytes The bytes to be decoded into characters
      * @param offset   The index of the first byte to decode
@@ -70,6 +97,25 @@ public interface ToBytesSerialiser<T> extends Serialiser<T, byte[]> {
         return deserialise(selection);
     }
 
+    /**
+     * Deserialise the remaining bytes in a {@link ByteBuffer}, without changing
+     * the position of the buffer. If the buffer is backed by an accessible array
+     * then the bytes are deserialised in place using
+     * {@link #deserialise(byte[], int, int)}.
+     *
+     * @param buffer the buffer containing the bytes to deserialise
+     * @return T the deserialised object
+     * @throws SerialisationException issues during deserialisation
+     */
+    default T deserialise(final ByteBuffer buffer) throws SerialisationException {
+        if (buffer.hasArray()) {
+            return deserialise(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
     /**
      * Deserialise an array of bytes into the original object.
      *
@@ -18,6 +18,9 @@ package uk.gov.gchq.gaffer.serialisation.implementation;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * This class is used to serialise and deserialise a boolean value
  */
@@ -32,6 +35,16 @@ public class BooleanSerialiser implements ToBytesSerialiser<Boolean> {
         return new byte[]{Boolean.TRUE.equals(value) ? TRUE : FALSE};
     }
 
+    @Override
+    public void serialise(final Boolean value, final OutputStream out) throws SerialisationException {
+        try {
+            out.write(Boolean.TRUE.equals(value) ? TRUE : FALSE);
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to write serialised Boolean to output stream", e);
+        }
+    }
+
+    @Deprecated
     @Override
     public Boolean deserialise(final byte[] bytes) throws SerialisationException {
         return deserialise(bytes, 0, bytes.length);
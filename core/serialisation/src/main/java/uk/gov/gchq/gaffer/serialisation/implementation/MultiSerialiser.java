@@ -129,12 +129,18 @@ public class MultiSerialiser implements ToBytesSerialiser<Object> {
         return serialiser;
     }
 
+    @Deprecated
     @Override
     public Object deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Object deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         try {
-            byte keyByte = bytes[0];
+            byte keyByte = allBytes[offset];
             ToBytesSerialiser serialiser = nullCheck(supportedSerialisers.getSerialiserFromKey(keyByte));
-            return serialiser.deserialise(bytes, 1, bytes.length - 1);
+            return serialiser.deserialise(allBytes, offset + 1, length - 1);
         } catch (final SerialisationException e) {
             //re-throw SerialisationException
             throw e;
@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.OutputStream;
 import java.util.Date;
 
 /**
@@ -36,9 +37,20 @@ public class OrderedDateSerialiser implements ToBytesSerialiser<Date> {
         return LONG_SERIALISER.serialise(object.getTime());
     }
 
+    @Override
+    public void serialise(final Date object, final OutputStream out) throws SerialisationException {
+        LONG_SERIALISER.serialise(object.getTime(), out);
+    }
+
+    @Deprecated
     @Override
     public Date deserialise(final byte[] bytes) throws SerialisationException {
-        return new Date(LONG_SERIALISER.deserialise(bytes));
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Date deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return new Date(OrderedLongSerialiser.deserialiseLong(allBytes, offset, length));
     }
 
     @Override
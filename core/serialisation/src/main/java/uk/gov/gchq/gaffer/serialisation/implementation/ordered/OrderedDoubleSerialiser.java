@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.OutputStream;
+
 /**
  * An {@code OrderedDoubleSerialser} serialises a {@link Double} to
  * an array of bytes by directly converting the double to a raw long and
@@ -41,9 +43,26 @@ public class OrderedDoubleSerialiser implements ToBytesSerialiser<Double> {
         return LONG_SERIALISER.serialise(l);
     }
 
+    @Override
+    public void serialise(final Double object, final OutputStream out) throws SerialisationException {
+        long l = Double.doubleToRawLongBits(object);
+        if (l < 0) {
+            l = ~l;
+        } else {
+            l = l ^ 0x8000000000000000L;
+        }
+        LONG_SERIALISER.serialise(l, out);
+    }
+
+    @Deprecated
     @Override
     public Double deserialise(final byte[] bytes) throws SerialisationException {
-        long l = LONG_SERIALISER.deserialise(bytes);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Double deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        long l = OrderedLongSerialiser.deserialiseLong(allBytes, offset, length);
         if (l < 0) {
             l = l ^ 0x8000000000000000L;
         } else {
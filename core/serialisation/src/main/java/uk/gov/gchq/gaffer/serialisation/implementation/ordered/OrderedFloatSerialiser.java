@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.OutputStream;
+
 /**
  * An {@code OrderedFloatSerialser} serialises a {@link Float} to
  * an array of bytes by directly converting the float to a raw int and
@@ -41,9 +43,26 @@ public class OrderedFloatSerialiser implements ToBytesSerialiser<Float> {
         return INTEGER_SERIALISER.serialise(i);
     }
 
+    @Override
+    public void serialise(final Float object, final OutputStream out) throws SerialisationException {
+        int i = Float.floatToRawIntBits(object);
+        if (i < 0) {
+            i = ~i;
+        } else {
+            i = i ^ 0x80000000;
+        }
+        INTEGER_SERIALISER.serialise(i, out);
+    }
+
+    @Deprecated
     @Override
     public Float deserialise(final byte[] bytes) throws SerialisationException {
-        int i = INTEGER_SERIALISER.deserialise(bytes);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Float deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        int i = OrderedIntegerSerialiser.deserialiseInt(allBytes, offset, length);
         if (i < 0) {
             i = i ^ 0x80000000;
         } else {
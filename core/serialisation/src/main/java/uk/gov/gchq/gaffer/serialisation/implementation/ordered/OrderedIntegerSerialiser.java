@@ -19,6 +19,9 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * An {@code OrderedIntegerSerialser} serialises a {@link Integer} to
  * an array of bytes. This serialiser preserves ordering.
@@ -53,23 +56,56 @@ public class OrderedIntegerSerialiser implements ToBytesSerialiser<Integer> {
         return ret;
     }
 
+    @Override
+    public void serialise(final Integer object, final OutputStream out) throws SerialisationException {
+        final int signedI = object ^ 0x80000000;
+        int shift = 56;
+        final int prefix = signedI < 0 ? 255 : 0;
+
+        int index;
+        for (index = 0; index < 4 && (signedI >> shift & 255) == prefix; ++index) {
+            shift -= 8;
+        }
+
+        try {
+            out.write(signedI < 0 ? 4 + index : 4 - index);
+            for (int i = index; i < 4; i++) {
+                out.write(signedI >> shift);
+                shift -= 8;
+            }
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to write serialised Integer to output stream", e);
+        }
+    }
+
+    @Deprecated
     @Override
     public Integer deserialise(final byte[] bytes) throws SerialisationException {
-        if (bytes[0] >= 0 && bytes[0] <= 8) {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Integer deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return deserialiseInt(allBytes, offset, length);
+    }
+
+    static int deserialiseInt(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        final byte header = allBytes[offset];
+        if (header >= 0 && header <= 8) {
             int i = 0;
             int shift = 0;
 
-            for (int idx = bytes.length - 1; idx >= 0 + 1; --idx) {
-                i = (int) ((long) i + (((long) bytes[idx] & 255L) << shift));
+            for (int idx = offset + length - 1; idx >= offset + 1; --idx) {
+                i = (int) ((long) i + (((long) allBytes[idx] & 255L) << shift));
                 shift += 8;
             }
 
-            if (bytes[0] > 4) {
-                i |= -1 << (8 - bytes[0] << 3);
+            if (header > 4) {
+                i |= -1 << (8 - header << 3);
             }
-            return Integer.valueOf(i) ^ 0x80000000;
+            return i ^ 0x80000000;
         } else {
-            throw new SerialisationException("Unexpected length " + (255 & bytes[0]));
+            throw new SerialisationException("Unexpected length " + (255 & header));
         }
     }
 
@@ -19,6 +19,9 @@ package uk.gov.gchq.gaffer.serialisation.implementation.ordered;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * An {@code OrderedLongSerialser} serialises a {@link Long} to
  * an array of bytes. This serialiser preserves ordering.
@@ -57,23 +60,59 @@ public class OrderedLongSerialiser implements ToBytesSerialiser<Long> {
         return ret;
     }
 
+    @Override
+    public void serialise(final Long object, final OutputStream out) throws SerialisationException {
+        final long signedL = object ^ 0x8000000000000000L;
+        int shift = 56;
+        int index;
+        final int prefix = signedL < 0 ? 0xff : 0x00;
+
+        for (index = 0; index < 8; index++) {
+            if (((signedL >> shift) & 0xff) != prefix) {
+                break;
+            }
+
+            shift -= 8;
+        }
+
+        try {
+            out.write(signedL < 0 ? 8 + index : 8 - index);
+            for (int i = index; i < 8; i++) {
+                out.write((int) (signedL >> shift));
+                shift -= 8;
+            }
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to write serialised Long to output stream", e);
+        }
+    }
+
+    @Deprecated
     @Override
     public Long deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Long deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return deserialiseLong(allBytes, offset, length);
+    }
 
+    static long deserialiseLong(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         long l = 0;
         int shift = 0;
 
-        if (bytes[0] < 0 || bytes[0] > 16) {
-            throw new SerialisationException("Unexpected length " + (0xff & bytes[0]));
+        final byte header = allBytes[offset];
+        if (header < 0 || header > 16) {
+            throw new SerialisationException("Unexpected length " + (0xff & header));
         }
 
-        for (int i = bytes.length - 1; i >= 0 + 1; i--) {
-            l += (bytes[i] & 0xffL) << shift;
+        for (int i = offset + length - 1; i >= offset + 1; i--) {
+            l += (allBytes[i] & 0xffL) << shift;
             shift += 8;
         }
 
-        if (bytes[0] > 8) {
-            l |= -1L << ((16 - bytes[0]) << 3);
+        if (header > 8) {
+            l |= -1L << ((16 - header) << 3);
         }
 
         return l ^ 0x8000000000000000L;
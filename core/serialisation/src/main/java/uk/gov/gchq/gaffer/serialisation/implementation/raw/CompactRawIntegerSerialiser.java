@@ -19,6 +19,8 @@ package uk.gov.gchq.gaffer.serialisation.implementation.raw;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+import java.io.OutputStream;
+
 /**
  * Serialises integers using a variable-length scheme that means smaller integers get serialised into a smaller
  * number of bytes. For example, integers i which are between -112 and 127 inclusive are serialised into one byte. Very
@@ -43,6 +45,11 @@ public class CompactRawIntegerSerialiser implements ToBytesSerialiser<Integer> {
         return CompactRawSerialisationUtils.writeLong(i);
     }
 
+    @Override
+    public void serialise(final Integer i, final OutputStream out) throws SerialisationException {
+        CompactRawSerialisationUtils.write(i, out);
+    }
+
     @Override
     public Integer deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         final long result = CompactRawSerialisationUtils.readLong(allBytes, offset);
@@ -52,6 +59,7 @@ public class CompactRawIntegerSerialiser implements ToBytesSerialiser<Integer> {
         return (int) result;
     }
 
+    @Deprecated
     @Override
     public Integer deserialise(final byte[] bytes) throws SerialisationException {
         return deserialise(bytes, 0, bytes.length);
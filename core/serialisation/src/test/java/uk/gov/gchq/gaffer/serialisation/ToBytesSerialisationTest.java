@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -52,6 +54,61 @@ public abstract class ToBytesSerialisationTest<T> extends SerialisationTest<T, b
         assertArrayEquals(pair.getSecond(), serialise, Arrays.toString(serialise));
     }
 
+    @Test
+    public void shouldSerialiseToStreamWithHistoricValues() throws SerialisationException {
+        final ToBytesSerialiser<T> toBytesSerialiser = (ToBytesSerialiser<T>) serialiser;
+        for (final Pair<T, byte[]> pair : historicSerialisationPairs) {
+            // Given
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(1);
+
+            // When
+            toBytesSerialiser.serialise(pair.getFirst(), out);
+
+            // Then
+            final byte[] expected = toBytesSerialiser.serialise(pair.getFirst());
+            final byte[] written = out.toByteArray();
+            assertArrayEquals(expected, Arrays.copyOfRange(written, 1, written.length));
+        }
+    }
+
+    @Test
+    public void shouldDeserialiseRangeWithHistoricValues() throws SerialisationException {
+        final ToBytesSerialiser<T> toBytesSerialiser = (ToBytesSerialiser<T>) serialiser;
+        for (final Pair<T, byte[]> pair : historicSerialisationPairs) {
+            // Given
+            final byte[] bytes = pair.getSecond();
+            final byte[] padded = new byte[bytes.length + 3];
+            padded[0] = 1;
+            padded[padded.length - 1] = 1;
+            padded[padded.length - 2] = 1;
+            System.arraycopy(bytes, 0, padded, 1, bytes.length);
+            final ByteBuffer buffer = ByteBuffer.wrap(padded, 1, bytes.length).slice();
+
+            // When
+            final T fromRange = toBytesSerialiser.deserialise(padded, 1, bytes.length);
+            final T fromBuffer = toBytesSerialiser.deserialise(buffer);
+
+            // Then
+            final T expected = toBytesSerialiser.deserialise(bytes);
+            assertDeserialisedEquals(expected, fromRange);
+            assertDeserialisedEquals(expected, fromBuffer);
+        }
+    }
+
+    /**
+     * Checks two deserialised objects are equivalent. By default they are
+     * compared by their serialised form, as some types do not implement equals.
+     *
+     * @param expected the expected object
+     * @param actual   the actual object
+     * @throws SerialisationException if either object cannot be serialised
+     */
+    protected void assertDeserialisedEquals(final T expected, final T actual) throws SerialisationException {
+        final ToBytesSerialiser<T> toBytesSerialiser = (ToBytesSerialiser<T>) serialiser;
+        assertArrayEquals(toBytesSerialiser.serialise(expected), toBytesSerialiser.serialise(actual));
+    }
+
     @Test
     public void shouldHaveValidEqualsMethodForToByteSerialiser() {
         final Serialiser<T, byte[]> serialiser2 = getSerialisation();
@@ -97,6 +97,9 @@ import uk.gov.gchq.gaffer.operation.impl.output.ToVertices;
 import uk.gov.gchq.gaffer.operation.io.Input;
 import uk.gov.gchq.gaffer.operation.io.Output;
 import uk.gov.gchq.gaffer.serialisation.Serialiser;
+import uk.gov.gchq.gaffer.store.executor.JobExecutor;
+import uk.gov.gchq.gaffer.store.executor.JobExecutors;
+import uk.gov.gchq.gaffer.store.executor.JobType;
 import uk.gov.gchq.gaffer.store.library.GraphLibrary;
 import uk.gov.gchq.gaffer.store.library.NoGraphLibrary;
 import uk.gov.gchq.gaffer.store.operation.DeleteAllData;
@@ -186,6 +189,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.StreamSupport;
 
@@ -518,7 +522,7 @@ public abstract class Store {
 
     private JobDetail runJob(final Operation operation,
                              final JobDetail jobDetail,
-                             final Context context) {
+                             final Context context) throws OperationException {
         final OperationChain<?> clonedOp = (operation instanceof Operations)
                 ? (OperationChain) operation.shallowClone()
                 : OperationChain.wrap(operation).shallowClone();
@@ -537,20 +541,28 @@ public abstract class Store {
             }
         }
 
-        runAsync(() -> {
-            try {
-                handleOperation(clonedOp, context);
-                addOrUpdateJobDetail(clonedOp, context, null, JobStatus.FINISHED);
-            } catch (final Error e) {
-                addOrUpdateJobDetail(clonedOp, context, e.getMessage(),
-                        JobStatus.FAILED);
-                throw e;
-            } catch (final Exception e) {
-                LOGGER.warn("Operation chain job failed to execute", e);
-                addOrUpdateJobDetail(clonedOp, context, e.getMessage(),
-                        JobStatus.FAILED);
-            }
-        });
+        // Runs of scheduled jobs have their own executor so they are not
+        // held up by a backlog of other jobs
+        final JobType jobType = nonNull(jobDetail.getParentJobId()) ? JobType.SCHEDULED : JobType.ASYNC;
+        try {
+            getJobExecutor(jobType).execute(context.getUser().getUserId(), () -> {
+                try {
+                    handleOperation(clonedOp, context);
+                    addOrUpdateJobDetail(clonedOp, context, null, JobStatus.FINISHED);
+                } catch (final Error e) {
+                    addOrUpdateJobDetail(clonedOp, context, e.getMessage(),
+                            JobStatus.FAILED);
+                    throw e;
+                } catch (final Exception e) {
+                    LOGGER.warn("Operation chain job failed to execute", e);
+                    addOrUpdateJobDetail(clonedOp, context, e.getMessage(),
+                            JobStatus.FAILED);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            addOrUpdateJobDetail(clonedOp, context, e.getMessage(), JobStatus.FAILED);
+            throw new OperationException("Unable to run job: " + e.getMessage(), e);
+        }
         return jobDetail;
     }
 
@@ -558,6 +570,19 @@ public abstract class Store {
         getExecutorService().execute(runnable);
     }
 
+    /**
+     * Gets the {@link JobExecutor} used to run jobs of the given type.
+     *
+     * @param jobType the type of job
+     * @return the job executor
+     */
+    protected JobExecutor getJobExecutor(final JobType jobType) {
+        if (!JobExecutors.isEnabled(getGraphId())) {
+            JobExecutors.initialise(getGraphId(), getProperties());
+        }
+        return JobExecutors.get(getGraphId(), jobType);
+    }
+
     protected ScheduledExecutorService getExecutorService() {
         return (nonNull(ExecutorService.getService()) && ExecutorService.isEnabled())
                 ? ExecutorService.getService()
@@ -1021,6 +1046,7 @@ public abstract class Store {
 
     private void addExecutorService(final StoreProperties properties) {
         ExecutorService.initialise(properties.getJobExecutorThreadCount());
+        JobExecutors.initialise(getGraphId(), properties);
     }
 
     private void addOpHandlers() {
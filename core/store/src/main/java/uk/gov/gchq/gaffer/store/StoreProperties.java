@@ -32,6 +32,8 @@ import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
 import uk.gov.gchq.gaffer.data.elementdefinition.exception.SchemaException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiserModules;
+import uk.gov.gchq.gaffer.store.executor.JobExecutor;
+import uk.gov.gchq.gaffer.store.executor.RejectionPolicy;
 import uk.gov.gchq.gaffer.store.operation.declaration.OperationDeclarations;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.koryphe.util.ReflectionUtil;
@@ -83,6 +85,20 @@ public class StoreProperties implements Cloneable {
     public static final String EXECUTOR_SERVICE_THREAD_COUNT = "gaffer.store.job.executor.threads";
     public static final String EXECUTOR_SERVICE_THREAD_COUNT_DEFAULT = "50";
 
+    /**
+     * The job executor properties for each {@link uk.gov.gchq.gaffer.store.executor.JobType} are
+     * gaffer.store.job.executor.[type].[property], where type is async or
+     * scheduled. If the threads are not set for a job type the
+     * gaffer.store.job.executor.threads property is used. The queue size and
+     * the maximum concurrent jobs per user are unbounded if not set.
+     */
+    public static final String JOB_EXECUTOR_PREFIX = "gaffer.store.job.executor.";
+    public static final String JOB_EXECUTOR_THREADS = ".threads";
+    public static final String JOB_EXECUTOR_QUEUE_SIZE = ".queue.size";
+    public static final String JOB_EXECUTOR_REJECTION_POLICY = ".rejection.policy";
+    public static final String JOB_EXECUTOR_MAX_CONCURRENT_JOBS_PER_USER = ".user.max.concurrent";
+    public static final String JOB_EXECUTOR_VIRTUAL_THREADS = "gaffer.store.job.executor.virtual.threads";
+
     public static final String JSON_SERIALISER_CLASS = JSONSerialiser.JSON_SERIALISER_CLASS_KEY;
     public static final String JSON_SERIALISER_MODULES = JSONSerialiser.JSON_SERIALISER_MODULES;
     public static final String STRICT_JSON = JSONSerialiser.STRICT_JSON;
@@ -409,6 +425,47 @@ public class StoreProperties implements Cloneable {
         return Integer.parseInt(get(EXECUTOR_SERVICE_THREAD_COUNT, EXECUTOR_SERVICE_THREAD_COUNT_DEFAULT));
     }
 
+    public int getJobExecutorThreadCount(final String jobType) {
+        final String threads = get(JOB_EXECUTOR_PREFIX + jobType + JOB_EXECUTOR_THREADS);
+        return null != threads ? Integer.parseInt(threads) : getJobExecutorThreadCount();
+    }
+
+    public void setJobExecutorThreadCount(final String jobType, final int threads) {
+        set(JOB_EXECUTOR_PREFIX + jobType + JOB_EXECUTOR_THREADS, Integer.toString(threads));
+    }
+
+    public int getJobExecutorQueueSize(final String jobType) {
+        return Integer.parseInt(get(JOB_EXECUTOR_PREFIX + jobType + JOB_EXECUTOR_QUEUE_SIZE, Integer.toString(JobExecutor.UNBOUNDED)));
+    }
+
+    public void setJobExecutorQueueSize(final String jobType, final int queueSize) {
+        set(JOB_EXECUTOR_PREFIX + jobType + JOB_EXECUTOR_QUEUE_SIZE, Integer.toString(queueSize));
+    }
+
+    public RejectionPolicy getJobExecutorRejectionPolicy(final String jobType) {
+        return RejectionPolicy.valueOf(get(JOB_EXECUTOR_PREFIX + jobType + JOB_EXECUTOR_REJECTION_POLICY, RejectionPolicy.ABORT.name()));
+    }
+
+    public void setJobExecutorRejectionPolicy(final String jobType, final RejectionPolicy rejectionPolicy) {
+        set(JOB_EXECUTOR_PREFIX + jobType + JOB_EXECUTOR_REJECTION_POLICY, rejectionPolicy.name());
+    }
+
+    public int getJobExecutorMaxConcurrentJobsPerUser(final String jobType) {
+        return Integer.parseInt(get(JOB_EXECUTOR_PREFIX + jobType + JOB_EXECUTOR_MAX_CONCURRENT_JOBS_PER_USER, Integer.toString(JobExecutor.UNBOUNDED)));
+    }
+
+    public void setJobExecutorMaxConcurrentJobsPerUser(final String jobType, final int maxConcurrentJobs) {
+        set(JOB_EXECUTOR_PREFIX + jobType + JOB_EXECUTOR_MAX_CONCURRENT_JOBS_PER_USER, Integer.toString(maxConcurrentJobs));
+    }
+
+    public boolean getJobExecutorUseVirtualThreads() {
+        return parseBoolean(get(JOB_EXECUTOR_VIRTUAL_THREADS, "false"));
+    }
+
+    public void setJobExecutorUseVirtualThreads(final boolean useVirtualThreads) {
+        set(JOB_EXECUTOR_VIRTUAL_THREADS, Boolean.toString(useVirtualThreads));
+    }
+
     public void addOperationDeclarationPaths(final String... newPaths) {
         final String newPathsCsv = StringUtils.join(newPaths, ",");
         String combinedPaths = getOperationDeclarationPaths();
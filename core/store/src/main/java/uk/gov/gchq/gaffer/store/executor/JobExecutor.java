@@ -0,0 +1,326 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.executor;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.otel.OtelUtil;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link Executor} for running jobs on a fixed number of threads.
+ * <p>
+ * The number of jobs waiting to run can be bounded, in which case new jobs
+ * are handled by the {@link RejectionPolicy} once the queue is full. The
+ * number of jobs each user can run at the same time can also be bounded, in
+ * which case a user's later jobs wait until one of their earlier jobs has
+ * finished, leaving the threads free for other users' jobs. Waiting jobs
+ * count towards the queue size.
+ * <p>
+ * The queue depth, number of active jobs and the time jobs wait to start are
+ * available from this class and, if OpenTelemetry is active, recorded as
+ * metrics. Jobs can be run on virtual threads when running on Java 21 or
+ * later.
+ */
+public class JobExecutor implements Executor {
+    public static final int UNBOUNDED = 0;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobExecutor.class);
+    private static final String METER_NAME = "gaffer.store.executor";
+    private static final AttributeKey<String> EXECUTOR = AttributeKey.stringKey("executor");
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final String name;
+    private final int queueSize;
+    private final RejectionPolicy rejectionPolicy;
+    private final int maxConcurrentJobsPerUser;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, UserJobs> userJobs = new HashMap<>();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongHistogram waitTimeHistogram;
+    private final Attributes attributes;
+    private final List<ObservableLongGauge> gauges = new ArrayList<>();
+    private int waitingForUser;
+
+    /**
+     * Creates a {@code JobExecutor}.
+     *
+     * @param name                     the name of the executor, used for its threads and metrics
+     * @param threads                  the number of jobs to run at the same time
+     * @param queueSize                the maximum number of jobs waiting to run, or {@link #UNBOUNDED}
+     * @param rejectionPolicy          what to do with jobs when the queue is full
+     * @param maxConcurrentJobsPerUser the maximum number of jobs each user can run at the same time, or {@link #UNBOUNDED}
+     * @param useVirtualThreads        whether to run jobs on virtual threads, if they are available
+     */
+    public JobExecutor(final String name,
+                       final int threads,
+                       final int queueSize,
+                       final RejectionPolicy rejectionPolicy,
+                       final int maxConcurrentJobsPerUser,
+                       final boolean useVirtualThreads) {
+        if (1 > threads) {
+            throw new IllegalArgumentException("The number of threads must be at least 1");
+        }
+        this.name = name;
+        this.queueSize = Math.max(UNBOUNDED, queueSize);
+        this.rejectionPolicy = null != rejectionPolicy ? rejectionPolicy : RejectionPolicy.ABORT;
+        this.maxConcurrentJobsPerUser = Math.max(UNBOUNDED, maxConcurrentJobsPerUser);
+        this.executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), createThreadFactory(name, useVirtualThreads));
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.attributes = Attributes.of(EXECUTOR, name);
+        if (OtelUtil.getOpenTelemetryActive()) {
+            final Meter meter = OtelUtil.getMeter(METER_NAME);
+            gauges.add(meter.gaugeBuilder("queueDepth").ofLongs()
+                    .buildWithCallback(measurement -> measurement.record(getQueueDepth(), attributes)));
+            gauges.add(meter.gaugeBuilder("activeCount").ofLongs()
+                    .buildWithCallback(measurement -> measurement.record(getActiveCount(), attributes)));
+            waitTimeHistogram = meter.histogramBuilder("waitTime").setUnit("ms").ofLongs().build();
+        } else {
+            waitTimeHistogram = null;
+        }
+    }
+
+    @Override
+    public void execute(final Runnable job) {
+        execute(null, job);
+    }
+
+    /**
+     * Runs a job for a user. The number of jobs run at the same time for the
+     * user is limited to maxConcurrentJobsPerUser.
+     *
+     * @param userId the id of the user running the job, or null if it is not run for a user
+     * @param job    the job
+     * @throws RejectedExecutionException if the queue is full and the rejection policy is ABORT,
+     *                                    or the executor has been shut down
+     */
+    public void execute(final String userId, final Runnable job) {
+        final TrackedJob trackedJob = new TrackedJob(userId, job);
+        synchronized (this) {
+            if (isQueueFull()) {
+                rejected.increment();
+                if (RejectionPolicy.CALLER_RUNS != rejectionPolicy || executor.isShutdown()) {
+                    throw new RejectedExecutionException("The " + name + " job queue is full");
+                }
+                LOGGER.debug("The {} job queue is full, running job on the calling thread", name);
+            } else {
+                if (null != userId && UNBOUNDED != maxConcurrentJobsPerUser) {
+                    final UserJobs jobs = userJobs.computeIfAbsent(userId, id -> new UserJobs());
+                    trackedJob.limitedForUser = true;
+                    if (jobs.running >= maxConcurrentJobsPerUser) {
+                        jobs.waiting.add(trackedJob);
+                        waitingForUser++;
+                        return;
+                    }
+                    jobs.running++;
+                }
+                try {
+                    submit(trackedJob);
+                } catch (final RejectedExecutionException e) {
+                    rejected.increment();
+                    if (trackedJob.limitedForUser) {
+                        finished(userId);
+                    }
+                    throw e;
+                }
+                return;
+            }
+        }
+        trackedJob.run();
+    }
+
+    /**
+     * @return the number of jobs waiting to run
+     */
+    public synchronized int getQueueDepth() {
+        return executor.getQueue().size() + waitingForUser;
+    }
+
+    /**
+     * @return the number of jobs running
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return the number of jobs which have finished
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * @return the number of jobs which were not queued because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return the mean time jobs waited before starting, in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        final long count = completed.sum();
+        return 0 == count ? 0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.sum()) / (count * 1000.0);
+    }
+
+    /**
+     * @return the longest time a job waited before starting, in milliseconds
+     */
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Stops accepting new jobs and stops recording metrics. Jobs which have
+     * already been accepted are still run.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        synchronized (gauges) {
+            gauges.forEach(ObservableLongGauge::close);
+            gauges.clear();
+        }
+    }
+
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    private boolean isQueueFull() {
+        return UNBOUNDED != queueSize && executor.getQueue().size() + waitingForUser >= queueSize;
+    }
+
+    private void submit(final TrackedJob job) {
+        executor.execute(job);
+    }
+
+    private synchronized void finished(final String userId) {
+        final UserJobs jobs = userJobs.get(userId);
+        if (null == jobs) {
+            return;
+        }
+        final TrackedJob next = jobs.waiting.poll();
+        if (null != next) {
+            waitingForUser--;
+            try {
+                submit(next);
+                return;
+            } catch (final RejectedExecutionException e) {
+                LOGGER.warn("Unable to run waiting {} job for user {} as the executor has been shut down", name, userId);
+            }
+        }
+        jobs.running--;
+        if (0 == jobs.running && jobs.waiting.isEmpty()) {
+            userJobs.remove(userId);
+        }
+    }
+
+    private void recordWait(final long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        if (null != waitTimeHistogram) {
+            waitTimeHistogram.record(TimeUnit.NANOSECONDS.toMillis(waitNanos), attributes);
+        }
+    }
+
+    private static ThreadFactory createThreadFactory(final String name, final boolean useVirtualThreads) {
+        if (useVirtualThreads) {
+            try {
+                // Uses reflection as virtual threads are only available from Java 21
+                final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L);
+                return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                LOGGER.info("Virtual threads are not available, using platform threads for {} jobs", name);
+            }
+        }
+
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class UserJobs {
+        private final Deque<TrackedJob> waiting = new ArrayDeque<>();
+        private int running;
+    }
+
+    private final class TrackedJob implements Runnable {
+        private final String userId;
+        private final Runnable job;
+        private final long submittedNanos = System.nanoTime();
+        private boolean limitedForUser;
+
+        private TrackedJob(final String userId, final Runnable job) {
+            this.userId = userId;
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            recordWait(System.nanoTime() - submittedNanos);
+            try {
+                job.run();
+            } finally {
+                completed.increment();
+                if (limitedForUser) {
+                    finished(userId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.store.StoreProperties;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Holds a {@link JobExecutor} for each {@link JobType} of each store, keyed by
+ * graph id. The executors of a store are created using its store properties
+ * and are replaced if a store with the same graph id is initialised with
+ * different properties.
+ */
+public final class JobExecutors {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobExecutors.class);
+    private static final Map<String, StoreExecutors> EXECUTORS = new HashMap<>();
+
+    private JobExecutors() {
+        // private constructor to prevent instantiation
+    }
+
+    public static synchronized void initialise(final String graphId, final StoreProperties properties) {
+        final StoreExecutors existing = EXECUTORS.get(graphId);
+        if (null != existing) {
+            if (Objects.equals(existing.properties, properties.getProperties())) {
+                return;
+            }
+            LOGGER.debug("Replacing job executors for graph {} as its store properties have changed", graphId);
+            existing.shutdown();
+        }
+        EXECUTORS.put(graphId, new StoreExecutors(graphId, properties));
+    }
+
+    public static synchronized JobExecutor get(final String graphId, final JobType jobType) {
+        final StoreExecutors executors = EXECUTORS.get(graphId);
+        return null != executors ? executors.executors.get(jobType) : null;
+    }
+
+    public static synchronized boolean isEnabled(final String graphId) {
+        return EXECUTORS.containsKey(graphId);
+    }
+
+    public static synchronized void shutdown(final String graphId) {
+        final StoreExecutors executors = EXECUTORS.remove(graphId);
+        if (null != executors) {
+            executors.shutdown();
+        }
+    }
+
+    public static synchronized void shutdown() {
+        EXECUTORS.values().forEach(StoreExecutors::shutdown);
+        EXECUTORS.clear();
+    }
+
+    private static JobExecutor create(final String graphId, final JobType jobType, final StoreProperties properties) {
+        final String type = jobType.getPropertyName();
+        int threads = properties.getJobExecutorThreadCount(type);
+        if (1 > threads) {
+            threads = properties.getJobExecutorThreadCount();
+        }
+        final JobExecutor executor = new JobExecutor(
+                graphId + "-" + type + "-job",
+                threads,
+                properties.getJobExecutorQueueSize(type),
+                properties.getJobExecutorRejectionPolicy(type),
+                properties.getJobExecutorMaxConcurrentJobsPerUser(type),
+                properties.getJobExecutorUseVirtualThreads());
+        LOGGER.debug("Initialised {} job executor for graph {}", type, graphId);
+        return executor;
+    }
+
+    private static final class StoreExecutors {
+        private final Properties properties;
+        private final Map<JobType, JobExecutor> executors = new EnumMap<>(JobType.class);
+
+        private StoreExecutors(final String graphId, final StoreProperties storeProperties) {
+            final Properties original = storeProperties.getProperties();
+            this.properties = null != original ? (Properties) original.clone() : null;
+            for (final JobType jobType : JobType.values()) {
+                executors.put(jobType, create(graphId, jobType, storeProperties));
+            }
+        }
+
+        private void shutdown() {
+            executors.values().forEach(JobExecutor::shutdown);
+        }
+    }
+}
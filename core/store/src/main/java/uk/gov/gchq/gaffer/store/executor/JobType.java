@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.executor;
+
+import java.util.Locale;
+
+/**
+ * The types of job run by a {@link uk.gov.gchq.gaffer.store.Store}, each of
+ * which is run on its own {@link JobExecutor}.
+ */
+public enum JobType {
+    /**
+     * Jobs submitted to be run once in the background.
+     */
+    ASYNC,
+
+    /**
+     * Each run of a job with a {@link uk.gov.gchq.gaffer.jobtracker.Repeat}.
+     */
+    SCHEDULED;
+
+    /**
+     * @return the name used for this job type in store properties
+     */
+    public String getPropertyName() {
+        return name().toLowerCase(Locale.ENGLISH);
+    }
+}
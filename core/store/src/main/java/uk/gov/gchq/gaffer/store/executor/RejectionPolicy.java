@@ -0,0 +1,34 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.executor;
+
+/**
+ * What a {@link JobExecutor} does with a job when its queue is full.
+ */
+public enum RejectionPolicy {
+    /**
+     * Reject the job by throwing a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    ABORT,
+
+    /**
+     * Run the job on the thread which submitted it, slowing down whoever
+     * is submitting jobs.
+     */
+    CALLER_RUNS
+}
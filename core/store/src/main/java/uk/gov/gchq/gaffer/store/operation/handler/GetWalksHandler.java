@@ -21,7 +21,6 @@ import com.google.common.collect.Lists;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import uk.gov.gchq.gaffer.commonutil.iterable.EmptyIterable;
-import uk.gov.gchq.gaffer.commonutil.stream.Streams;
 import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
@@ -52,13 +51,8 @@ import uk.gov.gchq.koryphe.impl.function.IterableFunction;
 import uk.gov.gchq.koryphe.iterable.LimitedIterable;
 
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUtil.getResultsOrNull;
@@ -69,11 +63,13 @@ import static uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUt
  * The handler executes each {@link uk.gov.gchq.gaffer.operation.impl.get.GetElements}
  * operation in the parent GetWalks operation in turn and incrementally creates
  * an in-memory representation of the resulting graph. Once all GetElements
- * operations have been executed, a recursive depth-first search algorithm is
- * used to construct all of the {@link Walk}s that exist in the temporary
- * graph.
+ * operations have been executed, the {@link Walk}s that exist in the temporary
+ * graph are lazily constructed by a {@link WalkIterable} as the results are
+ * iterated over, so only the in-memory graph and the current walk are held in
+ * memory. Any conditional is applied to each walk as it is constructed and no
+ * more walks are constructed once the results limit has been reached.
  * <p>
- * The default handler has two settings which can be overridden by system
+ * The default handler has three settings which can be overridden by system
  * administrators: <ul> <li>maxHops - prevent users from executing GetWalks
  * operations that contain more than a set number of hops.</li> <li>prune -
  * toggle pruning for the in-memory graph representation. Enabling pruning
@@ -81,16 +77,21 @@ import static uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUt
  * previous GetElements operation which do not join up with any edges in the
  * current GetElements operation (orphaned edges). This reduces the memory
  * footprint of the in-memory graph representation, but requires some additional
- * processing while constructing the in-memory graph.</li> </ul>
+ * processing while constructing the in-memory graph.</li> <li>parallelism -
+ * the number of threads used to construct walks from different seeds at the
+ * same time. When more than 1 thread is used the walks are returned in no
+ * particular order.</li> </ul>
  * <p>
  * The maxHops setting is not set by default (i.e. there is no limit to the
  * number of hops that a user can request). The prune flag is enabled by default
  * (for applications where performance is paramount and any issues arising from
- * excessive memory usage can be mitigated, this flag can be disabled).
+ * excessive memory usage can be mitigated, this flag can be disabled). The
+ * parallelism is 1 by default, so walks are constructed on the thread
+ * iterating over the results.
  * <p>
  * This operation handler can be modified by supplying an
  * operationDeclarations.json file in order to limit the maximum number of hops
- * permitted or to enable/disable the pruning feature.
+ * permitted, to enable/disable the pruning feature or to set the parallelism.
  * <p>
  * Currently the handler only supports creating {@link Walk}s which contain
  * {@link Edge}s.
@@ -98,6 +99,7 @@ import static uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUt
 public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterable<Walk>> {
     private Integer maxHops = null;
     private boolean prune = true;
+    private int parallelism = 1;
 
     @Override
     public Iterable<Walk> doOperation(final GetWalks getWalks, final Context context, final Store store) throws OperationException {
@@ -153,11 +155,9 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
 
         final GraphWindow graphWindow = new GraphWindow(adjacencyMaps, entityMaps);
 
-        // Track/recombine the edge objects and convert to return type
-        final Stream<Walk> walks = Streams.toStream(originalInput)
-                .flatMap(seed -> walk(seed.getVertex(), null, graphWindow, new LinkedList<>(), new LinkedList<>(), hops, getWalks.isIncludePartial()).stream());
-
-        return applyConditionalFiltering(walks, getWalks, context, store);
+        // Lazily track/recombine the edge objects and convert to return type
+        return new WalkIterable(originalInput, graphWindow, hops, getWalks.isIncludePartial(),
+                createWalkPredicate(getWalks, context, store), resultLimit, parallelism);
     }
 
     public Integer getMaxHops() {
@@ -168,6 +168,14 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
         this.maxHops = maxHops;
     }
 
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(final Integer parallelism) {
+        this.parallelism = null == parallelism ? 1 : Math.max(1, parallelism);
+    }
+
     public Boolean getPrune() {
         return prune;
     }
@@ -244,19 +252,21 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
         final AdjacencyMap adjacencyMap = new AdjacencyMap();
         final EntityMap entityMap = new EntityMap();
 
-        final List<Object> nextSeeds = new ArrayList<>();
         for (final Element e : results) {
             if (e instanceof Edge) {
                 final Edge edge = (Edge) e;
-                final Object nextSeed = edge.getAdjacentMatchedVertexValue();
-                nextSeeds.add(nextSeed);
-                adjacencyMap.putEdge(edge.getMatchedVertexValue(), nextSeed, edge);
+                adjacencyMap.putEdge(edge.getMatchedVertexValue(), edge.getAdjacentMatchedVertexValue(), edge);
             } else {
                 final Entity entity = (Entity) e;
                 entityMap.putEntity(entity.getVertex(), entity);
             }
         }
 
+        // The next seeds are the distinct destinations, so vertices reached by
+        // more than one edge are only queried once in the next hop. They are
+        // copied before the adjacency map can be pruned by the next hop.
+        final List<Object> nextSeeds = new ArrayList<>(adjacencyMap.getAllDestinations());
+
         if (hops > adjacencyMaps.size()) {
             adjacencyMaps.add(adjacencyMap);
         }
@@ -283,61 +293,6 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
         return new LimitedIterable<>(store.execute(convertedOp, context), 0, resultLimit, false);
     }
 
-    private List<Walk> walk(final Object curr, final Object prev, final GraphWindow graphWindow, final LinkedList<Set<Edge>> edgeQueue, final LinkedList<Set<Entity>> entityQueue, final int hops, final boolean includePartial) {
-        final List<Walk> walks = new ArrayList<>();
-
-        if (null != prev && hops != edgeQueue.size()) {
-            edgeQueue.offer(graphWindow.getAdjacencyMaps().get(edgeQueue.size()).getEdges(prev, curr));
-        }
-
-        entityQueue.offer(graphWindow.getEntityMaps().get(entityQueue.size()).get(curr));
-
-        if (hops == edgeQueue.size()) {
-            final Walk walk = buildWalk(edgeQueue, entityQueue);
-            walks.add(walk);
-        } else {
-            final Set<Object> dests = graphWindow.getAdjacencyMaps().get(edgeQueue.size()).getDestinations(curr);
-            if (dests.isEmpty()) {
-                if (includePartial) {
-                    final Walk walk = buildWalk(edgeQueue, entityQueue);
-                    walks.add(walk);
-                }
-            } else {
-                for (final Object obj : dests) {
-                    walks.addAll(walk(obj, curr, graphWindow, edgeQueue, entityQueue, hops, includePartial));
-                }
-            }
-        }
-
-        if (!edgeQueue.isEmpty()) {
-            edgeQueue.pollLast();
-        }
-
-        if (!entityQueue.isEmpty()) {
-            entityQueue.pollLast();
-        }
-
-        return walks;
-    }
-
-    private Walk buildWalk(final LinkedList<Set<Edge>> edgeQueue, final LinkedList<Set<Entity>> entityQueue) {
-        final Walk.Builder builder = new Walk.Builder();
-
-        final Iterator<Set<Edge>> edgeIterator = edgeQueue.iterator();
-        final Iterator<Set<Entity>> entityIterator = entityQueue.iterator();
-
-        while (edgeIterator.hasNext() || entityIterator.hasNext()) {
-            if (entityIterator.hasNext()) {
-                builder.entities(entityIterator.next());
-            }
-            if (edgeIterator.hasNext()) {
-                builder.edges(edgeIterator.next());
-            }
-        }
-
-        return builder.build();
-    }
-
     private void validateWhileOperation(final While whileOp) {
         if (!(whileOp.getOperation() instanceof Output)
                 || !Iterable.class.isAssignableFrom(((Output) whileOp.getOperation()).getOutputClass())) {
@@ -348,20 +303,14 @@ public class GetWalksHandler implements OutputOperationHandler<GetWalks, Iterabl
         }
     }
 
-    private List<Walk> applyConditionalFiltering(
-            final Stream<Walk> walks,
-            final GetWalks getWalks,
-            final Context context,
-            final Store store) {
+    private Predicate<Walk> createWalkPredicate(final GetWalks getWalks, final Context context, final Store store) {
         if (null == getWalks.getConditional() || null == getWalks.getConditional().getPredicate()) {
-            return walks.collect(Collectors.toList());
+            return null;
         }
 
         final Operation transformOperation = getWalks.getConditional().getTransform();
         final Predicate conditionalPredicate = getWalks.getConditional().getPredicate();
-        final WalkPredicate walkPredicate = new WalkPredicate(transformOperation, conditionalPredicate, context, store);
-
-        return walks.filter(walkPredicate::test).collect(Collectors.toList());
+        return new WalkPredicate(transformOperation, conditionalPredicate, context, store);
     }
 
     @SuppressFBWarnings(value = "SIC_INNER_SHOULD_BE_STATIC", justification = "Investigate if this should be a separate class")
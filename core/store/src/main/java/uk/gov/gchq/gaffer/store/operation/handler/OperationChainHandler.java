@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.store.operation.handler;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Scope;
 
+import uk.gov.gchq.gaffer.commonutil.otel.InstrumentedIterable;
 import uk.gov.gchq.gaffer.commonutil.otel.OtelUtil;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
@@ -29,6 +30,7 @@ import uk.gov.gchq.gaffer.store.operation.OperationChainValidator;
 import uk.gov.gchq.gaffer.store.optimiser.OperationChainOptimiser;
 import uk.gov.gchq.koryphe.ValidationResult;
 
+import java.util.Collection;
 import java.util.List;
 
 import static uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUtil.updateOperationInput;
@@ -56,6 +58,11 @@ public class OperationChainHandler<OUT> implements OutputOperationHandler<Operat
             try (Scope scope = span.makeCurrent()) {
                 updateOperationInput(op, result);
                 result = store.handleOperation(op, context);
+                if (isInstrumentable(result)) {
+                    // Lazy results do their work when consumed, which is
+                    // recorded in a child span once iteration has finished
+                    result = new InstrumentedIterable<>((Iterable<?>) result, span, op.getClass().getName());
+                }
             } finally {
                 span.end();
             }
@@ -64,6 +71,22 @@ public class OperationChainHandler<OUT> implements OutputOperationHandler<Operat
         return (OUT) result;
     }
 
+    /**
+     * Checks whether the result of an operation should be wrapped so that its
+     * iteration can be recorded. Only lazy iterables are instrumented, and only
+     * when OpenTelemetry is active, so that the concrete type of materialised
+     * results such as {@link Collection}s is unchanged.
+     *
+     * @param result the result of an operation
+     * @return true if the result should be instrumented
+     */
+    protected boolean isInstrumentable(final Object result) {
+        return OtelUtil.getOpenTelemetryActive()
+                && result instanceof Iterable
+                && !(result instanceof Collection)
+                && !(result instanceof InstrumentedIterable);
+    }
+
     public <O> OperationChain<O> prepareOperationChain(final OperationChain<O> operationChain, final Context context, final Store store) {
         final ValidationResult validationResult = opChainValidator.validate(operationChain, context
                 .getUser(), store);
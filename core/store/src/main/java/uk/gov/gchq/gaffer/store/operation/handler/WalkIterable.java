@@ -0,0 +1,384 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.operation.handler;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.data.graph.GraphWindow;
+import uk.gov.gchq.gaffer.data.graph.Walk;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * An {@link Iterable} of the {@link Walk}s in a {@link GraphWindow}, starting
+ * from each of the seeds in turn.
+ * <p>
+ * Walks are enumerated lazily using an iterative depth-first search, so only
+ * the current path through the graph window is held in memory rather than
+ * every walk. Walks that do not match the filter are skipped as they are
+ * found, and enumeration stops once the limit has been reached.
+ * <p>
+ * If the parallelism is greater than 1, the seeds are shared between that
+ * many threads, which pass their walks to the iterator through a bounded
+ * queue. The walks are then returned in no particular order. The threads
+ * come from a pool shared by all walk iterables and are stopped when the
+ * iterator reaches the end, the limit is reached or this iterable is closed.
+ * If nothing is read from an iterator for 10 minutes it is assumed to have
+ * been abandoned, so its threads are stopped and it throws an exception if
+ * it is read again.
+ */
+public class WalkIterable implements Iterable<Walk>, Closeable {
+    private static final int QUEUE_SIZE = 1000;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final long ABANDONED_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    // Shared by all the parallel iterators so threads are reused between them
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "GetWalks-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Iterable<? extends EntityId> seeds;
+    private final GraphWindow graphWindow;
+    private final int hops;
+    private final boolean includePartial;
+    private final Predicate<Walk> filter;
+    private final long limit;
+    private final int parallelism;
+    private final long abandonedTimeoutMillis;
+    private final List<ParallelWalkIterator> parallelIterators = Collections.synchronizedList(new ArrayList<>());
+
+    public WalkIterable(final Iterable<? extends EntityId> seeds,
+                        final GraphWindow graphWindow,
+                        final int hops,
+                        final boolean includePartial,
+                        final Predicate<Walk> filter,
+                        final Integer limit,
+                        final int parallelism) {
+        this(seeds, graphWindow, hops, includePartial, filter, limit, parallelism, ABANDONED_TIMEOUT_MILLIS);
+    }
+
+    WalkIterable(final Iterable<? extends EntityId> seeds,
+                 final GraphWindow graphWindow,
+                 final int hops,
+                 final boolean includePartial,
+                 final Predicate<Walk> filter,
+                 final Integer limit,
+                 final int parallelism,
+                 final long abandonedTimeoutMillis) {
+        this.seeds = seeds;
+        this.graphWindow = graphWindow;
+        this.hops = hops;
+        this.includePartial = includePartial;
+        this.filter = null == filter ? walk -> true : filter;
+        this.limit = null == limit ? Long.MAX_VALUE : limit;
+        this.parallelism = parallelism;
+        this.abandonedTimeoutMillis = abandonedTimeoutMillis;
+    }
+
+    @Override
+    public Iterator<Walk> iterator() {
+        if (parallelism > 1) {
+            final ParallelWalkIterator iterator = new ParallelWalkIterator();
+            parallelIterators.add(iterator);
+            return iterator;
+        }
+        return new SequentialWalkIterator();
+    }
+
+    @Override
+    public void close() {
+        final List<ParallelWalkIterator> iterators;
+        synchronized (parallelIterators) {
+            iterators = new ArrayList<>(parallelIterators);
+        }
+        iterators.forEach(ParallelWalkIterator::close);
+        CloseableUtil.close(seeds);
+    }
+
+    /**
+     * Enumerates the walks from a single seed, keeping a stack of the
+     * destinations still to visit at each hop of the current path.
+     */
+    private final class SeedWalkIterator implements Iterator<Walk> {
+        private final Deque<Object> vertices = new ArrayDeque<>();
+        private final Deque<Iterator<Object>> destinations = new ArrayDeque<>();
+        private final List<Set<Edge>> edges = new ArrayList<>(hops);
+        private final List<Set<Entity>> entities = new ArrayList<>(hops + 1);
+        private Walk next;
+
+        private SeedWalkIterator(final Object seed) {
+            visit(seed, null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (null == next && !destinations.isEmpty()) {
+                final Iterator<Object> currentDestinations = destinations.peek();
+                if (currentDestinations.hasNext()) {
+                    visit(currentDestinations.next(), vertices.peek());
+                } else {
+                    leave();
+                }
+            }
+            return null != next;
+        }
+
+        @Override
+        public Walk next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Walk walk = next;
+            next = null;
+            return walk;
+        }
+
+        private void visit(final Object vertex, final Object previous) {
+            if (null != previous) {
+                edges.add(graphWindow.getAdjacencyMaps().get(edges.size()).getEdges(previous, vertex));
+            }
+            entities.add(graphWindow.getEntityMaps().get(entities.size()).get(vertex));
+            vertices.push(vertex);
+
+            if (hops == edges.size()) {
+                next = buildWalk();
+                destinations.push(Collections.emptyIterator());
+            } else {
+                final Set<Object> vertexDestinations = graphWindow.getAdjacencyMaps().get(edges.size()).getDestinations(vertex);
+                if (vertexDestinations.isEmpty() && includePartial) {
+                    next = buildWalk();
+                }
+                destinations.push(vertexDestinations.iterator());
+            }
+        }
+
+        private void leave() {
+            destinations.pop();
+            vertices.pop();
+            if (!edges.isEmpty()) {
+                edges.remove(edges.size() - 1);
+            }
+            entities.remove(entities.size() - 1);
+        }
+
+        private Walk buildWalk() {
+            final Walk.Builder builder = new Walk.Builder();
+            for (int i = 0; i < entities.size(); i++) {
+                builder.entities(entities.get(i));
+                if (i < edges.size()) {
+                    builder.edges(edges.get(i));
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    private final class SequentialWalkIterator implements Iterator<Walk> {
+        private final Iterator<? extends EntityId> seedIterator = seeds.iterator();
+        private Iterator<Walk> walks = Collections.emptyIterator();
+        private Walk next;
+        private long count;
+
+        @Override
+        public boolean hasNext() {
+            while (null == next && count < limit) {
+                if (walks.hasNext()) {
+                    final Walk walk = walks.next();
+                    if (filter.test(walk)) {
+                        next = walk;
+                    }
+                } else if (seedIterator.hasNext()) {
+                    walks = new SeedWalkIterator(seedIterator.next().getVertex());
+                } else {
+                    break;
+                }
+            }
+            return null != next;
+        }
+
+        @Override
+        public Walk next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Walk walk = next;
+            next = null;
+            count++;
+            return walk;
+        }
+    }
+
+    private final class ParallelWalkIterator implements Iterator<Walk>, Closeable {
+        private final Object endMarker = new Object();
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+        private final Iterator<? extends EntityId> seedIterator = seeds.iterator();
+        private final AtomicInteger runningWorkers = new AtomicInteger(parallelism);
+        private final List<Future<?>> workers = new ArrayList<>(parallelism);
+        private volatile boolean closed;
+        private volatile boolean failed;
+        private volatile boolean abandoned;
+        private volatile long lastTakeMillis = System.currentTimeMillis();
+        private Walk next;
+        private long count;
+
+        private ParallelWalkIterator() {
+            synchronized (workers) {
+                for (int i = 0; i < parallelism; i++) {
+                    workers.add(EXECUTOR.submit(this::work));
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null != next) {
+                return true;
+            }
+            if (count >= limit) {
+                close();
+            }
+
+            Object item = null;
+            try {
+                while (null == item) {
+                    checkAbandoned();
+                    if (closed) {
+                        return false;
+                    }
+                    item = queue.poll(OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                lastTakeMillis = System.currentTimeMillis();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new GafferRuntimeException("Interrupted while waiting for walks", e);
+            }
+
+            if (item == endMarker) {
+                close();
+                return false;
+            }
+            if (item instanceof RuntimeException) {
+                close();
+                throw (RuntimeException) item;
+            }
+            next = (Walk) item;
+            return true;
+        }
+
+        @Override
+        public Walk next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Walk walk = next;
+            next = null;
+            count++;
+            return walk;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            synchronized (workers) {
+                workers.forEach(worker -> worker.cancel(true));
+                workers.clear();
+            }
+            queue.clear();
+            parallelIterators.remove(this);
+        }
+
+        private void checkAbandoned() {
+            if (abandoned) {
+                throw new GafferRuntimeException("Walks were not read for " + abandonedTimeoutMillis
+                        + "ms so the iterator was closed");
+            }
+        }
+
+        private void work() {
+            try {
+                while (!closed && !failed) {
+                    final EntityId seed = nextSeed();
+                    if (null == seed) {
+                        break;
+                    }
+                    final Iterator<Walk> walks = new SeedWalkIterator(seed.getVertex());
+                    while (!closed && !failed && walks.hasNext()) {
+                        final Walk walk = walks.next();
+                        if (filter.test(walk) && !offer(walk)) {
+                            return;
+                        }
+                    }
+                }
+            } catch (final RuntimeException e) {
+                failed = true;
+                offer(e);
+            } finally {
+                if (0 == runningWorkers.decrementAndGet()) {
+                    offer(endMarker);
+                }
+            }
+        }
+
+        private EntityId nextSeed() {
+            synchronized (seedIterator) {
+                return seedIterator.hasNext() ? seedIterator.next() : null;
+            }
+        }
+
+        // Returns false without offering the item once the iterator has been
+        // closed, or if nothing has been taken from the queue for so long that
+        // the iterator is assumed to have been abandoned.
+        private boolean offer(final Object item) {
+            try {
+                while (!closed) {
+                    if (queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                    if (System.currentTimeMillis() - lastTakeMillis > abandonedTimeoutMillis) {
+                        abandoned = true;
+                        close();
+                    }
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+}
@@ -16,11 +16,22 @@
 
 package uk.gov.gchq.gaffer.store.operation.handler;
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.google.common.collect.Iterables;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.While;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.serialiser.ObjectJsonSerialiser;
+import uk.gov.gchq.gaffer.store.util.SpillingDeduplicator;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collections;
 
 import static uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUtil.getResultsOrNull;
 import static uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUtil.updateOperationInput;
@@ -48,15 +59,36 @@ import static uk.gov.gchq.gaffer.store.operation.handler.util.OperationHandlerUt
  * </pre>
  * and then register a path to the json file in your store properties
  * using the key gaffer.store.operation.declarations.
+ * <p>
+ * For incremental While operations, the items seen so far are recorded in a
+ * {@link SpillingDeduplicator}. Up to maxItemsInMemory items are held in memory
+ * and any further items are written to files in the tempDirectory using the
+ * serialiser. At each repeat, new items which are not held in memory are
+ * checked against the partitions of spilled items they belong to, a chunk at
+ * a time, so only items which have not been seen before are passed to the
+ * next repeat. The new items which are not held in memory are also read back
+ * from a file, so neither the items passed between repeats nor the returned
+ * set need to fit in memory. The returned set reads the spilled items lazily
+ * and should be closed once it has been used to delete the spilled files. By
+ * default up to 1,000,000 items are held in memory, the
+ * system temporary directory is used and items are serialised as JSON.
  */
 public class WhileHandler implements OutputOperationHandler<While<Object, Object>, Object> {
+    public static final int DEFAULT_MAX_ITEMS_IN_MEMORY = 1_000_000;
+
     private int maxRepeats = While.MAX_REPEATS;
+    private int maxItemsInMemory = DEFAULT_MAX_ITEMS_IN_MEMORY;
+    private String tempDirectory;
+    private ToBytesSerialiser<Object> serialiser = new ObjectJsonSerialiser();
 
     @Override
     public Object doOperation(final While operation,
                               final Context context,
                               final Store store) throws OperationException {
         validateMaxRepeats(operation);
+        if (operation.isIncremental()) {
+            return doIncrementalOperation(operation, context, store);
+        }
 
         Object input = operation.getInput();
         for (int repeatCount = 0; repeatCount < operation.getMaxRepeats(); repeatCount++) {
@@ -70,6 +102,64 @@ public class WhileHandler implements OutputOperationHandler<While<Object, Object
         return input;
     }
 
+    @SuppressWarnings("PMD.UseTryWithResources")
+    private Object doIncrementalOperation(final While operation,
+                                          final Context context,
+                                          final Store store) throws OperationException {
+        if (null == operation.getInput()) {
+            return null;
+        }
+        if (!(operation.getInput() instanceof Iterable)) {
+            throw new OperationException("The input to an incremental While must be an Iterable, but was: "
+                    + operation.getInput().getClass().getSimpleName());
+        }
+
+        final SpillingDeduplicator<Object> seen = new SpillingDeduplicator<>(
+                maxItemsInMemory,
+                serialiser,
+                null != tempDirectory ? Paths.get(tempDirectory) : null,
+                null);
+        Iterable<Object> newItems = Collections.emptyList();
+        try {
+            newItems = addNewItems(seen, (Iterable<?>) operation.getInput());
+            for (int repeatCount = 0; repeatCount < operation.getMaxRepeats() && !Iterables.isEmpty(newItems); repeatCount++) {
+                final While clonedWhile = operation.shallowClone();
+                if (!isSatisfied(newItems, clonedWhile, context, store)) {
+                    break;
+                }
+                final Object output = doDelegateOperation(newItems, getOperationFromWhile(clonedWhile), context, store);
+                final Iterable<Object> nextItems;
+                if (null == output) {
+                    nextItems = Collections.emptyList();
+                } else if (output instanceof Iterable) {
+                    nextItems = addNewItems(seen, (Iterable<?>) output);
+                } else {
+                    throw new OperationException("The delegate operation of an incremental While must output an Iterable, but output: "
+                            + output.getClass().getSimpleName());
+                }
+                CloseableUtil.close(newItems);
+                newItems = nextItems;
+            }
+        } catch (final OperationException | RuntimeException e) {
+            seen.close();
+            throw e;
+        } finally {
+            CloseableUtil.close(newItems);
+        }
+        // Closing the returned set deletes any spilled items
+        return seen.asSet();
+    }
+
+    private Iterable<Object> addNewItems(final SpillingDeduplicator<Object> seen, final Iterable<?> items) throws OperationException {
+        try {
+            return seen.addAllNew(items);
+        } catch (final IOException e) {
+            throw new OperationException("Unable to record the items seen by the While: " + e.getMessage(), e);
+        } finally {
+            CloseableUtil.close(items);
+        }
+    }
+
     protected Operation getOperationFromWhile(final While aWhile) {
         return aWhile.getOperation();
     }
@@ -121,4 +211,30 @@ public class WhileHandler implements OutputOperationHandler<While<Object, Object
     public void setMaxRepeats(final int maxRepeats) {
         this.maxRepeats = maxRepeats;
     }
+
+    public int getMaxItemsInMemory() {
+        return maxItemsInMemory;
+    }
+
+    public void setMaxItemsInMemory(final int maxItemsInMemory) {
+        this.maxItemsInMemory = maxItemsInMemory;
+    }
+
+    public String getTempDirectory() {
+        return tempDirectory;
+    }
+
+    public void setTempDirectory(final String tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "class")
+    public ToBytesSerialiser<Object> getSerialiser() {
+        return serialiser;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "class")
+    public void setSerialiser(final ToBytesSerialiser<Object> serialiser) {
+        this.serialiser = null != serialiser ? serialiser : new ObjectJsonSerialiser();
+    }
 }
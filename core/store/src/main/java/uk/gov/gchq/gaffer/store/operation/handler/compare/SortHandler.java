@@ -25,23 +25,42 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.compare.Max;
 import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
+import uk.gov.gchq.gaffer.store.serialiser.ElementJsonSerialiser;
+import uk.gov.gchq.gaffer.store.util.ExternalSortedIterable;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
- * A {@code SortHandler} handles the {@link Sort} operation. It does that
- * in memory using the {@link uk.gov.gchq.gaffer.commonutil.iterable.LimitedInMemorySortedIterable}.
+ * A {@code SortHandler} handles the {@link Sort} operation.
  * If the resultLimit is set to one that it just deletes the operation to the
- * {@link MaxHandler}.
+ * {@link MaxHandler}. If the resultLimit is no more than the maximum number of
+ * elements to hold in memory, the top elements are kept in memory using the
+ * {@link uk.gov.gchq.gaffer.commonutil.iterable.LimitedInMemorySortedIterable}.
+ * <p>
+ * Otherwise the elements are sorted using an {@link ExternalSortedIterable},
+ * which writes sorted runs of up to maxElementsInMemory elements to temporary
+ * files in the tempDirectory using the serialiser, and lazily merges them when
+ * the results are iterated over. By default up to 1,000,000 elements are held
+ * in memory, the system temporary directory is used and the elements are
+ * serialised as JSON. These settings can be overridden in an
+ * operationDeclarations.json file.
  */
 public class SortHandler implements OutputOperationHandler<Sort, Iterable<? extends Element>> {
+    public static final int DEFAULT_MAX_ELEMENTS_IN_MEMORY = 1_000_000;
     private static final MaxHandler MAX_HANDLER = new MaxHandler();
 
+    private int maxElementsInMemory = DEFAULT_MAX_ELEMENTS_IN_MEMORY;
+    private String tempDirectory;
+    private ToBytesSerialiser<Element> serialiser = new ElementJsonSerialiser();
+
     @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE", justification = "Appears to be a false positive")
     @SuppressWarnings("PMD.UseTryWithResources")
     @Override
@@ -65,6 +84,10 @@ public class SortHandler implements OutputOperationHandler<Sort, Iterable<? exte
             return Collections.singletonList(max);
         }
 
+        if (null == operation.getResultLimit() || operation.getResultLimit() > maxElementsInMemory) {
+            return externalSort(operation);
+        }
+
         try (final Stream<? extends Element> stream =
                      Streams.toStream(operation.getInput())
                              .filter(Objects::nonNull)) {
@@ -79,4 +102,52 @@ public class SortHandler implements OutputOperationHandler<Sort, Iterable<? exte
             CloseableUtil.close(operation);
         }
     }
+
+    public int getMaxElementsInMemory() {
+        return maxElementsInMemory;
+    }
+
+    public void setMaxElementsInMemory(final int maxElementsInMemory) {
+        this.maxElementsInMemory = maxElementsInMemory;
+    }
+
+    public String getTempDirectory() {
+        return tempDirectory;
+    }
+
+    public void setTempDirectory(final String tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    public ToBytesSerialiser<Element> getSerialiser() {
+        return serialiser;
+    }
+
+    public void setSerialiser(final ToBytesSerialiser<Element> serialiser) {
+        this.serialiser = null != serialiser ? serialiser : new ElementJsonSerialiser();
+    }
+
+    @SuppressWarnings("PMD.UseTryWithResources")
+    private Iterable<? extends Element> externalSort(final Sort operation) throws OperationException {
+        final ExternalSortedIterable<Element> sorted = new ExternalSortedIterable<>(
+                operation.getCombinedComparator(),
+                operation.getResultLimit(),
+                operation.isDeduplicate(),
+                maxElementsInMemory,
+                serialiser,
+                null != tempDirectory ? Paths.get(tempDirectory) : null);
+        try {
+            for (final Element element : operation.getInput()) {
+                if (null != element) {
+                    sorted.add(element);
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            sorted.close();
+            throw new OperationException("Unable to sort elements: " + e.getMessage(), e);
+        } finally {
+            CloseableUtil.close(operation);
+        }
+        return sorted;
+    }
 }
@@ -16,35 +16,106 @@
 
 package uk.gov.gchq.gaffer.store.operation.handler.output;
 
-import uk.gov.gchq.gaffer.commonutil.stream.GafferCollectors;
-import uk.gov.gchq.gaffer.commonutil.stream.Streams;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.output.ToSet;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 import uk.gov.gchq.gaffer.store.Context;
 import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
+import uk.gov.gchq.gaffer.store.serialiser.ObjectJsonSerialiser;
+import uk.gov.gchq.gaffer.store.util.SpillingDeduplicator;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Set;
 
 /**
  * The {@code ToSetHandler} handles {@link ToSet} operations by collecting the
  * items in the input {@link Iterable} into a {@link Set}, removing duplicate items
  * in the process.
- *
- * Use of this operation will cause all of the items present in the input iterable
- * to be brought into memory, so this operation is not suitable for situations where
- * the size of the input iterable is very large.
+ * <p>
+ * Up to maxItemsInMemory distinct items are held in memory, in the order they
+ * were first seen. Any further items are de-duplicated using a
+ * {@link SpillingDeduplicator}, which writes them to hash partitioned files in
+ * the tempDirectory using the serialiser. The returned set is then backed by
+ * these files, de-duplicating each partition in turn as it is iterated over,
+ * so the spilled items are never all held in memory. They follow the
+ * in-memory items, in no particular order. The set should be closed once it
+ * has been used to delete the files, which are otherwise deleted when the JVM
+ * exits. If expectedSpilledItems is set, a Bloom filter of that size is used
+ * to avoid re-reading partitions that only contain new items. By default up to 1,000,000 items are held in memory, the system
+ * temporary directory is used, items are serialised as JSON and no Bloom filter
+ * is used. These settings can be overridden in an operationDeclarations.json
+ * file.
  *
  * @param <T> the type of object contained in the input iterable
  */
 public class ToSetHandler<T> implements OutputOperationHandler<ToSet<T>, Set<? extends T>> {
+    public static final int DEFAULT_MAX_ITEMS_IN_MEMORY = 1_000_000;
+
+    private int maxItemsInMemory = DEFAULT_MAX_ITEMS_IN_MEMORY;
+    private String tempDirectory;
+    private Long expectedSpilledItems;
+    private ToBytesSerialiser<Object> serialiser = new ObjectJsonSerialiser();
+
+    @SuppressWarnings({"unchecked", "PMD.UseTryWithResources"})
     @Override
     public Set<T> doOperation(final ToSet<T> operation, final Context context, final Store store) throws OperationException {
         if (null == operation.getInput()) {
             return null;
         }
 
-        return Streams.toStream(operation.getInput())
-                      .collect(GafferCollectors.toLinkedHashSet());
+        // The deduplicator is only closed here on failure, as the returned set is backed by its files
+        final SpillingDeduplicator<T> deduplicator = new SpillingDeduplicator<>(
+                maxItemsInMemory,
+                (ToBytesSerialiser<T>) serialiser,
+                null != tempDirectory ? Paths.get(tempDirectory) : null,
+                expectedSpilledItems);
+        try {
+            deduplicator.addAll(operation.getInput());
+        } catch (final IOException | RuntimeException e) {
+            deduplicator.close();
+            throw new OperationException("Unable to de-duplicate items: " + e.getMessage(), e);
+        } finally {
+            CloseableUtil.close(operation);
+        }
+        return deduplicator.asSet();
+    }
+
+    public int getMaxItemsInMemory() {
+        return maxItemsInMemory;
+    }
+
+    public void setMaxItemsInMemory(final int maxItemsInMemory) {
+        this.maxItemsInMemory = maxItemsInMemory;
+    }
+
+    public String getTempDirectory() {
+        return tempDirectory;
+    }
+
+    public void setTempDirectory(final String tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    public Long getExpectedSpilledItems() {
+        return expectedSpilledItems;
+    }
+
+    public void setExpectedSpilledItems(final Long expectedSpilledItems) {
+        this.expectedSpilledItems = expectedSpilledItems;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "class")
+    public ToBytesSerialiser<Object> getSerialiser() {
+        return serialiser;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "class")
+    public void setSerialiser(final ToBytesSerialiser<Object> serialiser) {
+        this.serialiser = null != serialiser ? serialiser : new ObjectJsonSerialiser();
     }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.optimiser;
+
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.graph.OperationView;
+import uk.gov.gchq.gaffer.operation.impl.function.Filter;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.store.StoreTrait;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@code FilterToViewOperationChainOptimiser} folds a {@link Filter} that
+ * directly follows a {@link GetElements} or {@link GetAllElements} into the
+ * post transformation filters of the get operation's {@link View}. This allows
+ * the store to filter the elements where they are read rather than returning
+ * them to be filtered afterwards.
+ * <p>
+ * The rewrite is only applied when it is guaranteed to return the same
+ * results, i.e. the view must list its groups explicitly, must not contain
+ * global definitions and must not restrict the properties returned.
+ */
+public class FilterToViewOperationChainOptimiser extends AbstractOperationChainOptimiser {
+    private static final Set<StoreTrait> REQUIRED_TRAITS = Collections.singleton(StoreTrait.POST_TRANSFORMATION_FILTERING);
+
+    @Override
+    public Set<StoreTrait> getRequiredTraits() {
+        return REQUIRED_TRAITS;
+    }
+
+    @Override
+    protected List<Operation> addPreOperations(final Operation previousOp, final Operation currentOp) {
+        return emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseCurrentOperation(final Operation previousOp, final Operation currentOp, final Operation nextOp) {
+        if (canFold(currentOp, nextOp)) {
+            final Operation getOp = currentOp.shallowClone();
+            ((OperationView) getOp).setView(foldFilter(((OperationView) currentOp).getView(), (Filter) nextOp));
+            return singletonList(getOp);
+        }
+        if (canFold(previousOp, currentOp)) {
+            return emptyList();
+        }
+        return singletonList(currentOp);
+    }
+
+    @Override
+    protected List<Operation> addPostOperations(final Operation currentOp, final Operation nextOp) {
+        return emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseAll(final List<Operation> ops) {
+        return ops;
+    }
+
+    private boolean canFold(final Operation getOp, final Operation filterOp) {
+        if (null == getOp || null == filterOp
+                || !Filter.class.equals(filterOp.getClass())
+                || !(GetElements.class.equals(getOp.getClass()) || GetAllElements.class.equals(getOp.getClass()))) {
+            return false;
+        }
+
+        final Filter filter = (Filter) filterOp;
+        if (null != filter.getInput()) {
+            return false;
+        }
+
+        final View view = ((OperationView) getOp).getView();
+        if (null == view || view.isAllEntities() || view.isAllEdges()
+                || hasGlobalDefinitions(view)
+                || (view.getEntities().isEmpty() && view.getEdges().isEmpty())) {
+            return false;
+        }
+
+        for (final ViewElementDefinition elementDef : view.getEntities().values()) {
+            if (!canFold(elementDef)) {
+                return false;
+            }
+        }
+        for (final ViewElementDefinition elementDef : view.getEdges().values()) {
+            if (!canFold(elementDef)) {
+                return false;
+            }
+        }
+
+        // Folding must leave at least one group in the view
+        return null == filter.getEntities() && null == filter.getEdges()
+                || hasRemainingGroup(view.getEntities(), filter.getEntities())
+                || hasRemainingGroup(view.getEdges(), filter.getEdges());
+    }
+
+    private boolean canFold(final ViewElementDefinition elementDef) {
+        // Properties removed from the output would not be removed before the
+        // post transformation filter is applied
+        return null == elementDef
+                || (null == elementDef.getProperties()
+                && (null == elementDef.getExcludeProperties() || elementDef.getExcludeProperties().isEmpty()));
+    }
+
+    private boolean hasGlobalDefinitions(final View view) {
+        return isNotEmpty(view.getGlobalElements())
+                || isNotEmpty(view.getGlobalEntities())
+                || isNotEmpty(view.getGlobalEdges());
+    }
+
+    private boolean isNotEmpty(final List<?> list) {
+        return null != list && !list.isEmpty();
+    }
+
+    private boolean hasRemainingGroup(final Map<String, ViewElementDefinition> viewGroups, final Map<String, ElementFilter> filterGroups) {
+        if (null == filterGroups) {
+            return false;
+        }
+        for (final String group : viewGroups.keySet()) {
+            if (null != filterGroups.get(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private View foldFilter(final View view, final Filter filter) {
+        // If no entities or edges have been provided then all groups are kept,
+        // this matches the FilterHandler.
+        final boolean allGroups = null == filter.getEntities() && null == filter.getEdges();
+
+        final View.Builder builder = new View.Builder()
+                .config(view.getConfig());
+
+        for (final Map.Entry<String, ViewElementDefinition> entry : view.getEntities().entrySet()) {
+            final ElementFilter groupFilter = allGroups ? new ElementFilter() : getGroupFilter(filter.getEntities(), entry.getKey());
+            if (null != groupFilter) {
+                builder.entity(entry.getKey(), foldFilter(entry.getValue(), filter.getGlobalElements(), filter.getGlobalEntities(), groupFilter));
+            }
+        }
+        for (final Map.Entry<String, ViewElementDefinition> entry : view.getEdges().entrySet()) {
+            final ElementFilter groupFilter = allGroups ? new ElementFilter() : getGroupFilter(filter.getEdges(), entry.getKey());
+            if (null != groupFilter) {
+                builder.edge(entry.getKey(), foldFilter(entry.getValue(), filter.getGlobalElements(), filter.getGlobalEdges(), groupFilter));
+            }
+        }
+
+        return builder.build();
+    }
+
+    private ElementFilter getGroupFilter(final Map<String, ElementFilter> groupFilters, final String group) {
+        return null != groupFilters ? groupFilters.get(group) : null;
+    }
+
+    private ViewElementDefinition foldFilter(final ViewElementDefinition elementDef, final ElementFilter... filters) {
+        final ElementFilter postTransformFilter = new ElementFilter();
+        if (null != elementDef && null != elementDef.getPostTransformFilter()) {
+            postTransformFilter.getComponents().addAll(elementDef.getPostTransformFilter().getComponents());
+        }
+        for (final ElementFilter filter : filters) {
+            if (null != filter) {
+                postTransformFilter.getComponents().addAll(filter.getComponents());
+            }
+        }
+
+        final ViewElementDefinition.Builder builder = new ViewElementDefinition.Builder();
+        if (null != elementDef) {
+            builder.merge(elementDef)
+                    .clearPostTransformFilter();
+        }
+        return builder.postTransformFilter(postTransformFilter).build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return null != o && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
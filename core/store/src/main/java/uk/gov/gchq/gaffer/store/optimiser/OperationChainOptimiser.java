@@ -17,6 +17,10 @@
 package uk.gov.gchq.gaffer.store.optimiser;
 
 import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.store.StoreTrait;
+
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * Optimises and applies preprocessing to operation chains.
@@ -35,4 +39,14 @@ public interface OperationChainOptimiser {
      * @return the optimised operation chain
      */
     <O> OperationChain<O> optimise(final OperationChain<O> operationChain);
+
+    /**
+     * The {@link StoreTrait}s a store must have for the rewrites made by this
+     * optimiser to be valid. By default no traits are required.
+     *
+     * @return the required store traits
+     */
+    default Set<StoreTrait> getRequiredTraits() {
+        return Collections.emptySet();
+    }
 }
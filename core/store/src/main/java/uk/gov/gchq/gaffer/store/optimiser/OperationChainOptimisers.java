@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.optimiser;
+
+import uk.gov.gchq.gaffer.store.StoreTrait;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utility methods for selecting the generic {@link OperationChainOptimiser}s
+ * a store is able to support.
+ */
+public final class OperationChainOptimisers {
+
+    private OperationChainOptimisers() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * @return a new instance of each of the generic operation chain optimisers
+     */
+    public static List<OperationChainOptimiser> getAll() {
+        return new ArrayList<>(Arrays.asList(
+                new FilterToViewOperationChainOptimiser(),
+                new RedundantToListOperationChainOptimiser()));
+    }
+
+    /**
+     * Gets the generic operation chain optimisers whose required
+     * {@link StoreTrait}s are all provided by a store.
+     *
+     * @param traits the traits of the store
+     * @return the supported optimisers
+     */
+    public static List<OperationChainOptimiser> getSupported(final Set<StoreTrait> traits) {
+        final List<OperationChainOptimiser> optimisers = new ArrayList<>();
+        for (final OperationChainOptimiser optimiser : getAll()) {
+            if (null != traits && traits.containsAll(optimiser.getRequiredTraits())) {
+                optimisers.add(optimiser);
+            }
+        }
+        return optimisers;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.optimiser;
+
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.impl.Count;
+import uk.gov.gchq.gaffer.operation.impl.CountGroups;
+import uk.gov.gchq.gaffer.operation.impl.DiscardOutput;
+import uk.gov.gchq.gaffer.operation.impl.compare.Max;
+import uk.gov.gchq.gaffer.operation.impl.compare.Min;
+import uk.gov.gchq.gaffer.operation.impl.output.ToList;
+import uk.gov.gchq.gaffer.operation.impl.output.ToSet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@code RedundantToListOperationChainOptimiser} removes a {@link ToList}
+ * that is directly followed by an operation which consumes its input
+ * iterable in a single pass, e.g. {@link Count}. Removing the
+ * {@link ToList} avoids holding the entire input in memory.
+ * <p>
+ * A {@link ToSet} is never removed as the de-duplication it applies changes
+ * the result of the following operation.
+ */
+public class RedundantToListOperationChainOptimiser extends AbstractOperationChainOptimiser {
+    private static final Set<Class<? extends Operation>> SINGLE_PASS_OPERATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Count.class,
+            CountGroups.class,
+            DiscardOutput.class,
+            Max.class,
+            Min.class,
+            ToList.class,
+            ToSet.class)));
+
+    @Override
+    protected List<Operation> addPreOperations(final Operation previousOp, final Operation currentOp) {
+        return emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseCurrentOperation(final Operation previousOp, final Operation currentOp, final Operation nextOp) {
+        if (isRedundantToList(currentOp, nextOp)) {
+            return emptyList();
+        }
+        return singletonList(currentOp);
+    }
+
+    @Override
+    protected List<Operation> addPostOperations(final Operation currentOp, final Operation nextOp) {
+        return emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseAll(final List<Operation> ops) {
+        return ops;
+    }
+
+    private boolean isRedundantToList(final Operation currentOp, final Operation nextOp) {
+        return null != currentOp && ToList.class.equals(currentOp.getClass())
+                && null == ((ToList<?>) currentOp).getInput()
+                && null != nextOp && SINGLE_PASS_OPERATIONS.contains(nextOp.getClass());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return null != o && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.serialiser;
+
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+
+/**
+ * Serialises {@link Element}s to and from JSON bytes using the
+ * {@link JSONSerialiser}. Unlike the {@link ElementSerialiser}, no schema is
+ * required, so it can serialise any element which can be returned to a user.
+ */
+public class ElementJsonSerialiser implements ToBytesSerialiser<Element> {
+    private static final long serialVersionUID = -5166873411342316516L;
+
+    @Override
+    public boolean canHandle(final Class clazz) {
+        return Element.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public byte[] serialise(final Element element) throws SerialisationException {
+        return JSONSerialiser.serialise(element);
+    }
+
+    @Override
+    public Element deserialise(final byte[] bytes) throws SerialisationException {
+        return JSONSerialiser.deserialise(bytes, Element.class);
+    }
+
+    @Override
+    public Element deserialiseEmpty() {
+        return null;
+    }
+
+    @Override
+    public boolean preservesObjectOrdering() {
+        return false;
+    }
+
+    @Override
+    public boolean isConsistent() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || null != obj && getClass() == obj.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return ElementJsonSerialiser.class.getName().hashCode();
+    }
+}
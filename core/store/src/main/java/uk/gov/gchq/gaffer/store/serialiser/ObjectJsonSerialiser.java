@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.serialiser;
+
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Serialises any object which can be serialised by the {@link JSONSerialiser}
+ * to bytes. The class name of the object is written before its JSON, so the
+ * object can be deserialised without knowing its class in advance.
+ */
+public class ObjectJsonSerialiser implements ToBytesSerialiser<Object> {
+    private static final long serialVersionUID = 4417283497398467131L;
+
+    @Override
+    public boolean canHandle(final Class clazz) {
+        return true;
+    }
+
+    @Override
+    public byte[] serialise(final Object object) throws SerialisationException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(object.getClass().getName());
+            out.write(JSONSerialiser.serialise(object));
+        } catch (final SerialisationException e) {
+            throw e;
+        } catch (final IOException e) {
+            throw new SerialisationException("Unable to serialise object of class: " + object.getClass().getName(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(allBytes, offset, length))) {
+            final Class<?> clazz = Class.forName(in.readUTF());
+            return JSONSerialiser.deserialise(in, clazz);
+        } catch (final SerialisationException e) {
+            throw e;
+        } catch (final ClassNotFoundException | IOException e) {
+            throw new SerialisationException("Unable to deserialise object", e);
+        }
+    }
+
+    @Override
+    public Object deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Object deserialiseEmpty() {
+        return null;
+    }
+
+    @Override
+    public boolean preservesObjectOrdering() {
+        return false;
+    }
+
+    @Override
+    public boolean isConsistent() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || null != obj && getClass() == obj.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return ObjectJsonSerialiser.class.getName().hashCode();
+    }
+}
@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.store.util;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.ElementKey;
 import uk.gov.gchq.gaffer.data.element.GroupedProperties;
 import uk.gov.gchq.gaffer.data.element.ReservedPropertyNames;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
@@ -39,6 +40,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
@@ -85,7 +87,7 @@ public final class AggregatorUtil {
         }
 
         final Iterable<Element> aggregatedElements = Streams.toStream(aggregatableElements)
-                .collect(Collectors.groupingBy(new ToIngestElementKey(schema),
+                .collect(Collectors.groupingBy(new ToCachedElementKey(getIngestGroupBys(schema), false),
                                                Collectors.reducing(null, new IngestElementBinaryOperator(schema))))
                 .values();
         return new ChainedIterable<>(aggregatedElements, nonAggregatedElements);
@@ -144,7 +146,7 @@ public final class AggregatorUtil {
             }
         }
         final Iterable<Element> aggregatedElements = Streams.toStream(aggregatableElements)
-                .collect(Collectors.groupingBy(new ToQueryElementKey(schema, view, includeMatchedVertex),
+                .collect(Collectors.groupingBy(new ToCachedElementKey(getQueryGroupBys(schema, view), includeMatchedVertex),
                                                Collectors.reducing(null, new QueryElementBinaryOperator(schema, view))))
                 .values();
         return new ChainedIterable<>(aggregatedElements, nonAggregatedElements);
@@ -215,6 +217,30 @@ public final class AggregatorUtil {
         }
     }
 
+    /**
+     * Creates an immutable {@link ElementKey} for an element, these are used
+     * internally when grouping elements as the key's hash code is only
+     * computed once.
+     */
+    private static final class ToCachedElementKey implements Function<Element, ElementKey> {
+        private final Map<String, Set<String>> groupToGroupBys;
+        private final boolean includeMatchedVertex;
+
+        private ToCachedElementKey(final Map<String, Set<String>> groupToGroupBys, final boolean includeMatchedVertex) {
+            this.groupToGroupBys = groupToGroupBys;
+            this.includeMatchedVertex = includeMatchedVertex;
+        }
+
+        @Override
+        public ElementKey apply(final Element element) {
+            final Set<String> groupBy = groupToGroupBys.get(element.getGroup());
+            if (isNull(groupBy)) {
+                throw new IllegalArgumentException(String.format("Group %s was not recognised", element.getGroup()));
+            }
+            return ElementKey.create(element, groupBy, includeMatchedVertex);
+        }
+    }
+
     @Since("1.0.0")
     @Summary("Aggregates elements, grouping the elements using the ingest key")
     public static class IngestElementBinaryOperator extends ElementBinaryOperator {
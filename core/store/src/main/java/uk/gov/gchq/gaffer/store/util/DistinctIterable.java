@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterable} of the distinct items in an input {@link Iterable},
+ * de-duplicated lazily using a {@link SpillingDeduplicator}.
+ * <p>
+ * Items are returned as soon as they are known to be distinct, which is
+ * immediately for the first {@code maxItemsInMemory} distinct items and for
+ * spilled items which the Bloom filter has not seen before. The remaining
+ * distinct items are returned once the input has been read.
+ *
+ * @param <T> the type of item
+ */
+public class DistinctIterable<T> implements Iterable<T>, Closeable {
+    private final Iterable<? extends T> input;
+    private final int maxItemsInMemory;
+    private final ToBytesSerialiser<T> serialiser;
+    private final Path tempDirectory;
+    private final Long expectedSpilledItems;
+    private final List<SpillingDeduplicator<T>> deduplicators = Collections.synchronizedList(new ArrayList<>());
+
+    public DistinctIterable(final Iterable<? extends T> input,
+                            final int maxItemsInMemory,
+                            final ToBytesSerialiser<T> serialiser,
+                            final Path tempDirectory,
+                            final Long expectedSpilledItems) {
+        this.input = input;
+        this.maxItemsInMemory = maxItemsInMemory;
+        this.serialiser = serialiser;
+        this.tempDirectory = tempDirectory;
+        this.expectedSpilledItems = expectedSpilledItems;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final SpillingDeduplicator<T> deduplicator = new SpillingDeduplicator<>(maxItemsInMemory, serialiser, tempDirectory, expectedSpilledItems);
+        deduplicators.add(deduplicator);
+        return new DistinctIterator(deduplicator);
+    }
+
+    @Override
+    public void close() {
+        synchronized (deduplicators) {
+            deduplicators.forEach(SpillingDeduplicator::close);
+            deduplicators.clear();
+        }
+        CloseableUtil.close(input);
+    }
+
+    private final class DistinctIterator implements Iterator<T> {
+        private final SpillingDeduplicator<T> deduplicator;
+        private final Iterator<? extends T> inputIterator = input.iterator();
+        private Iterator<T> undecided;
+        private T next;
+        private boolean hasNext;
+
+        private DistinctIterator(final SpillingDeduplicator<T> deduplicator) {
+            this.deduplicator = deduplicator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasNext) {
+                return true;
+            }
+            try {
+                while (null == undecided && inputIterator.hasNext()) {
+                    final T item = inputIterator.next();
+                    if (deduplicator.add(item)) {
+                        next = item;
+                        hasNext = true;
+                        return true;
+                    }
+                }
+            } catch (final IOException e) {
+                finish();
+                throw new GafferRuntimeException("Unable to de-duplicate items: " + e.getMessage(), e);
+            }
+
+            if (null == undecided) {
+                CloseableUtil.close(inputIterator);
+                undecided = deduplicator.undecided();
+            }
+            if (undecided.hasNext()) {
+                next = undecided.next();
+                hasNext = true;
+                return true;
+            }
+            finish();
+            return false;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final T item = next;
+            next = null;
+            hasNext = false;
+            return item;
+        }
+
+        private void finish() {
+            undecided = Collections.emptyIterator();
+            deduplicator.close();
+            deduplicators.remove(deduplicator);
+        }
+    }
+}
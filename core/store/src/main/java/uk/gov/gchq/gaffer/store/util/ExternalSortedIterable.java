@@ -0,0 +1,348 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * An {@link Iterable} which can sort, limit and deduplicate more items than
+ * can be held in memory.
+ * <p>
+ * Items are added to an in-memory buffer. Whenever the buffer reaches the
+ * maximum number of items held in memory, it is sorted and written to a
+ * temporary file as a sorted run, using the provided serialiser. When this
+ * iterable is iterated over, the runs and the remaining buffer are lazily
+ * merged with a k-way merge, so only one item from each run is held in memory.
+ * <p>
+ * Items which compare as equal are returned in the order they were added. As
+ * with the {@link uk.gov.gchq.gaffer.commonutil.iterable.LimitedInMemorySortedIterable},
+ * deduplication removes items which are equal to an item which compares as
+ * equal to them. Null items are not supported.
+ * <p>
+ * This iterable should be closed to delete its temporary files. As callers
+ * may not close the results of an operation, any files which have not been
+ * deleted by then are deleted when the JVM exits.
+ *
+ * @param <E> the type of item to sort
+ */
+public class ExternalSortedIterable<E> implements Iterable<E>, Closeable {
+    private static final String TEMP_FILE_PREFIX = "gaffer-sort-";
+    private static final int END_OF_RUN = -1;
+
+    private final Comparator<E> comparator;
+    private final Integer limit;
+    private final boolean deduplicate;
+    private final int maxItemsInMemory;
+    private final ToBytesSerialiser<E> serialiser;
+    private final Path tempDirectory;
+    private final List<E> buffer = new ArrayList<>();
+    private final List<Path> runs = new ArrayList<>();
+    private final List<Closeable> openIterators = new ArrayList<>();
+    private boolean bufferSorted;
+
+    public ExternalSortedIterable(final Comparator<E> comparator,
+                                  final Integer limit,
+                                  final boolean deduplicate,
+                                  final int maxItemsInMemory,
+                                  final ToBytesSerialiser<E> serialiser,
+                                  final Path tempDirectory) {
+        if (isNull(comparator)) {
+            throw new IllegalArgumentException("Comparator is required");
+        }
+        if (nonNull(limit) && 1 > limit) {
+            throw new IllegalArgumentException("Limit cannot be less than or equal to 0");
+        }
+        if (1 > maxItemsInMemory) {
+            throw new IllegalArgumentException("The maximum number of items in memory must be at least 1");
+        }
+        if (isNull(serialiser)) {
+            throw new IllegalArgumentException("Serialiser is required");
+        }
+        this.comparator = comparator;
+        this.limit = limit;
+        this.deduplicate = deduplicate;
+        this.maxItemsInMemory = maxItemsInMemory;
+        this.serialiser = serialiser;
+        this.tempDirectory = tempDirectory;
+    }
+
+    public void add(final E item) throws IOException {
+        if (isNull(item)) {
+            throw new IllegalArgumentException("Null items cannot be sorted");
+        }
+        buffer.add(item);
+        bufferSorted = false;
+        if (buffer.size() >= maxItemsInMemory) {
+            spill();
+        }
+    }
+
+    public void addAll(final Iterable<? extends E> items) throws IOException {
+        for (final E item : items) {
+            add(item);
+        }
+    }
+
+    /**
+     * @return the number of sorted runs which have been written to temporary files
+     */
+    public int getNumberOfRuns() {
+        return runs.size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        sortBuffer();
+        if (runs.isEmpty()) {
+            return new DistinctLimitedIterator(buffer.iterator());
+        }
+
+        final List<Iterator<E>> sources = new ArrayList<>(runs.size() + 1);
+        try {
+            for (final Path run : runs) {
+                final RunIterator runIterator = new RunIterator(run);
+                openIterators.add(runIterator);
+                sources.add(runIterator);
+            }
+        } catch (final IOException e) {
+            throw new GafferRuntimeException("Unable to read sorted run", e);
+        }
+        sources.add(buffer.iterator());
+        return new DistinctLimitedIterator(new MergeIterator(sources));
+    }
+
+    @Override
+    public void close() {
+        openIterators.forEach(CloseableUtil::close);
+        openIterators.clear();
+        for (final Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (final IOException e) {
+                // Ignore as the run is in a temporary directory
+            }
+        }
+        runs.clear();
+        buffer.clear();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[runs=" + runs.size() + ", buffered=" + buffer.size() + ']';
+    }
+
+    private void sortBuffer() {
+        if (!bufferSorted) {
+            buffer.sort(comparator);
+            bufferSorted = true;
+        }
+    }
+
+    private void spill() throws IOException {
+        sortBuffer();
+        final Path run = null != tempDirectory
+                ? Files.createTempFile(tempDirectory, TEMP_FILE_PREFIX, null)
+                : Files.createTempFile(TEMP_FILE_PREFIX, null);
+        run.toFile().deleteOnExit();
+        runs.add(run);
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+            // Only the items that could be returned need to be written
+            final Iterator<E> items = new DistinctLimitedIterator(buffer.iterator());
+            while (items.hasNext()) {
+                final byte[] bytes = serialiser.serialise(items.next());
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(END_OF_RUN);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Skips items which are duplicates of an earlier item that compares as
+     * equal to them, if deduplicating, and stops once the limit is reached.
+     */
+    private final class DistinctLimitedIterator implements Iterator<E> {
+        private final Iterator<E> sorted;
+        private final Set<E> group = new HashSet<>();
+        private E groupHead;
+        private E next;
+        private long count;
+
+        private DistinctLimitedIterator(final Iterator<E> sorted) {
+            this.sorted = sorted;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (null == next && (isNull(limit) || count < limit) && sorted.hasNext()) {
+                final E item = sorted.next();
+                if (deduplicate) {
+                    if (null == groupHead || 0 != comparator.compare(groupHead, item)) {
+                        groupHead = item;
+                        group.clear();
+                    }
+                    if (!group.add(item)) {
+                        continue;
+                    }
+                }
+                next = item;
+            }
+            if (null == next) {
+                CloseableUtil.close(sorted);
+            }
+            return null != next;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final E item = next;
+            next = null;
+            count++;
+            return item;
+        }
+    }
+
+    /**
+     * Merges sorted iterators. Items which compare as equal are taken from
+     * the earliest iterator first.
+     */
+    private final class MergeIterator implements Iterator<E>, Closeable {
+        private final List<Iterator<E>> sources;
+        private final PriorityQueue<Head> heads;
+
+        private MergeIterator(final List<Iterator<E>> sources) {
+            this.sources = sources;
+            this.heads = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> {
+                final int result = comparator.compare(a.item, b.item);
+                return 0 != result ? result : Integer.compare(a.source, b.source);
+            });
+            for (int i = 0; i < sources.size(); i++) {
+                advance(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            final Head head = heads.poll();
+            if (null == head) {
+                throw new NoSuchElementException();
+            }
+            advance(head.source);
+            return head.item;
+        }
+
+        @Override
+        public void close() {
+            sources.forEach(CloseableUtil::close);
+        }
+
+        private void advance(final int source) {
+            final Iterator<E> iterator = sources.get(source);
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), source));
+            }
+        }
+    }
+
+    private final class Head {
+        private final E item;
+        private final int source;
+
+        private Head(final E item, final int source) {
+            this.item = item;
+            this.source = source;
+        }
+    }
+
+    private final class RunIterator implements Iterator<E>, Closeable {
+        private final DataInputStream in;
+        private E next;
+
+        private RunIterator(final Path run) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+            readNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final E item = next;
+            try {
+                readNext();
+            } catch (final IOException e) {
+                close();
+                throw new GafferRuntimeException("Unable to read sorted run", e);
+            }
+            return item;
+        }
+
+        @Override
+        public void close() {
+            next = null;
+            CloseableUtil.close(in);
+        }
+
+        private void readNext() throws IOException {
+            final int length = in.readInt();
+            if (END_OF_RUN == length) {
+                close();
+            } else {
+                final byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                next = serialiser.deserialise(bytes, 0, bytes.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,707 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import com.google.common.collect.Iterators;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/**
+ * De-duplicates more items than can be held in memory.
+ * <p>
+ * The first {@code maxItemsInMemory} distinct items are held in memory. Any
+ * later item which is not one of them is written to one of a number of
+ * temporary partition files, chosen by the hash code of the item, so that
+ * duplicates always end up in the same partition. Each partition is then
+ * de-duplicated in the same way, recursively partitioning it again with a
+ * different hash if it also has too many distinct items.
+ * <p>
+ * If an expected number of spilled items is provided, a Bloom filter of the
+ * hash codes of the spilled items is used to find items which have definitely
+ * not been seen before. These can be returned straight away by a streaming
+ * de-duplication, and partitions which only contain such items do not need to
+ * be read again.
+ * <p>
+ * Items are added with {@link #add(Object)}. The distinct items can then be
+ * read lazily from a {@link Set} view with {@link #asSet()}, or, when the items
+ * returned by {@code add} have already been used, {@link #undecided()} returns
+ * the remaining distinct items. This should be closed to delete its temporary
+ * files. Any which have not been deleted by then are deleted when the JVM
+ * exits.
+ *
+ * @param <T> the type of item to de-duplicate
+ */
+public class SpillingDeduplicator<T> implements Closeable {
+    public static final int DEFAULT_PARTITIONS = 16;
+    private static final String TEMP_FILE_PREFIX = "gaffer-distinct-";
+    private static final int MAX_DEPTH = 8;
+    private static final double BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final byte UNDECIDED = 0;
+    private static final byte DISTINCT = 1;
+
+    private final int maxItemsInMemory;
+    private final ToBytesSerialiser<T> serialiser;
+    private final Path tempDirectory;
+    private final int partitions;
+    private final BloomFilter<Integer> spilledHashCodes;
+    private final Set<T> items = new LinkedHashSet<>();
+    private final List<Partition> spilled = new ArrayList<>();
+    private final List<Closeable> openResources = new ArrayList<>();
+    private final List<Partition> created = new ArrayList<>();
+    private List<Partition> writers;
+
+    public SpillingDeduplicator(final int maxItemsInMemory,
+                                final ToBytesSerialiser<T> serialiser,
+                                final Path tempDirectory,
+                                final Long expectedSpilledItems) {
+        this(maxItemsInMemory, serialiser, tempDirectory, expectedSpilledItems, DEFAULT_PARTITIONS);
+    }
+
+    public SpillingDeduplicator(final int maxItemsInMemory,
+                                final ToBytesSerialiser<T> serialiser,
+                                final Path tempDirectory,
+                                final Long expectedSpilledItems,
+                                final int partitions) {
+        if (1 > maxItemsInMemory) {
+            throw new IllegalArgumentException("The maximum number of items in memory must be at least 1");
+        }
+        if (2 > partitions) {
+            throw new IllegalArgumentException("The number of partitions must be at least 2");
+        }
+        if (isNull(serialiser)) {
+            throw new IllegalArgumentException("Serialiser is required");
+        }
+        this.maxItemsInMemory = maxItemsInMemory;
+        this.serialiser = serialiser;
+        this.tempDirectory = tempDirectory;
+        this.partitions = partitions;
+        this.spilledHashCodes = null != expectedSpilledItems && expectedSpilledItems > 0
+                ? BloomFilter.create(Funnels.integerFunnel(), expectedSpilledItems, BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY)
+                : null;
+    }
+
+    /**
+     * Adds an item.
+     *
+     * @param item the item to add
+     * @return {@code true} if the item is definitely distinct from all the
+     * items added before it, or {@code false} if it is a duplicate or it has
+     * been spilled to disk to be checked later
+     * @throws IOException if the item could not be written to disk
+     */
+    public boolean add(final T item) throws IOException {
+        if (items.contains(item)) {
+            return false;
+        }
+        // Null items are always held in memory as they cannot be serialised
+        if (items.size() < maxItemsInMemory || null == item) {
+            items.add(item);
+            return true;
+        }
+
+        if (null == writers) {
+            writers = createPartitions();
+        }
+        final int hashCode = item.hashCode();
+        // If putting the hash code changes the filter it has not been spilled before
+        final boolean distinct = null != spilledHashCodes && spilledHashCodes.put(hashCode);
+        writers.get(partition(hashCode, 0)).write(item, distinct ? DISTINCT : UNDECIDED);
+        return distinct;
+    }
+
+    public void addAll(final Iterable<? extends T> items) throws IOException {
+        for (final T item : items) {
+            add(item);
+        }
+    }
+
+    /**
+     * Adds a batch of items, returning the items which had not been added
+     * before. Unlike {@link #add(Object)}, items which are not held in memory
+     * are checked against the items already written to disk, so all the items
+     * returned are new. They are first written to a set of pending partitions.
+     * Each pending partition is then read in chunks of up to the maximum
+     * number of items in memory, and each chunk is checked against the spilled
+     * items in the same partition, so the batch does not need to fit in
+     * memory. The new items which are not held in memory are written to a
+     * file, which the returned {@link Iterable} reads after the new items
+     * which are held in memory. It is {@link Closeable} and should be closed
+     * once it has been used to delete the file.
+     *
+     * @param items the items to add
+     * @return the new items
+     * @throws IOException if the spilled items could not be read or written
+     */
+    public Iterable<T> addAllNew(final Iterable<? extends T> items) throws IOException {
+        final List<T> addedInMemory = new ArrayList<>();
+        List<Partition> pending = null;
+        for (final T item : items) {
+            if (this.items.contains(item)) {
+                continue;
+            }
+            if (this.items.size() < maxItemsInMemory || null == item) {
+                this.items.add(item);
+                addedInMemory.add(item);
+            } else {
+                if (null == pending) {
+                    pending = createPartitions();
+                }
+                pending.get(partition(item.hashCode(), 0)).write(item, UNDECIDED);
+            }
+        }
+        if (null == pending) {
+            return new NewItems(addedInMemory, null);
+        }
+
+        if (null == writers) {
+            writers = createPartitions();
+        }
+        final Partition added = createPartitions(1).get(0);
+        try {
+            for (int i = 0; i < partitions; i++) {
+                addNewInPartition(pending.get(i), writers.get(i), added);
+                pending.get(i).delete();
+            }
+            added.finishWriting();
+        } catch (final IOException | RuntimeException e) {
+            added.delete();
+            throw e;
+        }
+        return new NewItems(addedInMemory, added);
+    }
+
+    private void addNewInPartition(final Partition pending, final Partition partition, final Partition added) throws IOException {
+        if (null == pending.file) {
+            return;
+        }
+        pending.finishWriting();
+        try (final DataInputStream in = pending.open()) {
+            final Set<T> chunk = new LinkedHashSet<>();
+            T item;
+            do {
+                item = readItem(in);
+                if (null != item) {
+                    chunk.add(item);
+                }
+                if (chunk.size() >= maxItemsInMemory || null == item && !chunk.isEmpty()) {
+                    // The partition only needs reading if one of the items may have been spilled before
+                    if (null == spilledHashCodes || chunk.stream().anyMatch(chunkItem -> spilledHashCodes.mightContain(chunkItem.hashCode()))) {
+                        partition.removeWritten(chunk);
+                    }
+                    // Writing the new items to the partition means later chunks are checked against them
+                    for (final T newItem : chunk) {
+                        if (null != spilledHashCodes) {
+                            spilledHashCodes.put(newItem.hashCode());
+                        }
+                        partition.write(newItem, DISTINCT);
+                        added.write(newItem, DISTINCT);
+                    }
+                    chunk.clear();
+                }
+            } while (null != item);
+        }
+    }
+
+    /**
+     * @param item the item to check
+     * @return {@code true} if the item has been added and is held in memory
+     */
+    public boolean isInMemory(final T item) {
+        return items.contains(item);
+    }
+
+    /**
+     * @return {@code true} if any items have been written to disk
+     */
+    public boolean hasSpilled() {
+        return null != writers;
+    }
+
+    /**
+     * Gets a read only {@link Set} view of the distinct items. If no items have
+     * been written to disk, this is the in-memory set of items. Otherwise the
+     * set is backed by the in-memory items and the spilled partitions, and is
+     * {@link Closeable}, closing this deduplicator. Iterating over it
+     * de-duplicates each partition in turn, so no more than the maximum
+     * number of items in memory are held at once, {@code contains} only reads
+     * the partition an item would be written to and the size is counted the
+     * first time it is needed. No more items should be added once this has
+     * been called.
+     *
+     * @return the distinct items
+     */
+    public Set<T> asSet() {
+        if (!hasSpilled()) {
+            return items;
+        }
+        finishWriting();
+        return new SpilledSet();
+    }
+
+    /**
+     * Iterates over the distinct items which were not reported as distinct
+     * when they were added.
+     *
+     * @return the undecided distinct items
+     */
+    public Iterator<T> undecided() {
+        if (!hasSpilled()) {
+            return Collections.emptyIterator();
+        }
+        finishWriting();
+        return new PartitionsIterator(spilled, false, 1);
+    }
+
+    @Override
+    public void close() {
+        openResources.forEach(CloseableUtil::close);
+        openResources.clear();
+        created.forEach(Partition::delete);
+        created.clear();
+        spilled.clear();
+    }
+
+    private void finishWriting() {
+        for (final Partition partition : writers) {
+            partition.finishWriting();
+        }
+        if (spilled.isEmpty()) {
+            spilled.addAll(writers);
+        }
+    }
+
+    private List<Partition> createPartitions() {
+        return createPartitions(partitions);
+    }
+
+    private List<Partition> createPartitions(final int count) {
+        final List<Partition> newPartitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            newPartitions.add(new Partition());
+        }
+        created.addAll(newPartitions);
+        return newPartitions;
+    }
+
+    // Reads the next item, ignoring its type, or returns null at the end of the file
+    private T readItem(final DataInputStream in) throws IOException {
+        try {
+            in.readByte();
+        } catch (final EOFException e) {
+            return null;
+        }
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return serialiser.deserialise(bytes, 0, bytes.length);
+    }
+
+    private int partition(final int hashCode, final int depth) {
+        // Mix the hash code differently at each depth so items which share a
+        // partition at one depth are spread over the partitions at the next.
+        int hash = hashCode * (0x9E3779B9 + 2 * depth) + depth;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, partitions);
+    }
+
+    private final class Partition {
+        private Path file;
+        private DataOutputStream out;
+        private long undecided;
+
+        private void write(final T item, final byte type) throws IOException {
+            if (null == out) {
+                if (null == file) {
+                    file = null != tempDirectory
+                            ? Files.createTempFile(tempDirectory, TEMP_FILE_PREFIX, null)
+                            : Files.createTempFile(TEMP_FILE_PREFIX, null);
+                    file.toFile().deleteOnExit();
+                }
+                // Append, as more items can be written after the file has been read
+                out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.APPEND)));
+                openResources.add(out);
+            }
+            final byte[] bytes = serialiser.serialise(item);
+            out.writeByte(type);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            if (UNDECIDED == type) {
+                undecided++;
+            }
+        }
+
+        private DataInputStream open() throws IOException {
+            return new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        }
+
+        // Removes the items which have already been written to this partition
+        private void removeWritten(final Set<T> newItems) throws IOException {
+            if (null == file) {
+                return;
+            }
+            finishWriting();
+            try (final DataInputStream in = open()) {
+                T item = newItems.isEmpty() ? null : readItem(in);
+                while (null != item) {
+                    newItems.remove(item);
+                    item = newItems.isEmpty() ? null : readItem(in);
+                }
+            }
+        }
+
+        private void finishWriting() {
+            if (null != out) {
+                CloseableUtil.close(out);
+                openResources.remove(out);
+                out = null;
+            }
+        }
+
+        private boolean contains(final Object item) {
+            if (null == file) {
+                return false;
+            }
+            finishWriting();
+            try (final DataInputStream in = open()) {
+                T written = readItem(in);
+                while (null != written && !item.equals(written)) {
+                    written = readItem(in);
+                }
+                return null != written;
+            } catch (final IOException e) {
+                throw new GafferRuntimeException("Unable to read spilled items", e);
+            }
+        }
+
+        private void delete() {
+            finishWriting();
+            if (null != file) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (final IOException e) {
+                    // Ignore as the file is in a temporary directory
+                }
+            }
+        }
+    }
+
+    /**
+     * A read only view of the items held in memory followed by the distinct
+     * spilled items.
+     */
+    private final class SpilledSet extends AbstractSet<T> implements Closeable {
+        private long size = -1;
+
+        @Override
+        public Iterator<T> iterator() {
+            return Iterators.concat(
+                    Collections.unmodifiableSet(items).iterator(),
+                    new PartitionsIterator(spilled, true, 1));
+        }
+
+        @Override
+        public int size() {
+            if (0 > size) {
+                long count = items.size();
+                final Iterator<T> spilledItems = new PartitionsIterator(spilled, true, 1);
+                while (spilledItems.hasNext()) {
+                    spilledItems.next();
+                    count++;
+                }
+                size = count;
+            }
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            // Items are only spilled once the in-memory set is full
+            return false;
+        }
+
+        @Override
+        public boolean contains(final Object item) {
+            if (items.contains(item)) {
+                return true;
+            }
+            if (null == item || null != spilledHashCodes && !spilledHashCodes.mightContain(item.hashCode())) {
+                return false;
+            }
+            return spilled.get(partition(item.hashCode(), 0)).contains(item);
+        }
+
+        @Override
+        public void close() {
+            SpillingDeduplicator.this.close();
+        }
+    }
+
+    /**
+     * The new items added by {@link #addAllNew(Iterable)}: those held in memory
+     * followed by those written to a file.
+     */
+    private final class NewItems implements Iterable<T>, Closeable {
+        private final List<T> inMemory;
+        private final Partition written;
+        private final List<Closeable> readers = new ArrayList<>();
+
+        private NewItems(final List<T> inMemory, final Partition written) {
+            this.inMemory = inMemory;
+            this.written = written;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final Iterator<T> inMemoryItems = Collections.unmodifiableList(inMemory).iterator();
+            if (null == written || null == written.file) {
+                return inMemoryItems;
+            }
+            return Iterators.concat(inMemoryItems, new WrittenItemsIterator());
+        }
+
+        @Override
+        public void close() {
+            readers.forEach(CloseableUtil::close);
+            readers.clear();
+            if (null != written) {
+                written.delete();
+            }
+        }
+
+        /**
+         * Reads the written items, only opening the file once they are needed.
+         */
+        private final class WrittenItemsIterator implements Iterator<T> {
+            private DataInputStream in;
+            private T next;
+            private boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                if (null == next && !finished) {
+                    try {
+                        if (null == in) {
+                            in = written.open();
+                            readers.add(in);
+                        }
+                        next = readItem(in);
+                    } catch (final IOException e) {
+                        throw new GafferRuntimeException("Unable to read spilled items", e);
+                    }
+                    if (null == next) {
+                        finished = true;
+                        CloseableUtil.close(in);
+                        readers.remove(in);
+                    }
+                }
+                return null != next;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final T item = next;
+                next = null;
+                return item;
+            }
+        }
+    }
+
+    /**
+     * Iterates over the distinct items in a list of partitions, skipping
+     * partitions without any undecided items if the items which were reported
+     * as distinct are not required.
+     */
+    private final class PartitionsIterator implements Iterator<T> {
+        private final Deque<Partition> remaining;
+        private final boolean includeDistinct;
+        private final int depth;
+        private PartitionIterator current;
+
+        private PartitionsIterator(final List<Partition> partitions, final boolean includeDistinct, final int depth) {
+            this.remaining = new ArrayDeque<>(partitions);
+            this.includeDistinct = includeDistinct;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (null == current || !current.hasNext()) {
+                if (null != current) {
+                    current.close();
+                    current = null;
+                }
+                final Partition next = remaining.poll();
+                if (null == next) {
+                    return false;
+                }
+                if (null != next.file && (includeDistinct || 0 < next.undecided)) {
+                    current = new PartitionIterator(next, includeDistinct, depth);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+
+    /**
+     * Reads the items in a partition, holding up to the maximum number of
+     * distinct items in memory and writing the others to sub-partitions, which
+     * are read once this partition has been read.
+     */
+    private final class PartitionIterator implements Iterator<T>, Closeable {
+        private final boolean includeDistinct;
+        private final int depth;
+        private final DataInputStream in;
+        private Set<T> known = new HashSet<>();
+        private boolean readAll;
+        private List<Partition> subPartitions;
+        private PartitionsIterator subPartitionsIterator;
+        private T next;
+
+        private PartitionIterator(final Partition partition, final boolean includeDistinct, final int depth) {
+            this.includeDistinct = includeDistinct;
+            this.depth = depth;
+            try {
+                in = new DataInputStream(new BufferedInputStream(Files.newInputStream(partition.file)));
+            } catch (final IOException e) {
+                throw new GafferRuntimeException("Unable to read spilled items", e);
+            }
+            openResources.add(in);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null != next) {
+                return true;
+            }
+            if (null != subPartitionsIterator) {
+                return subPartitionsIterator.hasNext();
+            }
+            if (readAll) {
+                return false;
+            }
+            try {
+                while (null == next) {
+                    final byte type;
+                    try {
+                        type = in.readByte();
+                    } catch (final EOFException e) {
+                        finishReading();
+                        return readSubPartitions();
+                    }
+                    final byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    final T item = serialiser.deserialise(bytes, 0, bytes.length);
+                    if (known.contains(item)) {
+                        continue;
+                    }
+                    if (known.size() < maxItemsInMemory || depth >= MAX_DEPTH) {
+                        known.add(item);
+                        if (includeDistinct || UNDECIDED == type) {
+                            next = item;
+                        }
+                    } else {
+                        if (null == subPartitions) {
+                            subPartitions = createPartitions();
+                        }
+                        subPartitions.get(partition(item.hashCode(), depth)).write(item, type);
+                    }
+                }
+            } catch (final IOException e) {
+                close();
+                throw new GafferRuntimeException("Unable to read spilled items", e);
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (null != subPartitionsIterator && null == next) {
+                return subPartitionsIterator.next();
+            }
+            final T item = next;
+            next = null;
+            return item;
+        }
+
+        @Override
+        public void close() {
+            finishReading();
+            if (null != subPartitions) {
+                for (final Partition subPartition : subPartitions) {
+                    subPartition.delete();
+                }
+            }
+        }
+
+        private void finishReading() {
+            readAll = true;
+            known = null;
+            CloseableUtil.close(in);
+            openResources.remove(in);
+        }
+
+        private boolean readSubPartitions() {
+            if (null == subPartitions) {
+                return false;
+            }
+            subPartitions.forEach(Partition::finishWriting);
+            subPartitionsIterator = new PartitionsIterator(subPartitions, includeDistinct, depth + 1);
+            return subPartitionsIterator.hasNext();
+        }
+    }
+}
@@ -25,6 +25,9 @@ import org.junit.jupiter.api.io.TempDir;
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
 import uk.gov.gchq.gaffer.data.elementdefinition.exception.SchemaException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiserModules;
+import uk.gov.gchq.gaffer.store.executor.JobExecutor;
+import uk.gov.gchq.gaffer.store.executor.JobType;
+import uk.gov.gchq.gaffer.store.executor.RejectionPolicy;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.koryphe.util.ReflectionUtil;
 
@@ -65,6 +68,27 @@ public class StorePropertiesTest {
         assertThat(props1.get("testKey")).isEqualTo("value2");
     }
 
+    @Test
+    public void shouldGetJobExecutorPropertiesForEachJobType() {
+        // Given
+        final StoreProperties props = new StoreProperties();
+        props.set(StoreProperties.EXECUTOR_SERVICE_THREAD_COUNT, "10");
+        props.setJobExecutorThreadCount(JobType.SCHEDULED.getPropertyName(), 2);
+        props.setJobExecutorQueueSize(JobType.ASYNC.getPropertyName(), 100);
+        props.setJobExecutorRejectionPolicy(JobType.ASYNC.getPropertyName(), RejectionPolicy.CALLER_RUNS);
+        props.setJobExecutorMaxConcurrentJobsPerUser(JobType.ASYNC.getPropertyName(), 3);
+
+        // When / Then
+        assertThat(props.getJobExecutorThreadCount(JobType.ASYNC.getPropertyName())).isEqualTo(10);
+        assertThat(props.getJobExecutorThreadCount(JobType.SCHEDULED.getPropertyName())).isEqualTo(2);
+        assertThat(props.getJobExecutorQueueSize(JobType.ASYNC.getPropertyName())).isEqualTo(100);
+        assertThat(props.getJobExecutorQueueSize(JobType.SCHEDULED.getPropertyName())).isEqualTo(JobExecutor.UNBOUNDED);
+        assertThat(props.getJobExecutorRejectionPolicy(JobType.ASYNC.getPropertyName())).isEqualTo(RejectionPolicy.CALLER_RUNS);
+        assertThat(props.getJobExecutorRejectionPolicy(JobType.SCHEDULED.getPropertyName())).isEqualTo(RejectionPolicy.ABORT);
+        assertThat(props.getJobExecutorMaxConcurrentJobsPerUser(JobType.ASYNC.getPropertyName())).isEqualTo(3);
+        assertThat(props.getJobExecutorUseVirtualThreads()).isFalse();
+    }
+
     @Test
     public void shouldRemovePropertyWhenPropertyValueIsNull() {
         // Given
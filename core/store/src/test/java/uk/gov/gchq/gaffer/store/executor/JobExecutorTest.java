@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class JobExecutorTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private JobExecutor executor;
+
+    @AfterEach
+    void after() throws InterruptedException {
+        release.countDown();
+        if (null != executor) {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void shouldLimitTheNumberOfJobsEachUserRunsAtTheSameTime() throws InterruptedException {
+        // Given
+        executor = new JobExecutor("test", 4, JobExecutor.UNBOUNDED, RejectionPolicy.ABORT, 1, false);
+
+        // When
+        executor.execute("user1", blockingJob("user1-a"));
+        executor.execute("user1", blockingJob("user1-b"));
+        executor.execute("user1", blockingJob("user1-c"));
+        executor.execute("user2", blockingJob("user2-a"));
+        waitForStarted(2);
+
+        // Then
+        assertThat(started).containsExactlyInAnyOrder("user1-a", "user2-a");
+        assertThat(executor.getQueueDepth()).isEqualTo(2);
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+
+        // When
+        release.countDown();
+        waitForCompleted(4);
+
+        // Then
+        assertThat(started).containsSubsequence("user1-a", "user1-b", "user1-c");
+        assertThat(executor.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void shouldRejectJobsWhenTheQueueIsFull() throws InterruptedException {
+        // Given
+        executor = new JobExecutor("test", 1, 1, RejectionPolicy.ABORT, JobExecutor.UNBOUNDED, false);
+        executor.execute(blockingJob("running"));
+        waitForStarted(1);
+        executor.execute(blockingJob("queued"));
+
+        // When / Then
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> executor.execute(blockingJob("rejected")))
+                .withMessageContaining("full");
+        assertThat(executor.getRejectedCount()).isOne();
+        assertThat(executor.getQueueDepth()).isOne();
+    }
+
+    @Test
+    void shouldCountJobsWaitingForTheirUserTowardsTheQueueSize() throws InterruptedException {
+        // Given
+        executor = new JobExecutor("test", 2, 1, RejectionPolicy.ABORT, 1, false);
+        executor.execute("user", blockingJob("running"));
+        waitForStarted(1);
+        executor.execute("user", blockingJob("waiting"));
+
+        // When / Then
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> executor.execute("otherUser", blockingJob("rejected")));
+        assertThat(started).containsExactly("running");
+    }
+
+    @Test
+    void shouldRunJobsOnTheCallingThreadWhenTheQueueIsFull() throws InterruptedException {
+        // Given
+        executor = new JobExecutor("test", 1, 1, RejectionPolicy.CALLER_RUNS, JobExecutor.UNBOUNDED, false);
+        executor.execute(blockingJob("running"));
+        waitForStarted(1);
+        executor.execute(blockingJob("queued"));
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        // When
+        executor.execute(() -> threads.add(Thread.currentThread()));
+
+        // Then
+        assertThat(threads).containsExactly(Thread.currentThread());
+        assertThat(executor.getRejectedCount()).isOne();
+    }
+
+    @Test
+    void shouldRecordWaitTimes() throws InterruptedException {
+        // Given
+        executor = new JobExecutor("test", 1, JobExecutor.UNBOUNDED, RejectionPolicy.ABORT, JobExecutor.UNBOUNDED, false);
+        executor.execute(blockingJob("first"));
+        executor.execute(blockingJob("second"));
+        waitForStarted(1);
+        Thread.sleep(50);
+
+        // When
+        release.countDown();
+        waitForCompleted(2);
+
+        // Then
+        assertThat(executor.getMaxWaitMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(executor.getAverageWaitMillis()).isGreaterThanOrEqualTo(25);
+    }
+
+    @Test
+    void shouldRunJobsWhenVirtualThreadsAreRequested() throws InterruptedException {
+        // Given
+        executor = new JobExecutor("test", 1, JobExecutor.UNBOUNDED, RejectionPolicy.ABORT, JobExecutor.UNBOUNDED, true);
+
+        // When
+        executor.execute(() -> started.add(Thread.currentThread().getName()));
+        waitForCompleted(1);
+
+        // Then
+        assertThat(started).singleElement().asString().startsWith("test-");
+    }
+
+    @Test
+    void shouldRequireAtLeastOneThread() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new JobExecutor("test", 0, JobExecutor.UNBOUNDED, RejectionPolicy.ABORT, JobExecutor.UNBOUNDED, false));
+    }
+
+    private Runnable blockingJob(final String name) {
+        return () -> {
+            started.add(name);
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private void waitForStarted(final int count) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 10_000;
+        while (started.size() < count && System.currentTimeMillis() < end) {
+            Thread.sleep(5);
+        }
+        // Give any jobs which should not start a chance to
+        Thread.sleep(50);
+    }
+
+    private void waitForCompleted(final long count) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 10_000;
+        while (executor.getCompletedCount() < count && System.currentTimeMillis() < end) {
+            Thread.sleep(5);
+        }
+    }
+}
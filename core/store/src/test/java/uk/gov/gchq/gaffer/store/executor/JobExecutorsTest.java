@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.store.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.store.StoreProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobExecutorsTest {
+    private static final String ASYNC = JobType.ASYNC.getPropertyName();
+
+    @AfterEach
+    void after() {
+        JobExecutors.shutdown();
+    }
+
+    @Test
+    void shouldCreateSeparateExecutorsForEachGraphFromItsProperties() {
+        // Given
+        final StoreProperties properties1 = new StoreProperties();
+        properties1.setJobExecutorThreadCount(ASYNC, 1);
+        final StoreProperties properties2 = new StoreProperties();
+        properties2.setJobExecutorThreadCount(ASYNC, 2);
+        properties2.setJobExecutorQueueSize(ASYNC, 1);
+
+        // When
+        JobExecutors.initialise("graph1", properties1);
+        JobExecutors.initialise("graph2", properties2);
+
+        // Then
+        final JobExecutor executor1 = JobExecutors.get("graph1", JobType.ASYNC);
+        final JobExecutor executor2 = JobExecutors.get("graph2", JobType.ASYNC);
+        assertThat(executor1).isNotSameAs(executor2);
+        assertThat(executor1.getName()).isEqualTo("graph1-async-job");
+        assertThat(executor2.getName()).isEqualTo("graph2-async-job");
+        assertThat(JobExecutors.get("graph1", JobType.SCHEDULED)).isNotNull().isNotSameAs(executor1);
+        assertThat(JobExecutors.isEnabled("graph3")).isFalse();
+    }
+
+    @Test
+    void shouldOnlyReplaceExecutorsWhenThePropertiesChange() {
+        // Given
+        final StoreProperties properties = new StoreProperties();
+        properties.setJobExecutorThreadCount(ASYNC, 1);
+        JobExecutors.initialise("graph1", properties);
+        final JobExecutor original = JobExecutors.get("graph1", JobType.ASYNC);
+
+        // When
+        JobExecutors.initialise("graph1", properties.clone());
+
+        // Then
+        assertThat(JobExecutors.get("graph1", JobType.ASYNC)).isSameAs(original);
+
+        // When
+        properties.setJobExecutorThreadCount(ASYNC, 2);
+        JobExecutors.initialise("graph1", properties);
+
+        // Then
+        assertThat(original.isShutdown()).isTrue();
+        assertThat(JobExecutors.get("graph1", JobType.ASYNC)).isNotSameAs(original);
+    }
+
+    @Test
+    void shouldShutdownTheExecutorsOfAGraph() {
+        // Given
+        JobExecutors.initialise("graph1", new StoreProperties());
+        JobExecutors.initialise("graph2", new StoreProperties());
+        final JobExecutor executor1 = JobExecutors.get("graph1", JobType.ASYNC);
+
+        // When
+        JobExecutors.shutdown("graph1");
+
+        // Then
+        assertThat(executor1.isShutdown()).isTrue();
+        assertThat(JobExecutors.isEnabled("graph1")).isFalse();
+        assertThat(JobExecutors.get("graph2", JobType.ASYNC).isShutdown()).isFalse();
+    }
+}
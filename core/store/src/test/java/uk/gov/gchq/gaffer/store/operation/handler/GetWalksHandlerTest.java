@@ -65,4 +65,18 @@ public class GetWalksHandlerTest {
         // Then
         assertNotNull(deserialisedObj);
     }
+
+    @Test
+    public void shouldSerialiseDeserialiseParallelism() throws SerialisationException {
+        // Given
+        final GetWalksHandler obj = new GetWalksHandler();
+        obj.setParallelism(4);
+
+        // When
+        final byte[] json = JSONSerialiser.serialise(obj, true);
+        final GetWalksHandler deserialisedObj = JSONSerialiser.deserialise(json, GetWalksHandler.class);
+
+        // Then
+        assertThat(deserialisedObj.getParallelism()).isEqualTo(4);
+    }
 }
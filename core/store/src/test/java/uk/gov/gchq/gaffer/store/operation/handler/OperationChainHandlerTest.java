@@ -19,6 +19,9 @@ import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.iterable.StreamIterable;
+import uk.gov.gchq.gaffer.commonutil.otel.InstrumentedIterable;
+import uk.gov.gchq.gaffer.commonutil.otel.OtelUtil;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -38,11 +41,14 @@ import uk.gov.gchq.koryphe.ValidationResult;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class OperationChainHandlerTest {
 
@@ -152,4 +158,44 @@ public class OperationChainHandlerTest {
         // Then
         assertThat(result).isSameAs(entityA);
     }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    public void shouldInstrumentLazyResultsWhenOpenTelemetryIsActive() throws OperationException {
+        // Given
+        final OperationChainValidator opChainValidator = mock(OperationChainValidator.class);
+        final List<OperationChainOptimiser> opChainOptimisers = Collections.emptyList();
+
+        final OperationChainHandler opChainHandler = new OperationChainHandler(opChainValidator, opChainOptimisers);
+
+        final Context context = mock(Context.class);
+        final Store store = mock(Store.class);
+        final User user = mock(User.class);
+
+        final GetAllElements op1 = mock(GetAllElements.class);
+        final Limit op2 = mock(Limit.class);
+        final OperationChain opChain = new OperationChain(Arrays.asList(op1, op2));
+        final Entity entityA = new Entity.Builder().group(TestGroups.ENTITY).vertex("A").build();
+        final List<Entity> materialised = Collections.singletonList(entityA);
+
+        given(context.getUser()).willReturn(user);
+        given(opChainValidator.validate(any(), any(), any())).willReturn(new ValidationResult());
+        given(store.handleOperation(op1, context)).willReturn(new StreamIterable<>(() -> Stream.of(entityA)));
+        given(store.handleOperation(op2, context)).willReturn(materialised);
+        given(op2.getInput()).willReturn(null);
+
+        final boolean otelActive = OtelUtil.getOpenTelemetryActive();
+        try {
+            OtelUtil.setOpenTelemetryActive(true);
+
+            // When
+            final Object result = opChainHandler.doOperation(opChain, context, store);
+
+            // Then
+            assertThat(result).isSameAs(materialised);
+            verify(op2).setInput(isA(InstrumentedIterable.class));
+        } finally {
+            OtelUtil.setOpenTelemetryActive(otelActive);
+        }
+    }
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.operation.handler;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.graph.GraphWindow;
+import uk.gov.gchq.gaffer.data.graph.Walk;
+import uk.gov.gchq.gaffer.data.graph.adjacency.AdjacencyMap;
+import uk.gov.gchq.gaffer.data.graph.adjacency.AdjacencyMaps;
+import uk.gov.gchq.gaffer.data.graph.adjacency.SimpleAdjacencyMaps;
+import uk.gov.gchq.gaffer.data.graph.entity.EntityMap;
+import uk.gov.gchq.gaffer.data.graph.entity.EntityMaps;
+import uk.gov.gchq.gaffer.data.graph.entity.SimpleEntityMaps;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class WalkIterableTest {
+    private static final int FAN_OUT = 20;
+
+    @Test
+    void shouldEnumerateWalksFromEachSeedInTurn() {
+        // Given
+        final WalkIterable walks = new WalkIterable(seeds("A", "B"), createGraphWindow(), 2, false, null, null, 1);
+
+        // When / Then
+        assertThat(toPaths(walks)).containsExactly("A,B,D", "A,C,D");
+        assertThat(walks.iterator().next().getEntitiesForVertex("A"))
+                .containsExactly(new Entity(TestGroups.ENTITY, "A"));
+    }
+
+    @Test
+    void shouldIncludePartialWalks() {
+        // Given
+        final WalkIterable walks = new WalkIterable(seeds("A", "B"), createGraphWindow(), 2, true, null, null, 1);
+
+        // When / Then
+        assertThat(toPaths(walks)).containsExactly("A,B,D", "A,C,D", "B,D");
+    }
+
+    @Test
+    void shouldApplyFilterAndStopAtLimit() {
+        // Given
+        final WalkIterable walks = new WalkIterable(seeds("A", "A", "A"), createGraphWindow(), 2, false,
+                walk -> walk.getVerticesOrdered().contains("C"), 2, 1);
+
+        // When / Then
+        assertThat(toPaths(walks)).containsExactly("A,C,D", "A,C,D");
+    }
+
+    @Test
+    void shouldEnumerateTheSameWalksInParallel() {
+        // Given
+        final GraphWindow graphWindow = createWideGraphWindow();
+        final List<String> expected = toPaths(new WalkIterable(wideSeeds(), graphWindow, 2, false, null, null, 1));
+
+        // When
+        try (final WalkIterable walks = new WalkIterable(wideSeeds(), graphWindow, 2, false, null, null, 4)) {
+
+            // Then
+            assertThat(expected).hasSize(FAN_OUT * FAN_OUT * FAN_OUT);
+            assertThat(toPaths(walks)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void shouldStopParallelEnumerationAtLimit() {
+        // Given
+        try (final WalkIterable walks = new WalkIterable(wideSeeds(), createWideGraphWindow(), 2, false, null, 10, 4)) {
+
+            // When / Then
+            assertThat(toPaths(walks)).hasSize(10);
+        }
+    }
+
+    @Test
+    void shouldPropagateFilterExceptionsFromParallelEnumeration() {
+        // Given
+        final WalkIterable walks = new WalkIterable(wideSeeds(), createWideGraphWindow(), 2, false, walk -> {
+            throw new GafferRuntimeException("Filter failed");
+        }, null, 4);
+
+        // When / Then
+        final Iterator<Walk> iterator = walks.iterator();
+        assertThatExceptionOfType(GafferRuntimeException.class)
+                .isThrownBy(iterator::hasNext)
+                .withMessage("Filter failed");
+        walks.close();
+    }
+
+    @Test
+    void shouldStopParallelWorkersWhenClosed() throws InterruptedException {
+        // Given
+        final AtomicInteger filterCalls = new AtomicInteger();
+        final WalkIterable walks = new WalkIterable(wideSeeds(), createWideGraphWindow(), 2, false, walk -> {
+            filterCalls.incrementAndGet();
+            return true;
+        }, null, 4);
+        final Iterator<Walk> iterator = walks.iterator();
+        iterator.next();
+
+        // When
+        walks.close();
+
+        // Then
+        final int callsAfterClose = awaitStable(filterCalls);
+        assertThat(callsAfterClose).isLessThan(FAN_OUT * FAN_OUT * FAN_OUT);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldStopParallelWorkersWhenIteratorIsAbandoned() throws InterruptedException {
+        // Given
+        final AtomicInteger filterCalls = new AtomicInteger();
+        final WalkIterable walks = new WalkIterable(wideSeeds(), createWideGraphWindow(), 2, false, walk -> {
+            filterCalls.incrementAndGet();
+            return true;
+        }, null, 4, 200);
+        final Iterator<Walk> iterator = walks.iterator();
+        iterator.next();
+
+        // When
+        final int callsAfterAbandoned = awaitStable(filterCalls);
+
+        // Then
+        assertThat(callsAfterAbandoned).isLessThan(FAN_OUT * FAN_OUT * FAN_OUT);
+        assertThatExceptionOfType(GafferRuntimeException.class)
+                .isThrownBy(iterator::hasNext)
+                .withMessageContaining("were not read");
+    }
+
+    private static int awaitStable(final AtomicInteger counter) throws InterruptedException {
+        int previous = -1;
+        for (int i = 0; i < 50 && previous != counter.get(); i++) {
+            previous = counter.get();
+            Thread.sleep(500);
+        }
+        return counter.get();
+    }
+
+    private static List<EntitySeed> seeds(final String... vertices) {
+        return Arrays.stream(vertices).map(EntitySeed::new).collect(Collectors.toList());
+    }
+
+    private static List<String> toPaths(final Iterable<Walk> walks) {
+        final List<String> paths = new ArrayList<>();
+        for (final Walk walk : walks) {
+            paths.add(walk.getVerticesOrdered().stream().map(Object::toString).collect(Collectors.joining(",")));
+        }
+        return paths;
+    }
+
+    // A -> B -> D, A -> C -> D, B -> D
+    private static GraphWindow createGraphWindow() {
+        final AdjacencyMap first = new AdjacencyMap();
+        first.putEdge("A", "B", edge("A", "B"));
+        first.putEdge("A", "C", edge("A", "C"));
+        first.putEdge("B", "D", edge("B", "D"));
+        final AdjacencyMap second = new AdjacencyMap();
+        second.putEdge("B", "D", edge("B", "D"));
+        second.putEdge("C", "D", edge("C", "D"));
+
+        final AdjacencyMaps adjacencyMaps = new SimpleAdjacencyMaps();
+        adjacencyMaps.add(first);
+        adjacencyMaps.add(second);
+
+        final EntityMaps entityMaps = new SimpleEntityMaps();
+        final EntityMap entityMap = new EntityMap();
+        entityMap.putEntity("A", new Entity(TestGroups.ENTITY, "A"));
+        entityMaps.add(entityMap);
+        entityMaps.add(new EntityMap());
+        entityMaps.add(new EntityMap());
+        return new GraphWindow(adjacencyMaps, entityMaps);
+    }
+
+    // Each seed has FAN_OUT destinations, each of which has FAN_OUT destinations
+    private static GraphWindow createWideGraphWindow() {
+        final AdjacencyMap first = new AdjacencyMap();
+        final AdjacencyMap second = new AdjacencyMap();
+        for (int i = 0; i < FAN_OUT; i++) {
+            for (int j = 0; j < FAN_OUT; j++) {
+                first.putEdge("seed" + i, "hop" + j, edge("seed" + i, "hop" + j));
+                second.putEdge("hop" + i, "end" + j, edge("hop" + i, "end" + j));
+            }
+        }
+
+        final AdjacencyMaps adjacencyMaps = new SimpleAdjacencyMaps();
+        adjacencyMaps.add(first);
+        adjacencyMaps.add(second);
+
+        final EntityMaps entityMaps = new SimpleEntityMaps();
+        entityMaps.add(new EntityMap());
+        entityMaps.add(new EntityMap());
+        entityMaps.add(new EntityMap());
+        return new GraphWindow(adjacencyMaps, entityMaps);
+    }
+
+    private static List<EntitySeed> wideSeeds() {
+        final List<EntitySeed> seeds = new ArrayList<>();
+        for (int i = 0; i < FAN_OUT; i++) {
+            seeds.add(new EntitySeed("seed" + i));
+        }
+        return seeds;
+    }
+
+    private static Edge edge(final String source, final String destination) {
+        return new Edge.Builder()
+                .group(TestGroups.EDGE)
+                .source(source)
+                .dest(destination)
+                .directed(true)
+                .build();
+    }
+}
@@ -17,9 +17,11 @@ package uk.gov.gchq.gaffer.store.operation.handler;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ExtractProperty;
@@ -39,12 +41,17 @@ import uk.gov.gchq.gaffer.store.Store;
 import uk.gov.gchq.koryphe.impl.predicate.IsFalse;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -332,6 +339,127 @@ public class WhileHandlerTest {
         verify(store, times(3)).execute(addElements, context);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldOnlyPassNewItemsToEachRepeatWhenIncremental(@Mock final Context context,
+                                                                  @Mock final Store store)
+            throws OperationException {
+        // Given
+        final List<List<Object>> queries = new ArrayList<>();
+        givenAdjacentIds(store, context, queries);
+
+        final While<?, ?> operation = new While.Builder<>()
+                .input(Collections.singletonList(new EntitySeed(1)))
+                .operation(new GetAdjacentIds())
+                .incremental(true)
+                .maxRepeats(10)
+                .build();
+
+        final WhileHandler handler = new WhileHandler();
+
+        // When
+        final Object result = handler.doOperation(operation, context, store);
+
+        // Then
+        assertThat((Iterable<Object>) result).containsExactly(seeds(1, 2, 3, 4).toArray());
+        assertThat(queries).containsExactly(seeds(1), seeds(2), seeds(3), seeds(4));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldFindAllItemsWhenIncrementalItemsAreSpilledToDisk(@Mock final Context context,
+                                                                       @Mock final Store store,
+                                                                       @TempDir final Path tempDirectory)
+            throws OperationException {
+        // Given
+        final List<List<Object>> queries = new ArrayList<>();
+        givenAdjacentIds(store, context, queries);
+
+        final While<?, ?> operation = new While.Builder<>()
+                .input(Collections.singletonList(new EntitySeed(1)))
+                .operation(new GetAdjacentIds())
+                .incremental(true)
+                .maxRepeats(10)
+                .build();
+
+        final WhileHandler handler = new WhileHandler();
+        handler.setMaxItemsInMemory(1);
+        handler.setTempDirectory(tempDirectory.toString());
+
+        // When
+        final Object result = handler.doOperation(operation, context, store);
+
+        // Then
+        assertThat((Iterable<Object>) result).containsExactlyInAnyOrder(seeds(1, 2, 3, 4).toArray());
+        assertThat(queries).containsExactly(seeds(1), seeds(2), seeds(3), seeds(4));
+        assertThat(tempDirectory).isNotEmptyDirectory();
+
+        // When
+        CloseableUtil.close(result);
+
+        // Then
+        assertThat(tempDirectory).isEmptyDirectory();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldNotRepeatSpilledItemsInACycleWhenIncremental(@Mock final Context context,
+                                                                   @Mock final Store store,
+                                                                   @TempDir final Path tempDirectory)
+            throws OperationException {
+        // Given
+        final List<List<Object>> queries = new ArrayList<>();
+        final HashMap<Object, List<Object>> adjacentIds = new HashMap<>();
+        adjacentIds.put(new EntitySeed(1), seeds(2));
+        adjacentIds.put(new EntitySeed(2), seeds(3));
+        adjacentIds.put(new EntitySeed(3), seeds(2, 4));
+        adjacentIds.put(new EntitySeed(4), seeds(3));
+        givenAdjacentIds(store, context, queries, adjacentIds);
+
+        final While<?, ?> operation = new While.Builder<>()
+                .input(Collections.singletonList(new EntitySeed(1)))
+                .operation(new GetAdjacentIds())
+                .incremental(true)
+                .maxRepeats(10)
+                .build();
+
+        final WhileHandler handler = new WhileHandler();
+        handler.setMaxItemsInMemory(1);
+        handler.setTempDirectory(tempDirectory.toString());
+
+        // When
+        final Object result = handler.doOperation(operation, context, store);
+
+        // Then
+        assertThat((Iterable<Object>) result).containsExactlyInAnyOrder(seeds(1, 2, 3, 4).toArray());
+        assertThat(queries).containsExactly(seeds(1), seeds(2), seeds(3), seeds(4));
+        assertThat(tempDirectory).isNotEmptyDirectory();
+
+        // When
+        CloseableUtil.close(result);
+
+        // Then
+        assertThat(tempDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    public void shouldRejectIncrementalWhileWithoutIterableInput(@Mock final Context context,
+                                                                 @Mock final Store store) {
+        // Given
+        final While<?, ?> operation = new While.Builder<>()
+                .input(new EntitySeed(1))
+                .operation(new GetAdjacentIds())
+                .incremental(true)
+                .build();
+
+        final WhileHandler handler = new WhileHandler();
+
+        // When / Then
+        assertThatExceptionOfType(OperationException.class)
+                .isThrownBy(() -> handler.doOperation(operation, context, store))
+                .withMessage("The input to an incremental While must be an Iterable, but was: EntitySeed");
+    }
+
     @Test
     public void shouldJsonSerialiseAndDeserialise() throws SerialisationException {
         // Given
@@ -345,4 +473,36 @@ public class WhileHandlerTest {
         // Then
         assertThat(deserialisedHandler.getMaxRepeats()).isEqualTo(5);
     }
+
+    // 1 -> 2 -> 3 -> 1, 3 -> 4
+    private static void givenAdjacentIds(final Store store, final Context context, final List<List<Object>> queries)
+            throws OperationException {
+        final HashMap<Object, List<Object>> adjacentIds = new HashMap<>();
+        adjacentIds.put(new EntitySeed(1), seeds(2));
+        adjacentIds.put(new EntitySeed(2), seeds(3));
+        adjacentIds.put(new EntitySeed(3), seeds(1, 4));
+        givenAdjacentIds(store, context, queries, adjacentIds);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void givenAdjacentIds(final Store store, final Context context, final List<List<Object>> queries,
+                                         final HashMap<Object, List<Object>> adjacentIds)
+            throws OperationException {
+        given(store.execute(any(Output.class), any(Context.class))).willAnswer(invocation -> {
+            final List<Object> query = new ArrayList<>();
+            ((GetAdjacentIds) invocation.getArgument(0)).getInput().forEach(query::add);
+            queries.add(query);
+            final List<Object> results = new ArrayList<>();
+            for (final Object seed : query) {
+                results.addAll(adjacentIds.getOrDefault(seed, Collections.emptyList()));
+            }
+            return results;
+        });
+    }
+
+    private static List<Object> seeds(final Object... vertices) {
+        final List<Object> seeds = new ArrayList<>();
+        Arrays.stream(vertices).map(EntitySeed::new).forEach(seeds::add);
+        return seeds;
+    }
 }
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
@@ -27,7 +28,11 @@ import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.comparison.ElementPropertyComparator;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
+import uk.gov.gchq.gaffer.store.util.ExternalSortedIterable;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -290,6 +295,38 @@ public class SortHandlerTest {
                 assertEquals(resultLimit, Iterables.size(result));
         }
 
+        @Test
+        public void shouldSortUsingTemporaryFilesWhenThereAreTooManyElementsToHoldInMemory(@TempDir final Path tempDir)
+                        throws OperationException, IOException {
+                // Given
+                final List<Element> input = new ArrayList<>();
+                final Random random = new Random(1);
+                for (int i = 0; i < 1000; i++) {
+                        input.add(new Entity.Builder().group(TestGroups.ENTITY).property("property", random.nextInt(300)).build());
+                }
+                final Sort sort = new Sort.Builder().input(input)
+                                .comparators(new ElementPropertyComparator.Builder().groups(TestGroups.ENTITY)
+                                                .property("property").reverse(true).build())
+                                .deduplicate(true).build();
+                final List<Element> expected = Lists.newArrayList(new SortHandler().doOperation(sort.shallowClone(), null, null));
+
+                final SortHandler handler = new SortHandler();
+                handler.setMaxElementsInMemory(100);
+                handler.setTempDirectory(tempDir.toString());
+
+                // When
+                final Iterable<? extends Element> result = handler.doOperation(sort, null, null);
+
+                // Then
+                assertTrue(result instanceof ExternalSortedIterable);
+                assertEquals(10, ((ExternalSortedIterable<?>) result).getNumberOfRuns());
+                assertEquals(expected, Lists.newArrayList(result));
+                ((ExternalSortedIterable<?>) result).close();
+                try (final Stream<Path> files = Files.list(tempDir)) {
+                        assertEquals(0, files.count());
+                }
+        }
+
         private static class ElementComparatorImpl implements Comparator<Element> {
                 @Override
                 public int compare(final Element o1, final Element o2) {
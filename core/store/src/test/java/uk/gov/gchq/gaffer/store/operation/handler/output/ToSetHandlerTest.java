@@ -18,14 +18,23 @@ package uk.gov.gchq.gaffer.store.operation.handler.output;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.output.ToSet;
 import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.serialiser.ObjectJsonSerialiser;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -33,6 +42,9 @@ import static org.mockito.BDDMockito.given;
 @ExtendWith(MockitoExtension.class)
 public class ToSetHandlerTest {
 
+    @TempDir
+    Path tempDir;
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Test
     public void shouldConvertIterableToSet(@Mock final ToSet<Integer> operation) throws OperationException {
@@ -81,4 +93,53 @@ public class ToSetHandlerTest {
         // Then
         assertThat(results).isNull();
     }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    public void shouldSpillToDiskWhenThereAreTooManyItemsToHoldInMemory(@Mock final ToSet<Integer> operation)
+            throws OperationException {
+        // Given
+        final List<Integer> originalResults = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            originalResults.add(i % 100);
+        }
+        final ToSetHandler<Integer> handler = new ToSetHandler<>();
+        handler.setMaxItemsInMemory(10);
+        handler.setTempDirectory(tempDir.toString());
+
+        given(operation.getInput()).willReturn((Iterable) originalResults);
+
+        // When
+        final Set<Integer> results = handler.doOperation(operation, new Context(), null);
+
+        // Then
+        assertThat(results).hasSize(100)
+                .startsWith(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)
+                .containsExactlyInAnyOrderElementsOf(originalResults.subList(0, 100));
+        assertThat(results.contains(99)).isTrue();
+        assertThat(results.contains(100)).isFalse();
+        assertThat(tempDir).isNotEmptyDirectory();
+
+        // When
+        CloseableUtil.close(results);
+
+        // Then
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    public void shouldJsonSerialiseAndDeserialise() throws SerialisationException {
+        // Given
+        final ToSetHandler<Integer> handler = new ToSetHandler<>();
+        handler.setMaxItemsInMemory(10);
+        handler.setSerialiser(new ObjectJsonSerialiser());
+
+        // When
+        final byte[] json = JSONSerialiser.serialise(handler);
+        final ToSetHandler deserialisedHandler = JSONSerialiser.deserialise(json, ToSetHandler.class);
+
+        // Then
+        assertThat(deserialisedHandler.getMaxItemsInMemory()).isEqualTo(10);
+        assertThat(deserialisedHandler.getSerialiser()).isInstanceOf(ObjectJsonSerialiser.class);
+    }
 }
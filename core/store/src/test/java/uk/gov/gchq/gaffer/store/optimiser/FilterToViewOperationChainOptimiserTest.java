@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.optimiser;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.impl.Count;
+import uk.gov.gchq.gaffer.operation.impl.function.Filter;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.store.StoreTrait;
+import uk.gov.gchq.koryphe.impl.predicate.IsLessThan;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterToViewOperationChainOptimiserTest {
+
+    private final FilterToViewOperationChainOptimiser optimiser = new FilterToViewOperationChainOptimiser();
+
+    @Test
+    void shouldRequirePostTransformationFiltering() {
+        assertThat(optimiser.getRequiredTraits()).containsExactly(StoreTrait.POST_TRANSFORMATION_FILTERING);
+    }
+
+    @Test
+    void shouldFoldFilterIntoGetElementsView() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetElements.Builder()
+                        .view(new View.Builder()
+                                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                                        .postTransformFilter(new ElementFilter.Builder()
+                                                .select(TestPropertyNames.COUNT)
+                                                .execute(new IsLessThan(10L))
+                                                .build())
+                                        .build())
+                                .edge(TestGroups.EDGE_2)
+                                .build())
+                        .build())
+                .then(new Filter.Builder()
+                        .edge(TestGroups.EDGE, new ElementFilter.Builder()
+                                .select(TestPropertyNames.COUNT)
+                                .execute(new IsMoreThan(1L))
+                                .build())
+                        .build())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(1);
+        final GetElements getElements = (GetElements) optimised.getOperations().get(0);
+        final View view = getElements.getView();
+        assertThat(view.getEdgeGroups()).containsExactly(TestGroups.EDGE);
+        assertThat(view.getEdge(TestGroups.EDGE).getPostTransformFilterFunctions()).hasSize(2);
+
+        final Edge valid = new Edge.Builder().group(TestGroups.EDGE).property(TestPropertyNames.COUNT, 5L).build();
+        final Edge invalid = new Edge.Builder().group(TestGroups.EDGE).property(TestPropertyNames.COUNT, 1L).build();
+        assertThat(view.getEdge(TestGroups.EDGE).getPostTransformFilter().test(valid)).isTrue();
+        assertThat(view.getEdge(TestGroups.EDGE).getPostTransformFilter().test(invalid)).isFalse();
+    }
+
+    @Test
+    void shouldNotModifyOriginalView() {
+        // Given
+        final View originalView = new View.Builder()
+                .edge(TestGroups.EDGE)
+                .build();
+        final GetAllElements getAllElements = new GetAllElements.Builder()
+                .view(originalView)
+                .build();
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(getAllElements)
+                .then(new Filter.Builder()
+                        .globalElements(new ElementFilter.Builder()
+                                .select(TestPropertyNames.COUNT)
+                                .execute(new IsMoreThan(1L))
+                                .build())
+                        .build())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(1);
+        assertThat(((GetAllElements) optimised.getOperations().get(0)).getView()
+                .getEdge(TestGroups.EDGE).getPostTransformFilterFunctions()).hasSize(1);
+        assertThat(getAllElements.getView()).isSameAs(originalView);
+        assertThat(originalView.getEdge(TestGroups.EDGE).hasPostTransformFilters()).isFalse();
+    }
+
+    @Test
+    void shouldNotFoldFilterWhenViewIsNull() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new Filter.Builder().edge(TestGroups.EDGE).build())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(2);
+    }
+
+    @Test
+    void shouldNotFoldFilterWhenViewRestrictsProperties() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(new View.Builder()
+                                .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                                        .excludeProperties(TestPropertyNames.COUNT)
+                                        .build())
+                                .build())
+                        .build())
+                .then(new Filter.Builder().edge(TestGroups.EDGE).build())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(2);
+    }
+
+    @Test
+    void shouldNotFoldFilterWhenNoGroupsWouldRemain() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(new View.Builder()
+                                .edge(TestGroups.EDGE)
+                                .build())
+                        .build())
+                .then(new Filter.Builder().entity(TestGroups.ENTITY).build())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(2);
+    }
+
+    @Test
+    void shouldNotFoldFilterThatDoesNotFollowAGet() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(new View.Builder()
+                                .edge(TestGroups.EDGE)
+                                .build())
+                        .build())
+                .then(new Count<>())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(2);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.optimiser;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.impl.Count;
+import uk.gov.gchq.gaffer.operation.impl.Limit;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.output.ToList;
+import uk.gov.gchq.gaffer.operation.impl.output.ToSet;
+import uk.gov.gchq.gaffer.store.StoreTrait;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedundantToListOperationChainOptimiserTest {
+
+    private final RedundantToListOperationChainOptimiser optimiser = new RedundantToListOperationChainOptimiser();
+
+    @Test
+    void shouldRemoveToListBeforeCount() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new ToList<>())
+                .then(new Count<>())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations())
+                .extracting(Operation::getClass)
+                .containsExactly(GetAllElements.class, Count.class);
+    }
+
+    @Test
+    void shouldNotRemoveToSetBeforeCount() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new ToSet<>())
+                .then(new Count<>())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations())
+                .extracting(Operation::getClass)
+                .containsExactly(GetAllElements.class, ToSet.class, Count.class);
+    }
+
+    @Test
+    void shouldNotRemoveToListAtEndOfChainOrBeforeOtherOperations() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new ToList<>())
+                .then(new Limit<>(10))
+                .then(new ToList<>())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations())
+                .extracting(Operation::getClass)
+                .containsExactly(GetAllElements.class, ToList.class, Limit.class, ToList.class);
+    }
+
+    @Test
+    void shouldNotRemoveToListWithInput() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new ToList.Builder<>().input(Collections.singletonList(1)).build())
+                .then(new Count<>())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(2);
+    }
+
+    @Test
+    void shouldBeSupportedByAnyStore() {
+        assertThat(OperationChainOptimisers.getSupported(Collections.<StoreTrait>emptySet()))
+                .containsExactly(optimiser);
+        assertThat(OperationChainOptimisers.getSupported(StoreTrait.ALL_TRAITS))
+                .containsExactlyInAnyOrder(optimiser, new FilterToViewOperationChainOptimiser());
+    }
+}
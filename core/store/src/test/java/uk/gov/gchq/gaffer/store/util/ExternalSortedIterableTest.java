@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ExternalSortedIterableTest {
+    // Only compares the first character, so items can compare as equal without being equal
+    private static final Comparator<String> FIRST_CHARACTER = Comparator.comparing(item -> item.charAt(0));
+    private static final List<String> ITEMS = Arrays.asList("c1", "a1", "b1", "a2", "c1", "b2", "a1", "c2", "b1", "a3");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldSortInMemoryWithoutWritingRuns() throws IOException {
+        // Given
+        try (final ExternalSortedIterable<String> sorted = create(null, false, 100)) {
+
+            // When
+            sorted.addAll(ITEMS);
+
+            // Then
+            assertThat(sorted.getNumberOfRuns()).isZero();
+            assertThat(sorted).containsExactly("a1", "a2", "a1", "a3", "b1", "b2", "b1", "c1", "c1", "c2");
+            assertThat(tempDir).isEmptyDirectory();
+        }
+    }
+
+    @Test
+    void shouldMergeRunsKeepingTheOrderItemsWereAdded() throws IOException {
+        // Given
+        try (final ExternalSortedIterable<String> sorted = create(null, false, 3)) {
+
+            // When
+            sorted.addAll(ITEMS);
+
+            // Then
+            assertThat(sorted.getNumberOfRuns()).isEqualTo(3);
+            assertThat(sorted).containsExactly("a1", "a2", "a1", "a3", "b1", "b2", "b1", "c1", "c1", "c2");
+            assertThat(Lists.newArrayList(sorted)).containsExactly("a1", "a2", "a1", "a3", "b1", "b2", "b1", "c1", "c1", "c2");
+        }
+    }
+
+    @Test
+    void shouldDeduplicateAndLimitAcrossRuns() throws IOException {
+        // Given
+        try (final ExternalSortedIterable<String> sorted = create(6, true, 2)) {
+
+            // When
+            sorted.addAll(ITEMS);
+
+            // Then
+            assertThat(sorted).containsExactly("a1", "a2", "a3", "b1", "b2", "c1");
+        }
+    }
+
+    @Test
+    void shouldDeleteRunsWhenClosed() throws IOException {
+        // Given
+        final ExternalSortedIterable<String> sorted = create(null, false, 2);
+        sorted.addAll(ITEMS);
+        sorted.iterator().next();
+        try (final Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).hasSize(5);
+        }
+
+        // When
+        sorted.close();
+
+        // Then
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldRejectNullItems() {
+        // Given
+        final ExternalSortedIterable<String> sorted = create(null, false, 2);
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> sorted.add(null))
+                .withMessage("Null items cannot be sorted");
+    }
+
+    private ExternalSortedIterable<String> create(final Integer limit, final boolean deduplicate, final int maxItemsInMemory) {
+        return new ExternalSortedIterable<>(FIRST_CHARACTER, limit, deduplicate, maxItemsInMemory, new StringSerialiser(), tempDir);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.store.util;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SpillingDeduplicatorTest {
+    private static final List<String> ITEMS = Arrays.asList("c", "a", "b", "a", "d", "c", "e", "b", "f", "a", "g");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldDeduplicateInMemoryKeepingOrder() throws IOException {
+        // Given
+        try (final SpillingDeduplicator<String> deduplicator = create(100, null)) {
+
+            // When
+            deduplicator.addAll(ITEMS);
+
+            // Then
+            assertThat(deduplicator.hasSpilled()).isFalse();
+            assertThat(deduplicator.asSet()).containsExactly("c", "a", "b", "d", "e", "f", "g");
+            assertThat(tempDir).isEmptyDirectory();
+        }
+    }
+
+    @Test
+    void shouldSpillAndDeduplicatePartitions() throws IOException {
+        // Given
+        final List<String> items = createItems(2000, 500);
+        try (final SpillingDeduplicator<String> deduplicator = create(20, null)) {
+
+            // When
+            deduplicator.addAll(items);
+            final Set<String> distinct = deduplicator.asSet();
+
+            // Then
+            assertThat(deduplicator.hasSpilled()).isTrue();
+            assertThat(distinct).hasSize(500)
+                    .containsExactlyInAnyOrderElementsOf(new LinkedHashSet<>(items))
+                    .startsWith(items.subList(0, 20).toArray(new String[0]));
+        }
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldReadTheSpilledItemsLazilyFromTheSetView() throws IOException {
+        // Given
+        final List<String> items = createItems(2000, 500);
+        final SpillingDeduplicator<String> deduplicator = create(20, null);
+        deduplicator.addAll(items);
+
+        // When
+        final Set<String> distinct = deduplicator.asSet();
+
+        // Then
+        assertThat(distinct).isInstanceOf(Closeable.class)
+                .hasSize(500)
+                .containsExactlyInAnyOrderElementsOf(new LinkedHashSet<>(items))
+                .startsWith(items.subList(0, 20).toArray(new String[0]));
+        assertThat(Lists.newArrayList(distinct)).containsExactlyElementsOf(Lists.newArrayList(distinct));
+        assertThat(distinct.contains(items.get(1999))).isTrue();
+        assertThat(distinct.contains("not an item")).isFalse();
+        assertThat(tempDir).isNotEmptyDirectory();
+
+        // When
+        ((Closeable) distinct).close();
+
+        // Then
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldDeduplicateItemsWithTheSameHashCode() throws IOException {
+        // Given
+        // "Aa" and "BB" have the same hash code, so all these items do
+        final List<String> items = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            final StringBuilder item = new StringBuilder();
+            for (int bit = 0; bit < 6; bit++) {
+                item.append(0 == (i & (1 << bit)) ? "Aa" : "BB");
+            }
+            items.add(item.toString());
+            items.add(item.toString());
+        }
+        try (final SpillingDeduplicator<String> deduplicator = create(2, null)) {
+
+            // When
+            deduplicator.addAll(items);
+
+            // Then
+            assertThat(deduplicator.asSet()).hasSize(64).containsExactlyInAnyOrderElementsOf(new LinkedHashSet<>(items));
+        }
+    }
+
+    @Test
+    void shouldOnlyReturnUndecidedItemsWhichWereNotAlreadyReported() throws IOException {
+        // Given
+        final List<String> items = createItems(2000, 500);
+        try (final SpillingDeduplicator<String> deduplicator = create(20, 1000L)) {
+
+            // When
+            final List<String> reported = new ArrayList<>();
+            for (final String item : items) {
+                if (deduplicator.add(item)) {
+                    reported.add(item);
+                }
+            }
+            final List<String> undecided = Lists.newArrayList(deduplicator.undecided());
+
+            // Then
+            assertThat(reported).doesNotHaveDuplicates().hasSizeGreaterThan(20);
+            assertThat(undecided).doesNotContainAnyElementsOf(reported);
+            final List<String> all = new ArrayList<>(reported);
+            all.addAll(undecided);
+            assertThat(all).containsExactlyInAnyOrderElementsOf(new LinkedHashSet<>(items));
+        }
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(longs = 1000L)
+    void shouldOnlyReturnNewItemsFromEachBatchWhenSpilled(final Long expectedSpilledItems) throws IOException {
+        // Given
+        final List<String> items = createItems(2000, 500);
+        try (final SpillingDeduplicator<String> deduplicator = create(20, expectedSpilledItems)) {
+
+            // When
+            final List<String> added = new ArrayList<>();
+            for (final List<String> batch : Lists.partition(items, 100)) {
+                final Iterable<String> newItems = deduplicator.addAllNew(batch);
+                assertThat(newItems).isInstanceOf(Closeable.class);
+                newItems.forEach(added::add);
+                ((Closeable) newItems).close();
+            }
+
+            // Then
+            assertThat(added).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(new LinkedHashSet<>(items));
+            assertThat(deduplicator.undecided()).isExhausted();
+            assertThat(deduplicator.asSet()).containsExactlyInAnyOrderElementsOf(added);
+        }
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldStreamDistinctItems() {
+        // Given
+        final List<String> items = createItems(2000, 500);
+
+        // When
+        try (final DistinctIterable<String> distinct = new DistinctIterable<>(items, 20, new StringSerialiser(), tempDir, 1000L)) {
+
+            // Then
+            assertThat(distinct).containsExactlyInAnyOrderElementsOf(new LinkedHashSet<>(items));
+            assertThat(distinct).hasSize(500);
+        }
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldKeepNullItemsInMemory() throws IOException {
+        // Given
+        try (final SpillingDeduplicator<String> deduplicator = create(1, null)) {
+
+            // When
+            deduplicator.addAll(Arrays.asList("a", null, "b", null, "a", "b"));
+
+            // Then
+            assertThat(deduplicator.asSet()).containsExactly("a", null, "b");
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> create(0, null));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SpillingDeduplicator<>(10, new StringSerialiser(), tempDir, null, 1));
+    }
+
+    private SpillingDeduplicator<String> create(final int maxItemsInMemory, final Long expectedSpilledItems) {
+        return new SpillingDeduplicator<>(maxItemsInMemory, new StringSerialiser(), tempDir, expectedSpilledItems);
+    }
+
+    private static List<String> createItems(final int count, final int distinct) {
+        final List<String> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add("item" + (i * 7919 % distinct));
+        }
+        return items;
+    }
+}
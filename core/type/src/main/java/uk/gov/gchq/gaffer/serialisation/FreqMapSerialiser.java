@@ -69,30 +69,36 @@ public class FreqMapSerialiser implements ToBytesSerialiser<FreqMap> {
         return out.toByteArray();
     }
 
+    @Deprecated
     @Override
     public FreqMap deserialise(final byte[] bytes) throws
             SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public FreqMap deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         FreqMap freqMap = new FreqMap();
-        if (bytes.length == 0) {
+        if (length == 0) {
             return freqMap;
         }
 
-        int lastDelimiter = 0;
+        final int end = offset + length;
+        int lastDelimiter = offset;
         String key = null;
-        for (int i = 0; i < bytes.length; i++) {
-            if (bytes[i] == ByteArrayEscapeUtils.DELIMITER) {
+        for (int i = offset; i < end; i++) {
+            if (allBytes[i] == ByteArrayEscapeUtils.DELIMITER) {
                 if (null == key) {
                     // Deserialise key
                     if (i > lastDelimiter) {
-                        key = new String(ByteArrayEscapeUtils.unEscape(bytes, lastDelimiter, i), StandardCharsets.UTF_8);
+                        key = new String(ByteArrayEscapeUtils.unEscape(allBytes, lastDelimiter, i), StandardCharsets.UTF_8);
                     } else {
                         key = "";
                     }
                 } else {
                     // Deserialise value
                     if (i > lastDelimiter) {
-                        final Long value = longSerialiser.deserialise(ByteArrayEscapeUtils.unEscape(bytes, lastDelimiter, i));
-                        freqMap.put(key, value);
+                        freqMap.put(key, deserialiseValue(allBytes, lastDelimiter, i));
                         key = null;
                     }
                 }
@@ -101,15 +107,24 @@ public class FreqMapSerialiser implements ToBytesSerialiser<FreqMap> {
             }
         }
 
-        if (key != null && (bytes.length > lastDelimiter)) {
+        if (key != null && (end > lastDelimiter)) {
             // Deserialise value
-            final Long value = longSerialiser.deserialise(ByteArrayEscapeUtils.unEscape(bytes, lastDelimiter, bytes.length));
-            freqMap.put(key, value);
+            freqMap.put(key, deserialiseValue(allBytes, lastDelimiter, end));
         }
 
         return freqMap;
     }
 
+    private Long deserialiseValue(final byte[] allBytes, final int start, final int end) throws SerialisationException {
+        // Only unescape the value if it contains the escape character, which is DELIMITER_PLUS_ONE
+        for (int i = start; i < end; i++) {
+            if (allBytes[i] == ByteArrayEscapeUtils.DELIMITER_PLUS_ONE) {
+                return longSerialiser.deserialise(ByteArrayEscapeUtils.unEscape(allBytes, start, end));
+            }
+        }
+        return longSerialiser.deserialise(allBytes, start, end - start);
+    }
+
     @Override
     public boolean canHandle(final Class clazz) {
         return FreqMap.class.equals(clazz);
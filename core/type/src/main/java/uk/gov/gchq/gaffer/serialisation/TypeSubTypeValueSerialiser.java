@@ -72,30 +72,37 @@ public class TypeSubTypeValueSerialiser implements ToBytesSerialiser<TypeSubType
         return out.toByteArray();
     }
 
+    @Deprecated
     @Override
     public TypeSubTypeValue deserialise(final byte[] bytes) throws SerialisationException {
-        int lastDelimiter = 0;
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public TypeSubTypeValue deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        final int end = offset + length;
+        int lastDelimiter = offset;
         TypeSubTypeValue typeSubTypeValue = new TypeSubTypeValue();
-        for (int i = 0; i < bytes.length; i++) {
-            if (bytes[i] == ByteArrayEscapeUtils.DELIMITER) {
-                if (i > 0) {
-                    typeSubTypeValue.setType(new String(ByteArrayEscapeUtils.unEscape(bytes, lastDelimiter, i), StandardCharsets.UTF_8));
+        for (int i = offset; i < end; i++) {
+            if (allBytes[i] == ByteArrayEscapeUtils.DELIMITER) {
+                if (i > offset) {
+                    typeSubTypeValue.setType(new String(ByteArrayEscapeUtils.unEscape(allBytes, lastDelimiter, i), StandardCharsets.UTF_8));
                 }
                 lastDelimiter = i + 1;
                 break;
             }
         }
-        for (int i = lastDelimiter; i < bytes.length; i++) {
-            if (bytes[i] == ByteArrayEscapeUtils.DELIMITER) {
+        for (int i = lastDelimiter; i < end; i++) {
+            if (allBytes[i] == ByteArrayEscapeUtils.DELIMITER) {
                 if (i > lastDelimiter) {
-                    typeSubTypeValue.setSubType(new String(ByteArrayEscapeUtils.unEscape(bytes, lastDelimiter, i), StandardCharsets.UTF_8));
+                    typeSubTypeValue.setSubType(new String(ByteArrayEscapeUtils.unEscape(allBytes, lastDelimiter, i), StandardCharsets.UTF_8));
                 }
                 lastDelimiter = i + 1;
                 break;
             }
         }
-        if (bytes.length > lastDelimiter) {
-            typeSubTypeValue.setValue(new String(ByteArrayEscapeUtils.unEscape(bytes, lastDelimiter, bytes.length), StandardCharsets.UTF_8));
+        if (end > lastDelimiter) {
+            typeSubTypeValue.setValue(new String(ByteArrayEscapeUtils.unEscape(allBytes, lastDelimiter, end), StandardCharsets.UTF_8));
         }
         return typeSubTypeValue;
     }
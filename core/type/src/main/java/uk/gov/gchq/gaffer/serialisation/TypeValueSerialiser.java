@@ -63,21 +63,28 @@ public class TypeValueSerialiser implements ToBytesSerialiser<TypeValue> {
         return out.toByteArray();
     }
 
+    @Deprecated
     @Override
     public TypeValue deserialise(final byte[] bytes) throws SerialisationException {
-        int lastDelimiter = 0;
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public TypeValue deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        final int end = offset + length;
+        int lastDelimiter = offset;
         TypeValue typeValue = new TypeValue();
-        for (int i = 0; i < bytes.length; i++) {
-            if (bytes[i] == ByteArrayEscapeUtils.DELIMITER) {
-                if (i > 0) {
-                    typeValue.setType(new String(ByteArrayEscapeUtils.unEscape(bytes, lastDelimiter, i), StandardCharsets.UTF_8));
+        for (int i = offset; i < end; i++) {
+            if (allBytes[i] == ByteArrayEscapeUtils.DELIMITER) {
+                if (i > offset) {
+                    typeValue.setType(new String(ByteArrayEscapeUtils.unEscape(allBytes, lastDelimiter, i), StandardCharsets.UTF_8));
                 }
                 lastDelimiter = i + 1;
                 break;
             }
         }
-        if (bytes.length > lastDelimiter) {
-            typeValue.setValue(new String(ByteArrayEscapeUtils.unEscape(bytes, lastDelimiter, bytes.length), StandardCharsets.UTF_8));
+        if (end > lastDelimiter) {
+            typeValue.setValue(new String(ByteArrayEscapeUtils.unEscape(allBytes, lastDelimiter, end), StandardCharsets.UTF_8));
         }
         return typeValue;
     }
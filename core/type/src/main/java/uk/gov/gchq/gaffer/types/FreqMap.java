@@ -60,12 +60,7 @@ public class FreqMap extends HashMap<String, Long> {
      * @param value The value to increment by or initialise to.
      */
     public void upsert(final String key, final Long value) {
-        final Long currentValue = get(key);
-        if (null == currentValue) {
-            put(key, value);
-        } else {
-            put(key, currentValue + value);
-        }
+        merge(key, value, Long::sum);
     }
 
     /**
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.types.binaryoperator;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * An {@code AccumulatingBinaryOperator} is a {@link BinaryOperator} which can
+ * also aggregate a run of values in a single pass.
+ * <p>
+ * Applying a {@link BinaryOperator} pairwise can create a new intermediate
+ * object for every pair of values, for example a new sketch union. Instead an
+ * accumulator is created once from the first value using {@link #begin(Object)},
+ * each further value is added using {@link #accumulate(Object, Object)} and the
+ * aggregated value is built once using {@link #finish(Object)}.
+ * <p>
+ * The aggregated value must be the same as the result of applying the
+ * operator pairwise to the values in order. Null values are ignored, as they
+ * are by {@link uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator}s,
+ * so they are never passed to these methods.
+ *
+ * @param <T> the type of value being aggregated
+ * @param <A> the type of the accumulator
+ */
+public interface AccumulatingBinaryOperator<T, A> extends BinaryOperator<T> {
+    /**
+     * Creates an accumulator containing the first value. This may reuse or
+     * modify the value, as {@link #apply(Object, Object)} may.
+     *
+     * @param first the first value
+     * @return the accumulator
+     */
+    A begin(T first);
+
+    /**
+     * Adds a value to the accumulator.
+     *
+     * @param accumulator the accumulator
+     * @param value       the value to add
+     * @return the accumulator, which may be a different object
+     */
+    A accumulate(A accumulator, T value);
+
+    /**
+     * Builds the aggregated value from the accumulator.
+     *
+     * @param accumulator the accumulator
+     * @return the aggregated value
+     */
+    T finish(A accumulator);
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.types.binaryoperator;
+
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * Utility methods for finding the {@link AccumulatingBinaryOperator} for a
+ * {@link BinaryOperator}.
+ */
+public final class Accumulators {
+    private Accumulators() {
+        // Private constructor to prevent instantiation.
+    }
+
+    /**
+     * Gets an {@link AccumulatingBinaryOperator} which gives the same results
+     * as the given operator. Operators which implement
+     * {@link AccumulatingBinaryOperator} are returned as they are, and
+     * {@link Sum}, which cannot implement it, is adapted.
+     *
+     * @param binaryOperator the binary operator
+     * @param <T>            the type of value being aggregated
+     * @return the accumulating operator, or null if the operator cannot
+     * accumulate values
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AccumulatingBinaryOperator<T, Object> getAccumulator(final BinaryOperator<T> binaryOperator) {
+        if (binaryOperator instanceof AccumulatingBinaryOperator) {
+            return (AccumulatingBinaryOperator<T, Object>) binaryOperator;
+        }
+        if (null != binaryOperator && Sum.class.equals(binaryOperator.getClass())) {
+            return (AccumulatingBinaryOperator) new SumAccumulator((Sum) binaryOperator);
+        }
+        return null;
+    }
+
+    /**
+     * Sums {@link Long}s, {@link Integer}s and {@link Double}s into a
+     * primitive total, so a new boxed value is not created for every pair.
+     * Any other types are summed pairwise using the {@link Sum}.
+     */
+    private static final class SumAccumulator implements AccumulatingBinaryOperator<Number, SumAccumulator.Total> {
+        private final Sum sum;
+
+        private SumAccumulator(final Sum sum) {
+            this.sum = sum;
+        }
+
+        @Override
+        public Number apply(final Number a, final Number b) {
+            return sum.apply(a, b);
+        }
+
+        @Override
+        public Total begin(final Number first) {
+            final Total total = new Total();
+            total.type = first.getClass();
+            if (first instanceof Double) {
+                total.doubleTotal = first.doubleValue();
+            } else if (first instanceof Long || first instanceof Integer) {
+                total.longTotal = first.longValue();
+            } else {
+                total.other = first;
+            }
+            return total;
+        }
+
+        @Override
+        public Total accumulate(final Total total, final Number value) {
+            if (null == total.other && total.type.equals(value.getClass())) {
+                if (value instanceof Double) {
+                    total.doubleTotal += value.doubleValue();
+                } else {
+                    total.longTotal += value.longValue();
+                }
+            } else {
+                total.other = sum.apply(finish(total), value);
+            }
+            return total;
+        }
+
+        @Override
+        public Number finish(final Total total) {
+            if (null != total.other) {
+                return total.other;
+            }
+            if (Double.class.equals(total.type)) {
+                return total.doubleTotal;
+            }
+            if (Integer.class.equals(total.type)) {
+                // Integer sums overflow in the same way as the pairwise sum
+                return (int) total.longTotal;
+            }
+            return total.longTotal;
+        }
+
+        private static final class Total {
+            private Class<?> type;
+            private long longTotal;
+            private double doubleTotal;
+            private Number other;
+        }
+    }
+}
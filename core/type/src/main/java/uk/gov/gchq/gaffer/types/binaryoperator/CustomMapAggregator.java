@@ -25,13 +25,16 @@ import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.BinaryOperator;
 
 @Since("1.10.0")
 @Summary("Merges 2 CustomMaps by applying a binary operator to each of the values")
-public class CustomMapAggregator<K, V> extends KorypheBinaryOperator<CustomMap<K, V>> {
+public class CustomMapAggregator<K, V> extends KorypheBinaryOperator<CustomMap<K, V>>
+        implements AccumulatingBinaryOperator<CustomMap<K, V>, CustomMapAggregator.Accumulator<K, V>> {
     @JsonTypeInfo(
             use = Id.CLASS,
             include = As.PROPERTY,
@@ -68,4 +71,72 @@ public class CustomMapAggregator<K, V> extends KorypheBinaryOperator<CustomMap<K
 
         return state;
     }
+
+    /**
+     * Creates an accumulator for the values of each key if the
+     * {@link BinaryOperator} can accumulate values, so for example sketches
+     * in the map are merged using a single union per key.
+     *
+     * @param first the first map, which the values are aggregated into
+     * @return the accumulator
+     */
+    @Override
+    public Accumulator<K, V> begin(final CustomMap<K, V> first) {
+        final Accumulator<K, V> accumulator = new Accumulator<>(first, Accumulators.getAccumulator(binaryOperator));
+        if (null != accumulator.valueAccumulator) {
+            for (final Entry<K, V> entry : first.entrySet()) {
+                if (null != entry.getValue()) {
+                    accumulator.values.put(entry.getKey(), accumulator.valueAccumulator.begin(entry.getValue()));
+                }
+            }
+        }
+        return accumulator;
+    }
+
+    @Override
+    public Accumulator<K, V> accumulate(final Accumulator<K, V> accumulator, final CustomMap<K, V> value) {
+        if (null == accumulator.valueAccumulator) {
+            _apply(accumulator.state, value);
+            return accumulator;
+        }
+
+        for (final Entry<K, V> entry : value.entrySet()) {
+            if (null != entry.getValue()) {
+                final Object current = accumulator.values.get(entry.getKey());
+                accumulator.values.put(entry.getKey(), null == current
+                        ? accumulator.valueAccumulator.begin(entry.getValue())
+                        : accumulator.valueAccumulator.accumulate(current, entry.getValue()));
+            } else if (!accumulator.state.containsKey(entry.getKey())) {
+                accumulator.state.put(entry.getKey(), null);
+            }
+        }
+        return accumulator;
+    }
+
+    @Override
+    public CustomMap<K, V> finish(final Accumulator<K, V> accumulator) {
+        if (null != accumulator.valueAccumulator) {
+            for (final Entry<K, Object> entry : accumulator.values.entrySet()) {
+                accumulator.state.put(entry.getKey(), accumulator.valueAccumulator.finish(entry.getValue()));
+            }
+        }
+        return accumulator.state;
+    }
+
+    /**
+     * The state of a {@link CustomMapAggregator} while accumulating maps.
+     *
+     * @param <K> the type of the map keys
+     * @param <V> the type of the map values
+     */
+    public static final class Accumulator<K, V> {
+        private final CustomMap<K, V> state;
+        private final AccumulatingBinaryOperator<V, Object> valueAccumulator;
+        private final Map<K, Object> values = new HashMap<>();
+
+        private Accumulator(final CustomMap<K, V> state, final AccumulatingBinaryOperator<V, Object> valueAccumulator) {
+            this.state = state;
+            this.valueAccumulator = valueAccumulator;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.types.binaryoperator;
+
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+
+/**
+ * A {@code SerialisedAccumulatingBinaryOperator} is an {@link AccumulatingBinaryOperator}
+ * which can also accumulate values directly from their serialised form, so
+ * stores can aggregate serialised values without deserialising each of them
+ * into a new object.
+ * <p>
+ * Accumulators created from serialised values are finished using
+ * {@link #finish(Object)} as usual, and must give the same aggregated value
+ * as deserialising the values and accumulating them.
+ *
+ * @param <T> the type of value being aggregated
+ * @param <A> the type of the accumulator
+ */
+public interface SerialisedAccumulatingBinaryOperator<T, A> extends AccumulatingBinaryOperator<T, A> {
+    /**
+     * Checks whether values serialised with the given serialiser can be
+     * accumulated directly. Empty serialised values must represent null values,
+     * which are ignored, so are never passed to the accumulate methods.
+     *
+     * @param serialiser the serialiser used to serialise the values
+     * @return true if serialised values can be accumulated
+     */
+    boolean canAccumulateSerialised(ToBytesSerialiser<?> serialiser);
+
+    /**
+     * Creates an accumulator containing the first serialised value.
+     *
+     * @param bytes  the bytes containing the serialised value
+     * @param offset the offset of the serialised value
+     * @param length the length of the serialised value
+     * @return the accumulator
+     * @throws SerialisationException if the value could not be read
+     */
+    A beginSerialised(byte[] bytes, int offset, int length) throws SerialisationException;
+
+    /**
+     * Adds a serialised value to the accumulator.
+     *
+     * @param accumulator the accumulator
+     * @param bytes       the bytes containing the serialised value
+     * @param offset      the offset of the serialised value
+     * @param length      the length of the serialised value
+     * @return the accumulator, which may be a different object
+     * @throws SerialisationException if the value could not be read
+     */
+    A accumulateSerialised(A accumulator, byte[] bytes, int offset, int length) throws SerialisationException;
+}
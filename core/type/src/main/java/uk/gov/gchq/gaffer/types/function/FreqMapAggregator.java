@@ -16,6 +16,7 @@
 package uk.gov.gchq.gaffer.types.function;
 
 import uk.gov.gchq.gaffer.types.FreqMap;
+import uk.gov.gchq.gaffer.types.binaryoperator.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
@@ -24,21 +25,33 @@ import java.util.Map.Entry;
 
 /**
  * An {@code FreqMapAggregator} is a {@link KorypheBinaryOperator} that takes in
- * {@link FreqMap}s and merges the frequencies together.
+ * {@link FreqMap}s and merges the frequencies together. The input maps are not
+ * modified. When accumulating, the first map is copied once and the
+ * frequencies of every other map are added to the copy.
  */
 @Since("1.0.0")
 @Summary("Aggregates FreqMap objects")
-public class FreqMapAggregator extends KorypheBinaryOperator<FreqMap> {
+public class FreqMapAggregator extends KorypheBinaryOperator<FreqMap> implements AccumulatingBinaryOperator<FreqMap, FreqMap> {
     @Override
     protected FreqMap _apply(final FreqMap a, final FreqMap b) {
-        final FreqMap aggregatedFreqMap = new FreqMap(a);
-        for (final Entry<String, Long> entry : b.entrySet()) {
-            if (aggregatedFreqMap.containsKey(entry.getKey())) {
-                aggregatedFreqMap.put(entry.getKey(), aggregatedFreqMap.get(entry.getKey()) + entry.getValue());
-            } else {
-                aggregatedFreqMap.put(entry.getKey(), entry.getValue());
-            }
+        return accumulate(begin(a), b);
+    }
+
+    @Override
+    public FreqMap begin(final FreqMap first) {
+        return new FreqMap(first);
+    }
+
+    @Override
+    public FreqMap accumulate(final FreqMap accumulator, final FreqMap value) {
+        for (final Entry<String, Long> entry : value.entrySet()) {
+            accumulator.upsert(entry.getKey(), entry.getValue());
         }
-        return aggregatedFreqMap;
+        return accumulator;
+    }
+
+    @Override
+    public FreqMap finish(final FreqMap accumulator) {
+        return accumulator;
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.types.binaryoperator;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.types.function.FreqMapAggregator;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Max;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccumulatorsTest {
+
+    @Test
+    void shouldReturnAccumulatingBinaryOperators() {
+        // Given
+        final FreqMapAggregator aggregator = new FreqMapAggregator();
+
+        // When / Then
+        assertThat(Accumulators.getAccumulator(aggregator)).isSameAs(aggregator);
+        assertThat(Accumulators.getAccumulator(new Max())).isNull();
+        assertThat(Accumulators.<Object>getAccumulator(null)).isNull();
+    }
+
+    @Test
+    void shouldSumLikePairwiseSum() {
+        // Given
+        final List<List<Number>> inputs = Arrays.asList(
+                Arrays.asList(1L, 2L, 3L),
+                Arrays.asList(Integer.MAX_VALUE, 1, 2),
+                Arrays.asList(0.1, 0.2, 0.3),
+                Arrays.asList(1.5f, 2.25f),
+                Arrays.asList((short) 1, (short) 2, Short.MAX_VALUE));
+
+        for (final List<Number> values : inputs) {
+            // When
+            final Number accumulated = accumulate(new Sum(), values);
+
+            // Then
+            Number expected = values.get(0);
+            for (final Number value : values.subList(1, values.size())) {
+                expected = new Sum().apply(expected, value);
+            }
+            assertThat(accumulated).isEqualTo(expected);
+        }
+    }
+
+    private static Number accumulate(final Sum sum, final List<Number> values) {
+        final AccumulatingBinaryOperator<Number, Object> accumulator = Accumulators.getAccumulator(sum);
+        Object state = accumulator.begin(values.get(0));
+        for (final Number value : values.subList(1, values.size())) {
+            state = accumulator.accumulate(state, value);
+        }
+        return accumulator.finish(state);
+    }
+}
@@ -21,10 +21,14 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
 import uk.gov.gchq.gaffer.serialisation.implementation.ordered.OrderedIntegerSerialiser;
 import uk.gov.gchq.gaffer.types.CustomMap;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
 
 import java.util.function.BinaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -68,4 +72,33 @@ public class CustomMapAggregatorTest {
         assertEquals(noInputs * inA, (int) state.get("a"));
         assertEquals(noInputs * inB, (int) state.get("b"));
     }
+
+    @Test
+    public void shouldAccumulateMapsUsingTheAccumulatorOfTheBinaryOperator() {
+        // Given
+        final CustomMapAggregator<String, Integer> mapBinaryOperator = new CustomMapAggregator<>();
+        mapBinaryOperator.setBinaryOperator((BinaryOperator) new Sum());
+
+        final CustomMap<String, Integer> first = new CustomMap<>(new StringSerialiser(), new OrderedIntegerSerialiser());
+        first.put("a", 1);
+        final CustomMap<String, Integer> second = new CustomMap<>(new StringSerialiser(), new OrderedIntegerSerialiser());
+        second.put("a", 2);
+        second.put("b", 3);
+        final CustomMap<String, Integer> third = new CustomMap<>(new StringSerialiser(), new OrderedIntegerSerialiser());
+        third.put("b", 4);
+        third.put("c", null);
+
+        // When
+        CustomMapAggregator.Accumulator<String, Integer> accumulator = mapBinaryOperator.begin(first);
+        accumulator = mapBinaryOperator.accumulate(accumulator, second);
+        accumulator = mapBinaryOperator.accumulate(accumulator, third);
+        final CustomMap<String, Integer> result = mapBinaryOperator.finish(accumulator);
+
+        // Then
+        assertSame(first, result);
+        assertEquals(3, (int) result.get("a"));
+        assertEquals(7, (int) result.get("b"));
+        assertTrue(result.containsKey("c"));
+        assertNull(result.get("c"));
+    }
 }
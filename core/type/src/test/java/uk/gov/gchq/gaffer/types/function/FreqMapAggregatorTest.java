@@ -24,8 +24,11 @@ import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.types.FreqMap;
 import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorTest;
 
+import java.util.Collections;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 public class FreqMapAggregatorTest extends BinaryOperatorTest {
 
@@ -51,6 +54,34 @@ public class FreqMapAggregatorTest extends BinaryOperatorTest {
         assertEquals((Long) 5L, result.get("3"));
     }
 
+    @Test
+    public void shouldNotModifyInputFreqMaps() {
+        // Given
+        final FreqMapAggregator aggregator = new FreqMapAggregator();
+
+        final FreqMap freqMap1 = new FreqMap();
+        freqMap1.put("1", 2L);
+        final FreqMap freqMap2 = new FreqMap();
+        freqMap2.put("1", 4L);
+        final FreqMap freqMap3 = new FreqMap();
+        freqMap3.put("2", 5L);
+
+        // When
+        final FreqMap applied = aggregator.apply(freqMap1, freqMap2);
+        final FreqMap accumulated = aggregator.finish(aggregator.accumulate(
+                aggregator.accumulate(aggregator.begin(freqMap1), freqMap2), freqMap3));
+
+        // Then
+        assertNotSame(freqMap1, applied);
+        assertNotSame(freqMap1, accumulated);
+        assertEquals(Collections.singletonMap("1", 2L), freqMap1);
+        assertEquals(Collections.singletonMap("1", 4L), freqMap2);
+        assertEquals(Collections.singletonMap("2", 5L), freqMap3);
+        assertEquals((Long) 6L, applied.get("1"));
+        assertEquals((Long) 6L, accumulated.get("1"));
+        assertEquals((Long) 5L, accumulated.get("2"));
+    }
+
     @Test
     @Override
     public void shouldJsonSerialiseAndDeserialise() throws SerialisationException {
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.traffic.loadtest;
+
+import uk.gov.gchq.gaffer.operation.Operation;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The configuration for a {@link RoadTrafficLoadTest}. This can be written
+ * and read as JSON, for example:
+ * <pre>
+ * {
+ *   "elements": 10000000,
+ *   "clients": 16,
+ *   "durationSeconds": 300,
+ *   "mix": {
+ *     "GET_ELEMENTS": 70,
+ *     "GET_WALKS": 10,
+ *     "NAMED_OPERATION": 10,
+ *     "ADD_ELEMENTS": 10
+ *   }
+ * }
+ * </pre>
+ * The mix contains the relative weight of each {@link LoadTestOperation}.
+ * Clients run until they have made {@code operationsPerClient} requests or
+ * {@code durationSeconds} have passed, whichever is first; setting either to 0
+ * removes that limit. The data is loaded in batches of {@code loadBatchSize}
+ * rows using {@code loadThreads} threads; only use more than one thread with
+ * stores that support concurrent writes. Any {@code setupOperations} are run
+ * before the data is loaded, for example to add graphs to a federated store.
+ */
+public class LoadTestConfig {
+    private long elements = 100_000;
+    private int clients = 4;
+    private long operationsPerClient = 1000;
+    private long durationSeconds = 0;
+    private long warmupOperationsPerClient = 0;
+    private Map<LoadTestOperation, Integer> mix = defaultMix();
+    private int loadThreads = 1;
+    private int loadBatchSize = 1000;
+    private int addBatchSize = 10;
+    private int seedsPerQuery = 10;
+    private int walkHops = 2;
+    private long seed = 42L;
+    private List<Operation> setupOperations = new ArrayList<>();
+
+    public void validate() {
+        if (elements < 0) {
+            throw new IllegalArgumentException("elements must not be negative");
+        }
+        if (clients < 1) {
+            throw new IllegalArgumentException("clients must be at least 1");
+        }
+        if (operationsPerClient < 1 && durationSeconds < 1) {
+            throw new IllegalArgumentException("Either operationsPerClient or durationSeconds must be set");
+        }
+        if (loadThreads < 1 || loadBatchSize < 1 || addBatchSize < 1 || seedsPerQuery < 1 || walkHops < 1) {
+            throw new IllegalArgumentException("loadThreads, loadBatchSize, addBatchSize, seedsPerQuery and walkHops must be at least 1");
+        }
+        long totalWeight = 0;
+        for (final Integer weight : mix.values()) {
+            if (null == weight || weight < 0) {
+                throw new IllegalArgumentException("Operation weights in the mix must not be negative: " + mix);
+            }
+            totalWeight += weight;
+        }
+        if (0 == totalWeight) {
+            throw new IllegalArgumentException("The mix must contain at least one operation with a positive weight");
+        }
+    }
+
+    public int getWeight(final LoadTestOperation operation) {
+        final Integer weight = mix.get(operation);
+        return null == weight ? 0 : weight;
+    }
+
+    public long getElements() {
+        return elements;
+    }
+
+    public void setElements(final long elements) {
+        this.elements = elements;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public void setClients(final int clients) {
+        this.clients = clients;
+    }
+
+    public long getOperationsPerClient() {
+        return operationsPerClient;
+    }
+
+    public void setOperationsPerClient(final long operationsPerClient) {
+        this.operationsPerClient = operationsPerClient;
+    }
+
+    public long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(final long durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public long getWarmupOperationsPerClient() {
+        return warmupOperationsPerClient;
+    }
+
+    public void setWarmupOperationsPerClient(final long warmupOperationsPerClient) {
+        this.warmupOperationsPerClient = warmupOperationsPerClient;
+    }
+
+    public Map<LoadTestOperation, Integer> getMix() {
+        return mix;
+    }
+
+    public void setMix(final Map<LoadTestOperation, Integer> mix) {
+        this.mix = new EnumMap<>(LoadTestOperation.class);
+        if (null != mix) {
+            this.mix.putAll(mix);
+        }
+    }
+
+    public int getLoadThreads() {
+        return loadThreads;
+    }
+
+    public void setLoadThreads(final int loadThreads) {
+        this.loadThreads = loadThreads;
+    }
+
+    public int getLoadBatchSize() {
+        return loadBatchSize;
+    }
+
+    public void setLoadBatchSize(final int loadBatchSize) {
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    public int getAddBatchSize() {
+        return addBatchSize;
+    }
+
+    public void setAddBatchSize(final int addBatchSize) {
+        this.addBatchSize = addBatchSize;
+    }
+
+    public int getSeedsPerQuery() {
+        return seedsPerQuery;
+    }
+
+    public void setSeedsPerQuery(final int seedsPerQuery) {
+        this.seedsPerQuery = seedsPerQuery;
+    }
+
+    public int getWalkHops() {
+        return walkHops;
+    }
+
+    public void setWalkHops(final int walkHops) {
+        this.walkHops = walkHops;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(final long seed) {
+        this.seed = seed;
+    }
+
+    public List<Operation> getSetupOperations() {
+        return setupOperations;
+    }
+
+    public void setSetupOperations(final List<Operation> setupOperations) {
+        this.setupOperations = null == setupOperations ? new ArrayList<>() : setupOperations;
+    }
+
+    private static Map<LoadTestOperation, Integer> defaultMix() {
+        final Map<LoadTestOperation, Integer> mix = new EnumMap<>(LoadTestOperation.class);
+        mix.put(LoadTestOperation.ADD_ELEMENTS, 10);
+        mix.put(LoadTestOperation.GET_ELEMENTS, 70);
+        mix.put(LoadTestOperation.GET_WALKS, 10);
+        mix.put(LoadTestOperation.NAMED_OPERATION, 10);
+        return mix;
+    }
+
+    public static class Builder {
+        private final LoadTestConfig config = new LoadTestConfig();
+
+        public Builder elements(final long elements) {
+            config.setElements(elements);
+            return this;
+        }
+
+        public Builder clients(final int clients) {
+            config.setClients(clients);
+            return this;
+        }
+
+        public Builder operationsPerClient(final long operationsPerClient) {
+            config.setOperationsPerClient(operationsPerClient);
+            return this;
+        }
+
+        public Builder durationSeconds(final long durationSeconds) {
+            config.setDurationSeconds(durationSeconds);
+            return this;
+        }
+
+        public Builder warmupOperationsPerClient(final long warmupOperationsPerClient) {
+            config.setWarmupOperationsPerClient(warmupOperationsPerClient);
+            return this;
+        }
+
+        public Builder mix(final Map<LoadTestOperation, Integer> mix) {
+            config.setMix(mix);
+            return this;
+        }
+
+        public Builder weight(final LoadTestOperation operation, final int weight) {
+            config.getMix().put(operation, weight);
+            return this;
+        }
+
+        public Builder loadThreads(final int loadThreads) {
+            config.setLoadThreads(loadThreads);
+            return this;
+        }
+
+        public Builder loadBatchSize(final int loadBatchSize) {
+            config.setLoadBatchSize(loadBatchSize);
+            return this;
+        }
+
+        public Builder addBatchSize(final int addBatchSize) {
+            config.setAddBatchSize(addBatchSize);
+            return this;
+        }
+
+        public Builder seedsPerQuery(final int seedsPerQuery) {
+            config.setSeedsPerQuery(seedsPerQuery);
+            return this;
+        }
+
+        public Builder walkHops(final int walkHops) {
+            config.setWalkHops(walkHops);
+            return this;
+        }
+
+        public Builder seed(final long seed) {
+            config.setSeed(seed);
+            return this;
+        }
+
+        public Builder setupOperations(final List<Operation> setupOperations) {
+            config.setSetupOperations(setupOperations);
+            return this;
+        }
+
+        public LoadTestConfig build() {
+            return config;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.traffic.loadtest;
+
+/**
+ * The types of request the load test clients can make.
+ */
+public enum LoadTestOperation {
+    /**
+     * Generates a batch of new road traffic counts and adds them to the graph.
+     */
+    ADD_ELEMENTS,
+
+    /**
+     * Gets all the elements related to a set of junctions.
+     */
+    GET_ELEMENTS,
+
+    /**
+     * Walks along the road use edges from a junction.
+     */
+    GET_WALKS,
+
+    /**
+     * Runs a named operation that gets the junction use of the junctions
+     * downstream of a set of junctions.
+     */
+    NAMED_OPERATION
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.traffic.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The results of a {@link RoadTrafficLoadTest}, intended to be written as
+ * JSON. Throughput is in operations per second and latencies are in
+ * milliseconds.
+ */
+@JsonPropertyOrder(value = {"graphId", "storeClass", "clients", "loadedElements", "loadMillis", "loadElementsPerSecond",
+        "durationMillis", "operations", "errors", "operationsPerSecond", "latency", "operationStats"})
+public class LoadTestReport {
+    private String graphId;
+    private String storeClass;
+    private int clients;
+    private long loadedElements;
+    private long loadMillis;
+    private double loadElementsPerSecond;
+    private long durationMillis;
+    private long operations;
+    private long errors;
+    private double operationsPerSecond;
+    private OperationStats latency;
+    private Map<LoadTestOperation, OperationStats> operationStats = new EnumMap<>(LoadTestOperation.class);
+
+    public String getGraphId() {
+        return graphId;
+    }
+
+    public void setGraphId(final String graphId) {
+        this.graphId = graphId;
+    }
+
+    public String getStoreClass() {
+        return storeClass;
+    }
+
+    public void setStoreClass(final String storeClass) {
+        this.storeClass = storeClass;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public void setClients(final int clients) {
+        this.clients = clients;
+    }
+
+    public long getLoadedElements() {
+        return loadedElements;
+    }
+
+    public void setLoadedElements(final long loadedElements) {
+        this.loadedElements = loadedElements;
+    }
+
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    public void setLoadMillis(final long loadMillis) {
+        this.loadMillis = loadMillis;
+    }
+
+    public double getLoadElementsPerSecond() {
+        return loadElementsPerSecond;
+    }
+
+    public void setLoadElementsPerSecond(final double loadElementsPerSecond) {
+        this.loadElementsPerSecond = loadElementsPerSecond;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(final long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public void setOperations(final long operations) {
+        this.operations = operations;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public void setErrors(final long errors) {
+        this.errors = errors;
+    }
+
+    public double getOperationsPerSecond() {
+        return operationsPerSecond;
+    }
+
+    public void setOperationsPerSecond(final double operationsPerSecond) {
+        this.operationsPerSecond = operationsPerSecond;
+    }
+
+    public OperationStats getLatency() {
+        return latency;
+    }
+
+    public void setLatency(final OperationStats latency) {
+        this.latency = latency;
+    }
+
+    public Map<LoadTestOperation, OperationStats> getOperationStats() {
+        return operationStats;
+    }
+
+    public void setOperationStats(final Map<LoadTestOperation, OperationStats> operationStats) {
+        this.operationStats = operationStats;
+    }
+
+    /**
+     * The throughput and latency of one type of operation, or of all the
+     * operations together.
+     */
+    @JsonPropertyOrder(value = {"count", "errors", "results", "operationsPerSecond", "meanMillis", "p50Millis",
+            "p99Millis", "p999Millis", "maxMillis"})
+    public static class OperationStats {
+        private long count;
+        private long errors;
+        private long results;
+        private double operationsPerSecond;
+        private double meanMillis;
+        private double p50Millis;
+        private double p99Millis;
+        private double p999Millis;
+        private double maxMillis;
+
+        public OperationStats() {
+        }
+
+        public OperationStats(final LatencyHistogram histogram, final long errors, final long results, final long durationMillis) {
+            this.count = histogram.getCount();
+            this.errors = errors;
+            this.results = results;
+            this.operationsPerSecond = 0 == durationMillis ? 0 : count * 1000.0 / durationMillis;
+            this.meanMillis = toMillis(histogram.getMean());
+            this.p50Millis = toMillis(histogram.getPercentile(50));
+            this.p99Millis = toMillis(histogram.getPercentile(99));
+            this.p999Millis = toMillis(histogram.getPercentile(99.9));
+            this.maxMillis = toMillis(histogram.getMax());
+        }
+
+        private static double toMillis(final double nanos) {
+            return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(final long count) {
+            this.count = count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public void setErrors(final long errors) {
+            this.errors = errors;
+        }
+
+        public long getResults() {
+            return results;
+        }
+
+        public void setResults(final long results) {
+            this.results = results;
+        }
+
+        public double getOperationsPerSecond() {
+            return operationsPerSecond;
+        }
+
+        public void setOperationsPerSecond(final double operationsPerSecond) {
+            this.operationsPerSecond = operationsPerSecond;
+        }
+
+        public double getMeanMillis() {
+            return meanMillis;
+        }
+
+        public void setMeanMillis(final double meanMillis) {
+            this.meanMillis = meanMillis;
+        }
+
+        public double getP50Millis() {
+            return p50Millis;
+        }
+
+        public void setP50Millis(final double p50Millis) {
+            this.p50Millis = p50Millis;
+        }
+
+        public double getP99Millis() {
+            return p99Millis;
+        }
+
+        public void setP99Millis(final double p99Millis) {
+            this.p99Millis = p99Millis;
+        }
+
+        public double getP999Millis() {
+            return p999Millis;
+        }
+
+        public void setP999Millis(final double p999Millis) {
+            this.p999Millis = p999Millis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        public void setMaxMillis(final double maxMillis) {
+            this.maxMillis = maxMillis;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.traffic.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.data.element.id.EntityId;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.named.operation.AddNamedOperation;
+import uk.gov.gchq.gaffer.named.operation.NamedOperation;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.graph.SeededGraphFilters.IncludeIncomingOutgoingType;
+import uk.gov.gchq.gaffer.operation.impl.GetWalks;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.generate.GenerateElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAdjacentIds;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.operation.io.Output;
+import uk.gov.gchq.gaffer.store.StoreProperties;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.gaffer.traffic.generator.RoadTrafficStringElementGenerator;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load tests a {@link Graph} using synthetic road traffic data.
+ * <p>
+ * The graph is first populated with the number of elements in the
+ * {@link LoadTestConfig}. Each client then repeatedly makes a request chosen
+ * at random, using the weights in the configured mix, and records the latency
+ * of the request in its own {@link LatencyHistogram}. Result iterables are fully
+ * consumed so the latency includes reading the results. Once all the clients
+ * have finished, the histograms are merged into a {@link LoadTestReport}.
+ * <p>
+ * The store used is set by the store properties, so the same test can be run
+ * against a Map Store, a Mini Accumulo Store, a federated store or a proxy to
+ * a remote graph.
+ */
+public class RoadTrafficLoadTest {
+    public static final String NAMED_OPERATION_NAME = "RoadTrafficLoadTestDownstreamJunctionUse";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoadTrafficLoadTest.class);
+    private static final LoadTestOperation[] OPERATIONS = LoadTestOperation.values();
+
+    private final Graph graph;
+    private final User user;
+    private final LoadTestConfig config;
+    private final SyntheticRoadTrafficData data;
+    private final AtomicLong nextRow;
+    private final int[] cumulativeWeights = new int[OPERATIONS.length];
+
+    public RoadTrafficLoadTest(final Graph graph, final User user, final LoadTestConfig config) {
+        config.validate();
+        this.graph = graph;
+        this.user = user;
+        this.config = config;
+        this.data = new SyntheticRoadTrafficData(config.getSeed(), SyntheticRoadTrafficData.getRowsForElements(config.getElements()));
+        this.nextRow = new AtomicLong(data.getRows());
+
+        int totalWeight = 0;
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            totalWeight += config.getWeight(OPERATIONS[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+    }
+
+    public LoadTestReport run() throws OperationException {
+        final LoadTestReport report = new LoadTestReport();
+        report.setGraphId(graph.getGraphId());
+        report.setStoreClass(graph.getStoreProperties().getStoreClass());
+        report.setClients(config.getClients());
+
+        setup();
+        final ExecutorService loadExecutor = Executors.newFixedThreadPool(config.getLoadThreads());
+        try {
+            load(loadExecutor, report);
+        } finally {
+            loadExecutor.shutdownNow();
+        }
+        final ExecutorService clientExecutor = Executors.newFixedThreadPool(config.getClients());
+        try {
+            runClients(clientExecutor, report);
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+        return report;
+    }
+
+    private void setup() throws OperationException {
+        for (final Operation operation : config.getSetupOperations()) {
+            graph.execute(operation, user);
+        }
+
+        if (config.getWeight(LoadTestOperation.NAMED_OPERATION) > 0) {
+            graph.execute(new AddNamedOperation.Builder()
+                    .name(NAMED_OPERATION_NAME)
+                    .description("Gets the junction use of the junctions downstream of the input junctions")
+                    .operationChain(new OperationChain.Builder()
+                            .first(new GetAdjacentIds.Builder()
+                                    .view(new View.Builder()
+                                            .edge(ElementGroup.ROAD_USE)
+                                            .build())
+                                    .inOutType(IncludeIncomingOutgoingType.OUTGOING)
+                                    .build())
+                            .then(new GetElements.Builder()
+                                    .view(new View.Builder()
+                                            .entity(ElementGroup.JUNCTION_USE)
+                                            .build())
+                                    .build())
+                            .build())
+                    .overwrite()
+                    .build(), user);
+        }
+    }
+
+    private void load(final ExecutorService executor, final LoadTestReport report) throws OperationException {
+        final long rows = data.getRows();
+        LOGGER.info("Loading {} rows of synthetic road traffic data", rows);
+        final long startTime = System.nanoTime();
+        final List<Future<Void>> batches = new ArrayList<>();
+        for (long start = 0; start < rows; start += config.getLoadBatchSize()) {
+            final long batchStart = start;
+            final long batchEnd = Math.min(rows, start + config.getLoadBatchSize());
+            batches.add(executor.submit(() -> {
+                graph.execute(createAddElements(batchStart, batchEnd), user);
+                return null;
+            }));
+        }
+        for (final Future<Void> batch : batches) {
+            getResult(batch);
+        }
+        final long loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        report.setLoadedElements(rows * SyntheticRoadTrafficData.ELEMENTS_PER_ROW);
+        report.setLoadMillis(loadMillis);
+        report.setLoadElementsPerSecond(0 == loadMillis ? 0 : report.getLoadedElements() * 1000.0 / loadMillis);
+        LOGGER.info("Loaded {} elements in {}ms", report.getLoadedElements(), loadMillis);
+    }
+
+    private void runClients(final ExecutorService executor, final LoadTestReport report) throws OperationException {
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        final List<Future<Client>> clients = new ArrayList<>();
+        for (int i = 0; i < config.getClients(); i++) {
+            final Client client = new Client(new SplittableRandom(config.getSeed() + i + 1));
+            clients.add(executor.submit(() -> client.call(startSignal)));
+        }
+
+        LOGGER.info("Starting {} clients", config.getClients());
+        final long startTime = System.nanoTime();
+        startSignal.countDown();
+        final Client total = new Client(null);
+        for (final Future<Client> client : clients) {
+            total.merge(getResult(client));
+        }
+        final long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        final LatencyHistogram allLatencies = new LatencyHistogram();
+        long errors = 0;
+        long results = 0;
+        for (final LoadTestOperation operation : OPERATIONS) {
+            final int i = operation.ordinal();
+            allLatencies.merge(total.latencies[i]);
+            errors += total.errors[i];
+            results += total.results[i];
+            if (config.getWeight(operation) > 0) {
+                report.getOperationStats().put(operation,
+                        new LoadTestReport.OperationStats(total.latencies[i], total.errors[i], total.results[i], durationMillis));
+            }
+        }
+        report.setDurationMillis(durationMillis);
+        report.setOperations(allLatencies.getCount());
+        report.setErrors(errors);
+        report.setOperationsPerSecond(0 == durationMillis ? 0 : allLatencies.getCount() * 1000.0 / durationMillis);
+        report.setLatency(new LoadTestReport.OperationStats(allLatencies, errors, results, durationMillis));
+        LOGGER.info("Completed {} operations in {}ms with {} errors", report.getOperations(), durationMillis, errors);
+    }
+
+    private Operation createOperation(final LoadTestOperation operation, final SplittableRandom random) {
+        switch (operation) {
+            case ADD_ELEMENTS:
+                final long start = nextRow.getAndAdd(config.getAddBatchSize());
+                return createAddElements(start, start + config.getAddBatchSize());
+            case GET_ELEMENTS:
+                return new GetElements.Builder()
+                        .input(createSeeds(random))
+                        .build();
+            case GET_WALKS:
+                final GetWalks.Builder builder = new GetWalks.Builder()
+                        .input(createSeed(random));
+                for (int i = 0; i < config.getWalkHops(); i++) {
+                    builder.addOperations(new GetElements.Builder()
+                            .view(new View.Builder()
+                                    .edge(ElementGroup.ROAD_USE)
+                                    .build())
+                            .inOutType(IncludeIncomingOutgoingType.OUTGOING)
+                            .build());
+                }
+                return builder.build();
+            case NAMED_OPERATION:
+                return new NamedOperation.Builder<EntityId, Iterable<?>>()
+                        .name(NAMED_OPERATION_NAME)
+                        .input(createSeeds(random))
+                        .build();
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+    }
+
+    private OperationChain<Void> createAddElements(final long start, final long end) {
+        return new OperationChain.Builder()
+                .first(new GenerateElements.Builder<String>()
+                        .input(data.createLines(start, end))
+                        .generator(new RoadTrafficStringElementGenerator())
+                        .build())
+                .then(new AddElements.Builder()
+                        .skipInvalidElements(false)
+                        .build())
+                .build();
+    }
+
+    private EntitySeed[] createSeeds(final SplittableRandom random) {
+        final EntitySeed[] seeds = new EntitySeed[config.getSeedsPerQuery()];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = createSeed(random);
+        }
+        return seeds;
+    }
+
+    private EntitySeed createSeed(final SplittableRandom random) {
+        return new EntitySeed(data.getJunction(random.nextLong(Math.max(1, data.getRows()))));
+    }
+
+    private LoadTestOperation chooseOperation(final SplittableRandom random) {
+        final int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return OPERATIONS[i];
+            }
+        }
+        throw new IllegalStateException("No operation found for weight " + value);
+    }
+
+    private long execute(final Operation operation) throws OperationException {
+        if (!(operation instanceof Output)) {
+            graph.execute(operation, user);
+            return 0;
+        }
+
+        final Object result = graph.execute((Output<?>) operation, user);
+        long count = 0;
+        if (result instanceof Iterable) {
+            try {
+                for (final Object ignored : (Iterable<?>) result) {
+                    count++;
+                }
+            } finally {
+                CloseableUtil.close(result);
+            }
+        } else if (null != result) {
+            count = 1;
+        }
+        return count;
+    }
+
+    private static <T> T getResult(final Future<T> future) throws OperationException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationException("Interrupted while running the load test", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof OperationException) {
+                throw (OperationException) e.getCause();
+            }
+            throw new OperationException("Load test failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * A client making requests on its own thread. The latencies are only
+     * accessed by the client until it has finished, so do not need to be
+     * thread safe.
+     */
+    private final class Client {
+        private final SplittableRandom random;
+        private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+        private final long[] errors = new long[OPERATIONS.length];
+        private final long[] results = new long[OPERATIONS.length];
+
+        private Client(final SplittableRandom random) {
+            this.random = random;
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LatencyHistogram();
+            }
+        }
+
+        private Client call(final CountDownLatch startSignal) throws InterruptedException {
+            startSignal.await();
+            final long deadline = config.getDurationSeconds() > 0
+                    ? System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getDurationSeconds())
+                    : Long.MAX_VALUE;
+            final long warmup = config.getWarmupOperationsPerClient();
+            final long limit = config.getOperationsPerClient() > 0 ? warmup + config.getOperationsPerClient() : Long.MAX_VALUE;
+            for (long i = 0; i < limit && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted(); i++) {
+                final LoadTestOperation operation = chooseOperation(random);
+                final Operation request = createOperation(operation, random);
+                final int index = operation.ordinal();
+                final long startTime = System.nanoTime();
+                try {
+                    final long count = execute(request);
+                    if (i >= warmup) {
+                        latencies[index].record(System.nanoTime() - startTime);
+                        results[index] += count;
+                    }
+                } catch (final OperationException | RuntimeException e) {
+                    LOGGER.debug("{} failed: {}", operation, e.getMessage(), e);
+                    if (i >= warmup) {
+                        errors[index]++;
+                    }
+                }
+            }
+            return this;
+        }
+
+        private void merge(final Client other) {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i].merge(other.latencies[i]);
+                errors[i] += other.errors[i];
+                results[i] += other.results[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.SystemPrintln") //Ok for main function
+    public static void main(final String[] args) throws IOException, OperationException {
+        if (args.length < 4 || args.length > 5) {
+            System.err.println("Usage: " + RoadTrafficLoadTest.class.getSimpleName()
+                    + " <graphConfigFile> <schemaDir> <storePropsFile> <loadTestConfigFile> [<reportFile>]");
+            System.exit(1);
+        }
+
+        final GraphConfig graphConfig = new GraphConfig.Builder().json(new File(args[0]).toPath()).build();
+        final Schema schema = Schema.fromJson(new File(args[1]).toPath());
+        final StoreProperties storeProperties = StoreProperties.loadStoreProperties(args[2]);
+        final LoadTestConfig config = JSONSerialiser.deserialise(Files.readAllBytes(new File(args[3]).toPath()), LoadTestConfig.class);
+
+        final Graph graph = new Graph.Builder()
+                .config(graphConfig)
+                .addSchemas(schema)
+                .storeProperties(storeProperties)
+                .build();
+
+        final LoadTestReport report = new RoadTrafficLoadTest(graph, new User(), config).run();
+        final byte[] json = JSONSerialiser.serialise(report, true);
+        if (args.length == 5) {
+            Files.write(new File(args[4]).toPath(), json);
+        } else {
+            System.out.println(new String(json, StandardCharsets.UTF_8));
+        }
+    }
+}
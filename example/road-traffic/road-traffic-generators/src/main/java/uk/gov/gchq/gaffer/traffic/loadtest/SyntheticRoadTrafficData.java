@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.traffic.loadtest;
+
+import uk.gov.gchq.gaffer.traffic.generator.RoadTrafficDataField;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates synthetic road traffic counts in the same CSV format as the
+ * sample data, so they can be converted into elements by the
+ * {@link uk.gov.gchq.gaffer.traffic.generator.RoadTrafficStringElementGenerator}.
+ * <p>
+ * The road network is scaled with the number of rows: each road has
+ * {@link #JUNCTIONS_PER_ROAD} junctions, each link between adjacent junctions
+ * has {@link #COUNTS_PER_LINK} hourly counts, and roads are grouped into
+ * locations and locations into regions. Each row is generated from its index
+ * and the seed alone, so rows can be generated lazily and in parallel, and
+ * the junctions in the data can be found without storing it.
+ */
+public class SyntheticRoadTrafficData {
+    /**
+     * The number of elements the {@link uk.gov.gchq.gaffer.traffic.generator.RoadTrafficStringElementGenerator}
+     * creates for each row, before aggregation.
+     */
+    public static final int ELEMENTS_PER_ROW = 23;
+    public static final int JUNCTIONS_PER_ROAD = 20;
+    public static final int COUNTS_PER_LINK = 12;
+
+    private static final int ROADS_PER_LOCATION = 10;
+    private static final int LOCATIONS_PER_REGION = 10;
+    private static final int FIRST_HOUR = 7;
+    private static final long START_DATE = 946684800000L;
+    private static final String YEAR = "2000";
+
+    private final long seed;
+    private final long rows;
+    private final long links;
+
+    public SyntheticRoadTrafficData(final long seed, final long rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("The number of rows must not be negative: " + rows);
+        }
+        this.seed = seed;
+        this.rows = rows;
+        final long roads = Math.max(1, rows / ((long) (JUNCTIONS_PER_ROAD - 1) * COUNTS_PER_LINK));
+        this.links = roads * (JUNCTIONS_PER_ROAD - 1);
+    }
+
+    /**
+     * Gets the number of rows needed to generate at least the given number
+     * of elements.
+     *
+     * @param elements the number of elements
+     * @return the number of rows
+     */
+    public static long getRowsForElements(final long elements) {
+        return (elements + ELEMENTS_PER_ROW - 1) / ELEMENTS_PER_ROW;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Creates a row. Rows beyond {@link #getRows()} add new hourly counts to
+     * the existing road network.
+     *
+     * @param row the index of the row
+     * @return the row in CSV format
+     */
+    public String createLine(final long row) {
+        final SplittableRandom random = new SplittableRandom(seed ^ (row * 0x9E3779B97F4A7C15L));
+        final long road = getRoad(row);
+        final long junction = getJunctionNumber(row);
+        final long location = road / ROADS_PER_LOCATION;
+        final long region = location / LOCATIONS_PER_REGION;
+        final long slot = row / links;
+        final String[] fields = new String[RoadTrafficDataField.values().length - 2];
+        int i = 0;
+        fields[i++] = "Region" + region;
+        fields[i++] = "LA" + location;
+        fields[i++] = "Location" + location;
+        fields[i++] = String.valueOf(row % links);
+        fields[i++] = String.valueOf(road * 1000 + junction);
+        fields[i++] = String.valueOf(junction * 1000);
+        fields[i++] = getRoadName(road);
+        fields[i++] = String.valueOf(junction);
+        fields[i++] = String.valueOf(road * 1000 + junction);
+        fields[i++] = String.valueOf(junction * 1000);
+        fields[i++] = String.valueOf(junction + 1);
+        fields[i++] = String.valueOf(road * 1000 + junction + 1);
+        fields[i++] = String.valueOf((junction + 1) * 1000);
+        fields[i++] = "TM";
+        fields[i++] = "E";
+        fields[i++] = YEAR;
+        fields[i++] = formatDate(START_DATE + TimeUnit.DAYS.toMillis(slot / COUNTS_PER_LINK));
+        fields[i++] = String.valueOf(FIRST_HOUR + slot % COUNTS_PER_LINK);
+        long total = 0;
+        while (i < fields.length - 1) {
+            final int count = random.nextInt(1000);
+            total += count;
+            fields[i++] = String.valueOf(count);
+        }
+        fields[i] = String.valueOf(total);
+
+        return '"' + String.join("\",\"", fields) + '"';
+    }
+
+    /**
+     * Lazily creates a range of rows.
+     *
+     * @param start the index of the first row, inclusive
+     * @param end   the index of the last row, exclusive
+     * @return the rows in CSV format
+     */
+    public Iterable<String> createLines(final long start, final long end) {
+        return () -> new Iterator<String>() {
+            private long next = start;
+
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return createLine(next++);
+            }
+        };
+    }
+
+    /**
+     * Gets the vertex of the first junction in a row. The junction always
+     * has an outgoing road use edge to the next junction on the road.
+     *
+     * @param row the index of the row
+     * @return the junction vertex
+     */
+    public String getJunction(final long row) {
+        return getRoadName(getRoad(row)) + ":" + getJunctionNumber(row);
+    }
+
+    private long getRoad(final long row) {
+        return (row % links) / (JUNCTIONS_PER_ROAD - 1);
+    }
+
+    private long getJunctionNumber(final long row) {
+        return (row % links) % (JUNCTIONS_PER_ROAD - 1);
+    }
+
+    private static String getRoadName(final long road) {
+        return "M" + road;
+    }
+
+    private static String formatDate(final long millis) {
+        final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format.format(new Date(millis));
+    }
+}
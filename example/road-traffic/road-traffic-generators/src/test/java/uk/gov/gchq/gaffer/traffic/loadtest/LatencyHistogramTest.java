@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.traffic.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReportExactPercentilesForSmallValues() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        // Then
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getMin()).isEqualTo(1);
+        assertThat(histogram.getMax()).isEqualTo(100);
+        assertThat(histogram.getMean()).isEqualTo(50.5);
+        assertThat(histogram.getPercentile(50)).isEqualTo(50);
+        assertThat(histogram.getPercentile(99)).isEqualTo(99);
+        assertThat(histogram.getPercentile(100)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldReportLargeValuesWithinTwoPercent() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        // Then
+        assertThat((double) histogram.getPercentile(50)).isCloseTo(50_000_000, within(1_000_000.0));
+        assertThat((double) histogram.getPercentile(99)).isCloseTo(99_000_000, within(1_980_000.0));
+        assertThat((double) histogram.getPercentile(99.9)).isCloseTo(99_900_000, within(1_998_000.0));
+        assertThat(histogram.getPercentile(99.9)).isGreaterThanOrEqualTo(99_900_000);
+        assertThat(histogram.getPercentile(100)).isEqualTo(100_000_000);
+    }
+
+    @Test
+    void shouldMergeHistograms() {
+        // Given
+        final LatencyHistogram first = new LatencyHistogram();
+        final LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        first.record(20);
+        second.record(Long.MAX_VALUE);
+
+        // When
+        first.merge(second);
+
+        // Then
+        assertThat(first.getCount()).isEqualTo(3);
+        assertThat(first.getMin()).isEqualTo(10);
+        assertThat(first.getMax()).isEqualTo(Long.MAX_VALUE);
+        assertThat(first.getPercentile(50)).isEqualTo(20);
+        assertThat(first.getPercentile(100)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldReportZeroWhenEmpty() {
+        // Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // When / Then
+        assertThat(histogram.getPercentile(99)).isZero();
+        assertThat(histogram.getMin()).isZero();
+        assertThat(histogram.getMean()).isZero();
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.getPercentile(101));
+    }
+}
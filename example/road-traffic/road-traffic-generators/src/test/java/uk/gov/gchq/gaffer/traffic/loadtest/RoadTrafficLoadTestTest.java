@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.traffic.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.cache.impl.HashMapCacheService;
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.traffic.ElementGroup;
+import uk.gov.gchq.gaffer.traffic.generator.RoadTrafficStringElementGenerator;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RoadTrafficLoadTestTest {
+
+    @Test
+    void shouldGenerateValidRowsForTheStringElementGenerator() {
+        // Given
+        final SyntheticRoadTrafficData data = new SyntheticRoadTrafficData(42L, 1000);
+        final RoadTrafficStringElementGenerator generator = new RoadTrafficStringElementGenerator();
+
+        // When
+        final List<Element> elements = new ArrayList<>();
+        for (final String line : data.createLines(0, 10)) {
+            generator._apply(line).forEach(elements::add);
+        }
+
+        // Then
+        assertThat(elements).hasSize(10 * SyntheticRoadTrafficData.ELEMENTS_PER_ROW);
+        assertThat(data.createLine(5)).isEqualTo(new SyntheticRoadTrafficData(42L, 1000).createLine(5));
+        assertThat(SyntheticRoadTrafficData.getRowsForElements(24)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLoadDataAndRunMixedOperations() throws Exception {
+        // Given
+        final Graph graph = createGraph();
+        final User user = new User();
+        final LoadTestConfig config = new LoadTestConfig.Builder()
+                .elements(5000)
+                .clients(1)
+                .operationsPerClient(150)
+                .warmupOperationsPerClient(5)
+                .loadBatchSize(50)
+                .build();
+
+        // When
+        final LoadTestReport report = new RoadTrafficLoadTest(graph, user, config).run();
+
+        // Then
+        assertThat(report.getErrors()).isZero();
+        assertThat(report.getOperations()).isEqualTo(150);
+        assertThat(report.getLoadedElements()).isGreaterThanOrEqualTo(5000);
+        assertThat(report.getOperationStats()).containsOnlyKeys(LoadTestOperation.values());
+        assertThat(report.getLatency().getP50Millis())
+                .isLessThanOrEqualTo(report.getLatency().getP99Millis())
+                .isLessThanOrEqualTo(report.getLatency().getP999Millis())
+                .isLessThanOrEqualTo(report.getLatency().getMaxMillis());
+        assertThat(report.getOperationStats().get(LoadTestOperation.GET_ELEMENTS).getResults()).isPositive();
+        assertThat(report.getOperationStats().get(LoadTestOperation.GET_WALKS).getResults()).isPositive();
+        assertThat(report.getOperationStats().get(LoadTestOperation.NAMED_OPERATION).getResults()).isPositive();
+        assertThat(graph.execute(new GetElements.Builder()
+                .input(new EntitySeed(new SyntheticRoadTrafficData(42L, 218).getJunction(0)))
+                .build(), user)).isNotEmpty();
+
+        final LoadTestReport deserialised = JSONSerialiser.deserialise(JSONSerialiser.serialise(report), LoadTestReport.class);
+        assertThat(deserialised).usingRecursiveComparison().isEqualTo(report);
+    }
+
+    @Test
+    void shouldRunConcurrentClientsWithOnlyTheOperationsInTheMix() throws Exception {
+        // Given
+        final Graph graph = createGraph();
+        final LoadTestConfig config = new LoadTestConfig.Builder()
+                .elements(2000)
+                .clients(4)
+                .operationsPerClient(25)
+                .weight(LoadTestOperation.ADD_ELEMENTS, 0)
+                .weight(LoadTestOperation.NAMED_OPERATION, 0)
+                .build();
+
+        // When
+        final LoadTestReport report = new RoadTrafficLoadTest(graph, new User(), config).run();
+
+        // Then
+        assertThat(report.getErrors()).isZero();
+        assertThat(report.getOperations()).isEqualTo(100);
+        assertThat(report.getOperationStats()).containsOnlyKeys(LoadTestOperation.GET_ELEMENTS, LoadTestOperation.GET_WALKS);
+    }
+
+    @Test
+    void shouldAddNewRowsWhenAddingElements() throws Exception {
+        // Given
+        final Graph graph = createGraph();
+        final LoadTestConfig config = new LoadTestConfig.Builder()
+                .elements(0)
+                .clients(1)
+                .operationsPerClient(10)
+                .weight(LoadTestOperation.ADD_ELEMENTS, 1)
+                .weight(LoadTestOperation.GET_ELEMENTS, 0)
+                .weight(LoadTestOperation.GET_WALKS, 0)
+                .weight(LoadTestOperation.NAMED_OPERATION, 0)
+                .addBatchSize(2)
+                .build();
+
+        // When
+        final LoadTestReport report = new RoadTrafficLoadTest(graph, new User(), config).run();
+
+        // Then
+        assertThat(report.getOperationStats()).containsOnlyKeys(LoadTestOperation.ADD_ELEMENTS);
+        assertThat(report.getOperations()).isEqualTo(10);
+        assertThat(graph.execute(new GetAllElements(), new User())).isNotEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidConfig() {
+        // Given
+        final LoadTestConfig config = new LoadTestConfig.Builder()
+                .operationsPerClient(0)
+                .durationSeconds(0)
+                .build();
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new RoadTrafficLoadTest(createGraph(), new User(), config))
+                .withMessageContaining("operationsPerClient");
+    }
+
+    private static Graph createGraph() {
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setDefaultCacheServiceClass(HashMapCacheService.class.getName());
+        return new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("roadTrafficLoadTest")
+                        .build())
+                .addSchemas(StreamUtil.schemas(ElementGroup.class))
+                .storeProperties(properties)
+                .build();
+    }
+}
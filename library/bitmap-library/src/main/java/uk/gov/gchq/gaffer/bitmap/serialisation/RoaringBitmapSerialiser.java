@@ -21,11 +21,11 @@ import uk.gov.gchq.gaffer.bitmap.serialisation.utils.RoaringBitmapUtils;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * A {@link uk.gov.gchq.gaffer.serialisation.Serialiser} implementation for {@link RoaringBitmap}
@@ -53,19 +53,20 @@ public class RoaringBitmapSerialiser implements ToBytesSerialiser<RoaringBitmap>
     }
 
     @Override
-    public RoaringBitmap deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
-        final RoaringBitmap value = new RoaringBitmap();
-        final byte[] convertedBytes = RoaringBitmapUtils.upConvertSerialisedForm(allBytes, offset, length);
-        final ByteArrayInputStream byteIn = new ByteArrayInputStream(convertedBytes);
-        final DataInputStream in = new DataInputStream(byteIn);
+    public void serialise(final RoaringBitmap object, final OutputStream out) throws SerialisationException {
         try {
-            value.deserialize(in);
+            object.serialize(out instanceof DataOutput ? (DataOutput) out : new DataOutputStream(out));
         } catch (final IOException e) {
             throw new SerialisationException(e.getMessage(), e);
         }
-        return value;
     }
 
+    @Override
+    public RoaringBitmap deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return RoaringBitmapUtils.deserialise(allBytes, offset, length);
+    }
+
+    @Deprecated
     @Override
     public RoaringBitmap deserialise(final byte[] bytes) throws SerialisationException {
         return deserialise(bytes, 0, bytes.length);
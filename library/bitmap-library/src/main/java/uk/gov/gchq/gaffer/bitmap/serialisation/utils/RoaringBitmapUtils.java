@@ -16,6 +16,8 @@
 
 package uk.gov.gchq.gaffer.bitmap.serialisation.utils;
 
+import org.roaringbitmap.RoaringBitmap;
+
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 
 import java.io.ByteArrayInputStream;
@@ -41,6 +43,53 @@ public final class RoaringBitmapUtils {
 
     }
 
+    /**
+     * Deserialises a {@link RoaringBitmap} from a range of a byte array. Bitmaps
+     * serialised by version 0.4.0 onwards are read directly from the array,
+     * only bitmaps serialised by older versions are copied and up-converted.
+     *
+     * @param serialisedBitmap the array containing the serialised bitmap
+     * @param offset           the index of the first byte of the serialised bitmap
+     * @param length           the number of bytes in the serialised bitmap
+     * @return the deserialised bitmap
+     * @throws SerialisationException if the bitmap could not be deserialised
+     */
+    public static RoaringBitmap deserialise(final byte[] serialisedBitmap, final int offset, final int length) throws SerialisationException {
+        final byte[] bytes;
+        final int from;
+        final int to;
+        if (isCurrentSerialisedForm(serialisedBitmap, offset, length)) {
+            bytes = serialisedBitmap;
+            from = offset;
+            to = length;
+        } else {
+            bytes = upConvertSerialisedForm(serialisedBitmap, offset, length);
+            from = 0;
+            to = bytes.length;
+        }
+
+        final RoaringBitmap bitmap = new RoaringBitmap();
+        try {
+            bitmap.deserialize(new DataInputStream(new ByteArrayInputStream(bytes, from, to)));
+        } catch (final IOException e) {
+            throw new SerialisationException(e.getMessage(), e);
+        }
+        return bitmap;
+    }
+
+    private static boolean isCurrentSerialisedForm(final byte[] serialisedBitmap, final int offset, final int length) {
+        if (length < 4) {
+            return false;
+        }
+        // The cookie is written as a little endian int
+        final int cookie = (serialisedBitmap[offset] & 0xFF)
+                | (serialisedBitmap[offset + 1] & 0xFF) << 8
+                | (serialisedBitmap[offset + 2] & 0xFF) << 16
+                | (serialisedBitmap[offset + 3] & 0xFF) << 24;
+        return cookie == VERSION_ZERO_FOUR_ZERO_TO_SIX_THRIRTY_FIVE_NO_RUNCONTAINER_COOKIE
+                || (cookie & 0xFFFF) == VERSION_ZERO_FIVE_ZERO_TO_SIX_THIRTY_FIVE_COOKIE;
+    }
+
     @SuppressWarnings("PMD.AssignmentInOperand")
     public static byte[] upConvertSerialisedForm(final byte[] serialisedBitmap, final int offset, final int length) throws SerialisationException {
         try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(serialisedBitmap, offset, length))) {
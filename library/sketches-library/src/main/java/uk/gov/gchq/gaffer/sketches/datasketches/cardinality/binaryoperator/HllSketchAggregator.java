@@ -18,18 +18,25 @@ package uk.gov.gchq.gaffer.sketches.datasketches.cardinality.binaryoperator;
 
 import org.apache.datasketches.hll.HllSketch;
 import org.apache.datasketches.hll.Union;
+import org.apache.datasketches.memory.Memory;
 
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation.HllSketchSerialiser;
+import uk.gov.gchq.gaffer.types.binaryoperator.SerialisedAccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code HllSketchAggregator} is a {@link java.util.function.BinaryOperator} that takes in
- * {@link HllSketch}s and merges them together using a {@link Union}.
+ * {@link HllSketch}s and merges them together using a {@link Union}. When accumulating,
+ * a single {@link Union} is used for all of the sketches, and sketches serialised by the
+ * {@link HllSketchSerialiser} are wrapped rather than deserialised.
  */
 @Since("1.0.0")
 @Summary("Aggregates HllSketches together using a Union")
-public class HllSketchAggregator extends KorypheBinaryOperator<HllSketch> {
+public class HllSketchAggregator extends KorypheBinaryOperator<HllSketch> implements SerialisedAccumulatingBinaryOperator<HllSketch, Union> {
 
     @Override
     protected HllSketch _apply(final HllSketch a, final HllSketch b) {
@@ -38,4 +45,49 @@ public class HllSketchAggregator extends KorypheBinaryOperator<HllSketch> {
         union.update(b);
         return union.getResult();
     }
+
+    @Override
+    public Union begin(final HllSketch first) {
+        final Union union = new Union(first.getLgConfigK());
+        union.update(first);
+        return union;
+    }
+
+    @Override
+    public Union accumulate(final Union union, final HllSketch sketch) {
+        union.update(sketch);
+        return union;
+    }
+
+    @Override
+    public HllSketch finish(final Union union) {
+        return union.getResult();
+    }
+
+    @Override
+    public boolean canAccumulateSerialised(final ToBytesSerialiser<?> serialiser) {
+        return serialiser instanceof HllSketchSerialiser;
+    }
+
+    @Override
+    public Union beginSerialised(final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        final HllSketch sketch = wrap(bytes, offset, length);
+        final Union union = new Union(sketch.getLgConfigK());
+        union.update(sketch);
+        return union;
+    }
+
+    @Override
+    public Union accumulateSerialised(final Union union, final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        union.update(wrap(bytes, offset, length));
+        return union;
+    }
+
+    private static HllSketch wrap(final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        try {
+            return HllSketch.wrap(Memory.wrap(bytes).region(offset, length));
+        } catch (final RuntimeException e) {
+            throw new SerialisationException("Failed to read HllSketch", e);
+        }
+    }
 }
@@ -17,10 +17,12 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation;
 
 import org.apache.datasketches.hll.HllSketch;
+import org.apache.datasketches.memory.Memory;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code HllSketchSerialiser} serialises a {@link org.apache.datasketches.hll.HllSketch} using its
  * {@code toCompactByteArray()} method.
@@ -38,9 +40,15 @@ public class HllSketchSerialiser implements ToBytesSerialiser<HllSketch> {
         return sketch.toCompactByteArray();
     }
 
+    @Deprecated
     @Override
     public HllSketch deserialise(final byte[] bytes) throws SerialisationException {
-        return HllSketch.heapify(bytes);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public HllSketch deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return HllSketch.heapify(Memory.wrap(allBytes).region(offset, length));
     }
 
     @Override
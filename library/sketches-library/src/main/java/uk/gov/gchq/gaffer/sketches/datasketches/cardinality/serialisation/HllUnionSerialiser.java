@@ -17,10 +17,12 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation;
 
 import org.apache.datasketches.hll.Union;
+import org.apache.datasketches.memory.Memory;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code HllUnionSerialiser} serialises a {@link org.apache.datasketches.hll.Union} using its
  * {@code toCompactByteArray()} method.
@@ -38,9 +40,15 @@ public class HllUnionSerialiser implements ToBytesSerialiser<Union> {
         return sketch.toCompactByteArray();
     }
 
+    @Deprecated
     @Override
     public Union deserialise(final byte[] bytes) throws SerialisationException {
-        return Union.heapify(bytes);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Union deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return Union.heapify(Memory.wrap(allBytes).region(offset, length));
     }
 
     @Override
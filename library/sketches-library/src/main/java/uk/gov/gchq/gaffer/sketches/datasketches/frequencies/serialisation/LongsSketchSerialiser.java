@@ -17,11 +17,12 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.frequencies.serialisation;
 
 import org.apache.datasketches.frequencies.LongsSketch;
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code LongsSketchSerialiser} serialises a {@link LongsSketch} using its {@code toByteArray()}
  * method.
@@ -39,9 +40,15 @@ public class LongsSketchSerialiser implements ToBytesSerialiser<LongsSketch> {
         return sketch.toByteArray();
     }
 
+    @Deprecated
     @Override
     public LongsSketch deserialise(final byte[] bytes) throws SerialisationException {
-        return LongsSketch.getInstance(WritableMemory.writableWrap(bytes));
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public LongsSketch deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return LongsSketch.getInstance(Memory.wrap(allBytes).region(offset, length));
     }
 
     @Override
@@ -18,11 +18,12 @@ package uk.gov.gchq.gaffer.sketches.datasketches.frequencies.serialisation;
 
 import org.apache.datasketches.common.ArrayOfStringsSerDe;
 import org.apache.datasketches.frequencies.ItemsSketch;
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code StringsSketchSerialiser} serialises an {@link ItemsSketch} of {@link String}s using its
  * {@code toByteArray()} method.
@@ -41,9 +42,15 @@ public class StringsSketchSerialiser implements ToBytesSerialiser<ItemsSketch<St
         return sketch.toByteArray(SERIALISER);
     }
 
+    @Deprecated
     @Override
     public ItemsSketch<String> deserialise(final byte[] bytes) throws SerialisationException {
-        return ItemsSketch.getInstance(WritableMemory.writableWrap(bytes), SERIALISER);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public ItemsSketch<String> deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return ItemsSketch.getInstance(Memory.wrap(allBytes).region(offset, length), SERIALISER);
     }
 
     @Override
@@ -16,20 +16,27 @@
 
 package uk.gov.gchq.gaffer.sketches.datasketches.quantiles.binaryoperator;
 
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.quantiles.DoublesSketch;
 import org.apache.datasketches.quantiles.DoublesUnion;
 
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.quantiles.serialisation.DoublesSketchSerialiser;
+import uk.gov.gchq.gaffer.types.binaryoperator.SerialisedAccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code DoublesSketchAggregator} is a {@link java.util.function.BinaryOperator} that aggregates
- * {@link DoublesSketch}s using a {@link DoublesUnion}.
+ * {@link DoublesSketch}s using a {@link DoublesUnion}. When accumulating, a single
+ * {@link DoublesUnion} is used for all of the sketches, and sketches serialised by the
+ * {@link DoublesSketchSerialiser} are wrapped rather than copied.
  */
 @Since("1.0.0")
 @Summary("Aggregates DoublesSketches using a DoublesUnion")
-public class DoublesSketchAggregator extends KorypheBinaryOperator<DoublesSketch> {
+public class DoublesSketchAggregator extends KorypheBinaryOperator<DoublesSketch> implements SerialisedAccumulatingBinaryOperator<DoublesSketch, DoublesUnion> {
 
     @Override
     protected DoublesSketch _apply(final DoublesSketch a, final DoublesSketch b) {
@@ -38,4 +45,46 @@ public class DoublesSketchAggregator extends KorypheBinaryOperator<DoublesSketch
         union.union(b);
         return union.getResult();
     }
+
+    @Override
+    public DoublesUnion begin(final DoublesSketch first) {
+        final DoublesUnion union = DoublesUnion.builder().setMaxK(first.getK()).build();
+        union.union(first);
+        return union;
+    }
+
+    @Override
+    public DoublesUnion accumulate(final DoublesUnion union, final DoublesSketch sketch) {
+        union.union(sketch);
+        return union;
+    }
+
+    @Override
+    public DoublesSketch finish(final DoublesUnion union) {
+        return union.getResult();
+    }
+
+    @Override
+    public boolean canAccumulateSerialised(final ToBytesSerialiser<?> serialiser) {
+        return serialiser instanceof DoublesSketchSerialiser;
+    }
+
+    @Override
+    public DoublesUnion beginSerialised(final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        return begin(wrap(bytes, offset, length));
+    }
+
+    @Override
+    public DoublesUnion accumulateSerialised(final DoublesUnion union, final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        union.union(wrap(bytes, offset, length));
+        return union;
+    }
+
+    private static DoublesSketch wrap(final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        try {
+            return DoublesSketch.wrap(Memory.wrap(bytes).region(offset, length));
+        } catch (final RuntimeException e) {
+            throw new SerialisationException("Failed to read DoublesSketch", e);
+        }
+    }
 }
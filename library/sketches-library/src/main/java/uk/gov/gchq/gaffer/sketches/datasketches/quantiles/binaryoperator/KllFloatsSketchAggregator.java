@@ -17,22 +17,70 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.quantiles.binaryoperator;
 
 import org.apache.datasketches.kll.KllFloatsSketch;
+import org.apache.datasketches.memory.Memory;
 
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.quantiles.serialisation.KllFloatsSketchSerialiser;
+import uk.gov.gchq.gaffer.types.binaryoperator.SerialisedAccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code KllFloatsSketchAggregator} is a {@link KorypheBinaryOperator} that aggregates
- * {@link KllFloatsSketch}s.
+ * {@link KllFloatsSketch}s. The sketches are merged into the first sketch.
+ * Sketches serialised by the {@link KllFloatsSketchSerialiser} are merged directly from their
+ * serialised form, so only the first sketch is deserialised.
  */
 @Since("1.4.0")
 @Summary("Aggregates KllFloatsSketches")
-public class KllFloatsSketchAggregator extends KorypheBinaryOperator<KllFloatsSketch> {
+public class KllFloatsSketchAggregator extends KorypheBinaryOperator<KllFloatsSketch>
+        implements SerialisedAccumulatingBinaryOperator<KllFloatsSketch, KllFloatsSketch> {
 
     @Override
     protected KllFloatsSketch _apply(final KllFloatsSketch a, final KllFloatsSketch b) {
         a.merge(b);
         return a;
     }
+
+    @Override
+    public KllFloatsSketch begin(final KllFloatsSketch first) {
+        return first;
+    }
+
+    @Override
+    public KllFloatsSketch accumulate(final KllFloatsSketch sketch, final KllFloatsSketch other) {
+        sketch.merge(other);
+        return sketch;
+    }
+
+    @Override
+    public KllFloatsSketch finish(final KllFloatsSketch sketch) {
+        return sketch;
+    }
+
+    @Override
+    public boolean canAccumulateSerialised(final ToBytesSerialiser<?> serialiser) {
+        return serialiser instanceof KllFloatsSketchSerialiser;
+    }
+
+    @Override
+    public KllFloatsSketch beginSerialised(final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        try {
+            return KllFloatsSketch.heapify(Memory.wrap(bytes).region(offset, length));
+        } catch (final RuntimeException e) {
+            throw new SerialisationException("Failed to read KllFloatsSketch", e);
+        }
+    }
+
+    @Override
+    public KllFloatsSketch accumulateSerialised(final KllFloatsSketch sketch, final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        try {
+            sketch.merge(KllFloatsSketch.wrap(Memory.wrap(bytes).region(offset, length)));
+        } catch (final RuntimeException e) {
+            throw new SerialisationException("Failed to read KllFloatsSketch", e);
+        }
+        return sketch;
+    }
 }
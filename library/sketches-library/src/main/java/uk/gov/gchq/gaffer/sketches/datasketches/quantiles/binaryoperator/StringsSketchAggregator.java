@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.sketches.datasketches.quantiles.binaryoperator;
 import org.apache.datasketches.quantiles.ItemsSketch;
 import org.apache.datasketches.quantiles.ItemsUnion;
 
+import uk.gov.gchq.gaffer.types.binaryoperator.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
@@ -31,7 +32,8 @@ import java.util.Comparator;
  */
 @Since("1.0.0")
 @Summary("Aggregates ItemsSketches of Strings using an ItemsUnion")
-public class StringsSketchAggregator extends KorypheBinaryOperator<ItemsSketch<String>> {
+public class StringsSketchAggregator extends KorypheBinaryOperator<ItemsSketch<String>>
+        implements AccumulatingBinaryOperator<ItemsSketch<String>, ItemsUnion<String>> {
 
     @Override
     protected ItemsSketch<String> _apply(final ItemsSketch<String> a, final ItemsSketch<String> b) {
@@ -40,4 +42,22 @@ public class StringsSketchAggregator extends KorypheBinaryOperator<ItemsSketch<S
         union.union(b);
         return union.getResult();
     }
+
+    @Override
+    public ItemsUnion<String> begin(final ItemsSketch<String> first) {
+        final ItemsUnion<String> union = ItemsUnion.getInstance(String.class, Comparator.naturalOrder());
+        union.union(first);
+        return union;
+    }
+
+    @Override
+    public ItemsUnion<String> accumulate(final ItemsUnion<String> union, final ItemsSketch<String> sketch) {
+        union.union(sketch);
+        return union;
+    }
+
+    @Override
+    public ItemsSketch<String> finish(final ItemsUnion<String> union) {
+        return union.getResult();
+    }
 }
@@ -16,7 +16,7 @@
 
 package uk.gov.gchq.gaffer.sketches.datasketches.quantiles.serialisation;
 
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.quantiles.DoublesUnion;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
@@ -39,10 +39,16 @@ public class DoublesUnionSerialiser implements ToBytesSerialiser<DoublesUnion> {
         return union.getResult().toByteArray();
     }
 
+    @Deprecated
     @Override
     public DoublesUnion deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public DoublesUnion deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         final DoublesUnion union = DoublesUnion.builder().build();
-        union.union(WritableMemory.writableWrap(bytes));
+        union.union(Memory.wrap(allBytes).region(offset, length));
         return union;
     }
 
@@ -22,6 +22,7 @@ import org.apache.datasketches.memory.Memory;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code KllFloatsSketchSerialiser} serialises a {@link KllFloatsSketch} using its {@code toByteArray()}
  * method.
@@ -39,9 +40,15 @@ public class KllFloatsSketchSerialiser implements ToBytesSerialiser<KllFloatsSke
         return sketch.toByteArray();
     }
 
+    @Deprecated
     @Override
     public KllFloatsSketch deserialise(final byte[] bytes) throws SerialisationException {
-        return KllFloatsSketch.heapify(Memory.wrap(bytes));
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public KllFloatsSketch deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return KllFloatsSketch.heapify(Memory.wrap(allBytes).region(offset, length));
     }
 
     @Override
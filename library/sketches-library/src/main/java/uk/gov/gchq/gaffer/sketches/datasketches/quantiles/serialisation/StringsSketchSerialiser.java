@@ -17,7 +17,7 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.quantiles.serialisation;
 
 import org.apache.datasketches.common.ArrayOfStringsSerDe;
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.quantiles.ItemsSketch;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
@@ -43,9 +43,15 @@ public class StringsSketchSerialiser implements ToBytesSerialiser<ItemsSketch<St
         return sketch.toByteArray(SERIALISER);
     }
 
+    @Deprecated
     @Override
     public ItemsSketch<String> deserialise(final byte[] bytes) throws SerialisationException {
-       return ItemsSketch.getInstance(String.class, WritableMemory.writableWrap(bytes), Comparator.naturalOrder(), SERIALISER);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public ItemsSketch<String> deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return ItemsSketch.getInstance(String.class, Memory.wrap(allBytes).region(offset, length), Comparator.naturalOrder(), SERIALISER);
     }
 
     @Override
@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.sketches.datasketches.sampling.binaryoperator;
 import org.apache.datasketches.sampling.ReservoirItemsSketch;
 import org.apache.datasketches.sampling.ReservoirItemsUnion;
 
+import uk.gov.gchq.gaffer.types.binaryoperator.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
@@ -29,7 +30,8 @@ import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
  */
 @Since("1.0.0")
 @Summary("Aggregates ReservoirItemsSketches")
-public class ReservoirItemsSketchAggregator<T> extends KorypheBinaryOperator<ReservoirItemsSketch<T>> {
+public class ReservoirItemsSketchAggregator<T> extends KorypheBinaryOperator<ReservoirItemsSketch<T>>
+        implements AccumulatingBinaryOperator<ReservoirItemsSketch<T>, ReservoirItemsUnion<T>> {
 
     @Override
     protected ReservoirItemsSketch<T> _apply(final ReservoirItemsSketch<T> a, final ReservoirItemsSketch<T> b) {
@@ -38,4 +40,22 @@ public class ReservoirItemsSketchAggregator<T> extends KorypheBinaryOperator<Res
         union.update(b);
         return union.getResult();
     }
+
+    @Override
+    public ReservoirItemsUnion<T> begin(final ReservoirItemsSketch<T> first) {
+        final ReservoirItemsUnion<T> union = ReservoirItemsUnion.newInstance(first.getK());
+        union.update(first);
+        return union;
+    }
+
+    @Override
+    public ReservoirItemsUnion<T> accumulate(final ReservoirItemsUnion<T> union, final ReservoirItemsSketch<T> sketch) {
+        union.update(sketch);
+        return union;
+    }
+
+    @Override
+    public ReservoirItemsSketch<T> finish(final ReservoirItemsUnion<T> union) {
+        return union.getResult();
+    }
 }
@@ -19,17 +19,20 @@ package uk.gov.gchq.gaffer.sketches.datasketches.sampling.binaryoperator;
 import org.apache.datasketches.sampling.ReservoirLongsSketch;
 import org.apache.datasketches.sampling.ReservoirLongsUnion;
 
+import uk.gov.gchq.gaffer.types.binaryoperator.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code ReservoirLongsSketchAggregator} is a {@link java.util.function.BinaryOperator} that aggregates
- * {@link ReservoirLongsSketch}s using a {@link ReservoirLongsUnion}.
+ * {@link ReservoirLongsSketch}s using a {@link ReservoirLongsUnion}. When accumulating, a
+ * single {@link ReservoirLongsUnion} is used for all of the sketches.
  */
 @Since("1.0.0")
 @Summary("Aggregates ReservoirLongsSketches using ReservoirLongsUnion")
-public class ReservoirLongsSketchAggregator extends KorypheBinaryOperator<ReservoirLongsSketch> {
+public class ReservoirLongsSketchAggregator extends KorypheBinaryOperator<ReservoirLongsSketch>
+        implements AccumulatingBinaryOperator<ReservoirLongsSketch, ReservoirLongsUnion> {
 
     @Override
     protected ReservoirLongsSketch _apply(final ReservoirLongsSketch a, final ReservoirLongsSketch b) {
@@ -38,4 +41,22 @@ public class ReservoirLongsSketchAggregator extends KorypheBinaryOperator<Reserv
         union.update(b);
         return union.getResult();
     }
+
+    @Override
+    public ReservoirLongsUnion begin(final ReservoirLongsSketch first) {
+        final ReservoirLongsUnion union = ReservoirLongsUnion.newInstance(first.getK());
+        union.update(first);
+        return union;
+    }
+
+    @Override
+    public ReservoirLongsUnion accumulate(final ReservoirLongsUnion union, final ReservoirLongsSketch sketch) {
+        union.update(sketch);
+        return union;
+    }
+
+    @Override
+    public ReservoirLongsSketch finish(final ReservoirLongsUnion union) {
+        return union.getResult();
+    }
 }
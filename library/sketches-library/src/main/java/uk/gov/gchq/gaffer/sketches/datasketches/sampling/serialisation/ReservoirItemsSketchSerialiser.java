@@ -18,12 +18,13 @@ package uk.gov.gchq.gaffer.sketches.datasketches.sampling.serialisation;
 
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.datasketches.common.ArrayOfItemsSerDe;
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.sampling.ReservoirItemsSketch;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code ReservoirItemsSketchSerialiser} serialises a {@link ReservoirItemsSketch} using its
  * {@code toByteArray()} method and the provided {@link ArrayOfItemsSerDe}.
@@ -45,9 +46,15 @@ public class ReservoirItemsSketchSerialiser<T> implements ToBytesSerialiser<Rese
         return sketch.toByteArray(arrayOfItemsSerDe);
     }
 
+    @Deprecated
     @Override
     public ReservoirItemsSketch<T> deserialise(final byte[] bytes) throws SerialisationException {
-        return ReservoirItemsSketch.heapify(WritableMemory.writableWrap(bytes), arrayOfItemsSerDe);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public ReservoirItemsSketch<T> deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return ReservoirItemsSketch.heapify(Memory.wrap(allBytes).region(offset, length), arrayOfItemsSerDe);
     }
 
     @Override
@@ -16,12 +16,13 @@
 
 package uk.gov.gchq.gaffer.sketches.datasketches.sampling.serialisation;
 
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.sampling.ReservoirLongsSketch;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code ReservoirLongsSketchSerialiser} serialises a {@link ReservoirLongsSketch} using its
  * {@code toByteArray()} method.
@@ -39,9 +40,15 @@ public class ReservoirLongsSketchSerialiser implements ToBytesSerialiser<Reservo
         return sketch.toByteArray();
     }
 
+    @Deprecated
     @Override
     public ReservoirLongsSketch deserialise(final byte[] bytes) throws SerialisationException {
-        return ReservoirLongsSketch.heapify(WritableMemory.writableWrap(bytes));
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public ReservoirLongsSketch deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return ReservoirLongsSketch.heapify(Memory.wrap(allBytes).region(offset, length));
     }
 
     @Override
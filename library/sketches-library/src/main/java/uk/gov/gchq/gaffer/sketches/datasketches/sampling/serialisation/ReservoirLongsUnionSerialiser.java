@@ -16,12 +16,13 @@
 
 package uk.gov.gchq.gaffer.sketches.datasketches.sampling.serialisation;
 
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.sampling.ReservoirLongsUnion;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code ReservoirLongsUnionSerialiser} serialises a {@link ReservoirLongsUnion} using its
  * {@code toByteArray()} method.
@@ -39,9 +40,15 @@ public class ReservoirLongsUnionSerialiser implements ToBytesSerialiser<Reservoi
         return union.toByteArray();
     }
 
+    @Deprecated
     @Override
     public ReservoirLongsUnion deserialise(final byte[] bytes) throws SerialisationException {
-        return ReservoirLongsUnion.heapify(WritableMemory.writableWrap(bytes));
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public ReservoirLongsUnion deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return ReservoirLongsUnion.heapify(Memory.wrap(allBytes).region(offset, length));
     }
 
     @Override
@@ -17,12 +17,13 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.sampling.serialisation;
 
 import org.apache.datasketches.common.ArrayOfNumbersSerDe;
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.sampling.ReservoirItemsUnion;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code ReservoirNumbersUnionSerialiser} serialises a {@link ReservoirItemsUnion} of {@link Number}s using its
  * {@code toByteArray()} method.
@@ -41,9 +42,15 @@ public class ReservoirNumbersUnionSerialiser implements ToBytesSerialiser<Reserv
         return union.toByteArray(SERIALISER);
     }
 
+    @Deprecated
     @Override
     public ReservoirItemsUnion<Number> deserialise(final byte[] bytes) throws SerialisationException {
-        return ReservoirItemsUnion.heapify(WritableMemory.writableWrap(bytes), SERIALISER);
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public ReservoirItemsUnion<Number> deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
+        return ReservoirItemsUnion.heapify(Memory.wrap(allBytes).region(offset, length), SERIALISER);
     }
 
     @Override
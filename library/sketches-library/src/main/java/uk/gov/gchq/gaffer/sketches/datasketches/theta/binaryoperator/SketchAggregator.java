@@ -16,21 +16,27 @@
 
 package uk.gov.gchq.gaffer.sketches.datasketches.theta.binaryoperator;
 
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.theta.Sketch;
 import org.apache.datasketches.theta.Sketches;
 import org.apache.datasketches.theta.Union;
 
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.theta.serialisation.SketchSerialiser;
+import uk.gov.gchq.gaffer.types.binaryoperator.SerialisedAccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
 /**
  * A {@code SketchAggregator} is a {@link java.util.function.BinaryOperator} that aggregates {@link Sketch}s
- * using a {@link Union}.
+ * using a {@link Union}. When accumulating, a single {@link Union} is used for all of the sketches,
+ * and sketches serialised by the {@link SketchSerialiser} are wrapped rather than copied.
  */
 @Since("1.0.0")
 @Summary("Aggregates Sketches using a Union")
-public class SketchAggregator extends KorypheBinaryOperator<Sketch> {
+public class SketchAggregator extends KorypheBinaryOperator<Sketch> implements SerialisedAccumulatingBinaryOperator<Sketch, Union> {
 
     @Override
     protected Sketch _apply(final Sketch a, final Sketch b) {
@@ -39,4 +45,43 @@ public class SketchAggregator extends KorypheBinaryOperator<Sketch> {
         union.union(b);
         return union.getResult();
     }
+
+    @Override
+    public Union begin(final Sketch first) {
+        final Union union = Sketches.setOperationBuilder().buildUnion();
+        union.union(first);
+        return union;
+    }
+
+    @Override
+    public Union accumulate(final Union union, final Sketch sketch) {
+        union.union(sketch);
+        return union;
+    }
+
+    @Override
+    public Sketch finish(final Union union) {
+        return union.getResult();
+    }
+
+    @Override
+    public boolean canAccumulateSerialised(final ToBytesSerialiser<?> serialiser) {
+        return serialiser instanceof SketchSerialiser;
+    }
+
+    @Override
+    public Union beginSerialised(final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        final Union union = Sketches.setOperationBuilder().buildUnion();
+        return accumulateSerialised(union, bytes, offset, length);
+    }
+
+    @Override
+    public Union accumulateSerialised(final Union union, final byte[] bytes, final int offset, final int length) throws SerialisationException {
+        try {
+            union.union(Sketch.wrap(Memory.wrap(bytes).region(offset, length)));
+        } catch (final RuntimeException e) {
+            throw new SerialisationException("Failed to read Sketch", e);
+        }
+        return union;
+    }
 }
@@ -16,13 +16,14 @@
 
 package uk.gov.gchq.gaffer.sketches.datasketches.theta.serialisation;
 
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.theta.Sketches;
 import org.apache.datasketches.theta.Union;
 
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
 
+
 /**
  * A {@code UnionSerialiser} serialises an {@link Union} using the {@code toByteArray()} method from the
  * sketch
@@ -40,10 +41,16 @@ public class UnionSerialiser implements ToBytesSerialiser<Union> {
         return union.getResult().toByteArray();
     }
 
+    @Deprecated
     @Override
     public Union deserialise(final byte[] bytes) throws SerialisationException {
+        return deserialise(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public Union deserialise(final byte[] allBytes, final int offset, final int length) throws SerialisationException {
         final Union union = Sketches.setOperationBuilder().buildUnion();
-        union.union(WritableMemory.writableWrap(bytes));
+        union.union(Memory.wrap(allBytes).region(offset, length));
         return union;
     }
 
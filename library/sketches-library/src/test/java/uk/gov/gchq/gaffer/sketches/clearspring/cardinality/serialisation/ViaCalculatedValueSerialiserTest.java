@@ -21,6 +21,7 @@ import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialisationTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -60,6 +61,11 @@ public abstract class ViaCalculatedValueSerialiserTest<OUTPUT, VALUE> extends To
         assertEquals(firstValue, secondValueDeserialised);
     }
 
+    @Override
+    protected void assertDeserialisedEquals(final OUTPUT expected, final OUTPUT actual) {
+        assertThat(useTestValue(actual)).isEqualTo(useTestValue(expected));
+    }
+
     protected void testSerialiser(final OUTPUT object) {
         try {
             VALUE originalValue = useTestValue(object);
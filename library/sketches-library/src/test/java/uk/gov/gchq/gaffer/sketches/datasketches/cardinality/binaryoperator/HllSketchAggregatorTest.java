@@ -17,15 +17,18 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.cardinality.binaryoperator;
 
 import org.apache.datasketches.hll.HllSketch;
+import org.apache.datasketches.hll.Union;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.JsonAssert;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation.HllSketchSerialiser;
 import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorTest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class HllSketchAggregatorTest extends BinaryOperatorTest<HllSketchAggregator> {
 
@@ -49,6 +52,43 @@ public class HllSketchAggregatorTest extends BinaryOperatorTest<HllSketchAggrega
         assertEquals(4.0D, currentSketch.getEstimate(), DELTA);
     }
 
+    @Test
+    public void testAccumulate() {
+        final HllSketchAggregator sketchAggregator = new HllSketchAggregator();
+
+        Union union = null;
+        for (int i = 0; i < 10; i++) {
+            final HllSketch sketch = new HllSketch(10);
+            sketch.update("A" + i);
+            sketch.update("B" + i);
+            union = null == union ? sketchAggregator.begin(sketch) : sketchAggregator.accumulate(union, sketch);
+        }
+
+        final HllSketch result = sketchAggregator.finish(union);
+        assertEquals(20.0D, result.getEstimate(), 0.1D);
+    }
+
+    @Test
+    public void testAccumulateSerialised() throws SerialisationException {
+        final HllSketchAggregator sketchAggregator = new HllSketchAggregator();
+        final HllSketchSerialiser serialiser = new HllSketchSerialiser();
+        assertTrue(sketchAggregator.canAccumulateSerialised(serialiser));
+
+        Union union = null;
+        for (int i = 0; i < 10; i++) {
+            final HllSketch sketch = new HllSketch(10);
+            sketch.update("A" + i);
+            sketch.update("B" + i);
+            final byte[] bytes = pad(serialiser.serialise(sketch));
+            union = null == union
+                    ? sketchAggregator.beginSerialised(bytes, 1, bytes.length - 1)
+                    : sketchAggregator.accumulateSerialised(union, bytes, 1, bytes.length - 1);
+        }
+
+        final HllSketch result = sketchAggregator.finish(union);
+        assertEquals(20.0D, result.getEstimate(), 0.1D);
+    }
+
     @Test
     public void testEquals() {
         assertEquals(new HllSketchAggregator(), new HllSketchAggregator());
@@ -88,4 +128,10 @@ public class HllSketchAggregatorTest extends BinaryOperatorTest<HllSketchAggrega
     protected Iterable<HllSketchAggregator> getDifferentInstancesOrNull() {
         return null;
     }
+
+    private static byte[] pad(final byte[] bytes) {
+        final byte[] padded = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, padded, 1, bytes.length);
+        return padded;
+    }
 }
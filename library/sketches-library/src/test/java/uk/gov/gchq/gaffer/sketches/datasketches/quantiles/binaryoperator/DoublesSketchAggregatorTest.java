@@ -17,18 +17,21 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.quantiles.binaryoperator;
 
 import org.apache.datasketches.quantiles.DoublesSketch;
+import org.apache.datasketches.quantiles.DoublesUnion;
 import org.apache.datasketches.quantiles.UpdateDoublesSketch;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.JsonAssert;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.quantiles.serialisation.DoublesSketchSerialiser;
 import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorTest;
 
 import java.util.function.BinaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DoublesSketchAggregatorTest extends BinaryOperatorTest<DoublesSketchAggregator> {
 
@@ -58,6 +61,43 @@ public class DoublesSketchAggregatorTest extends BinaryOperatorTest<DoublesSketc
         assertEquals(4.0D, currentState.getQuantile(0.5D), DELTA);
     }
 
+    @Test
+    public void testAccumulate() {
+        final DoublesSketchAggregator sketchAggregator = new DoublesSketchAggregator();
+
+        DoublesUnion union = null;
+        for (int i = 1; i <= 7; i++) {
+            final UpdateDoublesSketch sketch = DoublesSketch.builder().build();
+            sketch.update(i);
+            union = null == union ? sketchAggregator.begin(sketch) : sketchAggregator.accumulate(union, sketch);
+        }
+
+        final DoublesSketch result = sketchAggregator.finish(union);
+        assertEquals(7L, result.getN());
+        assertEquals(4.0D, result.getQuantile(0.5D), DELTA);
+    }
+
+    @Test
+    public void testAccumulateSerialised() throws SerialisationException {
+        final DoublesSketchAggregator sketchAggregator = new DoublesSketchAggregator();
+        final DoublesSketchSerialiser serialiser = new DoublesSketchSerialiser();
+        assertTrue(sketchAggregator.canAccumulateSerialised(serialiser));
+
+        DoublesUnion union = null;
+        for (int i = 1; i <= 7; i++) {
+            final UpdateDoublesSketch sketch = DoublesSketch.builder().build();
+            sketch.update(i);
+            final byte[] bytes = pad(serialiser.serialise(sketch));
+            union = null == union
+                    ? sketchAggregator.beginSerialised(bytes, 1, bytes.length - 1)
+                    : sketchAggregator.accumulateSerialised(union, bytes, 1, bytes.length - 1);
+        }
+
+        final DoublesSketch result = sketchAggregator.finish(union);
+        assertEquals(7L, result.getN());
+        assertEquals(4.0D, result.getQuantile(0.5D), DELTA);
+    }
+
     @Test
     public void testEquals() {
         assertEquals(new DoublesSketchAggregator(), new DoublesSketchAggregator());
@@ -97,4 +137,10 @@ public class DoublesSketchAggregatorTest extends BinaryOperatorTest<DoublesSketc
     protected Iterable<DoublesSketchAggregator> getDifferentInstancesOrNull() {
         return null;
     }
+
+    private static byte[] pad(final byte[] bytes) {
+        final byte[] padded = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, padded, 1, bytes.length);
+        return padded;
+    }
 }
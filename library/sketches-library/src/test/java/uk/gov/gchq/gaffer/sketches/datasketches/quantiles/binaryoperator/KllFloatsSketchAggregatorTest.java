@@ -22,12 +22,14 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.commonutil.JsonAssert;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.quantiles.serialisation.KllFloatsSketchSerialiser;
 import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorTest;
 
 import java.util.function.BinaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class KllFloatsSketchAggregatorTest extends BinaryOperatorTest<KllFloatsSketchAggregator> {
 
@@ -56,6 +58,27 @@ public class KllFloatsSketchAggregatorTest extends BinaryOperatorTest<KllFloatsS
         assertEquals(4.0D, currentSketch.getQuantile(0.5D), DELTA);
     }
 
+    @Test
+    public void testAccumulateSerialised() throws SerialisationException {
+        final KllFloatsSketchAggregator sketchAggregator = new KllFloatsSketchAggregator();
+        final KllFloatsSketchSerialiser serialiser = new KllFloatsSketchSerialiser();
+        assertTrue(sketchAggregator.canAccumulateSerialised(serialiser));
+
+        KllFloatsSketch result = null;
+        for (int i = 1; i <= 7; i++) {
+            final KllFloatsSketch sketch = KllFloatsSketch.newHeapInstance();
+            sketch.update(i);
+            final byte[] bytes = pad(serialiser.serialise(sketch));
+            result = null == result
+                    ? sketchAggregator.beginSerialised(bytes, 1, bytes.length - 1)
+                    : sketchAggregator.accumulateSerialised(result, bytes, 1, bytes.length - 1);
+        }
+
+        result = sketchAggregator.finish(result);
+        assertEquals(7L, result.getN());
+        assertEquals(4.0D, result.getQuantile(0.5D), DELTA);
+    }
+
     @Test
     public void testEquals() {
         assertEquals(new KllFloatsSketchAggregator(), new KllFloatsSketchAggregator());
@@ -95,4 +118,10 @@ public class KllFloatsSketchAggregatorTest extends BinaryOperatorTest<KllFloatsS
     protected Iterable<KllFloatsSketchAggregator> getDifferentInstancesOrNull() {
         return null;
     }
+
+    private static byte[] pad(final byte[] bytes) {
+        final byte[] padded = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, padded, 1, bytes.length);
+        return padded;
+    }
 }
@@ -17,18 +17,21 @@
 package uk.gov.gchq.gaffer.sketches.datasketches.theta.binaryoperator;
 
 import org.apache.datasketches.theta.Sketch;
+import org.apache.datasketches.theta.Union;
 import org.apache.datasketches.theta.UpdateSketch;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.JsonAssert;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.theta.serialisation.SketchSerialiser;
 import uk.gov.gchq.koryphe.binaryoperator.BinaryOperatorTest;
 
 import java.util.function.BinaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SketchAggregatorTest extends BinaryOperatorTest {
 
@@ -53,6 +56,43 @@ public class SketchAggregatorTest extends BinaryOperatorTest {
         assertEquals(4.0D, currentState.getEstimate(), DELTA);
     }
 
+    @Test
+    public void testAccumulate() {
+        final SketchAggregator sketchAggregator = new SketchAggregator();
+
+        Union union = null;
+        for (int i = 0; i < 10; i++) {
+            final UpdateSketch sketch = UpdateSketch.builder().build();
+            sketch.update("A" + i);
+            sketch.update("B" + i);
+            union = null == union ? sketchAggregator.begin(sketch) : sketchAggregator.accumulate(union, sketch);
+        }
+
+        final Sketch result = sketchAggregator.finish(union);
+        assertEquals(20.0D, result.getEstimate(), DELTA);
+    }
+
+    @Test
+    public void testAccumulateSerialised() throws SerialisationException {
+        final SketchAggregator sketchAggregator = new SketchAggregator();
+        final SketchSerialiser serialiser = new SketchSerialiser();
+        assertTrue(sketchAggregator.canAccumulateSerialised(serialiser));
+
+        Union union = null;
+        for (int i = 0; i < 10; i++) {
+            final UpdateSketch sketch = UpdateSketch.builder().build();
+            sketch.update("A" + i);
+            sketch.update("B" + i);
+            final byte[] bytes = pad(serialiser.serialise(sketch));
+            union = null == union
+                    ? sketchAggregator.beginSerialised(bytes, 1, bytes.length - 1)
+                    : sketchAggregator.accumulateSerialised(union, bytes, 1, bytes.length - 1);
+        }
+
+        final Sketch result = sketchAggregator.finish(union);
+        assertEquals(20.0D, result.getEstimate(), DELTA);
+    }
+
     @Test
     public void testEquals() {
         assertEquals(new SketchAggregator(), new SketchAggregator());
@@ -92,4 +132,10 @@ public class SketchAggregatorTest extends BinaryOperatorTest {
     protected Iterable<SketchAggregator> getDifferentInstancesOrNull() {
         return null;
     }
+
+    private static byte[] pad(final byte[] bytes) {
+        final byte[] padded = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, padded, 1, bytes.length);
+        return padded;
+    }
 }
@@ -20,13 +20,13 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.google.common.collect.Sets;
-import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import uk.gov.gchq.gaffer.commonutil.ToStringBuilder;
 import uk.gov.gchq.gaffer.time.CommonTimeUtil.TimeBucket;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
@@ -50,6 +50,10 @@ import static uk.gov.gchq.gaffer.time.CommonTimeUtil.TimeBucket.YEAR;
  * <code>MINUTE</code> is specified, and a timestamp of January 1st 2017, 12:34:56
  * is added then the seconds are removed so that the value is associated to
  * 12:34.
+ * <p>
+ * The buckets and values are held in sorted primitive arrays rather than a
+ * map of boxed {@link Long}s, so aggregating and serialising a time series
+ * does not allocate an object for each entry.
  */
 @JsonPropertyOrder(alphabetic = true)
 public class LongTimeSeries implements TimeSeries<Long> {
@@ -64,14 +68,27 @@ public class LongTimeSeries implements TimeSeries<Long> {
             YEAR
     );
 
+    private static final long[] EMPTY = new long[0];
+
     private final TimeBucket timeBucket;
-    private final SortedMap<Long, Long> timeSeries = new TreeMap<>();
+    private long[] buckets;
+    private long[] values;
+    private int size;
 
     public LongTimeSeries(final TimeBucket timeBucket) {
+        this(timeBucket, 0);
+    }
+
+    public LongTimeSeries(final TimeBucket timeBucket, final int initialCapacity) {
         if (!VALID_TIME_BUCKETS.contains(timeBucket)) {
             throw new IllegalArgumentException("A TimeBucket of " + timeBucket + " is not supported");
         }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
         this.timeBucket = timeBucket;
+        this.buckets = 0 == initialCapacity ? EMPTY : new long[initialCapacity];
+        this.values = 0 == initialCapacity ? EMPTY : new long[initialCapacity];
     }
 
     @JsonCreator
@@ -92,7 +109,12 @@ public class LongTimeSeries implements TimeSeries<Long> {
     @Override
     public void put(final Instant instant, final Long value) {
         final long bucket = toLong(timeBucket, instant.toEpochMilli());
-        timeSeries.put(bucket, value);
+        final int index = indexOf(bucket);
+        if (index >= 0) {
+            values[index] = value;
+        } else {
+            insert(-(index + 1), bucket, value);
+        }
     }
 
     /**
@@ -105,7 +127,8 @@ public class LongTimeSeries implements TimeSeries<Long> {
     @JsonIgnore
     @Override
     public Long get(final Instant instant) {
-        return timeSeries.get(toLong(timeBucket, instant.toEpochMilli()));
+        final int index = indexOf(toLong(timeBucket, instant.toEpochMilli()));
+        return index >= 0 ? values[index] : null;
     }
 
     /**
@@ -119,8 +142,92 @@ public class LongTimeSeries implements TimeSeries<Long> {
      * @param count   The value observed at the instant.
      */
     public void upsert(final Instant instant, final long count) {
-        final long bucket = toLong(timeBucket, instant.toEpochMilli());
-        timeSeries.merge(bucket, count, (x, y) -> x + y);
+        upsert(instant.toEpochMilli(), count);
+    }
+
+    /**
+     * Adds the given <code>count</code> to the current value associated to the
+     * given timestamp, in milliseconds since the epoch. This behaves in the same
+     * way as {@link #upsert(Instant, long)} but does not require an
+     * {@link Instant} to be created.
+     *
+     * @param timestamp The time at which the value was observed, in milliseconds since the epoch.
+     * @param count     The value observed at the time.
+     */
+    public void upsert(final long timestamp, final long count) {
+        final long bucket = toLong(timeBucket, timestamp);
+        final int index = indexOf(bucket);
+        if (index >= 0) {
+            values[index] += count;
+        } else {
+            insert(-(index + 1), bucket, count);
+        }
+    }
+
+    /**
+     * Adds all the values in the given time series to this time series, in the
+     * same way as calling {@link #upsert(Instant, long)} for each entry. The
+     * two time series are merged in a single pass without creating an object
+     * for each entry.
+     *
+     * @param timeSeries The time series to add to this time series.
+     */
+    public void upsertAll(final LongTimeSeries timeSeries) {
+        if (timeBucket != timeSeries.timeBucket) {
+            throw new IllegalArgumentException("Can't merge a LongTimeSeries with bucket " + timeSeries.timeBucket
+                    + " into a LongTimeSeries with bucket " + timeBucket);
+        }
+
+        // Count the buckets that are not already in this time series
+        int newBuckets = 0;
+        int i = 0;
+        int j = 0;
+        while (j < timeSeries.size) {
+            if (i == size || timeSeries.buckets[j] < buckets[i]) {
+                newBuckets++;
+                j++;
+            } else if (timeSeries.buckets[j] == buckets[i]) {
+                i++;
+                j++;
+            } else {
+                i++;
+            }
+        }
+
+        if (0 == newBuckets) {
+            i = 0;
+            for (j = 0; j < timeSeries.size; j++) {
+                while (buckets[i] != timeSeries.buckets[j]) {
+                    i++;
+                }
+                values[i] += timeSeries.values[j];
+            }
+            return;
+        }
+
+        // Merge from the end backwards so the merge can be done in place
+        ensureCapacity(size + newBuckets);
+        i = size - 1;
+        j = timeSeries.size - 1;
+        int k = size + newBuckets - 1;
+        while (j >= 0) {
+            if (i >= 0 && buckets[i] > timeSeries.buckets[j]) {
+                buckets[k] = buckets[i];
+                values[k] = values[i];
+                i--;
+            } else if (i >= 0 && buckets[i] == timeSeries.buckets[j]) {
+                buckets[k] = buckets[i];
+                values[k] = values[i] + timeSeries.values[j];
+                i--;
+                j--;
+            } else {
+                buckets[k] = timeSeries.buckets[j];
+                values[k] = timeSeries.values[j];
+                j--;
+            }
+            k--;
+        }
+        size += newBuckets;
     }
 
     /**
@@ -131,11 +238,9 @@ public class LongTimeSeries implements TimeSeries<Long> {
     @JsonIgnore
     public SortedSet<Instant> getInstants() {
         final SortedSet<Instant> instants = new TreeSet<>();
-        timeSeries
-                .keySet()
-                .stream()
-                .map(l -> getInstantFromLong(timeBucket, l))
-                .forEach(instants::add);
+        for (int i = 0; i < size; i++) {
+            instants.add(getInstantFromLong(timeBucket, buckets[i]));
+        }
         return instants;
     }
 
@@ -146,7 +251,31 @@ public class LongTimeSeries implements TimeSeries<Long> {
      */
     @JsonIgnore
     public int getNumberOfInstants() {
-        return timeSeries.size();
+        return size;
+    }
+
+    /**
+     * Returns the instant at the given position in the time series, in
+     * milliseconds since the epoch. Instants are held in ascending order.
+     *
+     * @param index The position of the instant, from 0 to {@link #getNumberOfInstants()} - 1.
+     * @return The instant in milliseconds since the epoch.
+     */
+    public long getTimestamp(final int index) {
+        checkIndex(index);
+        return fromLong(timeBucket, buckets[index]);
+    }
+
+    /**
+     * Returns the value associated to the instant at the given position in the
+     * time series.
+     *
+     * @param index The position of the instant, from 0 to {@link #getNumberOfInstants()} - 1.
+     * @return The value associated to the instant.
+     */
+    public long getValue(final int index) {
+        checkIndex(index);
+        return values[index];
     }
 
     /**
@@ -158,7 +287,9 @@ public class LongTimeSeries implements TimeSeries<Long> {
      */
     public SortedMap<Instant, Long> getTimeSeries() {
         final SortedMap<Instant, Long> map = new TreeMap<>();
-        timeSeries.forEach((k, v) -> map.put(getInstantFromLong(timeBucket, k), v));
+        for (int i = 0; i < size; i++) {
+            map.put(getInstantFromLong(timeBucket, buckets[i]), values[i]);
+        }
         return map;
     }
 
@@ -171,7 +302,7 @@ public class LongTimeSeries implements TimeSeries<Long> {
         if (null == timeBucket) {
             throw new IllegalArgumentException("timeBucket should be configured before setting a timeSeries");
         }
-        this.timeSeries.clear();
+        size = 0;
         if (null != timeSeries) {
             timeSeries.forEach(this::put);
         }
@@ -192,28 +323,76 @@ public class LongTimeSeries implements TimeSeries<Long> {
 
         final LongTimeSeries that = (LongTimeSeries) obj;
 
-        return new EqualsBuilder()
-                .append(timeBucket, that.timeBucket)
-                .append(timeSeries, that.timeSeries)
-                .isEquals();
+        if (timeBucket != that.timeBucket || size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (buckets[i] != that.buckets[i] || values[i] != that.values[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder(21, 3)
-                .append(timeBucket)
-                .append(timeSeries)
-                .toHashCode();
+        final HashCodeBuilder builder = new HashCodeBuilder(21, 3)
+                .append(timeBucket);
+        for (int i = 0; i < size; i++) {
+            builder.append(buckets[i]).append(values[i]);
+        }
+        return builder.toHashCode();
     }
 
     @Override
     public String toString() {
+        final StringBuilder timeSeries = new StringBuilder("{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                timeSeries.append(", ");
+            }
+            timeSeries.append(buckets[i]).append('=').append(values[i]);
+        }
+        timeSeries.append('}');
         return new ToStringBuilder(this)
                 .append("timeBucket", timeBucket)
                 .append("timeSeries", timeSeries)
                 .build();
     }
 
+    private int indexOf(final long bucket) {
+        // Values are usually added in time order so check the end first
+        if (0 == size || buckets[size - 1] < bucket) {
+            return -(size + 1);
+        }
+        return Arrays.binarySearch(buckets, 0, size, bucket);
+    }
+
+    private void insert(final int index, final long bucket, final long value) {
+        ensureCapacity(size + 1);
+        if (index < size) {
+            System.arraycopy(buckets, index, buckets, index + 1, size - index);
+            System.arraycopy(values, index, values, index + 1, size - index);
+        }
+        buckets[index] = bucket;
+        values[index] = value;
+        size++;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > buckets.length) {
+            final int newCapacity = Math.max(capacity, Math.max(4, buckets.length + (buckets.length >> 1)));
+            buckets = Arrays.copyOf(buckets, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Number of instants: " + size);
+        }
+    }
+
     private static long toLong(final TimeBucket timeBucket, final long time) {
         final long timeTruncatedToBucket = CommonTimeUtil.timeToBucket(time, timeBucket);
         switch (timeBucket) {
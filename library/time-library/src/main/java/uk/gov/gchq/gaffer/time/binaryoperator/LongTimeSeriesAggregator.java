@@ -20,9 +20,6 @@ import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
-import java.time.Instant;
-import java.util.Map;
-
 /**
  * A {@code LongTimeSeriesAggregator} is a {@link java.util.function.BinaryOperator}
  * that takes in {@link LongTimeSeries}s and aggregates the time series. If both
@@ -39,9 +36,7 @@ public class LongTimeSeriesAggregator extends KorypheBinaryOperator<LongTimeSeri
             throw new RuntimeException("Can't aggregate two LongTimeSeries with different time buckets: "
                     + "a had bucket " + a.getTimeBucket() + ", b had bucket " + b.getTimeBucket());
         }
-        for (final Map.Entry<Instant, Long> entry : b.getTimeSeries().entrySet()) {
-            a.upsert(entry.getKey(), entry.getValue());
-        }
+        a.upsertAll(b);
         return a;
     }
 }
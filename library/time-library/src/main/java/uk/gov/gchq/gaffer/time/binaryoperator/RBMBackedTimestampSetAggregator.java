@@ -15,18 +15,28 @@
  */
 package uk.gov.gchq.gaffer.time.binaryoperator;
 
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
 import uk.gov.gchq.gaffer.time.RBMBackedTimestampSet;
+import uk.gov.gchq.gaffer.types.binaryoperator.AccumulatingBinaryOperator;
 import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 import uk.gov.gchq.koryphe.binaryoperator.KorypheBinaryOperator;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A {@code RBMBackedTimestampSetAggregator} is a {@link java.util.function.BinaryOperator} that takes in
  * {@link RBMBackedTimestampSet}s and merges the underlying {@code RoaringBitmap}s together.
+ * When accumulating, all of the {@code RoaringBitmap}s are merged together at once
+ * using {@link FastAggregation}.
  */
 @Since("1.0.0")
 @Summary("Aggregates RBMBackedTimestampSet objects")
-public class RBMBackedTimestampSetAggregator extends KorypheBinaryOperator<RBMBackedTimestampSet> {
+public class RBMBackedTimestampSetAggregator extends KorypheBinaryOperator<RBMBackedTimestampSet>
+        implements AccumulatingBinaryOperator<RBMBackedTimestampSet, List<RBMBackedTimestampSet>> {
 
     @Override
     protected RBMBackedTimestampSet _apply(final RBMBackedTimestampSet a, final RBMBackedTimestampSet b) {
@@ -37,4 +47,35 @@ public class RBMBackedTimestampSetAggregator extends KorypheBinaryOperator<RBMBa
         a.addAll(b);
         return a;
     }
+
+    @Override
+    public List<RBMBackedTimestampSet> begin(final RBMBackedTimestampSet first) {
+        final List<RBMBackedTimestampSet> timestampSets = new ArrayList<>();
+        timestampSets.add(first);
+        return timestampSets;
+    }
+
+    @Override
+    public List<RBMBackedTimestampSet> accumulate(final List<RBMBackedTimestampSet> timestampSets, final RBMBackedTimestampSet timestampSet) {
+        final RBMBackedTimestampSet first = timestampSets.get(0);
+        if (!timestampSet.getTimeBucket().equals(first.getTimeBucket())) {
+            throw new RuntimeException("Can't aggregate two RBMBackedTimestampSet with different time buckets: "
+                    + "a had bucket " + first.getTimeBucket() + ", b had bucket " + timestampSet.getTimeBucket());
+        }
+        timestampSets.add(timestampSet);
+        return timestampSets;
+    }
+
+    @Override
+    public RBMBackedTimestampSet finish(final List<RBMBackedTimestampSet> timestampSets) {
+        final RBMBackedTimestampSet first = timestampSets.get(0);
+        if (timestampSets.size() > 1) {
+            final List<RoaringBitmap> bitmaps = new ArrayList<>(timestampSets.size());
+            for (final RBMBackedTimestampSet timestampSet : timestampSets) {
+                bitmaps.add(timestampSet.getRbm());
+            }
+            first.setRbm(FastAggregation.or(bitmaps.iterator()));
+        }
+        return first;
+    }
 }
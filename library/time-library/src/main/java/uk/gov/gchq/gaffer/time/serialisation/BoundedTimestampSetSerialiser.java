@@ -16,9 +16,8 @@
 
 package uk.gov.gchq.gaffer.time.serialisation;
 
-import org.apache.datasketches.memory.WritableMemory;
+import org.apache.datasketches.memory.Memory;
 import org.apache.datasketches.sampling.ReservoirLongsUnion;
-import org.roaringbitmap.RoaringBitmap;
 
 import uk.gov.gchq.gaffer.bitmap.serialisation.utils.RoaringBitmapUtils;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
@@ -87,23 +86,13 @@ public class BoundedTimestampSetSerialiser implements ToBytesSerialiser<BoundedT
             final byte state = dis.readByte();
             if (NOT_FULL == state) {
                 final RBMBackedTimestampSet rbmBackedTimestampSet = new RBMBackedTimestampSet(bucket);
-                final RoaringBitmap rbm = new RoaringBitmap();
-                final byte[] serialisedRBM = new byte[bais.available()];
-                if (-1 == dis.read(serialisedRBM)) {
-                    throw new SerialisationException("Unexpected end of stream when reading serialised RoaringBitmap");
-                }
-                final byte[] convertedBytes = RoaringBitmapUtils.upConvertSerialisedForm(serialisedRBM, 0, serialisedRBM.length);
-                final ByteArrayInputStream baisConvertedBytes = new ByteArrayInputStream(convertedBytes);
-                final DataInputStream disConvertedBytes = new DataInputStream(baisConvertedBytes);
-                rbm.deserialize(disConvertedBytes);
-                rbmBackedTimestampSet.setRbm(rbm);
+                final int consumed = length - bais.available();
+                rbmBackedTimestampSet.setRbm(RoaringBitmapUtils.deserialise(allBytes, offset + consumed, length - consumed));
                 boundedTimestampSet.setRbmBackedTimestampSet(rbmBackedTimestampSet);
             } else if (SAMPLE == state) {
-                final byte[] serialisedRLU = new byte[dis.available()];
-                if (-1 == dis.read(serialisedRLU)) {
-                    throw new SerialisationException("Unexpected end of stream when reading serialised ReservoirLongsUnion");
-                }
-                final ReservoirLongsUnion reservoirLongsUnion = ReservoirLongsUnion.heapify(WritableMemory.writableWrap(serialisedRLU));
+                final int consumed = length - bais.available();
+                final ReservoirLongsUnion reservoirLongsUnion = ReservoirLongsUnion.heapify(
+                        Memory.wrap(allBytes).region(offset + consumed, length - consumed));
                 boundedTimestampSet.setReservoirLongsUnion(reservoirLongsUnion);
             } else {
                 throw new SerialisationException("Unexpected byte indicating the state: expected " + NOT_FULL + " or "
@@ -115,6 +104,7 @@ public class BoundedTimestampSetSerialiser implements ToBytesSerialiser<BoundedT
         return boundedTimestampSet;
     }
 
+    @Deprecated
     @Override
     public BoundedTimestampSet deserialise(final byte[] bytes) throws SerialisationException {
         return deserialise(bytes, 0, bytes.length);
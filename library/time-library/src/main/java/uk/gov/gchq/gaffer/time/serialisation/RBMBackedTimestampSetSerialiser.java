@@ -15,8 +15,6 @@
  */
 package uk.gov.gchq.gaffer.time.serialisation;
 
-import org.roaringbitmap.RoaringBitmap;
-
 import uk.gov.gchq.gaffer.bitmap.serialisation.utils.RoaringBitmapUtils;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
@@ -24,9 +22,7 @@ import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisati
 import uk.gov.gchq.gaffer.time.CommonTimeUtil.TimeBucket;
 import uk.gov.gchq.gaffer.time.RBMBackedTimestampSet;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
@@ -77,20 +73,12 @@ public class RBMBackedTimestampSetSerialiser implements ToBytesSerialiser<RBMBac
         final int numBytesForInt = CompactRawSerialisationUtils.decodeVIntSize(allBytes[offset]);
         final TimeBucket bucket = TimeBucket.values()[bucketInt];
         final RBMBackedTimestampSet rbmBackedTimestampSet = new RBMBackedTimestampSet(bucket);
-        final RoaringBitmap rbm = new RoaringBitmap();
-        try {
-            // Deal with different versions of RoaringBitmap
-            final byte[] convertedBytes = RoaringBitmapUtils.upConvertSerialisedForm(allBytes, offset + numBytesForInt, length - numBytesForInt);
-            final ByteArrayInputStream baisConvertedBytes = new ByteArrayInputStream(convertedBytes);
-            final DataInputStream disConvertedBytes = new DataInputStream(baisConvertedBytes);
-            rbm.deserialize(disConvertedBytes);
-        } catch (final IOException e) {
-            throw new SerialisationException("IOException deserialising RoaringBitmap from byte array", e);
-        }
-        rbmBackedTimestampSet.setRbm(rbm);
+        // Deal with different versions of RoaringBitmap
+        rbmBackedTimestampSet.setRbm(RoaringBitmapUtils.deserialise(allBytes, offset + numBytesForInt, length - numBytesForInt));
         return rbmBackedTimestampSet;
     }
 
+    @Deprecated
     @Override
     public RBMBackedTimestampSet deserialise(final byte[] bytes) throws SerialisationException {
         return deserialise(bytes, 0, bytes.length);
@@ -212,6 +212,72 @@ public class LongTimeSeriesTest extends JSONSerialisationTest<LongTimeSeries> {
         assertEquals(1000L, value2);
     }
 
+    @Test
+    public void testInstantsAreOrderedWhenAddedOutOfOrder() {
+        // Given
+        final LongTimeSeries timeSeries = new LongTimeSeries(TimeBucket.SECOND);
+
+        // When
+        timeSeries.upsert(Instant.ofEpochMilli(30_000L), 3L);
+        timeSeries.upsert(Instant.ofEpochMilli(10_000L), 1L);
+        timeSeries.upsert(Instant.ofEpochMilli(20_000L), 2L);
+        timeSeries.upsert(Instant.ofEpochMilli(10_500L), 10L);
+
+        // Then
+        assertEquals(3, timeSeries.getNumberOfInstants());
+        assertEquals(10_000L, timeSeries.getTimestamp(0));
+        assertEquals(11L, timeSeries.getValue(0));
+        assertEquals(20_000L, timeSeries.getTimestamp(1));
+        assertEquals(2L, timeSeries.getValue(1));
+        assertEquals(30_000L, timeSeries.getTimestamp(2));
+        assertEquals(3L, timeSeries.getValue(2));
+    }
+
+    @Test
+    public void testUpsertAll() {
+        // Given
+        final LongTimeSeries timeSeries1 = new LongTimeSeries(TimeBucket.SECOND);
+        timeSeries1.put(Instant.ofEpochMilli(2_000L), 2L);
+        timeSeries1.put(Instant.ofEpochMilli(4_000L), 4L);
+        final LongTimeSeries timeSeries2 = new LongTimeSeries(TimeBucket.SECOND);
+        timeSeries2.put(Instant.ofEpochMilli(1_000L), 1L);
+        timeSeries2.put(Instant.ofEpochMilli(4_000L), 40L);
+        timeSeries2.put(Instant.ofEpochMilli(5_000L), 5L);
+
+        // When
+        timeSeries1.upsertAll(timeSeries2);
+
+        // Then
+        final Map<Instant, Long> expected = new HashMap<>();
+        expected.put(Instant.ofEpochMilli(1_000L), 1L);
+        expected.put(Instant.ofEpochMilli(2_000L), 2L);
+        expected.put(Instant.ofEpochMilli(4_000L), 44L);
+        expected.put(Instant.ofEpochMilli(5_000L), 5L);
+        assertEquals(expected, timeSeries1.getTimeSeries());
+        assertEquals(3, timeSeries2.getNumberOfInstants());
+    }
+
+    @Test
+    public void testUpsertAllWhenAllInstantsAlreadyPresent() {
+        // Given
+        final LongTimeSeries timeSeries1 = new LongTimeSeries(TimeBucket.SECOND);
+        timeSeries1.put(Instant.ofEpochMilli(1_000L), 1L);
+        timeSeries1.put(Instant.ofEpochMilli(2_000L), 2L);
+        timeSeries1.put(Instant.ofEpochMilli(3_000L), 3L);
+        final LongTimeSeries timeSeries2 = new LongTimeSeries(TimeBucket.SECOND);
+        timeSeries2.put(Instant.ofEpochMilli(1_000L), 10L);
+        timeSeries2.put(Instant.ofEpochMilli(3_000L), 30L);
+
+        // When
+        timeSeries1.upsertAll(timeSeries2);
+
+        // Then
+        assertEquals(3, timeSeries1.getNumberOfInstants());
+        assertEquals(11L, (long) timeSeries1.get(Instant.ofEpochMilli(1_000L)));
+        assertEquals(2L, (long) timeSeries1.get(Instant.ofEpochMilli(2_000L)));
+        assertEquals(33L, (long) timeSeries1.get(Instant.ofEpochMilli(3_000L)));
+    }
+
     @Test
     @Override
     public void shouldJsonSerialiseAndDeserialise() {
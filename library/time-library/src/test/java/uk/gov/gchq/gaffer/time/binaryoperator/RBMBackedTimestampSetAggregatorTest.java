@@ -21,8 +21,11 @@ import uk.gov.gchq.gaffer.time.CommonTimeUtil.TimeBucket;
 import uk.gov.gchq.gaffer.time.RBMBackedTimestampSet;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class RBMBackedTimestampSetAggregatorTest {
     private static final RBMBackedTimestampSetAggregator RBM_BACKED_TIMESTAMP_SET_AGGREGATOR
@@ -51,6 +54,32 @@ public class RBMBackedTimestampSetAggregatorTest {
         assertEquals(expected, aggregated);
     }
 
+    @Test
+    public void testAccumulate() {
+        // Given
+        final RBMBackedTimestampSet expected = new RBMBackedTimestampSet(TimeBucket.SECOND);
+        final List<RBMBackedTimestampSet> timestampSets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final RBMBackedTimestampSet timestampSet = new RBMBackedTimestampSet(TimeBucket.SECOND);
+            timestampSet.add(Instant.ofEpochMilli(1000L));
+            timestampSet.add(Instant.ofEpochMilli(1000000L * (i + 1)));
+            expected.add(timestampSet.getTimestamps());
+            timestampSets.add(timestampSet);
+        }
+
+        // When
+        List<RBMBackedTimestampSet> accumulator = RBM_BACKED_TIMESTAMP_SET_AGGREGATOR.begin(timestampSets.get(0));
+        for (final RBMBackedTimestampSet timestampSet : timestampSets.subList(1, timestampSets.size())) {
+            accumulator = RBM_BACKED_TIMESTAMP_SET_AGGREGATOR.accumulate(accumulator, timestampSet);
+        }
+        final RBMBackedTimestampSet aggregated = RBM_BACKED_TIMESTAMP_SET_AGGREGATOR.finish(accumulator);
+
+        // Then
+        assertSame(timestampSets.get(0), aggregated);
+        assertEquals(6, aggregated.getNumberOfTimestamps());
+        assertEquals(expected, aggregated);
+    }
+
     @Test
     public void testCantMergeIfDifferentTimeBucket() {
         try {
@@ -45,6 +45,8 @@ import uk.gov.gchq.gaffer.accumulostore.key.AccumuloKeyPackage;
 import uk.gov.gchq.gaffer.accumulostore.key.exception.AccumuloElementConversionException;
 import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
 import uk.gov.gchq.gaffer.accumulostore.operation.handler.AddElementsHandler;
+import uk.gov.gchq.gaffer.accumulostore.operation.handler.CountAllElementGroupsHandler;
+import uk.gov.gchq.gaffer.accumulostore.operation.handler.CountAllElementsHandler;
 import uk.gov.gchq.gaffer.accumulostore.operation.handler.DeleteAllDataHandler;
 import uk.gov.gchq.gaffer.accumulostore.operation.handler.DeleteElementsHandler;
 import uk.gov.gchq.gaffer.accumulostore.operation.handler.GenerateSplitPointsFromSampleHandler;
@@ -62,11 +64,15 @@ import uk.gov.gchq.gaffer.accumulostore.operation.hdfs.handler.ImportAccumuloKey
 import uk.gov.gchq.gaffer.accumulostore.operation.hdfs.handler.SampleDataForSplitPointsHandler;
 import uk.gov.gchq.gaffer.accumulostore.operation.hdfs.handler.SplitStoreFromIterableHandler;
 import uk.gov.gchq.gaffer.accumulostore.operation.hdfs.operation.ImportAccumuloKeyValueFiles;
+import uk.gov.gchq.gaffer.accumulostore.operation.impl.CountAllElementGroups;
+import uk.gov.gchq.gaffer.accumulostore.operation.impl.CountAllElements;
 import uk.gov.gchq.gaffer.accumulostore.operation.impl.GetElementsBetweenSets;
 import uk.gov.gchq.gaffer.accumulostore.operation.impl.GetElementsBetweenSetsPairs;
 import uk.gov.gchq.gaffer.accumulostore.operation.impl.GetElementsInRanges;
 import uk.gov.gchq.gaffer.accumulostore.operation.impl.GetElementsWithinSet;
 import uk.gov.gchq.gaffer.accumulostore.operation.impl.SummariseGroupOverRanges;
+import uk.gov.gchq.gaffer.accumulostore.optimiser.CountAllElementsOperationChainOptimiser;
+import uk.gov.gchq.gaffer.accumulostore.optimiser.TopNOperationChainOptimiser;
 import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
 import uk.gov.gchq.gaffer.accumulostore.utils.LegacySupport;
 import uk.gov.gchq.gaffer.accumulostore.utils.TableUtils;
@@ -101,6 +107,7 @@ import uk.gov.gchq.gaffer.store.operation.GetTraits;
 import uk.gov.gchq.gaffer.store.operation.handler.GetTraitsHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.OperationHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
+import uk.gov.gchq.gaffer.store.optimiser.OperationChainOptimisers;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
@@ -204,6 +211,8 @@ public class AccumuloStore extends Store {
             throws StoreException {
         setProperties(properties);
         super.initialise(graphId, schema, getProperties());
+        addOperationChainOptimisers(OperationChainOptimisers.getSupported(TRAITS));
+        addOperationChainOptimisers(Arrays.asList(new CountAllElementsOperationChainOptimiser(), new TopNOperationChainOptimiser()));
 
         final String keyPackageClass = getProperties().getKeyPackageClass();
         try {
@@ -407,6 +416,8 @@ public class AccumuloStore extends Store {
         addOperationHandler(GenerateSplitPointsFromSample.class, new GenerateSplitPointsFromSampleHandler());
         addOperationHandler(SampleDataForSplitPoints.class, new SampleDataForSplitPointsHandler());
         addOperationHandler(ImportAccumuloKeyValueFiles.class, new ImportAccumuloKeyValueFilesHandler());
+        addOperationHandler(CountAllElements.class, new CountAllElementsHandler());
+        addOperationHandler(CountAllElementGroups.class, new CountAllElementGroupsHandler());
 
         if (isNull(getSchema().getVertexSerialiser()) || getSchema().getVertexSerialiser().preservesObjectOrdering()) {
             addOperationHandler(SummariseGroupOverRanges.class, new SummariseGroupOverRangesHandler());
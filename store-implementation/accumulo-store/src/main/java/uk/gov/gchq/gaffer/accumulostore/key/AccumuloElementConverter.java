@@ -25,8 +25,11 @@ import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
 import uk.gov.gchq.gaffer.data.element.id.ElementId;
 
+import java.util.Iterator;
+
 /**
  * The Accumulo ElementConverter Interface details the methods necessary to
  * convert Gaffer {@link Element}s to Accumulo {@link Key}s and {@link Value}s
@@ -95,6 +98,37 @@ public interface AccumuloElementConverter {
      */
     Properties getPropertiesFromValue(final String group, final Value value);
 
+    /**
+     * Aggregates the properties in a run of Accumulo {@link Value}s into a
+     * single {@link Value}. By default each {@link Value} is converted to
+     * {@link uk.gov.gchq.gaffer.data.element.Properties} and the properties
+     * are aggregated using {@link ElementAggregator#aggregate(Iterator)}.
+     *
+     * @param group      the element group
+     * @param first      the first Value
+     * @param others     the other Values
+     * @param aggregator the aggregator for the group
+     * @return A new Accumulo {@link Value} containing the aggregated properties
+     */
+    default Value aggregateValues(final String group, final Value first, final Iterator<Value> others, final ElementAggregator aggregator) {
+        final Properties aggregatedProperties = aggregator.aggregate(new Iterator<Properties>() {
+            private Value next = first;
+
+            @Override
+            public boolean hasNext() {
+                return null != next || others.hasNext();
+            }
+
+            @Override
+            public Properties next() {
+                final Value current = null != next ? next : others.next();
+                next = null;
+                return getPropertiesFromValue(group, current);
+            }
+        });
+        return getValueFromProperties(group, aggregatedProperties);
+    }
+
     /**
      * Gets a new {@link ElementId} from an Accumulo {@link Key}.
      *
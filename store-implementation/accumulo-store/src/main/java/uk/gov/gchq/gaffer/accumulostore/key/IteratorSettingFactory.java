@@ -22,6 +22,7 @@ import org.apache.hadoop.util.bloom.BloomFilter;
 import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
 import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
 
 /**
@@ -125,6 +126,32 @@ public interface IteratorSettingFactory {
      */
     IteratorSetting getRowIDAggregatorIteratorSetting(final AccumuloStore store, final String columnFamily) throws IteratorSettingException;
 
+    /**
+     * Returns an Iterator that will count the elements in each group on the
+     * tablet servers. Only the partial counts for each tablet are returned,
+     * rather than the elements themselves. This iterator must be applied
+     * after all other scan time iterators.
+     *
+     * @return A new {@link IteratorSetting} for an Iterator that will count the elements in each group
+     */
+    IteratorSetting getGroupCountIteratorSetting();
+
+    /**
+     * Returns an Iterator that will only return the first n elements on each
+     * tablet, as ordered by the {@link uk.gov.gchq.gaffer.operation.impl.compare.Sort},
+     * {@link uk.gov.gchq.gaffer.operation.impl.compare.Max} or
+     * {@link uk.gov.gchq.gaffer.operation.impl.compare.Min} operation in the
+     * operation's {@link uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants#OPERATION_OPTION_TOP_N}
+     * option. This iterator must be applied after all other scan time iterators.
+     * This method will return null if the option is not set.
+     *
+     * @param operation the operation to get the IteratorSetting for
+     * @param store     the accumulo store
+     * @return A new {@link IteratorSetting} for an Iterator that will return the first n elements on each tablet
+     * @throws IteratorSettingException if the option does not contain a supported operation
+     */
+    IteratorSetting getTopNIteratorSetting(final Operation operation, final AccumuloStore store) throws IteratorSettingException;
+
     /**
      * Returns an Iterator to be applied when doing range operations that will do any filtering of
      * Element properties that may have otherwise been done elsewhere e.g via
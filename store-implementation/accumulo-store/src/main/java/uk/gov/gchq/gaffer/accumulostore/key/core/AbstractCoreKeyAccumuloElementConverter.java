@@ -32,6 +32,7 @@ import uk.gov.gchq.gaffer.data.element.EdgeDirection;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
 import uk.gov.gchq.gaffer.data.element.id.EdgeId;
 import uk.gov.gchq.gaffer.data.element.id.ElementId;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
@@ -42,23 +43,38 @@ import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisati
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.gaffer.types.binaryoperator.SerialisedAccumulatingBinaryOperator;
+import uk.gov.gchq.koryphe.tuple.binaryoperator.TupleAdaptedBinaryOperator;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 @SuppressWarnings("unchecked")
 public abstract class AbstractCoreKeyAccumuloElementConverter implements AccumuloElementConverter {
+    /**
+     * Buffers that grow larger than this are not reused, so a single large
+     * property does not hold on to memory for the life of the thread.
+     */
+    private static final int MAX_REUSED_BUFFER_SIZE = 1024 * 1024;
+
     protected final Schema schema;
+    // Converters are shared between threads so each thread reuses its own buffers
+    private final ThreadLocal<ByteArrayOutputStream> outputBuffer = ThreadLocal.withInitial(ByteArrayOutputStream::new);
+    private final ThreadLocal<ByteArrayOutputStream> propertyBuffer = ThreadLocal.withInitial(ByteArrayOutputStream::new);
     private final String timestampProperty;
     private final Set<String> aggregatedGroups;
     private final Set<String> timeSensitiveAggregatedGroups = new HashSet<>();
+    private final Map<String, SerialisedAggregation> serialisedAggregations = new ConcurrentHashMap<>();
 
     protected AbstractCoreKeyAccumuloElementConverter(final Schema schema) {
         this.schema = schema;
@@ -131,7 +147,7 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
     @SuppressWarnings("Convert2streamapi")
     @Override
     public Value getValueFromProperties(final String group, final Properties properties) {
-        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final ByteArrayOutputStream stream = getBuffer(outputBuffer);
         final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
 
         for (final String propertyName : elementDefinition.getProperties()) {
@@ -140,7 +156,7 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
             }
         }
 
-        return new Value(stream.toByteArray());
+        return new Value(toByteArray(outputBuffer, stream));
     }
 
     @Override
@@ -171,6 +187,56 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
         return properties;
     }
 
+    /**
+     * Aggregates the properties in a run of {@link Value}s. Properties whose
+     * aggregator is a {@link SerialisedAccumulatingBinaryOperator} that can
+     * accumulate the output of the property's serialiser, for example sketches,
+     * are accumulated directly from the bytes of each {@link Value}. Only the
+     * other properties are deserialised and aggregated as usual.
+     *
+     * @param group      the element group
+     * @param first      the first Value
+     * @param others     the other Values
+     * @param aggregator the aggregator for the group
+     * @return A new Accumulo {@link Value} containing the aggregated properties
+     */
+    @Override
+    public Value aggregateValues(final String group, final Value first, final Iterator<Value> others, final ElementAggregator aggregator) {
+        final SerialisedAggregation aggregation = getSerialisedAggregation(group, aggregator);
+        if (aggregation.operators.isEmpty()) {
+            return AccumuloElementConverter.super.aggregateValues(group, first, others, aggregator);
+        }
+
+        final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
+        final Map<String, Object> accumulators = new HashMap<>();
+        // Reading each Value accumulates its serialised properties and deserialises the rest
+        final Iterator<Properties> remainingProperties = new Iterator<Properties>() {
+            private Value next = first;
+
+            @Override
+            public boolean hasNext() {
+                return null != next || others.hasNext();
+            }
+
+            @Override
+            public Properties next() {
+                final boolean isFirst = null != next;
+                final Value current = isFirst ? next : others.next();
+                next = null;
+                return readValue(current, elementDefinition, aggregation, isFirst, accumulators);
+            }
+        };
+        final Properties aggregatedProperties = aggregation.remainingAggregator.aggregate(remainingProperties);
+        while (remainingProperties.hasNext()) {
+            remainingProperties.next();
+        }
+
+        for (final Map.Entry<String, Object> entry : accumulators.entrySet()) {
+            aggregatedProperties.put(entry.getKey(), aggregation.operators.get(entry.getKey()).finish(entry.getValue()));
+        }
+        return getValueFromProperties(group, aggregatedProperties);
+    }
+
     @Override
     public Element getElementFromKey(final Key key, final boolean includeMatchedVertex) {
         final byte[] row = key.getRowData().getBackingArray();
@@ -261,14 +327,14 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
 
     @Override
     public byte[] buildColumnQualifier(final String group, final Properties properties) {
-        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final ByteArrayOutputStream stream = getBuffer(outputBuffer);
         final SchemaElementDefinition elementDefinition = getSchemaElementDefinition(group);
 
         for (final String groupByPropertyName : elementDefinition.getGroupBy()) {
             serialiseSizeAndPropertyValue(groupByPropertyName, elementDefinition, properties, stream);
         }
 
-        return stream.toByteArray();
+        return toByteArray(outputBuffer, stream);
     }
 
     /**
@@ -305,15 +371,22 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
         try {
             final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(propertyName);
             final ToBytesSerialiser serialiser = (null == typeDefinition) ? null : (ToBytesSerialiser) typeDefinition.getSerialiser();
-            byte[] bytes;
             if (null == serialiser) {
-                bytes = AccumuloStoreConstants.EMPTY_BYTES;
+                writeBytes(AccumuloStoreConstants.EMPTY_BYTES, stream);
             } else {
-                Object value = properties.get(propertyName);
-                //serialiseNull could be different to AccumuloStoreConstants.EMPTY_BYTES
-                bytes = (null == value) ? serialiser.serialiseNull() : serialiser.serialise(value);
+                final Object value = properties.get(propertyName);
+                if (null == value) {
+                    //serialiseNull could be different to AccumuloStoreConstants.EMPTY_BYTES
+                    writeBytes(serialiser.serialiseNull(), stream);
+                } else {
+                    // Serialise into a reusable buffer as the length must be written before the value
+                    final ByteArrayOutputStream valueStream = getBuffer(propertyBuffer);
+                    serialiser.serialise(value, valueStream);
+                    CompactRawSerialisationUtils.write(valueStream.size(), stream);
+                    valueStream.writeTo(stream);
+                    releaseBuffer(propertyBuffer, valueStream);
+                }
             }
-            writeBytes(bytes, stream);
         } catch (final IOException e) {
             throw new AccumuloElementConversionException("Failed to write serialised property to ByteArrayOutputStream" + propertyName, e);
         }
@@ -538,6 +611,129 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
         out.write(bytes);
     }
 
+    private static ByteArrayOutputStream getBuffer(final ThreadLocal<ByteArrayOutputStream> buffer) {
+        final ByteArrayOutputStream stream = buffer.get();
+        stream.reset();
+        return stream;
+    }
+
+    private static byte[] toByteArray(final ThreadLocal<ByteArrayOutputStream> buffer, final ByteArrayOutputStream stream) {
+        final byte[] bytes = stream.toByteArray();
+        releaseBuffer(buffer, stream);
+        return bytes;
+    }
+
+    private static void releaseBuffer(final ThreadLocal<ByteArrayOutputStream> buffer, final ByteArrayOutputStream stream) {
+        if (stream.size() > MAX_REUSED_BUFFER_SIZE) {
+            buffer.remove();
+        }
+    }
+
+    private Properties readValue(final Value value, final SchemaElementDefinition elementDefinition,
+                                 final SerialisedAggregation aggregation, final boolean isFirst,
+                                 final Map<String, Object> accumulators) {
+        final Properties properties = new Properties();
+        if (isNotEmpty(value)) {
+            final byte[] bytes = value.get();
+            int delimiterPosition = 0;
+            final Iterator<String> propertyNames = elementDefinition.getProperties().iterator();
+            while (propertyNames.hasNext() && delimiterPosition < bytes.length) {
+                final String propertyName = propertyNames.next();
+                if (!isStoredInValue(propertyName, elementDefinition)) {
+                    continue;
+                }
+                final SerialisedAccumulatingBinaryOperator<Object, Object> operator = aggregation.operators.get(propertyName);
+                try {
+                    if (null != operator) {
+                        delimiterPosition = accumulateSerialisedProperty(bytes, delimiterPosition, operator, propertyName, accumulators);
+                    } else if (isFirst || aggregation.remainingAggregatedProperties.contains(propertyName)) {
+                        delimiterPosition = addDeserialisedProperty(bytes, delimiterPosition, properties, elementDefinition, propertyName);
+                    } else {
+                        // Only the first value of properties that are not aggregated is kept
+                        delimiterPosition = skipProperty(bytes, delimiterPosition, elementDefinition, propertyName);
+                    }
+                } catch (final SerialisationException e) {
+                    throw new AccumuloElementConversionException("Failed to deserialise property " + propertyName, e);
+                }
+            }
+        }
+        return properties;
+    }
+
+    private int accumulateSerialisedProperty(final byte[] bytes, final int carriage,
+                                             final SerialisedAccumulatingBinaryOperator<Object, Object> operator,
+                                             final String propertyName, final Map<String, Object> accumulators) throws SerialisationException {
+        final int numBytesForLength = CompactRawSerialisationUtils.decodeVIntSize(bytes[carriage]);
+        final int currentPropLength = getCurrentPropLength(bytes, carriage);
+        final int from = carriage + numBytesForLength;
+        // Empty bytes are a null value, which is ignored
+        if (currentPropLength > 0) {
+            final Object accumulator = accumulators.get(propertyName);
+            accumulators.put(propertyName, null == accumulator
+                    ? operator.beginSerialised(bytes, from, currentPropLength)
+                    : operator.accumulateSerialised(accumulator, bytes, from, currentPropLength));
+        }
+        return from + currentPropLength;
+    }
+
+    private int skipProperty(final byte[] bytes, final int carriage, final SchemaElementDefinition elementDefinition, final String propertyName) {
+        final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(propertyName);
+        if (null == typeDefinition || null == typeDefinition.getSerialiser()) {
+            return carriage;
+        }
+        return carriage + CompactRawSerialisationUtils.decodeVIntSize(bytes[carriage]) + getCurrentPropLength(bytes, carriage);
+    }
+
+    private SerialisedAggregation getSerialisedAggregation(final String group, final ElementAggregator aggregator) {
+        final SerialisedAggregation aggregation = serialisedAggregations.get(group);
+        if (null != aggregation && aggregation.aggregator == aggregator) {
+            return aggregation;
+        }
+        final SerialisedAggregation newAggregation = createSerialisedAggregation(getSchemaElementDefinition(group), aggregator);
+        serialisedAggregations.put(group, newAggregation);
+        return newAggregation;
+    }
+
+    private SerialisedAggregation createSerialisedAggregation(final SchemaElementDefinition elementDefinition, final ElementAggregator aggregator) {
+        final SerialisedAggregation aggregation = new SerialisedAggregation(aggregator);
+        final Map<String, Integer> selectionCounts = new HashMap<>();
+        for (final TupleAdaptedBinaryOperator<String, ?> component : aggregator.getComponents()) {
+            for (final String propertyName : component.getSelection()) {
+                selectionCounts.merge(propertyName, 1, Integer::sum);
+            }
+        }
+
+        for (final TupleAdaptedBinaryOperator<String, ?> component : aggregator.getComponents()) {
+            final String[] selection = component.getSelection();
+            final SerialisedAccumulatingBinaryOperator<Object, Object> operator = getSerialisedOperator(component, elementDefinition);
+            if (null != operator && 1 == selectionCounts.get(selection[0])) {
+                aggregation.operators.put(selection[0], operator);
+            } else {
+                aggregation.remainingAggregator.getComponents().add(component);
+                Collections.addAll(aggregation.remainingAggregatedProperties, selection);
+            }
+        }
+        aggregation.remainingAggregator.lock();
+        return aggregation;
+    }
+
+    private SerialisedAccumulatingBinaryOperator<Object, Object> getSerialisedOperator(final TupleAdaptedBinaryOperator<String, ?> component, final SchemaElementDefinition elementDefinition) {
+        final String[] selection = component.getSelection();
+        if (null == selection || 1 != selection.length
+                || !(component.getBinaryOperator() instanceof SerialisedAccumulatingBinaryOperator)
+                || !elementDefinition.containsProperty(selection[0])
+                || !isStoredInValue(selection[0], elementDefinition)) {
+            return null;
+        }
+        final TypeDefinition typeDefinition = elementDefinition.getPropertyTypeDef(selection[0]);
+        final SerialisedAccumulatingBinaryOperator<Object, Object> operator = (SerialisedAccumulatingBinaryOperator<Object, Object>) component.getBinaryOperator();
+        if (null == typeDefinition || !(typeDefinition.getSerialiser() instanceof ToBytesSerialiser)
+                || !operator.canAccumulateSerialised((ToBytesSerialiser<?>) typeDefinition.getSerialiser())) {
+            return null;
+        }
+        return operator;
+    }
+
     private Object getDeserialisedObject(final ToBytesSerialiser serialiser, final byte[] bytes, final int from, final int length) throws SerialisationException {
         //Don't initialise with  #deserialiseEmpty() as this might initialise an complex empty structure to be immediately overwritten e.g. TreeSet<String>
         Object deserialisedObject;
@@ -562,4 +758,17 @@ public abstract class AbstractCoreKeyAccumuloElementConverter implements Accumul
         }
     }
 
+    /**
+     * How the properties of a group are aggregated by {@link #aggregateValues(String, Value, Iterator, ElementAggregator)}.
+     */
+    private static final class SerialisedAggregation {
+        private final ElementAggregator aggregator;
+        private final Map<String, SerialisedAccumulatingBinaryOperator<Object, Object>> operators = new HashMap<>();
+        private final ElementAggregator remainingAggregator = new ElementAggregator();
+        private final Set<String> remainingAggregatedProperties = new HashSet<>();
+
+        private SerialisedAggregation(final ElementAggregator aggregator) {
+            this.aggregator = aggregator;
+        }
+    }
 }
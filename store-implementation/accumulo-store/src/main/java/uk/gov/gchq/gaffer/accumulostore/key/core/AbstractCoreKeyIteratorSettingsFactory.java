@@ -29,12 +29,17 @@ import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.AggregatorIterator;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.ElementPostAggregationFilter;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.ElementPreAggregationFilter;
+import uk.gov.gchq.gaffer.accumulostore.key.impl.GroupCountIterator;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.RowIDAggregator;
+import uk.gov.gchq.gaffer.accumulostore.key.impl.TopNIterator;
 import uk.gov.gchq.gaffer.accumulostore.key.impl.ValidatorFilter;
 import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
 import uk.gov.gchq.gaffer.accumulostore.utils.IteratorSettingBuilder;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
 import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
@@ -142,6 +147,52 @@ public abstract class AbstractCoreKeyIteratorSettingsFactory implements Iterator
         return is;
     }
 
+    @Override
+    public IteratorSetting getGroupCountIteratorSetting() {
+        final IteratorSetting is = new IteratorSettingBuilder(AccumuloStoreConstants.GROUP_COUNT_ITERATOR_PRIORITY,
+                AccumuloStoreConstants.GROUP_COUNT_ITERATOR_NAME, GroupCountIterator.class)
+                .build();
+        LOGGER.debug("Creating IteratorSetting for iterator class {} with priority = {}",
+                GroupCountIterator.class.getName(),
+                AccumuloStoreConstants.GROUP_COUNT_ITERATOR_PRIORITY);
+        return is;
+    }
+
+    @Override
+    public IteratorSetting getTopNIteratorSetting(final Operation operation, final AccumuloStore store)
+            throws IteratorSettingException {
+        final String comparisonJson = null != operation ? operation.getOption(AccumuloStoreConstants.OPERATION_OPTION_TOP_N) : null;
+        if (null == comparisonJson) {
+            LOGGER.debug("Returning null from getTopNIteratorSetting as the {} option is not set",
+                    AccumuloStoreConstants.OPERATION_OPTION_TOP_N);
+            return null;
+        }
+
+        final Operation comparison;
+        try {
+            comparison = JSONSerialiser.deserialise(comparisonJson, Operation.class);
+        } catch (final SerialisationException e) {
+            throw new IteratorSettingException("Unable to deserialise the " + AccumuloStoreConstants.OPERATION_OPTION_TOP_N + " option", e);
+        }
+        if (!TopNIterator.isSupported(comparison)) {
+            throw new IteratorSettingException("The " + AccumuloStoreConstants.OPERATION_OPTION_TOP_N
+                    + " option must contain a Sort with a result limit, a Max or a Min with at least one comparator");
+        }
+
+        final IteratorSetting is = new IteratorSettingBuilder(AccumuloStoreConstants.TOP_N_ITERATOR_PRIORITY,
+                AccumuloStoreConstants.TOP_N_ITERATOR_NAME, TopNIterator.class)
+                .schema(store.getSchema())
+                .keyConverter(store.getKeyPackage().getKeyConverter())
+                .option(AccumuloStoreConstants.ELEMENT_COMPARISON, comparisonJson)
+                .build();
+        LOGGER.debug("Creating IteratorSetting for iterator class {} with priority = {}, "
+                        + "schema = {}, keyConverter = {}, elementComparison = {}",
+                TopNIterator.class.getName(),
+                AccumuloStoreConstants.TOP_N_ITERATOR_PRIORITY,
+                store.getSchema(), store.getKeyPackage().getKeyConverter(), comparisonJson);
+        return is;
+    }
+
     @Override
     public IteratorSetting getValidatorIteratorSetting(final AccumuloStore store) {
         if (!store.getSchema().hasValidation()) {
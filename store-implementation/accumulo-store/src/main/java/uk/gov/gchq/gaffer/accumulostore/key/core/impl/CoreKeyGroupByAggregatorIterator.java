@@ -38,12 +38,21 @@ public class CoreKeyGroupByAggregatorIterator extends CoreKeyGroupByCombiner {
         }
 
         final ElementAggregator aggregator = schema.getElement(group).getQueryAggregator(groupBy, viewAggregator);
-        Properties aggregatedProps = properties;
-        while (iter.hasNext()) {
-            aggregatedProps = aggregator.apply(aggregatedProps, iter.next());
-        }
+        return aggregator.aggregate(new Iterator<Properties>() {
+            private Properties next = properties;
+
+            @Override
+            public boolean hasNext() {
+                return null != next || iter.hasNext();
+            }
 
-        return aggregatedProps;
+            @Override
+            public Properties next() {
+                final Properties current = null != next ? next : iter.next();
+                next = null;
+                return current;
+            }
+        });
     }
 
     @Override
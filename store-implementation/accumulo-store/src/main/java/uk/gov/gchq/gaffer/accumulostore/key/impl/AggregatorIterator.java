@@ -29,7 +29,6 @@ import uk.gov.gchq.gaffer.accumulostore.key.exception.AccumuloElementConversionE
 import uk.gov.gchq.gaffer.accumulostore.key.exception.AggregationException;
 import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
 import uk.gov.gchq.gaffer.accumulostore.utils.IteratorOptionsBuilder;
-import uk.gov.gchq.gaffer.data.element.Properties;
 import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 
@@ -55,32 +54,16 @@ public class AggregatorIterator extends Combiner {
     public Value reduce(final Key key, final Iterator<Value> iter) {
         // Get first Value. If this is the only Value then return it straight
         // away;
-        Value value = iter.next();
+        final Value value = iter.next();
         if (!iter.hasNext()) {
             return value;
         }
         final String group = elementConverter.getGroupFromColumnFamily(key.getColumnFamilyData().getBackingArray());
-        Properties properties;
         final ElementAggregator aggregator = schema.getElement(group).getIngestAggregator();
         try {
-            properties = elementConverter.getPropertiesFromValue(group, value);
+            return elementConverter.aggregateValues(group, value, iter, aggregator);
         } catch (final AccumuloElementConversionException e) {
-            throw new AggregationException("Failed to recreate a graph element from a key and value", e);
-        }
-        Properties aggregatedProps = properties;
-        while (iter.hasNext()) {
-            value = iter.next();
-            try {
-                properties = elementConverter.getPropertiesFromValue(group, value);
-            } catch (final AccumuloElementConversionException e) {
-                throw new AggregationException("Failed to recreate a graph element from a key and value", e);
-            }
-            aggregatedProps = aggregator.apply(aggregatedProps, properties);
-        }
-        try {
-            return elementConverter.getValueFromProperties(group, aggregatedProps);
-        } catch (final AccumuloElementConversionException e) {
-            throw new AggregationException("Failed to create an accumulo value from an elements properties", e);
+            throw new AggregationException("Failed to aggregate the values of group " + group, e);
         }
     }
 
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.key.impl;
+
+import org.apache.accumulo.core.data.ArrayByteSequence;
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.IteratorEnvironment;
+import org.apache.accumulo.core.iterators.OptionDescriber;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.iterators.WrappingIterator;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.accumulostore.utils.IteratorOptionsBuilder;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawSerialisationUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code GroupCountIterator} counts the number of keys in each column family,
+ * i.e. the number of elements in each group, on the tablet servers rather than
+ * returning the elements to the client.
+ * <p>
+ * When seeked, the iterator consumes its entire source range and returns a single
+ * key value pair. The key is the last key in the range, so if the scan is
+ * resumed after this key no elements are counted twice. The value contains the
+ * partial counts for the range, these can be read using
+ * {@link #getGroupCounts(Value, AccumuloElementConverter)}
+ * and must be merged by the client.
+ * <p>
+ * This iterator must be applied after all other scan time iterators so that it
+ * counts the same elements that would otherwise be returned.
+ */
+public class GroupCountIterator extends WrappingIterator implements OptionDescriber {
+    private final Key workKey = new Key();
+    private Key topKey;
+    private Value topValue;
+
+    @Override
+    public void seek(final Range range, final Collection<ByteSequence> columnFamilies, final boolean inclusive) throws IOException {
+        super.seek(range, columnFamilies, inclusive);
+        countGroups();
+    }
+
+    @Override
+    public void next() throws IOException {
+        // Only a single key value pair is returned for each seek
+        topKey = null;
+        topValue = null;
+    }
+
+    @Override
+    public boolean hasTop() {
+        return null != topKey;
+    }
+
+    @Override
+    public Key getTopKey() {
+        return topKey;
+    }
+
+    @Override
+    public Value getTopValue() {
+        return topValue;
+    }
+
+    @Override
+    public SortedKeyValueIterator<Key, Value> deepCopy(final IteratorEnvironment env) {
+        final GroupCountIterator copy = new GroupCountIterator();
+        copy.setSource(getSource().deepCopy(env));
+        return copy;
+    }
+
+    @Override
+    public IteratorOptions describeOptions() {
+        return new IteratorOptionsBuilder(AccumuloStoreConstants.GROUP_COUNT_ITERATOR_NAME,
+                "Counts the keys in each column family and returns only the counts")
+                .build();
+    }
+
+    @Override
+    public boolean validateOptions(final Map<String, String> options) {
+        return true;
+    }
+
+    private void countGroups() throws IOException {
+        topKey = null;
+        topValue = null;
+
+        final SortedKeyValueIterator<Key, Value> source = getSource();
+        final Map<ByteSequence, long[]> counts = new HashMap<>();
+        boolean hasKeys = false;
+        while (source.hasTop()) {
+            final Key key = source.getTopKey();
+            final ByteSequence columnFamily = key.getColumnFamilyData();
+            final long[] count = counts.get(columnFamily);
+            if (null == count) {
+                // The key's data may be reused by the source, so take a copy
+                counts.put(new ArrayByteSequence(columnFamily.toArray()), new long[]{1L});
+            } else {
+                count[0]++;
+            }
+            workKey.set(key);
+            hasKeys = true;
+            source.next();
+        }
+
+        if (hasKeys) {
+            topKey = new Key(workKey);
+            topValue = new Value(serialise(counts));
+        }
+    }
+
+    private static byte[] serialise(final Map<ByteSequence, long[]> counts) throws SerialisationException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final Map.Entry<ByteSequence, long[]> entry : counts.entrySet()) {
+            final byte[] group = entry.getKey().toArray();
+            CompactRawSerialisationUtils.write(group.length, out);
+            out.write(group, 0, group.length);
+            CompactRawSerialisationUtils.write(entry.getValue()[0], out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the partial group counts from a value returned by this iterator.
+     *
+     * @param value            the value returned by the iterator
+     * @param elementConverter the element converter used to get the group from a column family
+     * @return the count of elements in each group
+     * @throws SerialisationException if the value could not be read
+     */
+    public static Map<String, Long> getGroupCounts(final Value value, final AccumuloElementConverter elementConverter)
+            throws SerialisationException {
+        final Map<String, Long> counts = new HashMap<>();
+        final ByteArrayInputStream in = new ByteArrayInputStream(value.get());
+        while (in.available() > 0) {
+            final byte[] group = new byte[(int) CompactRawSerialisationUtils.read(in)];
+            if (in.read(group, 0, group.length) != group.length) {
+                throw new SerialisationException("Unable to read group counts, the value is truncated");
+            }
+            counts.merge(elementConverter.getGroupFromColumnFamily(group), CompactRawSerialisationUtils.read(in), Long::sum);
+        }
+        return counts;
+    }
+}
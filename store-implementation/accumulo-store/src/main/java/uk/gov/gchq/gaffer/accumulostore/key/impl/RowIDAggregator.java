@@ -190,16 +190,7 @@ public class RowIDAggregator extends WrappingIterator implements OptionDescriber
     }
 
     private Properties reduce(final Iterator<Properties> iter) {
-        Properties state = null;
-        Properties properties;
-        while (iter.hasNext()) {
-            properties = iter.next();
-            if (null != properties) {
-                state = aggregator.apply(state, properties);
-            }
-        }
-
-        return state;
+        return aggregator.aggregate(iter);
     }
 
     public static class PropertiesIterator implements Iterator<Properties> {
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.accumulostore.key.impl;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.IteratorEnvironment;
+import org.apache.accumulo.core.iterators.OptionDescriber;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.iterators.WrappingIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.key.IteratorException;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.accumulostore.utils.IteratorOptionsBuilder;
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.impl.compare.ElementComparison;
+import uk.gov.gchq.gaffer.operation.impl.compare.Max;
+import uk.gov.gchq.gaffer.operation.impl.compare.Min;
+import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * The {@code TopNIterator} keeps only the first n elements in a range, as
+ * ordered by the comparators of a {@link Sort}, {@link Max} or {@link Min}
+ * operation, so that only these are returned to the client rather than every
+ * element.
+ * <p>
+ * When seeked, the iterator consumes its entire source range, holding at most
+ * n key value pairs in memory, then returns the retained key value pairs in key
+ * order. If the scan is resumed part way through, the remainder of the range
+ * is consumed again, which can only return additional elements, so the client
+ * must still apply the operation to merge the results from each tablet.
+ * <p>
+ * This iterator must be applied after all other scan time iterators so that it
+ * orders the same elements that would otherwise be returned.
+ */
+public class TopNIterator extends WrappingIterator implements OptionDescriber {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopNIterator.class);
+
+    @SuppressFBWarnings(value = "UWF_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR", justification = "elementConverter is initialised in init method, which is always called first")
+    private AccumuloElementConverter elementConverter;
+    @SuppressFBWarnings(value = "UWF_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR", justification = "comparator is initialised in init method, which is always called first")
+    private Comparator<Element> comparator;
+    private int limit;
+    private boolean deduplicate;
+
+    private List<TopEntry> entries = new ArrayList<>();
+    private int index;
+
+    /**
+     * Checks whether an operation can be applied by this iterator. This is
+     * a {@link Sort} with a result limit, a {@link Max} or a {@link Min}, with
+     * at least one comparator.
+     *
+     * @param operation the operation to check
+     * @return true if the operation is supported
+     */
+    public static boolean isSupported(final Operation operation) {
+        if (!(operation instanceof ElementComparison)) {
+            return false;
+        }
+        final List<Comparator<Element>> comparators = ((ElementComparison) operation).getComparators();
+        if (null == comparators || comparators.isEmpty()) {
+            return false;
+        }
+        if (Sort.class.equals(operation.getClass())) {
+            final Integer resultLimit = ((Sort) operation).getResultLimit();
+            return null != resultLimit && resultLimit > 0;
+        }
+        return Max.class.equals(operation.getClass()) || Min.class.equals(operation.getClass());
+    }
+
+    @Override
+    public void init(final SortedKeyValueIterator<Key, Value> source,
+                     final Map<String, String> options,
+                     final IteratorEnvironment env) throws IOException {
+        super.init(source, options, env);
+        final Schema schema = Schema.fromJson(StringUtil.toBytes(options.get(AccumuloStoreConstants.SCHEMA)));
+
+        final String elementConverterClass = options.get(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS);
+        try {
+            elementConverter = Class
+                    .forName(elementConverterClass)
+                    .asSubclass(AccumuloElementConverter.class)
+                    .getConstructor(Schema.class)
+                    .newInstance(schema);
+            LOGGER.debug("Creating AccumuloElementConverter of class {}", elementConverterClass);
+        } catch (final ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IteratorException("Failed to create element converter of the class name provided ("
+                    + elementConverterClass + ")", e);
+        }
+
+        final Operation comparison;
+        try {
+            comparison = JSONSerialiser.deserialise(options.get(AccumuloStoreConstants.ELEMENT_COMPARISON), Operation.class);
+        } catch (final SerialisationException e) {
+            throw new IllegalArgumentException("Unable to deserialise the " + AccumuloStoreConstants.ELEMENT_COMPARISON, e);
+        }
+        if (!isSupported(comparison)) {
+            throw new IllegalArgumentException("The " + AccumuloStoreConstants.ELEMENT_COMPARISON
+                    + " must be a Sort with a result limit, a Max or a Min with at least one comparator");
+        }
+
+        final Comparator<Element> combinedComparator = ((ElementComparison) comparison).getCombinedComparator();
+        if (comparison instanceof Sort) {
+            comparator = combinedComparator;
+            limit = ((Sort) comparison).getResultLimit();
+            deduplicate = ((Sort) comparison).isDeduplicate();
+        } else {
+            // Max keeps the largest element so the order is reversed
+            comparator = comparison instanceof Max ? combinedComparator.reversed() : combinedComparator;
+            limit = 1;
+            deduplicate = true;
+        }
+        LOGGER.debug("Initialised TopNIterator with limit {} for {}", limit, comparison.getClass().getSimpleName());
+    }
+
+    @Override
+    public void seek(final Range range, final Collection<ByteSequence> columnFamilies, final boolean inclusive) throws IOException {
+        super.seek(range, columnFamilies, inclusive);
+        findTopEntries();
+    }
+
+    @Override
+    public void next() throws IOException {
+        index++;
+    }
+
+    @Override
+    public boolean hasTop() {
+        return index < entries.size();
+    }
+
+    @Override
+    public Key getTopKey() {
+        return entries.get(index).key;
+    }
+
+    @Override
+    public Value getTopValue() {
+        return entries.get(index).value;
+    }
+
+    @Override
+    public SortedKeyValueIterator<Key, Value> deepCopy(final IteratorEnvironment env) {
+        final TopNIterator copy = new TopNIterator();
+        copy.setSource(getSource().deepCopy(env));
+        copy.elementConverter = elementConverter;
+        copy.comparator = comparator;
+        copy.limit = limit;
+        copy.deduplicate = deduplicate;
+        return copy;
+    }
+
+    @Override
+    public IteratorOptions describeOptions() {
+        return new IteratorOptionsBuilder(AccumuloStoreConstants.TOP_N_ITERATOR_NAME,
+                "Returns only the first n elements in each range, as ordered by a Sort, Max or Min operation")
+                .addSchemaNamedOption()
+                .addElementConverterClassNamedOption()
+                .addNamedOption(AccumuloStoreConstants.ELEMENT_COMPARISON,
+                        "The JSON serialised Sort, Max or Min operation containing the comparators")
+                .build();
+    }
+
+    @Override
+    public boolean validateOptions(final Map<String, String> options) {
+        if (!options.containsKey(AccumuloStoreConstants.SCHEMA)) {
+            throw new IllegalArgumentException("Must specify the " + AccumuloStoreConstants.SCHEMA);
+        }
+        if (!options.containsKey(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS)) {
+            throw new IllegalArgumentException("Must specify the " + AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS);
+        }
+        if (!options.containsKey(AccumuloStoreConstants.ELEMENT_COMPARISON)) {
+            throw new IllegalArgumentException("Must specify the " + AccumuloStoreConstants.ELEMENT_COMPARISON);
+        }
+        return true;
+    }
+
+    private void findTopEntries() throws IOException {
+        // The retained entry that would be dropped first is at the head
+        final PriorityQueue<TopEntry> top = new PriorityQueue<>(limit + 1, (a, b) -> comparator.compare(b.element, a.element));
+        final Set<Element> retained = deduplicate ? new HashSet<>() : null;
+
+        final SortedKeyValueIterator<Key, Value> source = getSource();
+        while (source.hasTop()) {
+            final Key key = source.getTopKey();
+            final Value value = source.getTopValue();
+            final Element element = elementConverter.getFullElement(key, value, false);
+            if (null != element
+                    && (top.size() < limit || comparator.compare(element, top.peek().element) < 0)
+                    && (null == retained || !retained.contains(element))) {
+                // The source may reuse the key and value, so take copies
+                top.add(new TopEntry(new Key(key), new Value(value.get(), true), element));
+                if (null != retained) {
+                    retained.add(element);
+                }
+                if (top.size() > limit) {
+                    final TopEntry dropped = top.poll();
+                    if (null != retained) {
+                        retained.remove(dropped.element);
+                    }
+                }
+            }
+            source.next();
+        }
+
+        entries = new ArrayList<>(top);
+        entries.sort(Comparator.comparing(entry -> entry.key));
+        index = 0;
+    }
+
+    private static final class TopEntry {
+        private final Key key;
+        private final Value value;
+        private final Element element;
+
+        private TopEntry(final Key key, final Value value, final Element element) {
+            this.key = key;
+            this.value = value;
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.operation.handler;
+
+import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
+import uk.gov.gchq.gaffer.accumulostore.operation.impl.CountAllElementGroups;
+import uk.gov.gchq.gaffer.data.GroupCounts;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.Map;
+
+public class CountAllElementGroupsHandler implements OutputOperationHandler<CountAllElementGroups, GroupCounts> {
+
+    @Override
+    public GroupCounts doOperation(final CountAllElementGroups operation, final Context context, final Store store)
+            throws OperationException {
+        return doOperation(operation, context.getUser(), (AccumuloStore) store);
+    }
+
+    public GroupCounts doOperation(final CountAllElementGroups operation, final User user, final AccumuloStore store)
+            throws OperationException {
+        final GroupCounts groupCounts = new GroupCounts();
+        for (final Map.Entry<String, Long> entry : CountAllElementsHandler.getGroupCounts(operation, user, store).entrySet()) {
+            if (store.getSchema().getEntityGroups().contains(entry.getKey())) {
+                groupCounts.addEntityGroupCount(entry.getKey(), entry.getValue());
+            } else {
+                groupCounts.addEdgeGroupCount(entry.getKey(), entry.getValue());
+            }
+        }
+        return groupCounts;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.operation.handler;
+
+import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
+import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
+import uk.gov.gchq.gaffer.accumulostore.operation.impl.CountAllElements;
+import uk.gov.gchq.gaffer.accumulostore.retriever.RetrieverException;
+import uk.gov.gchq.gaffer.accumulostore.retriever.impl.AccumuloGroupCountRetriever;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.Map;
+
+public class CountAllElementsHandler implements OutputOperationHandler<CountAllElements, Long> {
+
+    @Override
+    public Long doOperation(final CountAllElements operation, final Context context, final Store store)
+            throws OperationException {
+        return doOperation(operation, context.getUser(), (AccumuloStore) store);
+    }
+
+    public Long doOperation(final CountAllElements operation, final User user, final AccumuloStore store)
+            throws OperationException {
+        long count = 0;
+        for (final Long groupCount : getGroupCounts(operation, user, store).values()) {
+            count += groupCount;
+        }
+        return count;
+    }
+
+    static <T extends GraphFilters & Operation> Map<String, Long> getGroupCounts(final T operation, final User user, final AccumuloStore store)
+            throws OperationException {
+        final View view = operation.getView();
+        if (null == view) {
+            throw new OperationException("A view must be provided to count elements.");
+        }
+        if (view.hasTransform() || view.hasPostTransformFilters()) {
+            throw new OperationException("Elements cannot be counted with a view containing transformations or post transformation filters.");
+        }
+
+        final GetAllElements getAllElements = new GetAllElements.Builder()
+                .view(view)
+                .directedType(operation.getDirectedType())
+                .options(operation.getOptions())
+                .build();
+        try {
+            return new AccumuloGroupCountRetriever(store, getAllElements, user).getGroupCounts();
+        } catch (final IteratorSettingException | StoreException | RetrieverException e) {
+            throw new OperationException("Failed to count elements", e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.operation.impl;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import uk.gov.gchq.gaffer.data.GroupCounts;
+import uk.gov.gchq.gaffer.data.element.id.DirectedType;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.graph.GraphFilters;
+import uk.gov.gchq.gaffer.operation.io.Output;
+import uk.gov.gchq.gaffer.operation.serialisation.TypeReferenceImpl;
+import uk.gov.gchq.koryphe.Since;
+import uk.gov.gchq.koryphe.Summary;
+
+import java.util.Map;
+
+/**
+ * A {@code CountAllElementGroups} operation counts the number of {@link uk.gov.gchq.gaffer.data.element.Element}s
+ * in each group compatible with the provided {@link View}. The elements are counted on the
+ * tablet servers, so only the counts are returned to the client. The result is the same as
+ * a {@link uk.gov.gchq.gaffer.operation.impl.get.GetAllElements} followed by a
+ * {@link uk.gov.gchq.gaffer.operation.impl.CountGroups} without a limit, but the view must
+ * not contain any transformations or post transformation filters as these are applied by the client.
+ */
+@JsonPropertyOrder(value = {"class", "view"}, alphabetic = true)
+@Since("2.4.0")
+@Summary("Counts the elements in each group compatible with a provided View")
+public class CountAllElementGroups implements
+        Output<GroupCounts>,
+        GraphFilters {
+    private View view;
+    private DirectedType directedType;
+    private Map<String, String> options;
+
+    @Override
+    public TypeReference<GroupCounts> getOutputTypeReference() {
+        return new TypeReferenceImpl.CountGroups();
+    }
+
+    @Override
+    public View getView() {
+        return view;
+    }
+
+    @Override
+    public void setView(final View view) {
+        this.view = view;
+    }
+
+    @Override
+    public DirectedType getDirectedType() {
+        return directedType;
+    }
+
+    @Override
+    public void setDirectedType(final DirectedType directedType) {
+        this.directedType = directedType;
+    }
+
+    @Override
+    public Map<String, String> getOptions() {
+        return options;
+    }
+
+    @Override
+    public void setOptions(final Map<String, String> options) {
+        this.options = options;
+    }
+
+    @Override
+    public CountAllElementGroups shallowClone() {
+        return new CountAllElementGroups.Builder()
+                .view(view)
+                .directedType(directedType)
+                .options(options)
+                .build();
+    }
+
+    public static class Builder extends Operation.BaseBuilder<CountAllElementGroups, Builder> implements
+            Output.Builder<CountAllElementGroups, GroupCounts, Builder>,
+            GraphFilters.Builder<CountAllElementGroups, Builder> {
+        public Builder() {
+            super(new CountAllElementGroups());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.optimiser;
+
+import uk.gov.gchq.gaffer.accumulostore.operation.impl.CountAllElementGroups;
+import uk.gov.gchq.gaffer.accumulostore.operation.impl.CountAllElements;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.impl.Count;
+import uk.gov.gchq.gaffer.operation.impl.CountGroups;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.store.optimiser.AbstractOperationChainOptimiser;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@code CountAllElementsOperationChainOptimiser} replaces a {@link GetAllElements}
+ * followed by a {@link Count} or {@link CountGroups} with a {@link CountAllElements}
+ * or {@link CountAllElementGroups}, which count the elements on the tablet servers
+ * rather than returning every element to the client.
+ * <p>
+ * Filtering and aggregation in the {@link View} are applied on the tablet servers
+ * so are supported, however transformations and post transformation filters are
+ * applied by the client so the chain is not optimised if these are present.
+ */
+public class CountAllElementsOperationChainOptimiser extends AbstractOperationChainOptimiser {
+
+    @Override
+    protected List<Operation> addPreOperations(final Operation previousOp, final Operation currentOp) {
+        return emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseCurrentOperation(final Operation previousOp, final Operation currentOp, final Operation nextOp) {
+        if (isServerSideGetAllElementsOperation(previousOp) && isCountOperation(currentOp)) {
+            final GetAllElements getAllElements = (GetAllElements) previousOp;
+            return singletonList(new CountAllElements.Builder()
+                    .view(getAllElements.getView())
+                    .directedType(getAllElements.getDirectedType())
+                    .options(getAllElements.getOptions())
+                    .build());
+        }
+        if (isServerSideGetAllElementsOperation(previousOp) && isCountGroupsOperation(currentOp)) {
+            final GetAllElements getAllElements = (GetAllElements) previousOp;
+            return singletonList(new CountAllElementGroups.Builder()
+                    .view(getAllElements.getView())
+                    .directedType(getAllElements.getDirectedType())
+                    .options(getAllElements.getOptions())
+                    .build());
+        }
+        if (isServerSideGetAllElementsOperation(currentOp) && (isCountOperation(nextOp) || isCountGroupsOperation(nextOp))) {
+            return emptyList();
+        }
+        return singletonList(currentOp);
+    }
+
+    @Override
+    protected List<Operation> addPostOperations(final Operation currentOp, final Operation nextOp) {
+        return emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseAll(final List<Operation> ops) {
+        return ops;
+    }
+
+    private boolean isServerSideGetAllElementsOperation(final Operation operation) {
+        if (null != operation && GetAllElements.class.equals(operation.getClass())) {
+            final View view = ((GetAllElements) operation).getView();
+            return null != view
+                    && !view.hasTransform()
+                    && !view.hasPostTransformFilters()
+                    && isEmpty(view.getGlobalElements())
+                    && isEmpty(view.getGlobalEntities())
+                    && isEmpty(view.getGlobalEdges());
+        }
+        return false;
+    }
+
+    private boolean isEmpty(final List<?> list) {
+        return null == list || list.isEmpty();
+    }
+
+    private boolean isCountOperation(final Operation operation) {
+        return null != operation && Count.class.equals(operation.getClass())
+                && null == ((Count<?>) operation).getInput();
+    }
+
+    private boolean isCountGroupsOperation(final Operation operation) {
+        return null != operation && CountGroups.class.equals(operation.getClass())
+                && null == ((CountGroups) operation).getInput()
+                && null == ((CountGroups) operation).getLimit();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return null != o && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
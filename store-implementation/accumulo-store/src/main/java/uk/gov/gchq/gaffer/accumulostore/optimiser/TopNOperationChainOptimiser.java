@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.accumulostore.optimiser;
+
+import uk.gov.gchq.gaffer.accumulostore.key.impl.TopNIterator;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.impl.compare.Max;
+import uk.gov.gchq.gaffer.operation.impl.compare.Min;
+import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.store.optimiser.AbstractOperationChainOptimiser;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@code TopNOperationChainOptimiser} pushes a {@link Sort} with a result
+ * limit, a {@link Max} or a {@link Min} that follows a {@link GetElements} or
+ * {@link GetAllElements} down to the tablet servers. The comparison operation
+ * is added to the get operation's
+ * {@link AccumuloStoreConstants#OPERATION_OPTION_TOP_N} option, so the
+ * {@link TopNIterator} only returns the first elements from each tablet.
+ * The comparison operation is left in the chain to merge the results from
+ * each tablet on the client.
+ * <p>
+ * Filtering and aggregation in the {@link View} are applied on the tablet
+ * servers so are supported, however transformations, post transformation
+ * filters and property projections are applied by the client so the chain is
+ * not optimised if these are present. Sorts with a result limit larger than
+ * the maximum result limit are also not optimised, as the iterator holds that
+ * many elements in memory on each tablet server.
+ */
+public class TopNOperationChainOptimiser extends AbstractOperationChainOptimiser {
+    public static final int DEFAULT_MAX_RESULT_LIMIT = 10_000;
+
+    private final int maxResultLimit;
+
+    public TopNOperationChainOptimiser() {
+        this(DEFAULT_MAX_RESULT_LIMIT);
+    }
+
+    public TopNOperationChainOptimiser(final int maxResultLimit) {
+        this.maxResultLimit = maxResultLimit;
+    }
+
+    @Override
+    protected List<Operation> addPreOperations(final Operation previousOp, final Operation currentOp) {
+        return emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseCurrentOperation(final Operation previousOp, final Operation currentOp, final Operation nextOp) {
+        if (isServerSideGetElementsOperation(currentOp) && isTopNOperation(nextOp)) {
+            final String comparisonJson;
+            try {
+                comparisonJson = StringUtil.toString(JSONSerialiser.serialise(nextOp));
+            } catch (final SerialisationException e) {
+                // The chain can still be run without the optimisation
+                return singletonList(currentOp);
+            }
+
+            final Operation getElements = currentOp.shallowClone();
+            final Map<String, String> options = null != getElements.getOptions() ? new HashMap<>(getElements.getOptions()) : new HashMap<>();
+            options.put(AccumuloStoreConstants.OPERATION_OPTION_TOP_N, comparisonJson);
+            getElements.setOptions(options);
+            return singletonList(getElements);
+        }
+        return singletonList(currentOp);
+    }
+
+    @Override
+    protected List<Operation> addPostOperations(final Operation currentOp, final Operation nextOp) {
+        return emptyList();
+    }
+
+    @Override
+    protected List<Operation> optimiseAll(final List<Operation> ops) {
+        return ops;
+    }
+
+    public int getMaxResultLimit() {
+        return maxResultLimit;
+    }
+
+    private boolean isServerSideGetElementsOperation(final Operation operation) {
+        if (null == operation || null != operation.getOption(AccumuloStoreConstants.OPERATION_OPTION_TOP_N)) {
+            return false;
+        }
+
+        final View view;
+        if (GetElements.class.equals(operation.getClass())) {
+            view = ((GetElements) operation).getView();
+        } else if (GetAllElements.class.equals(operation.getClass())) {
+            view = ((GetAllElements) operation).getView();
+        } else {
+            return false;
+        }
+        return null != view
+                && !view.hasTransform()
+                && !view.hasPostTransformFilters()
+                && isEmpty(view.getGlobalElements())
+                && isEmpty(view.getGlobalEntities())
+                && isEmpty(view.getGlobalEdges())
+                && hasNoPropertyProjections(view.getEntities())
+                && hasNoPropertyProjections(view.getEdges());
+    }
+
+    private boolean hasNoPropertyProjections(final Map<String, ViewElementDefinition> elementDefs) {
+        for (final ViewElementDefinition elementDef : elementDefs.values()) {
+            if (null != elementDef && (null != elementDef.getProperties() || null != elementDef.getExcludeProperties())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isEmpty(final List<?> list) {
+        return null == list || list.isEmpty();
+    }
+
+    private boolean isTopNOperation(final Operation operation) {
+        if (!TopNIterator.isSupported(operation)) {
+            return false;
+        }
+        if (operation instanceof Sort) {
+            final Sort sort = (Sort) operation;
+            return null == sort.getInput() && sort.getResultLimit() <= maxResultLimit;
+        }
+        if (operation instanceof Max) {
+            return null == ((Max) operation).getInput();
+        }
+        return null == ((Min) operation).getInput();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return null != o && getClass() == o.getClass()
+                && maxResultLimit == ((TopNOperationChainOptimiser) o).maxResultLimit;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + maxResultLimit;
+    }
+}
@@ -29,6 +29,8 @@ import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
 import uk.gov.gchq.gaffer.accumulostore.key.AccumuloElementConverter;
 import uk.gov.gchq.gaffer.accumulostore.key.IteratorSettingFactory;
 import uk.gov.gchq.gaffer.accumulostore.key.RangeFactory;
+import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
 import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
@@ -40,6 +42,7 @@ import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.user.User;
 
 import java.io.Closeable;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -70,7 +73,7 @@ public abstract class AccumuloRetriever<OP extends Output & GraphFilters, O_ITEM
         this.iteratorSettingFactory = store.getKeyPackage().getIteratorFactory();
         this.elementConverter = store.getKeyPackage().getKeyConverter();
         this.operation = operation;
-        this.iteratorSettings = iteratorSettings;
+        this.iteratorSettings = addTopNIteratorSetting(iteratorSettings);
         this.user = user;
         if (nonNull(user) && nonNull(user.getDataAuths())) {
             this.authorisations = new Authorizations(user.getDataAuths().toArray(new String[user.getDataAuths().size()]));
@@ -79,6 +82,34 @@ public abstract class AccumuloRetriever<OP extends Output & GraphFilters, O_ITEM
         }
     }
 
+    // Adds the top n iterator if the operation has been optimised to return
+    // only the first elements on each tablet, unless the elements are being
+    // counted by the group count iterator
+    private IteratorSetting[] addTopNIteratorSetting(final IteratorSetting[] iteratorSettings) throws StoreException {
+        if (nonNull(iteratorSettings)) {
+            for (final IteratorSetting iteratorSetting : iteratorSettings) {
+                if (nonNull(iteratorSetting)
+                        && AccumuloStoreConstants.GROUP_COUNT_ITERATOR_NAME.equals(iteratorSetting.getName())) {
+                    return iteratorSettings;
+                }
+            }
+        }
+
+        final IteratorSetting topNIteratorSetting;
+        try {
+            topNIteratorSetting = iteratorSettingFactory.getTopNIteratorSetting(operation, store);
+        } catch (final IteratorSettingException e) {
+            throw new StoreException(e.getMessage(), e);
+        }
+        if (isNull(topNIteratorSetting)) {
+            return iteratorSettings;
+        }
+        final IteratorSetting[] settings = isNull(iteratorSettings)
+                ? new IteratorSetting[1] : Arrays.copyOf(iteratorSettings, iteratorSettings.length + 1);
+        settings[settings.length - 1] = topNIteratorSetting;
+        return settings;
+    }
+
     /**
      * Performs any transformations specified in a view on an element
      *
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.retriever.impl;
+
+import org.apache.accumulo.core.client.BatchScanner;
+import org.apache.accumulo.core.client.TableNotFoundException;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
+import uk.gov.gchq.gaffer.accumulostore.key.exception.IteratorSettingException;
+import uk.gov.gchq.gaffer.accumulostore.key.impl.GroupCountIterator;
+import uk.gov.gchq.gaffer.accumulostore.retriever.AccumuloRetriever;
+import uk.gov.gchq.gaffer.accumulostore.retriever.RetrieverException;
+import uk.gov.gchq.gaffer.commonutil.CloseableUtil;
+import uk.gov.gchq.gaffer.commonutil.iterable.EmptyIterator;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * This allows the elements returned by a {@link GetAllElements} to be counted
+ * for each group on the tablet servers, using the {@link GroupCountIterator}.
+ * Each item returned is the partial counts for a single tablet, use
+ * {@link #getGroupCounts()} to get the merged counts.
+ * <p>
+ * Transformations and post transformation filters in the view are applied by
+ * the client so are not applied when counting.
+ */
+public class AccumuloGroupCountRetriever extends AccumuloRetriever<GetAllElements, Map<String, Long>> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccumuloGroupCountRetriever.class);
+
+    public AccumuloGroupCountRetriever(final AccumuloStore store, final GetAllElements operation, final User user)
+            throws IteratorSettingException, StoreException {
+        super(store, operation, user,
+                store.getKeyPackage().getIteratorFactory().getElementPropertyRangeQueryFilter(operation),
+                store.getKeyPackage().getIteratorFactory().getElementPreAggregationFilterIteratorSetting(operation.getView(), store),
+                store.getKeyPackage().getIteratorFactory().getElementPostAggregationFilterIteratorSetting(operation.getView(), store),
+                store.getKeyPackage().getIteratorFactory().getEdgeEntityDirectionFilterIteratorSetting(operation),
+                store.getKeyPackage().getIteratorFactory().getQueryTimeAggregatorIteratorSetting(operation.getView(), store),
+                store.getKeyPackage().getIteratorFactory().getGroupCountIteratorSetting());
+    }
+
+    /**
+     * Only 1 iterator can be open at a time.
+     *
+     * @return a closeable iterator of the partial group counts.
+     */
+    @Override
+    public Iterator<Map<String, Long>> iterator() {
+        CloseableUtil.close(iterator);
+
+        try {
+            iterator = new GroupCountsIterator();
+        } catch (final RetrieverException e) {
+            LOGGER.error("{} returning empty iterator", e.getMessage(), e);
+            return new EmptyIterator<>();
+        }
+
+        return iterator;
+    }
+
+    /**
+     * Merges the partial counts from each tablet.
+     *
+     * @return the total count of elements in each group
+     * @throws RetrieverException if the elements could not be counted
+     */
+    public Map<String, Long> getGroupCounts() throws RetrieverException {
+        CloseableUtil.close(iterator);
+
+        final Map<String, Long> groupCounts = new HashMap<>();
+        final GroupCountsIterator partialCounts = new GroupCountsIterator();
+        iterator = partialCounts;
+        try {
+            while (partialCounts.hasNext()) {
+                partialCounts.next().forEach((group, count) -> groupCounts.merge(group, count, Long::sum));
+            }
+        } finally {
+            close();
+        }
+        return groupCounts;
+    }
+
+    protected class GroupCountsIterator implements Iterator<Map<String, Long>>, Closeable {
+        private final BatchScanner scanner;
+        private final Iterator<Entry<Key, Value>> scannerIterator;
+
+        public GroupCountsIterator() throws RetrieverException {
+            try {
+                scanner = getScanner(Collections.singleton(new Range()));
+            } catch (final TableNotFoundException | StoreException e) {
+                throw new RetrieverException(e);
+            }
+            scannerIterator = scanner.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (scannerIterator.hasNext()) {
+                return true;
+            }
+            close();
+            return false;
+        }
+
+        @Override
+        public Map<String, Long> next() {
+            try {
+                return GroupCountIterator.getGroupCounts(scannerIterator.next().getValue(), elementConverter);
+            } catch (final SerialisationException e) {
+                throw new RuntimeException("Failed to read group counts", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            CloseableUtil.close(scanner);
+        }
+    }
+}
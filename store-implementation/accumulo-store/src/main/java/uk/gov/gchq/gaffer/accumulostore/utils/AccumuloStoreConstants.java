@@ -35,6 +35,8 @@ public final class AccumuloStoreConstants {
     public static final String COLUMN_QUALIFIER_AGGREGATOR_ITERATOR_NAME = "Column_Qualifier_Aggregator";
     public static final String ROW_ID_AGGREGATOR_ITERATOR_NAME = "Row_ID_Aggregator";
     public static final String RANGE_ELEMENT_PROPERTY_FILTER_ITERATOR_NAME = "Range_Element_Property_Filter";
+    public static final String GROUP_COUNT_ITERATOR_NAME = "Group_Count";
+    public static final String TOP_N_ITERATOR_NAME = "Top_N";
 
     // Converter class to be used in iterators must be on classpath of all
     // iterators
@@ -61,6 +63,7 @@ public final class AccumuloStoreConstants {
     // Iterator options
     public static final String VIEW = "View";
     public static final String SCHEMA = "Schema";
+    public static final String ELEMENT_COMPARISON = "Element_Comparison";
     public static final String INCLUDE_ENTITIES = "Include_All_Entities";
     public static final String INCLUDE_EDGES = "Include_All_Edges";
     public static final String DIRECTED_EDGE_ONLY = "Directed_Edges_Only";
@@ -91,9 +94,15 @@ public final class AccumuloStoreConstants {
     public static final int COLUMN_QUALIFIER_AGGREGATOR_ITERATOR_PRIORITY = 36;
     // Applied only during scans.
     public static final int ELEMENT_POST_AGGREGATION_FILTER_ITERATOR_PRIORITY = 37;
+    // Applied only during scans, must be applied after all other iterators.
+    public static final int GROUP_COUNT_ITERATOR_PRIORITY = 38;
+    // Applied only during scans, must be applied after all other iterators.
+    // This is never used with the group count iterator.
+    public static final int TOP_N_ITERATOR_PRIORITY = 39;
 
     // Operations options
     public static final String ADD_ELEMENTS_FROM_HDFS_SKIP_IMPORT = "accumulostore.operation.hdfs.skip_import";
+    public static final String OPERATION_OPTION_TOP_N = "accumulostore.operation.top_n";
 
     // General use constants
     public static final byte[] EMPTY_BYTES = new byte[0];
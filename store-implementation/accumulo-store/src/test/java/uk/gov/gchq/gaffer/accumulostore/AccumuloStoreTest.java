@@ -48,8 +48,10 @@ import uk.gov.gchq.gaffer.commonutil.StreamUtil;
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
 import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.comparison.ElementPropertyComparator;
 import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.data.elementdefinition.exception.SchemaException;
@@ -58,13 +60,16 @@ import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.hdfs.operation.AddElementsFromHdfs;
 import uk.gov.gchq.gaffer.hdfs.operation.SampleDataForSplitPoints;
 import uk.gov.gchq.gaffer.hdfs.operation.handler.HdfsSplitStoreFromFileHandler;
+import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.impl.SplitStoreFromFile;
 import uk.gov.gchq.gaffer.operation.impl.Validate;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
 import uk.gov.gchq.gaffer.operation.impl.generate.GenerateElements;
 import uk.gov.gchq.gaffer.operation.impl.generate.GenerateObjects;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
 import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.serialisation.implementation.JavaSerialiser;
@@ -90,9 +95,11 @@ import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -297,6 +304,56 @@ public class AccumuloStoreTest {
         assertThat(relatedResults).hasSize(0);
     }
 
+    @Test
+    void shouldSortOnTabletServersAndMergeOnClientGaffer1() throws OperationException {
+        shouldSortOnTabletServersAndMergeOnClient(GAFFER_1_KEY_STORE);
+    }
+
+    @Test
+    void shouldSortOnTabletServersAndMergeOnClientByteEntity() throws OperationException {
+        shouldSortOnTabletServersAndMergeOnClient(BYTE_ENTITY_STORE);
+    }
+
+    private void shouldSortOnTabletServersAndMergeOnClient(final AccumuloStore store) throws OperationException {
+        // Given
+        final User user = new User();
+        final List<Element> edges = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            edges.add(new Edge.Builder()
+                    .group(TestGroups.EDGE_3)
+                    .source("source" + i)
+                    .dest("dest" + i)
+                    .directed(true)
+                    .property(TestPropertyNames.COUNT, i)
+                    .build());
+        }
+        store.execute(new AddElements.Builder().input(edges).build(), new Context(user));
+
+        final OperationChain<Iterable<? extends Element>> topEdges = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(new View.Builder()
+                                .edge(TestGroups.EDGE_3)
+                                .build())
+                        .build())
+                .then(new Sort.Builder()
+                        .comparators(new ElementPropertyComparator.Builder()
+                                .groups(TestGroups.EDGE_3)
+                                .property(TestPropertyNames.COUNT)
+                                .reverse(true)
+                                .build())
+                        .resultLimit(3)
+                        .build())
+                .build();
+
+        // When
+        final Iterable<? extends Element> results = store.execute(topEdges, new Context(user));
+
+        // Then
+        assertThat(results)
+                .extracting(element -> element.getProperty(TestPropertyNames.COUNT))
+                .containsExactly(20, 19, 18);
+    }
+
     @Test
     void testStoreReturnsHandlersForRegisteredOperationsGaffer1() {
         testStoreReturnsHandlersForRegisteredOperations(GAFFER_1_KEY_STORE);
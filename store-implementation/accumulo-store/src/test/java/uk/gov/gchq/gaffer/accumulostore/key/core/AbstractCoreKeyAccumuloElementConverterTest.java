@@ -17,6 +17,8 @@
 package uk.gov.gchq.gaffer.accumulostore.key.core;
 
 import com.google.common.primitives.Bytes;
+import org.apache.accumulo.core.data.Value;
+import org.apache.datasketches.hll.HllSketch;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.accumulostore.key.AbstractAccumuloElementConverterTest;
@@ -24,12 +26,19 @@ import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.EdgeDirection;
 import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
 import uk.gov.gchq.gaffer.serialisation.implementation.StringSerialiser;
+import uk.gov.gchq.gaffer.serialisation.implementation.raw.CompactRawLongSerialiser;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.binaryoperator.HllSketchAggregator;
+import uk.gov.gchq.gaffer.sketches.datasketches.cardinality.serialisation.HllSketchSerialiser;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaEdgeDefinition;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
 import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.koryphe.impl.binaryoperator.Sum;
 
 import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -128,6 +137,63 @@ public abstract class AbstractCoreKeyAccumuloElementConverterTest extends Abstra
         assertEquals(EdgeDirection.UNDIRECTED, direction);
     }
 
+    @Test
+    public void shouldAggregateSerialisedSketchesInValues() {
+        // Given
+        final Schema testSchema = new Schema.Builder()
+                .entity("group1", new SchemaEntityDefinition.Builder()
+                        .vertex("string")
+                        .property("sketch", "hllSketch")
+                        .property("count", "long")
+                        .property("label", "string")
+                        .build())
+                .type("string", new TypeDefinition.Builder()
+                        .clazz(String.class)
+                        .serialiser(new StringSerialiser())
+                        .build())
+                .type("hllSketch", new TypeDefinition.Builder()
+                        .clazz(HllSketch.class)
+                        .serialiser(new HllSketchSerialiser())
+                        .aggregateFunction(new HllSketchAggregator())
+                        .build())
+                .type("long", new TypeDefinition.Builder()
+                        .clazz(Long.class)
+                        .serialiser(new CompactRawLongSerialiser())
+                        .aggregateFunction(new Sum())
+                        .build())
+                .build();
+        final AbstractCoreKeyAccumuloElementConverter testConverter = createConverter(testSchema);
+        final ElementAggregator aggregator = testSchema.getElement("group1").getIngestAggregator();
+        final Properties firstProperties = createProperties(0, 100, 1L, "first");
+        final Properties secondProperties = createProperties(50, 150, 2L, "second");
+        final Properties thirdProperties = createProperties(150, 200, 3L, "third");
+        final Value first = testConverter.getValueFromProperties("group1", firstProperties);
+        final Value second = testConverter.getValueFromProperties("group1", secondProperties);
+        final Value third = testConverter.getValueFromProperties("group1", thirdProperties);
+        final Properties expected = aggregator.apply(aggregator.apply(firstProperties, secondProperties), thirdProperties);
+
+        // When
+        final Value aggregated = testConverter.aggregateValues("group1", first, Arrays.asList(second, third).iterator(), aggregator);
+
+        // Then
+        final Properties properties = testConverter.getPropertiesFromValue("group1", aggregated);
+        assertEquals(((HllSketch) expected.get("sketch")).getEstimate(), ((HllSketch) properties.get("sketch")).getEstimate(), 0.0);
+        assertEquals(6L, properties.get("count"));
+        assertEquals("first", properties.get("label"));
+    }
+
+    private static Properties createProperties(final int from, final int to, final long count, final String label) {
+        final HllSketch sketch = new HllSketch(10);
+        for (int i = from; i < to; i++) {
+            sketch.update(i);
+        }
+        final Properties properties = new Properties();
+        properties.put("sketch", sketch);
+        properties.put("count", count);
+        properties.put("label", label);
+        return properties;
+    }
+
     private class UnusualTestSerialiser extends StringSerialiser {
         @Override
         public byte[] serialiseNull() {
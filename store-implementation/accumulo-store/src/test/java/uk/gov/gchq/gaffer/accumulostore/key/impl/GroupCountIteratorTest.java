@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.key.impl;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.SortedMapIterator;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityAccumuloElementConverter;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GroupCountIteratorTest {
+
+    private final ByteEntityAccumuloElementConverter converter = new ByteEntityAccumuloElementConverter(new Schema());
+
+    @Test
+    public void shouldCountKeysInEachColumnFamilyAndReturnSingleKey() throws Exception {
+        // Given
+        final TreeMap<Key, Value> data = new TreeMap<>();
+        data.put(new Key("row1", TestGroups.ENTITY, "q"), new Value());
+        data.put(new Key("row1", TestGroups.EDGE, "q1"), new Value());
+        data.put(new Key("row1", TestGroups.EDGE, "q2"), new Value());
+        data.put(new Key("row2", TestGroups.EDGE, "q"), new Value());
+        data.put(new Key("row3", TestGroups.ENTITY_2, "q"), new Value());
+
+        final GroupCountIterator iterator = new GroupCountIterator();
+        iterator.init(new SortedMapIterator(data), Collections.emptyMap(), null);
+
+        // When
+        iterator.seek(new Range(), Collections.emptyList(), false);
+
+        // Then
+        assertThat(iterator.hasTop()).isTrue();
+        assertThat(iterator.getTopKey()).isEqualTo(data.lastKey());
+        final Map<String, Long> counts = GroupCountIterator.getGroupCounts(iterator.getTopValue(), converter);
+        assertThat(counts)
+                .hasSize(3)
+                .containsEntry(TestGroups.ENTITY, 1L)
+                .containsEntry(TestGroups.ENTITY_2, 1L)
+                .containsEntry(TestGroups.EDGE, 3L);
+
+        iterator.next();
+        assertThat(iterator.hasTop()).isFalse();
+    }
+
+    @Test
+    public void shouldOnlyCountKeysInSeekRange() throws Exception {
+        // Given
+        final TreeMap<Key, Value> data = new TreeMap<>();
+        data.put(new Key("row1", TestGroups.EDGE, "q"), new Value());
+        data.put(new Key("row2", TestGroups.EDGE, "q"), new Value());
+        data.put(new Key("row3", TestGroups.EDGE, "q"), new Value());
+
+        final GroupCountIterator iterator = new GroupCountIterator();
+        iterator.init(new SortedMapIterator(data), Collections.emptyMap(), null);
+
+        // When
+        iterator.seek(new Range("row2", "row3"), Collections.emptyList(), false);
+
+        // Then
+        assertThat(iterator.getTopKey().getRow().toString()).isEqualTo("row3");
+        assertThat(GroupCountIterator.getGroupCounts(iterator.getTopValue(), converter))
+                .containsOnly(Collections.singletonMap(TestGroups.EDGE, 2L).entrySet().iterator().next());
+    }
+
+    @Test
+    public void shouldNotReturnAKeyWhenRangeIsEmpty() throws Exception {
+        // Given
+        final GroupCountIterator iterator = new GroupCountIterator();
+        iterator.init(new SortedMapIterator(new TreeMap<>()), Collections.emptyMap(), null);
+
+        // When
+        iterator.seek(new Range(), Collections.emptyList(), false);
+
+        // Then
+        assertThat(iterator.hasTop()).isFalse();
+    }
+}
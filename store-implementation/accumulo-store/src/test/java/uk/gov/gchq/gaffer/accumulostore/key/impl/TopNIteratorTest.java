@@ -0,0 +1,212 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.accumulostore.key.impl;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.SortedMapIterator;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.accumulostore.key.core.impl.byteEntity.ByteEntityAccumuloElementConverter;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.comparison.ElementPropertyComparator;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.impl.compare.Max;
+import uk.gov.gchq.gaffer.operation.impl.compare.Min;
+import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TopNIteratorTest {
+
+    private static final Schema SCHEMA = Schema.fromJson(StreamUtil.schemas(TopNIteratorTest.class));
+    private static final ElementPropertyComparator COUNT_COMPARATOR = new ElementPropertyComparator.Builder()
+            .groups(TestGroups.EDGE_3)
+            .property(TestPropertyNames.COUNT)
+            .build();
+
+    private final ByteEntityAccumuloElementConverter converter = new ByteEntityAccumuloElementConverter(SCHEMA);
+
+    @Test
+    public void shouldReturnFirstElementsInKeyOrder() throws Exception {
+        // Given
+        final TreeMap<Key, Value> data = createData(10);
+        final TopNIterator iterator = createIterator(data, new Sort.Builder()
+                .comparators(new ElementPropertyComparator.Builder()
+                        .groups(TestGroups.EDGE_3)
+                        .property(TestPropertyNames.COUNT)
+                        .reverse(true)
+                        .build())
+                .resultLimit(3)
+                .build());
+
+        // When
+        iterator.seek(new Range(), Collections.emptyList(), false);
+
+        // Then
+        final List<Key> keys = new ArrayList<>();
+        final List<Integer> counts = new ArrayList<>();
+        while (iterator.hasTop()) {
+            keys.add(iterator.getTopKey());
+            counts.add((Integer) converter.getFullElement(iterator.getTopKey(), iterator.getTopValue(), false)
+                    .getProperty(TestPropertyNames.COUNT));
+            iterator.next();
+        }
+        assertThat(counts).containsExactlyInAnyOrder(10, 9, 8);
+        assertThat(keys).isSorted();
+    }
+
+    @Test
+    public void shouldReturnMaxAndMinElements() throws Exception {
+        // Given
+        final TreeMap<Key, Value> data = createData(5);
+        final TopNIterator maxIterator = createIterator(data, new Max.Builder().comparators(COUNT_COMPARATOR).build());
+        final TopNIterator minIterator = createIterator(data, new Min.Builder().comparators(COUNT_COMPARATOR).build());
+
+        // When
+        maxIterator.seek(new Range(), Collections.emptyList(), false);
+        minIterator.seek(new Range(), Collections.emptyList(), false);
+
+        // Then
+        assertThat(getCount(maxIterator)).isEqualTo(5);
+        maxIterator.next();
+        assertThat(maxIterator.hasTop()).isFalse();
+        assertThat(getCount(minIterator)).isEqualTo(1);
+        minIterator.next();
+        assertThat(minIterator.hasTop()).isFalse();
+    }
+
+    @Test
+    public void shouldDeduplicateElementsStoredUnderBothVertices() throws Exception {
+        // Given
+        final TreeMap<Key, Value> data = new TreeMap<>();
+        for (int i = 1; i <= 3; i++) {
+            final Edge edge = createEdge(i);
+            final Value value = converter.getValueFromElement(edge);
+            data.put(converter.getKeysFromElement(edge).getFirst(), value);
+            data.put(converter.getKeysFromElement(edge).getSecond(), value);
+        }
+        final Sort sort = new Sort.Builder()
+                .comparators(COUNT_COMPARATOR)
+                .resultLimit(2)
+                .build();
+        final TopNIterator deduplicating = createIterator(data, sort);
+        final TopNIterator notDeduplicating = createIterator(data, new Sort.Builder()
+                .comparators(COUNT_COMPARATOR)
+                .resultLimit(2)
+                .deduplicate(false)
+                .build());
+
+        // When
+        deduplicating.seek(new Range(), Collections.emptyList(), false);
+        notDeduplicating.seek(new Range(), Collections.emptyList(), false);
+
+        // Then
+        assertThat(getCounts(deduplicating)).containsExactlyInAnyOrder(1, 2);
+        assertThat(getCounts(notDeduplicating)).containsExactly(1, 1);
+    }
+
+    @Test
+    public void shouldNotReturnAKeyWhenRangeIsEmpty() throws Exception {
+        // Given
+        final TopNIterator iterator = createIterator(new TreeMap<>(), new Max.Builder().comparators(COUNT_COMPARATOR).build());
+
+        // When
+        iterator.seek(new Range(), Collections.emptyList(), false);
+
+        // Then
+        assertThat(iterator.hasTop()).isFalse();
+    }
+
+    @Test
+    public void shouldRejectUnsupportedComparisons() {
+        // Given
+        final Sort unlimitedSort = new Sort.Builder().comparators(COUNT_COMPARATOR).build();
+
+        // When / Then
+        assertThat(TopNIterator.isSupported(unlimitedSort)).isFalse();
+        assertThat(TopNIterator.isSupported(new GetAllElements())).isFalse();
+        assertThat(TopNIterator.isSupported(new Max())).isFalse();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> createIterator(new TreeMap<>(), unlimitedSort))
+                .withMessageContaining(AccumuloStoreConstants.ELEMENT_COMPARISON);
+    }
+
+    private TreeMap<Key, Value> createData(final int size) {
+        final TreeMap<Key, Value> data = new TreeMap<>();
+        for (int i = 1; i <= size; i++) {
+            final Edge edge = createEdge(i);
+            data.put(converter.getKeysFromElement(edge).getFirst(), converter.getValueFromElement(edge));
+        }
+        return data;
+    }
+
+    private static Edge createEdge(final int count) {
+        return new Edge.Builder()
+                .group(TestGroups.EDGE_3)
+                .source("source" + count)
+                .dest("dest" + count)
+                .directed(true)
+                .property(TestPropertyNames.COUNT, count)
+                .build();
+    }
+
+    private static TopNIterator createIterator(final TreeMap<Key, Value> data, final Operation comparison) throws Exception {
+        final Map<String, String> options = new HashMap<>();
+        options.put(AccumuloStoreConstants.SCHEMA, StringUtil.toString(SCHEMA.toCompactJson()));
+        options.put(AccumuloStoreConstants.ACCUMULO_ELEMENT_CONVERTER_CLASS, ByteEntityAccumuloElementConverter.class.getName());
+        options.put(AccumuloStoreConstants.ELEMENT_COMPARISON, StringUtil.toString(JSONSerialiser.serialise(comparison)));
+
+        final TopNIterator iterator = new TopNIterator();
+        iterator.validateOptions(options);
+        iterator.init(new SortedMapIterator(data), options, null);
+        return iterator;
+    }
+
+    private Integer getCount(final TopNIterator iterator) {
+        final Element element = converter.getFullElement(iterator.getTopKey(), iterator.getTopValue(), false);
+        return (Integer) element.getProperty(TestPropertyNames.COUNT);
+    }
+
+    private List<Integer> getCounts(final TopNIterator iterator) throws Exception {
+        final List<Integer> counts = new ArrayList<>();
+        while (iterator.hasTop()) {
+            counts.add(getCount(iterator));
+            iterator.next();
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.accumulostore.optimiser;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.accumulostore.operation.impl.CountAllElementGroups;
+import uk.gov.gchq.gaffer.accumulostore.operation.impl.CountAllElements;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.element.id.DirectedType;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.impl.Count;
+import uk.gov.gchq.gaffer.operation.impl.CountGroups;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountAllElementsOperationChainOptimiserTest {
+
+    private static final View FILTERING_VIEW = new View.Builder()
+            .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                    .preAggregationFilter(new ElementFilter.Builder()
+                            .select(TestPropertyNames.COUNT)
+                            .execute(new IsMoreThan(1L))
+                            .build())
+                    .build())
+            .build();
+
+    private static final View POST_TRANSFORM_FILTERING_VIEW = new View.Builder()
+            .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                    .postTransformFilter(new ElementFilter.Builder()
+                            .select(TestPropertyNames.COUNT)
+                            .execute(new IsMoreThan(1L))
+                            .build())
+                    .build())
+            .build();
+
+    private final CountAllElementsOperationChainOptimiser optimiser = new CountAllElementsOperationChainOptimiser();
+
+    @Test
+    public void shouldReplaceGetAllElementsAndCountWithCountAllElements() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(FILTERING_VIEW)
+                        .directedType(DirectedType.DIRECTED)
+                        .option("key", "value")
+                        .build())
+                .then(new Count<>())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(1);
+        final CountAllElements count = (CountAllElements) optimised.getOperations().get(0);
+        assertThat(count.getView()).isSameAs(FILTERING_VIEW);
+        assertThat(count.getDirectedType()).isEqualTo(DirectedType.DIRECTED);
+        assertThat(count.getOption("key")).isEqualTo("value");
+    }
+
+    @Test
+    public void shouldReplaceGetAllElementsAndCountGroupsWithCountAllElementGroups() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(FILTERING_VIEW)
+                        .build())
+                .then(new CountGroups())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations())
+                .extracting(Operation::getClass)
+                .containsExactly(CountAllElementGroups.class);
+        assertThat(((CountAllElementGroups) optimised.getOperations().get(0)).getView()).isSameAs(FILTERING_VIEW);
+    }
+
+    @Test
+    public void shouldNotOptimiseWhenViewHasPostTransformFilters() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(POST_TRANSFORM_FILTERING_VIEW)
+                        .build())
+                .then(new Count<>())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations())
+                .extracting(Operation::getClass)
+                .containsExactly(GetAllElements.class, Count.class);
+    }
+
+    @Test
+    public void shouldNotOptimiseCountGroupsWithLimit() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetAllElements.Builder()
+                        .view(FILTERING_VIEW)
+                        .build())
+                .then(new CountGroups(10))
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations())
+                .extracting(Operation::getClass)
+                .containsExactly(GetAllElements.class, CountGroups.class);
+    }
+
+    @Test
+    public void shouldNotOptimiseWhenViewIsNull() {
+        // Given
+        final GetAllElements getAllElements = new GetAllElements();
+        getAllElements.setView(null);
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(getAllElements)
+                .then(new Count<>())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(2);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.accumulostore.optimiser;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.comparison.ElementPropertyComparator;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
+import uk.gov.gchq.gaffer.data.element.function.ElementTransformer;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.compare.Max;
+import uk.gov.gchq.gaffer.operation.impl.compare.Sort;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.koryphe.impl.function.Identity;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TopNOperationChainOptimiserTest {
+
+    private static final View FILTERING_VIEW = new View.Builder()
+            .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                    .preAggregationFilter(new ElementFilter.Builder()
+                            .select(TestPropertyNames.COUNT)
+                            .execute(new IsMoreThan(1L))
+                            .build())
+                    .build())
+            .build();
+
+    private static final View POST_TRANSFORM_FILTERING_VIEW = new View.Builder()
+            .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                    .postTransformFilter(new ElementFilter.Builder()
+                            .select(TestPropertyNames.COUNT)
+                            .execute(new IsMoreThan(1L))
+                            .build())
+                    .build())
+            .build();
+
+    private static final View TRANSFORMING_VIEW = new View.Builder()
+            .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                    .transformer(new ElementTransformer.Builder()
+                            .select(TestPropertyNames.COUNT)
+                            .execute(new Identity())
+                            .project(TestPropertyNames.PROP_1)
+                            .build())
+                    .build())
+            .build();
+
+    private static final View PROJECTING_VIEW = new View.Builder()
+            .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                    .properties(TestPropertyNames.PROP_1)
+                    .build())
+            .build();
+
+    private static final ElementPropertyComparator COUNT_COMPARATOR = new ElementPropertyComparator.Builder()
+            .groups(TestGroups.EDGE)
+            .property(TestPropertyNames.COUNT)
+            .reverse(true)
+            .build();
+
+    private final TopNOperationChainOptimiser optimiser = new TopNOperationChainOptimiser(100);
+
+    @Test
+    public void shouldAddSortToGetAllElementsAndKeepSortInChain() throws Exception {
+        // Given
+        final GetAllElements getAllElements = new GetAllElements.Builder()
+                .view(FILTERING_VIEW)
+                .option("key", "value")
+                .build();
+        final Sort sort = new Sort.Builder()
+                .comparators(COUNT_COMPARATOR)
+                .resultLimit(10)
+                .build();
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(getAllElements)
+                .then(sort)
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).hasSize(2);
+        final GetAllElements optimisedGet = (GetAllElements) optimised.getOperations().get(0);
+        assertThat(optimisedGet.getView()).isSameAs(FILTERING_VIEW);
+        assertThat(optimisedGet.getOption("key")).isEqualTo("value");
+        final Sort pushedDown = JSONSerialiser.deserialise(
+                optimisedGet.getOption(AccumuloStoreConstants.OPERATION_OPTION_TOP_N), Sort.class);
+        assertThat(pushedDown.getResultLimit()).isEqualTo(10);
+        assertThat(pushedDown.getComparators())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(COUNT_COMPARATOR);
+        assertThat(optimised.getOperations().get(1)).isSameAs(sort);
+        assertThat(getAllElements.getOption(AccumuloStoreConstants.OPERATION_OPTION_TOP_N)).isNull();
+    }
+
+    @Test
+    public void shouldAddMaxToGetElements() {
+        // Given
+        final OperationChain<?> chain = new OperationChain.Builder()
+                .first(new GetElements.Builder()
+                        .input(new EntitySeed("A"))
+                        .view(FILTERING_VIEW)
+                        .build())
+                .then(new Max.Builder()
+                        .comparators(COUNT_COMPARATOR)
+                        .build())
+                .build();
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations().get(0).getOption(AccumuloStoreConstants.OPERATION_OPTION_TOP_N))
+                .contains(Max.class.getName());
+        assertThat(optimised.getOperations().get(1)).isInstanceOf(Max.class);
+    }
+
+    @Test
+    public void shouldNotOptimiseSortWithoutLimitOrAboveMaxLimit() {
+        assertNotOptimised(new GetAllElements.Builder().view(FILTERING_VIEW).build(),
+                new Sort.Builder().comparators(COUNT_COMPARATOR).build());
+        assertNotOptimised(new GetAllElements.Builder().view(FILTERING_VIEW).build(),
+                new Sort.Builder().comparators(COUNT_COMPARATOR).resultLimit(101).build());
+    }
+
+    @Test
+    public void shouldNotOptimiseViewsAppliedByTheClient() {
+        assertNotOptimised(new GetAllElements.Builder().view(TRANSFORMING_VIEW).build(),
+                new Max.Builder().comparators(COUNT_COMPARATOR).build());
+        assertNotOptimised(new GetAllElements.Builder().view(PROJECTING_VIEW).build(),
+                new Max.Builder().comparators(COUNT_COMPARATOR).build());
+        assertNotOptimised(new GetAllElements.Builder().view(POST_TRANSFORM_FILTERING_VIEW).build(),
+                new Max.Builder().comparators(COUNT_COMPARATOR).build());
+    }
+
+    private void assertNotOptimised(final Operation getElements, final Operation comparison) {
+        // Given
+        final OperationChain<?> chain = new OperationChain<>(Arrays.asList(getElements, comparison));
+
+        // When
+        final OperationChain<?> optimised = optimiser.optimise(chain);
+
+        // Then
+        assertThat(optimised.getOperations()).containsExactly(getElements, comparison);
+        assertThat(getElements.getOption(AccumuloStoreConstants.OPERATION_OPTION_TOP_N)).isNull();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package uk.gov.gchq.gaffer.accumulostore.retriever;
+
+import org.apache.accumulo.core.client.IteratorSetting;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.accumulostore.AccumuloStore;
+import uk.gov.gchq.gaffer.accumulostore.key.AccumuloKeyPackage;
+import uk.gov.gchq.gaffer.accumulostore.key.IteratorSettingFactory;
+import uk.gov.gchq.gaffer.accumulostore.key.impl.GroupCountIterator;
+import uk.gov.gchq.gaffer.accumulostore.key.impl.TopNIterator;
+import uk.gov.gchq.gaffer.accumulostore.retriever.impl.AccumuloGroupCountRetriever;
+import uk.gov.gchq.gaffer.accumulostore.utils.AccumuloStoreConstants;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class AccumuloRetrieverTest {
+
+    @Test
+    void shouldNotAddTopNIteratorToGroupCountRetriever() throws Exception {
+        // Given
+        final AccumuloStore store = mock(AccumuloStore.class);
+        final AccumuloKeyPackage keyPackage = mock(AccumuloKeyPackage.class);
+        final IteratorSettingFactory iteratorFactory = mock(IteratorSettingFactory.class);
+        given(store.getKeyPackage()).willReturn(keyPackage);
+        given(keyPackage.getIteratorFactory()).willReturn(iteratorFactory);
+        given(iteratorFactory.getGroupCountIteratorSetting()).willReturn(new IteratorSetting(
+                AccumuloStoreConstants.GROUP_COUNT_ITERATOR_PRIORITY, AccumuloStoreConstants.GROUP_COUNT_ITERATOR_NAME, GroupCountIterator.class));
+        given(iteratorFactory.getTopNIteratorSetting(any(), any())).willReturn(new IteratorSetting(
+                AccumuloStoreConstants.TOP_N_ITERATOR_PRIORITY, AccumuloStoreConstants.TOP_N_ITERATOR_NAME, TopNIterator.class));
+
+        // When
+        final AccumuloGroupCountRetriever retriever = new AccumuloGroupCountRetriever(store, new GetAllElements(), null);
+
+        // Then
+        assertThat(Arrays.stream(retriever.iteratorSettings).filter(Objects::nonNull).map(IteratorSetting::getName))
+                .containsExactly(AccumuloStoreConstants.GROUP_COUNT_ITERATOR_NAME);
+    }
+}
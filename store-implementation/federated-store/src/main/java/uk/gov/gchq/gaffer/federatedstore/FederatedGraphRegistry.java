@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.federatedstore;
+
+import uk.gov.gchq.gaffer.commonutil.pair.Pair;
+import uk.gov.gchq.gaffer.graph.GraphSerialisable;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * A node local copy of the graphs held in a {@link FederatedStoreCache}.
+ * <p>
+ * When a distributed cache is used, reading the graphs from the cache
+ * deserialises every {@link GraphSerialisable}, so each graph and its
+ * store would be rebuilt for every operation. Instead the graphs and their
+ * {@link FederatedAccess} are read once and reused until the version stamp of
+ * the cache changes, see {@link FederatedStoreCache#getVersion()}. Only the
+ * version stamp is read from the cache for each operation.
+ * <p>
+ * The graphIds visible to each user are indexed, so the cost of resolving the
+ * graphs for an operation does not depend on the number of graphs.
+ */
+final class FederatedGraphRegistry {
+    private static final int MAX_INDEXED_USERS = 1000;
+    private final FederatedStoreCache federatedStoreCache;
+    private volatile Snapshot snapshot;
+
+    FederatedGraphRegistry(final FederatedStoreCache federatedStoreCache) {
+        this.federatedStoreCache = federatedStoreCache;
+    }
+
+    /**
+     * Gets the graphs currently in the cache, the graphs are only read from
+     * the cache if they have changed since they were last read.
+     *
+     * @return the graphs currently in the cache
+     */
+    Snapshot getSnapshot() {
+        final String version = federatedStoreCache.getVersion();
+        final Snapshot current = snapshot;
+        if (isCurrent(current, version)) {
+            return current;
+        }
+        return load(version);
+    }
+
+    /**
+     * Forces the graphs to be read from the cache on next use. Graphs that have
+     * not changed will still be reused.
+     */
+    synchronized void invalidate() {
+        if (nonNull(snapshot)) {
+            snapshot = new Snapshot(null, snapshot.graphs);
+        }
+    }
+
+    private synchronized Snapshot load(final String version) {
+        final Snapshot previous = snapshot;
+        // Another thread may have already loaded this version
+        if (isCurrent(previous, version)) {
+            return previous;
+        }
+
+        final Map<String, Pair<GraphSerialisable, FederatedAccess>> graphs = new LinkedHashMap<>();
+        for (final String graphId : federatedStoreCache.getAllGraphIds()) {
+            final Pair<GraphSerialisable, FederatedAccess> fromCache = federatedStoreCache.getFromCache(graphId);
+            final Pair<GraphSerialisable, FederatedAccess> existing = nonNull(previous) ? previous.graphs.get(graphId) : null;
+            if (nonNull(existing) && existing.getFirst().equals(fromCache.getFirst())) {
+                // Keep the existing instance as it holds the already built graph
+                graphs.put(graphId, new Pair<>(existing.getFirst(), fromCache.getSecond()));
+            } else {
+                graphs.put(graphId, fromCache);
+            }
+        }
+
+        final Snapshot loaded = new Snapshot(version, graphs);
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private static boolean isCurrent(final Snapshot snapshot, final String version) {
+        // An unknown version can not be trusted, so the graphs are always read
+        return nonNull(snapshot) && nonNull(version) && version.equals(snapshot.version);
+    }
+
+    /**
+     * An immutable view of the graphs in the cache at a given version.
+     */
+    static final class Snapshot {
+        private final String version;
+        private final Map<String, Pair<GraphSerialisable, FederatedAccess>> graphs;
+        private final Map<Pair<User, String>, List<String>> visibleGraphIds = new ConcurrentHashMap<>();
+
+        private Snapshot(final String version, final Map<String, Pair<GraphSerialisable, FederatedAccess>> graphs) {
+            this.version = version;
+            this.graphs = Collections.unmodifiableMap(graphs);
+        }
+
+        /**
+         * @return all the graphs and their access, in the order they were
+         * read from the cache
+         */
+        Collection<Pair<GraphSerialisable, FederatedAccess>> getAll() {
+            return graphs.values();
+        }
+
+        GraphSerialisable getGraph(final String graphId) {
+            final Pair<GraphSerialisable, FederatedAccess> pair = graphs.get(graphId);
+            return nonNull(pair) ? pair.getFirst() : null;
+        }
+
+        /**
+         * Gets the graphIds the user has read access to.
+         *
+         * @param user      the user to check access for
+         * @param adminAuth the admin auth, or null if admin access should not
+         *                  be checked
+         * @return the visible graphIds, in the order they were read from the
+         * cache
+         */
+        List<String> getVisibleGraphIds(final User user, final String adminAuth) {
+            final Pair<User, String> key = new Pair<>(user, adminAuth);
+            List<String> graphIds = visibleGraphIds.get(key);
+            if (null == graphIds) {
+                final List<String> visible = new ArrayList<>();
+                for (final Map.Entry<String, Pair<GraphSerialisable, FederatedAccess>> entry : graphs.entrySet()) {
+                    final FederatedAccess access = entry.getValue().getSecond();
+                    if (nonNull(access) && access.hasReadAccess(user, adminAuth)) {
+                        visible.add(entry.getKey());
+                    }
+                }
+                graphIds = Collections.unmodifiableList(visible);
+                if (visibleGraphIds.size() >= MAX_INDEXED_USERS) {
+                    visibleGraphIds.clear();
+                }
+                visibleGraphIds.put(key, graphIds);
+            }
+            return graphIds;
+        }
+    }
+}
@@ -37,16 +37,15 @@ import uk.gov.gchq.gaffer.user.User;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static uk.gov.gchq.gaffer.access.AccessControlledResource.DONT_CHECK_ADMIN_AUTH;
 import static uk.gov.gchq.gaffer.accumulostore.utils.TableUtils.renameTable;
 
 public class FederatedGraphStorage {
@@ -56,10 +55,12 @@ public class FederatedGraphStorage {
     public static final String GRAPH_IDS_NOT_VISIBLE = "The following graphIds are not visible or do not exist: %s";
     private static final Logger LOGGER = LoggerFactory.getLogger(FederatedGraphStorage.class);
     private final FederatedStoreCache federatedStoreCache;
+    private final FederatedGraphRegistry graphRegistry;
     private GraphLibrary graphLibrary;
 
     public FederatedGraphStorage(final String suffixFederatedStoreCacheName) {
         federatedStoreCache = new FederatedStoreCache(suffixFederatedStoreCacheName);
+        graphRegistry = new FederatedGraphRegistry(federatedStoreCache);
     }
 
     /**
@@ -122,20 +123,11 @@ public class FederatedGraphStorage {
      * @return visible graphIds.
      */
     public List<String> getAllIds(final User user) {
-        return getIdsFrom(getUserGraphStream(federatedAccess -> federatedAccess.hasReadAccess(user)));
+        return getAllIds(user, DONT_CHECK_ADMIN_AUTH);
     }
 
     public List<String> getAllIds(final User user, final String adminAuth) {
-        return getIdsFrom(getUserGraphStream(federatedAccess -> federatedAccess.hasReadAccess(user, adminAuth)));
-    }
-
-    private List<String> getIdsFrom(final Stream<GraphSerialisable> allStream) {
-        final List<String> rtn = allStream
-                .map(GraphSerialisable::getGraphId)
-                .distinct()
-                .collect(Collectors.toList());
-
-        return Collections.unmodifiableList(rtn);
+        return graphRegistry.getSnapshot().getVisibleGraphIds(user, adminAuth);
     }
 
     /**
@@ -145,8 +137,9 @@ public class FederatedGraphStorage {
      * @return visible graphs
      */
     public Collection<GraphSerialisable> getAll(final User user) {
-        final Collection<GraphSerialisable> rtn = getUserGraphStream(federatedAccess -> federatedAccess.hasReadAccess(user))
-                .distinct()
+        final FederatedGraphRegistry.Snapshot graphs = graphRegistry.getSnapshot();
+        final Collection<GraphSerialisable> rtn = graphs.getVisibleGraphIds(user, DONT_CHECK_ADMIN_AUTH).stream()
+                .map(graphs::getGraph)
                 .collect(Collectors.toCollection(ArrayList::new));
         return Collections.unmodifiableCollection(rtn);
     }
@@ -160,7 +153,7 @@ public class FederatedGraphStorage {
      * @param user        to match visibility against.
      * @param removeCache to remove associated caches with this graph.
      * @return if a graph was removed.
-     * @see #isValidToView(User, FederatedAccess)
+     * @see FederatedAccess#hasWriteAccess(User)
      */
     public boolean remove(final String graphId, final User user, final boolean removeCache) {
         return remove(graphId, federatedAccess -> federatedAccess.hasWriteAccess(user), removeCache);
@@ -180,6 +173,7 @@ public class FederatedGraphStorage {
             }
 
             federatedStoreCache.deleteFromCache(graphId);
+            graphRegistry.invalidate();
             rtn = true;
         } else {
             rtn = false;
@@ -230,12 +224,19 @@ public class FederatedGraphStorage {
         }
 
         validateAllGivenGraphIdsAreVisibleForUser(user, graphIds, adminAuth);
-        Stream<GraphSerialisable> graphs = getStream(user, graphIds);
-        if (null != graphIds) {
+        final FederatedGraphRegistry.Snapshot graphs = graphRegistry.getSnapshot();
+        final List<String> visibleIds = graphs.getVisibleGraphIds(user, DONT_CHECK_ADMIN_AUTH);
+        final Collection<String> ids;
+        if (isNull(graphIds)) {
+            ids = visibleIds;
+        } else {
             //This maintains order with the requested Ids.
-            graphs = graphs.sorted(Comparator.comparingInt(g -> graphIds.indexOf(g.getGraphId())));
+            ids = new LinkedHashSet<>(graphIds);
+            ids.retainAll(visibleIds);
         }
-        final List<GraphSerialisable> rtn = graphs.distinct().collect(Collectors.toList());
+        final List<GraphSerialisable> rtn = ids.stream()
+                .map(graphs::getGraph)
+                .collect(Collectors.toList());
         return Collections.unmodifiableList(rtn);
     }
 
@@ -257,51 +258,6 @@ public class FederatedGraphStorage {
         }
     }
 
-    /**
-     * @param user   to match visibility against, if null will default to
-     *               false/denied
-     *               access
-     * @param access access the user must match.
-     * @return the boolean access
-     */
-    private boolean isValidToView(final User user, final FederatedAccess access) {
-        return null != access && access.hasReadAccess(user);
-    }
-
-    /**
-     * @param user     to match visibility against.
-     * @param graphIds filter on graphIds
-     * @return a stream of graphs for the given graphIds and the user has visibility for.
-     * If graphIds is null then only enabled by default graphs are returned that the user can see.
-     */
-    private Stream<GraphSerialisable> getStream(final User user, final Collection<String> graphIds) {
-        Stream<GraphSerialisable> rtn;
-        if (isNull(graphIds)) {
-            rtn = StreamSupport.stream(federatedStoreCache.getAllGraphIds().spliterator(), false)
-                    .map(federatedStoreCache::getFromCache)
-                    .filter(pair -> isValidToView(user, pair.getSecond()))
-                    .map(Pair::getFirst);
-        } else {
-            rtn = StreamSupport.stream(federatedStoreCache.getAllGraphIds().spliterator(), false)
-                    .map(federatedStoreCache::getFromCache)
-                    .filter(pair -> isValidToView(user, pair.getSecond()))
-                    .filter(pair -> graphIds.contains(pair.getFirst().getGraphId()))
-                    .map(Pair::getFirst);
-        }
-        return rtn;
-    }
-
-    /**
-     * @param readAccessPredicate to filter graphs.
-     * @return a stream of graphs the user has visibility for.
-     */
-    private Stream<GraphSerialisable> getUserGraphStream(final Predicate<FederatedAccess> readAccessPredicate) {
-        return StreamSupport.stream(federatedStoreCache.getAllGraphIds().spliterator(), false)
-            .map(federatedStoreCache::getFromCache)
-            .filter(pair -> readAccessPredicate.test(pair.getSecond()))
-            .map(Pair::getFirst);
-    }
-
     @SuppressWarnings("PMD.PreserveStackTrace") //Not Required
     private void addToCache(final GraphSerialisable newGraph, final FederatedAccess access) {
         if (federatedStoreCache.contains(newGraph.getGraphId())) {
@@ -309,6 +265,7 @@ public class FederatedGraphStorage {
         } else {
             try {
                 federatedStoreCache.addGraphToCache(newGraph, access, false);
+                graphRegistry.invalidate();
             } catch (final OverwritingException e) {
                 throw new OverwritingException((String.format("User is attempting to overwrite a graph within the cacheService. GraphId: %s", newGraph.getGraphId())));
             } catch (final CacheOperationException e) {
@@ -346,8 +303,7 @@ public class FederatedGraphStorage {
     }
 
     private Map<String, Object> getAllGraphsAndAccess(final List<String> graphIds, final Predicate<FederatedAccess> accessPredicate) {
-        return StreamSupport.stream(federatedStoreCache.getAllGraphIds().spliterator(), false)
-            .map(federatedStoreCache::getFromCache)
+        return graphRegistry.getSnapshot().getAll().stream()
             // filter on FederatedAccess
             .filter(pair -> accessPredicate.test(pair.getSecond()))
             // filter on if graph required?
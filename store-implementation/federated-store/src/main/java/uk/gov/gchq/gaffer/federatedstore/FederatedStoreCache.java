@@ -16,6 +16,7 @@
 
 package uk.gov.gchq.gaffer.federatedstore;
 
+import uk.gov.gchq.gaffer.cache.Cache;
 import uk.gov.gchq.gaffer.cache.ICache;
 import uk.gov.gchq.gaffer.cache.exception.CacheOperationException;
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
@@ -25,15 +26,38 @@ import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.graph.GraphSerialisable;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 
+import java.util.UUID;
+
+import static uk.gov.gchq.gaffer.federatedstore.FederatedStoreCacheTransient.FEDERATED_STORE_CACHE_SERVICE_NAME;
+
 /**
  * Wrapper around {@link FederatedStoreCacheTransient} to provide an interface for
  * handling {@link Graph}s within a {@link FederatedStore}.
+ * <p>
+ * Every change made through this class also updates a version stamp held in
+ * a separate cache, this allows other stores sharing the cache to detect
+ * changes without reading every graph, see {@link #getVersion()}.
  */
 public final class FederatedStoreCache {
+    private static final String VERSION_CACHE_NAME_PREFIX = "federatedStoreGraphsVersion";
+    private static final String VERSION_KEY = "version";
     private final FederatedStoreCacheTransient cacheTransient;
+    private final VersionCache versionCache;
 
     public FederatedStoreCache(final String suffixFederatedStoreCacheName) {
         cacheTransient = new FederatedStoreCacheTransient(suffixFederatedStoreCacheName);
+        versionCache = new VersionCache(suffixFederatedStoreCacheName);
+    }
+
+    /**
+     * Gets the version stamp of the graphs in the cache. The stamp changes
+     * whenever a graph is added, removed or changed using this class.
+     *
+     * @return the current version stamp, or null if the version is unknown,
+     * e.g. the cache was populated by an older version of Gaffer
+     */
+    public String getVersion() {
+        return versionCache.getVersion();
     }
 
     /**
@@ -61,6 +85,7 @@ public final class FederatedStoreCache {
         } catch (final SerialisationException e) {
             throw new RuntimeException(e);
         }
+        versionCache.updateVersion();
     }
 
     /**
@@ -80,10 +105,12 @@ public final class FederatedStoreCache {
         } catch (final SerialisationException e) {
             throw new RuntimeException(e);
         }
+        versionCache.updateVersion();
     }
 
     public void deleteGraphFromCache(final String graphId) {
         cacheTransient.deleteGraphFromCache(graphId);
+        versionCache.updateVersion();
     }
 
     /**
@@ -113,6 +140,7 @@ public final class FederatedStoreCache {
 
     public void addGraphToCache(final GraphSerialisable graphSerialisable, final byte[] access, final boolean overwrite) throws CacheOperationException {
         cacheTransient.addGraphToCache(graphSerialisable, access, overwrite);
+        versionCache.updateVersion();
     }
 
     public FederatedAccess getAccessFromCache(final String graphId) {
@@ -143,6 +171,7 @@ public final class FederatedStoreCache {
 
     public void clearCache() throws CacheOperationException {
         cacheTransient.clearCache();
+        versionCache.updateVersion();
     }
 
     public boolean contains(final String graphId) {
@@ -151,6 +180,7 @@ public final class FederatedStoreCache {
 
     public void deleteFromCache(final String key) {
         cacheTransient.deleteFromCache(key);
+        versionCache.updateVersion();
     }
 
     public ICache getCache() {
@@ -160,4 +190,33 @@ public final class FederatedStoreCache {
     public static String getCacheNameFrom(final String suffixCacheName) {
         return FederatedStoreCacheTransient.getCacheNameFrom(suffixCacheName);
     }
+
+    private static final class VersionCache extends Cache<String, String> {
+        private VersionCache(final String suffixFederatedStoreCacheName) {
+            super(getCacheNameFrom(VERSION_CACHE_NAME_PREFIX, suffixFederatedStoreCacheName), FEDERATED_STORE_CACHE_SERVICE_NAME);
+        }
+
+        private String getVersion() {
+            final ICache<String, String> cache = getCache();
+            if (null == cache) {
+                return null;
+            }
+            try {
+                return cache.get(VERSION_KEY);
+            } catch (final CacheOperationException e) {
+                throw new GafferRuntimeException("Error getting the version of the graphs from the cache", e);
+            }
+        }
+
+        private void updateVersion() {
+            if (null != getCache()) {
+                try {
+                    // A random stamp is used so concurrent updates from different stores can not clash
+                    addToCache(VERSION_KEY, UUID.randomUUID().toString(), true);
+                } catch (final CacheOperationException e) {
+                    throw new GafferRuntimeException("Error updating the version of the graphs in the cache", e);
+                }
+            }
+        }
+    }
 }
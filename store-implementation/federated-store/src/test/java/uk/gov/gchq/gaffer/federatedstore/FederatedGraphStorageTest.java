@@ -558,4 +558,50 @@ public class FederatedGraphStorageTest {
         assertThat(allIds.iterator().next()).isEqualTo(GRAPH_ID_A);
     }
 
+    @Test
+    public void shouldRemoveGraphReplicatedBetweenInstances() throws StorageException {
+        //given
+        final FederatedGraphStorage otherGraphStorage = new FederatedGraphStorage(CACHE_NAME_SUFFIX);
+        graphStorage.put(graphSerialisableA, auth1Access);
+        assertThat(graphStorage.getAllIds(authUser())).containsExactly(GRAPH_ID_A);
+
+        //when
+        final boolean removed = otherGraphStorage.remove(GRAPH_ID_A, testUser(), false);
+
+        //then
+        assertThat(removed).isTrue();
+        assertThat(graphStorage.getAllIds(authUser())).isEmpty();
+        assertThat(graphStorage.get(authUser(), null)).isEmpty();
+    }
+
+    @Test
+    public void shouldChangeAccessReplicatedBetweenInstances() throws StorageException {
+        //given
+        final FederatedGraphStorage otherGraphStorage = new FederatedGraphStorage(CACHE_NAME_SUFFIX);
+        graphStorage.put(graphSerialisableA, auth1Access);
+        assertThat(graphStorage.getAllIds(authUser())).containsExactly(GRAPH_ID_A);
+
+        //when
+        final boolean changed = otherGraphStorage.changeGraphAccess(GRAPH_ID_A, blockingReadAccess, testUser());
+
+        //then
+        assertThat(changed).isTrue();
+        assertThat(graphStorage.getAllIds(authUser())).isEmpty();
+    }
+
+    @Test
+    public void shouldReuseGraphWhenOtherGraphsChange() throws StorageException {
+        //given
+        final FederatedGraphStorage otherGraphStorage = new FederatedGraphStorage(CACHE_NAME_SUFFIX);
+        graphStorage.put(graphSerialisableA, auth1Access);
+        final GraphSerialisable graphA = graphStorage.get(testUser(), singletonList(GRAPH_ID_A), null).get(0);
+
+        //when
+        otherGraphStorage.put(graphSerialisableB, auth1Access);
+        final List<GraphSerialisable> graphs = graphStorage.get(testUser(), Arrays.asList(GRAPH_ID_A, GRAPH_ID_B), null);
+
+        //then
+        assertThat(graphs).extracting(GraphSerialisable::getGraphId).containsExactly(GRAPH_ID_A, GRAPH_ID_B);
+        assertThat(graphs.get(0)).isSameAs(graphA);
+    }
 }
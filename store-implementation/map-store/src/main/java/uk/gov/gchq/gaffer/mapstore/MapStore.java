@@ -24,6 +24,7 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
 import uk.gov.gchq.gaffer.mapstore.impl.AddElementsHandler;
 import uk.gov.gchq.gaffer.mapstore.impl.CountAllElementsDefaultViewHandler;
+import uk.gov.gchq.gaffer.mapstore.impl.CountGroupsAllElementsDefaultViewHandler;
 import uk.gov.gchq.gaffer.mapstore.impl.DeleteAllDataHandler;
 import uk.gov.gchq.gaffer.mapstore.impl.DeleteElementsHandler;
 import uk.gov.gchq.gaffer.mapstore.impl.GetAdjacentIdsHandler;
@@ -31,6 +32,7 @@ import uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandler;
 import uk.gov.gchq.gaffer.mapstore.impl.GetElementsHandler;
 import uk.gov.gchq.gaffer.mapstore.impl.MapImpl;
 import uk.gov.gchq.gaffer.mapstore.operation.CountAllElementsDefaultView;
+import uk.gov.gchq.gaffer.mapstore.operation.CountGroupsAllElementsDefaultView;
 import uk.gov.gchq.gaffer.mapstore.optimiser.CountAllElementsOperationChainOptimiser;
 import uk.gov.gchq.gaffer.mapstore.utils.SchemaOptimiserMapStore;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
@@ -54,6 +56,7 @@ import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.export.localfile.ExportToLocalFileHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.export.localfile.ImportFromLocalFileHandler;
 import uk.gov.gchq.gaffer.store.operation.handler.job.GetAllJobDetailsHandler;
+import uk.gov.gchq.gaffer.store.optimiser.OperationChainOptimisers;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaOptimiser;
 
@@ -103,9 +106,13 @@ public class MapStore extends Store {
         super.initialise(graphId, schema, properties);
 
         // Add OperationChainOptimisers
+        super.addOperationChainOptimisers(OperationChainOptimisers.getSupported(TRAITS));
         super.addOperationChainOptimisers(asList(new CountAllElementsOperationChainOptimiser()));
 
-        // Initialise maps
+        // Initialise maps, closing the change log of any previous maps first
+        if (null != mapImpl && mapImpl != staticMapImpl) {
+            mapImpl.closeSnapshot();
+        }
         mapImpl = createMapImpl();
     }
 
@@ -134,22 +141,53 @@ public class MapStore extends Store {
         return MapStoreProperties.class;
     }
 
-    protected MapImpl createMapImpl() {
+    /**
+     * Saves the contents of the store to the snapshot file configured using
+     * {@link MapStoreProperties#SNAPSHOT_PATH}. The snapshot is restored when
+     * a store with the same properties is next initialised.
+     *
+     * @throws StoreException if no snapshot path is configured or the snapshot
+     *                        could not be saved
+     */
+    public void saveSnapshot() throws StoreException {
+        mapImpl.saveSnapshot();
+    }
+
+    /**
+     * Closes the snapshot change log configured using
+     * {@link MapStoreProperties#SNAPSHOT_CHANGE_LOG}, so any buffered changes
+     * are written to it. This should be called when the store is shut down,
+     * otherwise the change log is closed when the JVM shuts down.
+     *
+     * @throws StoreException if the change log could not be closed
+     */
+    public void closeSnapshot() throws StoreException {
+        mapImpl.closeSnapshot();
+    }
+
+    protected MapImpl createMapImpl() throws StoreException {
         if (getProperties().isStaticMap()) {
             LOGGER.debug("Using static map");
             if (isNull(staticMapImpl)) {
-                staticMapImpl = new MapImpl(getSchema(), getProperties());
+                staticMapImpl = newMapImpl();
             }
 
             return staticMapImpl;
         }
 
-        return new MapImpl(getSchema(), getProperties());
+        return newMapImpl();
+    }
+
+    private MapImpl newMapImpl() throws StoreException {
+        final MapImpl newMapImpl = new MapImpl(getSchema(), getProperties());
+        newMapImpl.restoreSnapshot();
+        return newMapImpl;
     }
 
     @Override
     protected void addAdditionalOperationHandlers() {
         addOperationHandler(CountAllElementsDefaultView.class, new CountAllElementsDefaultViewHandler());
+        addOperationHandler(CountGroupsAllElementsDefaultView.class, new CountGroupsAllElementsDefaultViewHandler());
         addOperationHandler(GetAllJobDetails.class, new GetAllJobDetailsHandler());
         addOperationHandler(ImportFromLocalFile.class, new ImportFromLocalFileHandler());
         addOperationHandler(ExportToLocalFile.class, new ExportToLocalFileHandler());
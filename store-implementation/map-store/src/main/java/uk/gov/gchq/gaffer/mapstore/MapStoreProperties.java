@@ -15,6 +15,9 @@
  */
 package uk.gov.gchq.gaffer.mapstore;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import uk.gov.gchq.gaffer.commonutil.ImmutableClassUtil;
 import uk.gov.gchq.gaffer.mapstore.factory.MapFactory;
 import uk.gov.gchq.gaffer.mapstore.factory.SimpleMapFactory;
 import uk.gov.gchq.gaffer.sketches.serialisation.json.SketchesJsonModules;
@@ -23,6 +26,8 @@ import uk.gov.gchq.koryphe.impl.binaryoperator.StringDeduplicateConcat;
 
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Additional {@link StoreProperties} for the {@link MapStore}.
@@ -49,6 +54,35 @@ public class MapStoreProperties extends StoreProperties {
     public static final String INGEST_BUFFER_SIZE = "gaffer.store.mapstore.map.ingest.buffer.size";
     public static final int INGEST_BUFFER_SIZE_DEFAULT = 0;
 
+    /**
+     * Property name for a comma separated list of property classes that are
+     * immutable. Properties of these classes are shared between the stored
+     * elements and the elements returned from the store, rather than being
+     * cloned using their serialiser. Set to an empty string to always clone
+     * properties.
+     */
+    public static final String IMMUTABLE_PROPERTY_CLASSES = "gaffer.store.mapstore.immutable.property.classes";
+    public static final String IMMUTABLE_PROPERTY_CLASSES_DEFAULT = ImmutableClassUtil.IMMUTABLE_CLASSES.stream()
+            .map(Class::getName)
+            .sorted()
+            .collect(Collectors.joining(","));
+
+    /**
+     * Property name for the path of a snapshot file for the store. If set, the
+     * maps are restored from the snapshot when the store is initialised and a
+     * new snapshot can be saved using {@link MapStore#saveSnapshot()}.
+     */
+    public static final String SNAPSHOT_PATH = "gaffer.store.mapstore.snapshot.path";
+    public static final String SNAPSHOT_PATH_DEFAULT = null;
+
+    /**
+     * Property name for enabling an append only change log alongside the
+     * snapshot. Any elements added or deleted after the last snapshot are
+     * written to the change log and replayed when the store is restored.
+     */
+    public static final String SNAPSHOT_CHANGE_LOG = "gaffer.store.mapstore.snapshot.changelog";
+    public static final String SNAPSHOT_CHANGE_LOG_DEFAULT = "false";
+
     public MapStoreProperties() {
         super(MapStore.class);
     }
@@ -123,6 +157,37 @@ public class MapStoreProperties extends StoreProperties {
         set(STATIC_MAP, Boolean.toString(staticMap));
     }
 
+    public String getImmutablePropertyClasses() {
+        return get(IMMUTABLE_PROPERTY_CLASSES, IMMUTABLE_PROPERTY_CLASSES_DEFAULT);
+    }
+
+    public void setImmutablePropertyClasses(final String immutablePropertyClasses) {
+        set(IMMUTABLE_PROPERTY_CLASSES, immutablePropertyClasses);
+    }
+
+    @JsonIgnore
+    public void setImmutablePropertyClasses(final Set<Class<?>> immutablePropertyClasses) {
+        setImmutablePropertyClasses(immutablePropertyClasses.stream()
+                .map(Class::getName)
+                .collect(Collectors.joining(",")));
+    }
+
+    public String getSnapshotPath() {
+        return get(SNAPSHOT_PATH, SNAPSHOT_PATH_DEFAULT);
+    }
+
+    public void setSnapshotPath(final String snapshotPath) {
+        set(SNAPSHOT_PATH, snapshotPath);
+    }
+
+    public boolean isSnapshotChangeLog() {
+        return Boolean.parseBoolean(get(SNAPSHOT_CHANGE_LOG, SNAPSHOT_CHANGE_LOG_DEFAULT));
+    }
+
+    public void setSnapshotChangeLog(final boolean snapshotChangeLog) {
+        set(SNAPSHOT_CHANGE_LOG, Boolean.toString(snapshotChangeLog));
+    }
+
     @Override
     public String getJsonSerialiserModules() {
         return new StringDeduplicateConcat().apply(
@@ -57,6 +57,7 @@ public class SimpleMapFactory implements MapFactory {
         } catch (final ClassNotFoundException | ClassCastException e) {
             throw new IllegalArgumentException("Map Class is invalid: " + mapClassName, e);
         }
+        cloner.initialise(properties);
     }
 
     @Override
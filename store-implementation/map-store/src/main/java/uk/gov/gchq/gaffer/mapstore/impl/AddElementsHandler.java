@@ -57,7 +57,7 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
         return null;
     }
 
-    private void addElements(final Iterable<? extends Element> elements, final MapStore mapStore) {
+    private void addElements(final Iterable<? extends Element> elements, final MapStore mapStore) throws OperationException {
         final MapImpl mapImpl = mapStore.getMapImpl();
         final Schema schema = mapStore.getSchema();
 
@@ -86,9 +86,14 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
                 addBatch(mapImpl, schema, AggregatorUtil.ingestAggregate(batch, schema));
             }
         }
+
+        if (null != mapImpl.getSnapshot()) {
+            mapImpl.getSnapshot().flushChangeLog();
+        }
     }
 
-    private void addBatch(final MapImpl mapImpl, final Schema schema, final Iterable<? extends Element> elements) {
+    void addBatch(final MapImpl mapImpl, final Schema schema, final Iterable<? extends Element> elements) throws OperationException {
+        final MapSnapshot snapshot = mapImpl.getSnapshot();
         for (final Element element : elements) {
             if (null != element) {
                 final Element elementForIndexing = addElement(element, schema, mapImpl);
@@ -97,6 +102,10 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
                 if (mapImpl.isMaintainIndex()) {
                     updateElementIndex(elementForIndexing, mapImpl);
                 }
+
+                if (null != snapshot) {
+                    snapshot.logAdd(element);
+                }
             }
         }
     }
@@ -143,7 +152,7 @@ public class AddElementsHandler implements OperationHandler<AddElements> {
         return elementClone;
     }
 
-    private void updateElementIndex(final Element element, final MapImpl mapImpl) {
+    void updateElementIndex(final Element element, final MapImpl mapImpl) {
         if (element instanceof Entity) {
             final Entity entity = (Entity) element;
             final EntitySeed entitySeed = new EntitySeed(entity.getVertex());
@@ -15,7 +15,6 @@
  */
 package uk.gov.gchq.gaffer.mapstore.impl;
 
-import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.mapstore.MapStore;
 import uk.gov.gchq.gaffer.mapstore.operation.CountAllElementsDefaultView;
 import uk.gov.gchq.gaffer.operation.OperationException;
@@ -26,7 +25,9 @@ import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.user.User;
 
-import java.util.stream.Stream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * An {@link uk.gov.gchq.gaffer.store.operation.handler.OperationHandler} for the
@@ -36,23 +37,34 @@ public class CountAllElementsDefaultViewHandler implements OutputOperationHandle
     @Override
     public Long doOperation(final CountAllElementsDefaultView operation, final Context context, final Store store)
             throws OperationException {
-        return doOperation(context, (MapStore) store);
+        return doOperation(operation, context, (MapStore) store);
     }
 
-    private Long doOperation(final Context context, final MapStore mapStore) {
+    private Long doOperation(final CountAllElementsDefaultView operation, final Context context, final MapStore mapStore) {
+        final Predicate<Object> visibilityFilter = getVisibilityFilter(mapStore, context.getUser());
 
-        final User user = context.getUser();
-        final Schema schema = mapStore.getSchema();
-        final boolean supportsVisibility = mapStore.getTraits().contains(StoreTrait.VISIBILITY);
-
-        Stream<Element> elementStream = Stream.concat(
-                mapStore.getMapImpl().getAllAggElements(schema.getGroups()),
-                mapStore.getMapImpl().getAllNonAggElements(schema.getGroups()));
+        // Count directly from the stored maps rather than streaming cloned elements
+        long count = 0;
+        for (final String group : getGroups(operation.getGroups(), mapStore.getSchema())) {
+            count += mapStore.getMapImpl().countElements(group, visibilityFilter);
+        }
+        return count;
+    }
 
-        if (supportsVisibility) {
-            elementStream = GetElementsUtil.applyVisibilityFilter(elementStream, schema, user);
+    static Predicate<Object> getVisibilityFilter(final MapStore mapStore, final User user) {
+        if (mapStore.getTraits().contains(StoreTrait.VISIBILITY)
+                && null != mapStore.getSchema().getVisibilityProperty()) {
+            return GetElementsUtil.getVisibilityFilter(user);
         }
+        return null;
+    }
 
-        return elementStream.count();
+    static Set<String> getGroups(final Set<String> groups, final Schema schema) {
+        if (null == groups) {
+            return schema.getGroups();
+        }
+        final Set<String> schemaGroups = new HashSet<>(groups);
+        schemaGroups.retainAll(schema.getGroups());
+        return schemaGroups;
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import uk.gov.gchq.gaffer.data.GroupCounts;
+import uk.gov.gchq.gaffer.mapstore.MapStore;
+import uk.gov.gchq.gaffer.mapstore.operation.CountGroupsAllElementsDefaultView;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.Store;
+import uk.gov.gchq.gaffer.store.operation.handler.OutputOperationHandler;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+
+import java.util.function.Predicate;
+
+/**
+ * An {@link uk.gov.gchq.gaffer.store.operation.handler.OperationHandler} for the
+ * {@link CountGroupsAllElementsDefaultView} operation on the {@link MapStore}.
+ */
+public class CountGroupsAllElementsDefaultViewHandler implements OutputOperationHandler<CountGroupsAllElementsDefaultView, GroupCounts> {
+    @Override
+    public GroupCounts doOperation(final CountGroupsAllElementsDefaultView operation, final Context context, final Store store)
+            throws OperationException {
+        return doOperation(operation, context, (MapStore) store);
+    }
+
+    private GroupCounts doOperation(final CountGroupsAllElementsDefaultView operation, final Context context, final MapStore mapStore) {
+        final Schema schema = mapStore.getSchema();
+        final Predicate<Object> visibilityFilter = CountAllElementsDefaultViewHandler.getVisibilityFilter(mapStore, context.getUser());
+
+        // Groups without any elements are omitted, this matches the CountGroupsHandler
+        final GroupCounts groupCounts = new GroupCounts();
+        for (final String group : CountAllElementsDefaultViewHandler.getGroups(operation.getGroups(), schema)) {
+            final long count = mapStore.getMapImpl().countElements(group, visibilityFilter);
+            if (count > 0) {
+                if (schema.getEntityGroups().contains(group)) {
+                    groupCounts.addEntityGroupCount(group, count);
+                } else {
+                    groupCounts.addEdgeGroupCount(group, count);
+                }
+            }
+        }
+        return groupCounts;
+    }
+}
@@ -36,8 +36,12 @@ public class DeleteAllDataHandler implements OperationHandler<DeleteAllData> {
         return null;
     }
 
-    private void removeAllData(final MapStore mapStore) {
+    private void removeAllData(final MapStore mapStore) throws OperationException {
         final MapImpl mapImpl = mapStore.getMapImpl();
         mapImpl.clear();
+        if (null != mapImpl.getSnapshot()) {
+            mapImpl.getSnapshot().logClear();
+            mapImpl.getSnapshot().flushChangeLog();
+        }
     }
 }
@@ -25,6 +25,7 @@ import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.GroupedProperties;
 import uk.gov.gchq.gaffer.mapstore.MapStore;
+import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
 import uk.gov.gchq.gaffer.operation.impl.delete.DeleteElements;
@@ -35,6 +36,9 @@ import uk.gov.gchq.gaffer.store.operation.handler.OperationHandler;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
 
+import java.util.Iterator;
+import java.util.List;
+
 /**
     * An {@link OperationHandler} for the {@link DeleteElements} operation on the
     * {@link MapStore}.
@@ -43,7 +47,7 @@ public class DeleteElementsHandler implements OperationHandler<DeleteElements> {
     private static final Logger LOGGER = LoggerFactory.getLogger(DeleteElementsHandler.class);
 
     @Override
-    public Object doOperation(final DeleteElements deleteElements, final Context context, final Store store) {
+    public Object doOperation(final DeleteElements deleteElements, final Context context, final Store store) throws OperationException {
         Iterable<? extends Element> elements = deleteElements.getInput();
         if (deleteElements.isValidate()) {
             elements = new ValidatedElements(elements, store.getSchema(), deleteElements.isSkipInvalidElements());
@@ -53,7 +57,7 @@ public class DeleteElementsHandler implements OperationHandler<DeleteElements> {
         return null;
     }
 
-    private void deleteElements(final Iterable<? extends Element> elements, final MapStore mapStore) {
+    private void deleteElements(final Iterable<? extends Element> elements, final MapStore mapStore) throws OperationException {
         final MapImpl mapImpl = mapStore.getMapImpl();
         final Schema schema = mapStore.getSchema();
 
@@ -64,16 +68,25 @@ public class DeleteElementsHandler implements OperationHandler<DeleteElements> {
             deleteBatch(mapImpl, schema, elements);
         } else {
             LOGGER.info("Deleting elements in batches, batch size = {}", bufferSize);
-            // Stream of lists that gets each batch
-            Streams.toBatches(elements, bufferSize).forEach(batch -> deleteBatch(mapImpl, schema, AggregatorUtil.ingestAggregate(batch, schema)));
+            // Iterator of lists that gets each batch
+            final Iterator<? extends List<? extends Element>> batches = Streams.toBatches(elements, bufferSize).iterator();
+            while (batches.hasNext()) {
+                deleteBatch(mapImpl, schema, AggregatorUtil.ingestAggregate(batches.next(), schema));
+            }
+        }
+
+        if (null != mapImpl.getSnapshot()) {
+            mapImpl.getSnapshot().flushChangeLog();
         }
     }
 
-    private void deleteBatch(final MapImpl mapImpl, final Schema schema, final Iterable<? extends Element> elements) {
-        elements.forEach(element -> deleteElement(element, schema, mapImpl));
+    void deleteBatch(final MapImpl mapImpl, final Schema schema, final Iterable<? extends Element> elements) throws OperationException {
+        for (final Element element : elements) {
+            deleteElement(element, schema, mapImpl);
+        }
     }
 
-    private void deleteElement(final Element element, final Schema schema, final MapImpl mapImpl) {
+    private void deleteElement(final Element element, final Schema schema, final MapImpl mapImpl) throws OperationException {
         if (element != null) {
             final Element elementForIndexing;
             if (mapImpl.isAggregationEnabled(element)) {
@@ -85,6 +98,10 @@ public class DeleteElementsHandler implements OperationHandler<DeleteElements> {
             if (mapImpl.isMaintainIndex()) {
                 updateElementIndex(elementForIndexing, mapImpl);
             }
+
+            if (null != mapImpl.getSnapshot()) {
+                mapImpl.getSnapshot().logDelete(element);
+            }
         }
     }
 
@@ -86,13 +86,14 @@ public class GetAdjacentIdsHandler implements OutputOperationHandler<GetAdjacent
                             .stream()
                             .map(mapImpl::getAggElement));
 
+            // Clone before applying visibility as the filter can modify the elements
+            elementStream = elementStream.map(element -> mapImpl.cloneElement(element, schema));
+
             // Apply visibility
             if (this.supportsVisibility) {
                 elementStream = GetElementsUtil.applyVisibilityFilter(elementStream, schema, user);
             }
 
-            elementStream = elementStream.map(element -> mapImpl.cloneElement(element, schema));
-
             // Apply the view
             elementStream = GetElementsUtil.applyView(elementStream, schema, getAdjacentIds.getView(), true);
 
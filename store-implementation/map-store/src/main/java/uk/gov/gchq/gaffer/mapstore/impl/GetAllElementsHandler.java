@@ -70,11 +70,12 @@ public class GetAllElementsHandler implements OutputOperationHandler<GetAllEleme
         @Override
         public Iterator<Element> iterator() {
             Stream<Element> elements = mapImpl.getAllElements(getAllElements.getView().getGroups());
+            elements = GetElementsUtil.applyDirectedTypeFilter(elements, getAllElements.getView().hasEdges(), getAllElements.getDirectedType());
+            // Clone before applying visibility as the filter can modify the elements
+            elements = elements.map(element -> mapImpl.cloneElement(element, schema));
             if (this.supportsVisibility) {
                 elements = GetElementsUtil.applyVisibilityFilter(elements, schema, user);
             }
-            elements = GetElementsUtil.applyDirectedTypeFilter(elements, getAllElements.getView().hasEdges(), getAllElements.getDirectedType());
-            elements = elements.map(element -> mapImpl.cloneElement(element, schema));
             elements = GetElementsUtil.applyView(elements, schema, getAllElements.getView());
             elements = elements.map(element -> {
                 ViewUtil.removeProperties(getAllElements.getView(), element);
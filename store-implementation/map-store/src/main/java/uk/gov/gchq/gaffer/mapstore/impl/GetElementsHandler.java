@@ -84,10 +84,11 @@ public class GetElementsHandler implements OutputOperationHandler<GetElements, I
                     .flatMap(elementId -> GetElementsUtil.getRelevantElements(mapImpl, elementId, getElements.getView(), getElements.getDirectedType(), getElements.getIncludeIncomingOutGoing()).stream())
                     .distinct();
             elements = elements.flatMap(e -> Streams.toStream(mapImpl.getElements(e)));
+            // Clone before applying visibility as the filter can modify the elements
+            elements = elements.map(element -> mapImpl.cloneElement(element, schema));
             if (this.supportsVisibility) {
                 elements = GetElementsUtil.applyVisibilityFilter(elements, schema, user);
             }
-            elements = elements.map(element -> mapImpl.cloneElement(element, schema));
             elements = GetElementsUtil.applyView(elements, schema, getElements.getView());
             elements = elements.map(element -> {
                 ViewUtil.removeProperties(getElements.getView(), element);
@@ -145,25 +145,44 @@ public final class GetElementsUtil {
         return elements.filter(e -> isVisible(e, schema.getVisibilityProperty(), authorisations));
     }
 
+    /**
+     * Creates a {@link Predicate} that tests whether a visibility property
+     * value is visible to a user. Unlike {@link #applyVisibilityFilter(Stream, Schema, User)}
+     * the predicate does not modify any elements, so it can be applied directly
+     * to stored property values. A {@code null} visibility is always visible.
+     *
+     * @param user the user
+     * @return the visibility predicate
+     */
+    public static Predicate<Object> getVisibilityFilter(final User user) {
+        final Set<String> dataAuths = user.getDataAuths();
+        final Authorisations authorisations = new Authorisations(dataAuths.toArray(new String[dataAuths.size()]));
+        return visibility -> null == visibility || isVisible((String) visibility, authorisations);
+    }
+
     private static boolean isVisible(final Element e, final String visibilityProperty,
                                      final Authorisations authorisations) {
         if (e.getProperty(visibilityProperty) != null) {
-            final VisibilityEvaluator visibilityEvaluator = new VisibilityEvaluator(authorisations);
-            final ElementVisibility elementVisibility = new ElementVisibility((String) e.getProperty(visibilityProperty));
-            try {
-                return visibilityEvaluator.evaluate(elementVisibility);
-            } catch (final VisibilityParseException visibilityParseException) {
-                LOGGER.warn("Unable to parse element visibility: {}. Received exception: {}",
-                        elementVisibility,
-                        visibilityParseException.getMessage());
-                return false;
-            }
+            return isVisible((String) e.getProperty(visibilityProperty), authorisations);
         } else {
             e.putProperty(visibilityProperty, "");
             return true;
         }
     }
 
+    private static boolean isVisible(final String visibility, final Authorisations authorisations) {
+        final VisibilityEvaluator visibilityEvaluator = new VisibilityEvaluator(authorisations);
+        final ElementVisibility elementVisibility = new ElementVisibility(visibility);
+        try {
+            return visibilityEvaluator.evaluate(elementVisibility);
+        } catch (final VisibilityParseException visibilityParseException) {
+            LOGGER.warn("Unable to parse element visibility: {}. Received exception: {}",
+                    elementVisibility,
+                    visibilityParseException.getMessage());
+            return false;
+        }
+    }
+
     public static Stream<Element> applyDirectedTypeFilter(final Stream<Element> elements,
                                                           final boolean includeEdges,
                                                           final DirectedType directedType) {
@@ -19,6 +19,7 @@ package uk.gov.gchq.gaffer.mapstore.impl;
 import uk.gov.gchq.gaffer.commonutil.iterable.RepeatItemIterable;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.ElementKey;
 import uk.gov.gchq.gaffer.data.element.GroupedProperties;
 import uk.gov.gchq.gaffer.data.element.id.EdgeId;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
@@ -28,10 +29,12 @@ import uk.gov.gchq.gaffer.mapstore.factory.SimpleMapFactory;
 import uk.gov.gchq.gaffer.mapstore.multimap.MultiMap;
 import uk.gov.gchq.gaffer.operation.data.EdgeSeed;
 import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
 import uk.gov.gchq.gaffer.store.util.AggregatorUtil;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -39,6 +42,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -64,16 +68,16 @@ public class MapImpl {
     public static final String EDGE_ID_TO_ELEMENTS = "edgeIdToElements";
 
     /**
-     * aggElements maps from an Element group to a map of Elements containing the group-by properties
+     * aggElements maps from an Element group to a map of keys for the Elements containing the group-by properties
      * to a Properties object without the group-by properties
      */
-    private final Map<String, Map<Element, GroupedProperties>> aggElements = new HashMap<>();
+    private final Map<String, Map<ElementKey, GroupedProperties>> aggElements = new HashMap<>();
 
     /**
-     * nonAggElements maps from an Element group to a map of non aggregated Elements to the count of the
+     * nonAggElements maps from an Element group to a map of keys for the non aggregated Elements to the count of the
      * number of times that element has been seen.
      */
-    private final Map<String, Map<Element, Long>> nonAggElements = new HashMap<>();
+    private final Map<String, Map<ElementKey, Long>> nonAggElements = new HashMap<>();
 
     /**
      * entityIdToElements is a map from an EntityId to the element key from aggElements or nonAggElements
@@ -88,11 +92,13 @@ public class MapImpl {
     private final MapFactory mapFactory;
     private final Map<String, Set<String>> groupToGroupByProperties = new HashMap<>();
     private final Map<String, Set<String>> groupToNonGroupByProperties = new HashMap<>();
+    private final Map<String, Set<String>> groupToProperties = new HashMap<>();
     private final Set<String> groupsWithNoAggregation = new HashSet<>();
     private final List<String> aggregatedGroups;
     private final Schema schema;
     private final boolean maintainIndex;
     private final AggregatorUtil.IngestPropertiesBinaryOperator propertyAggregator;
+    private final MapSnapshot snapshot;
 
     public MapImpl(final Schema schema, final MapStoreProperties mapStoreProperties) {
         this.schema = schema;
@@ -101,8 +107,8 @@ public class MapImpl {
         maintainIndex = mapStoreProperties.getCreateIndex();
 
         for (final String group : schema.getGroups()) {
-            aggElements.put(group, mapFactory.getMap(group + "|" + AGG_ELEMENTS, Element.class, GroupedProperties.class));
-            nonAggElements.put(group, mapFactory.getMap(group + "|" + NON_AGG_ELEMENTS, Element.class, Long.class));
+            aggElements.put(group, mapFactory.getMap(group + "|" + AGG_ELEMENTS, ElementKey.class, GroupedProperties.class));
+            nonAggElements.put(group, mapFactory.getMap(group + "|" + NON_AGG_ELEMENTS, ElementKey.class, Long.class));
         }
 
         if (maintainIndex) {
@@ -116,6 +122,49 @@ public class MapImpl {
         this.aggregatedGroups = schema.getAggregatedGroups();
         schema.getEntityGroups().forEach(this::addToGroupByMap);
         schema.getEdgeGroups().forEach(this::addToGroupByMap);
+
+        snapshot = null != mapStoreProperties.getSnapshotPath() ? new MapSnapshot(schema, mapStoreProperties) : null;
+    }
+
+    /**
+     * Restores the maps from the configured snapshot and change log, if they
+     * exist. This should only be called on a newly created MapImpl.
+     *
+     * @throws StoreException if the snapshot could not be restored
+     */
+    public void restoreSnapshot() throws StoreException {
+        if (null != snapshot) {
+            snapshot.restore(this);
+        }
+    }
+
+    /**
+     * Saves the maps to the configured snapshot file.
+     *
+     * @throws StoreException if no snapshot path is configured or the snapshot
+     *                        could not be saved
+     */
+    public void saveSnapshot() throws StoreException {
+        if (null == snapshot) {
+            throw new StoreException("No snapshot path has been configured, set " + MapStoreProperties.SNAPSHOT_PATH);
+        }
+        snapshot.save(this);
+    }
+
+    /**
+     * Closes the snapshot change log, if there is one. Changes made after
+     * this are not written to the change log.
+     *
+     * @throws StoreException if the change log could not be closed
+     */
+    public void closeSnapshot() throws StoreException {
+        if (null != snapshot) {
+            try {
+                snapshot.close();
+            } catch (final IOException e) {
+                throw new StoreException("Unable to close the snapshot change log", e);
+            }
+        }
     }
 
     public void clear() {
@@ -128,23 +177,43 @@ public class MapImpl {
     }
 
     void addNonAggElement(final Element element) {
-        nonAggElements.get(element.getGroup()).merge(element, 1L, (a, b) -> a + b);
+        nonAggElements.get(element.getGroup()).merge(toNonAggKey(element), 1L, (a, b) -> a + b);
     }
 
     void addAggElement(final Element elementWithGroupByProperties, final GroupedProperties properties) {
         if (null != aggElements.get(elementWithGroupByProperties.getGroup())) {
             aggElements.get(elementWithGroupByProperties.getGroup())
-                    .merge(elementWithGroupByProperties, properties, propertyAggregator);
+                    .merge(toAggKey(elementWithGroupByProperties), properties, propertyAggregator);
         }
     }
 
+    void putAggElement(final Element elementWithGroupByProperties, final GroupedProperties properties) {
+        aggElements.get(elementWithGroupByProperties.getGroup()).put(toAggKey(elementWithGroupByProperties), properties);
+    }
+
+    void putNonAggElement(final Element element, final long count) {
+        nonAggElements.get(element.getGroup()).put(toNonAggKey(element), count);
+    }
+
+    Map<ElementKey, GroupedProperties> getAggElementMap(final String group) {
+        return aggElements.get(group);
+    }
+
+    Map<ElementKey, Long> getNonAggElementMap(final String group) {
+        return nonAggElements.get(group);
+    }
+
+    MapSnapshot getSnapshot() {
+        return snapshot;
+    }
+
     void deleteAggElement(final Element elementWithGroupByProperties) {
         aggElements.get(elementWithGroupByProperties.getGroup())
-            .remove(elementWithGroupByProperties);
+            .remove(toAggKey(elementWithGroupByProperties));
     }
 
     void deleteNonAggElement(final Element element) {
-        nonAggElements.get(element.getGroup()).remove(element);
+        nonAggElements.get(element.getGroup()).remove(toNonAggKey(element));
     }
 
     Collection<Element> lookup(final EntityId entityId) {
@@ -166,7 +235,7 @@ public class MapImpl {
     }
 
     Iterable<Element> getNonAggElements(final Element element) {
-        final Long count = nonAggElements.get(element.getGroup()).get(element);
+        final Long count = nonAggElements.get(element.getGroup()).get(toNonAggKey(element));
         if (null == count || count < 1) {
             return Collections.emptyList();
         }
@@ -176,7 +245,7 @@ public class MapImpl {
 
     Element getAggElement(final Element element) {
         final Element clone = element.shallowClone();
-        clone.copyProperties(aggElements.get(element.getGroup()).get(element));
+        clone.copyProperties(aggElements.get(element.getGroup()).get(toAggKey(element)));
         return clone;
     }
 
@@ -194,10 +263,10 @@ public class MapImpl {
                 .map(Map.Entry::getValue)
                 .flatMap(map -> map.entrySet().stream())
                 .map(x -> {
-                    final Element element = x.getKey().emptyClone();
-                    element.copyProperties(x.getKey().getProperties());
+                    final Element element = x.getKey().getElement().emptyClone();
+                    element.copyProperties(x.getKey().getElement().getProperties());
                     element.copyProperties(x.getValue());
-                    return cloneElement(element, schema);
+                    return element;
                 });
     }
 
@@ -206,10 +275,18 @@ public class MapImpl {
                 .filter(entry -> groups.contains(entry.getKey()))
                 .map(Map.Entry::getValue)
                 .flatMap(map -> map.entrySet().stream())
-                .map(x -> new RepeatItemIterable<>(cloneElement(x.getKey(), schema), x.getValue()))
+                .map(x -> new RepeatItemIterable<>(x.getKey().getElement(), x.getValue()))
                 .flatMap(Streams::toStream);
     }
 
+    /**
+     * Gets all the elements in the provided groups. The elements share their
+     * properties with the stored elements, so they must be cloned using
+     * {@link #cloneElement(Element, Schema)} before they are modified.
+     *
+     * @param groups the groups to get the elements for
+     * @return the elements in the groups
+     */
     Stream<Element> getAllElements(final Set<String> groups) {
         return Stream.concat(getAllAggElements(groups), getAllNonAggElements(groups));
     }
@@ -252,7 +329,7 @@ public class MapImpl {
 
     long countAggElements() {
         long totalCount = 0;
-        for (final Map<Element, GroupedProperties> map : aggElements.values()) {
+        for (final Map<ElementKey, GroupedProperties> map : aggElements.values()) {
             totalCount += map.size();
         }
 
@@ -261,7 +338,7 @@ public class MapImpl {
 
     long countNonAggElements() {
         long totalCount = 0;
-        for (final Map<Element, Long> map : nonAggElements.values()) {
+        for (final Map<ElementKey, Long> map : nonAggElements.values()) {
             for (final Long count : map.values()) {
                 if (null != count) {
                     totalCount += count;
@@ -272,6 +349,51 @@ public class MapImpl {
         return totalCount;
     }
 
+    /**
+     * Counts the elements stored in a group directly from the internal maps,
+     * without cloning any of the elements. If a visibility filter is provided
+     * then only elements whose visibility property value passes the filter are
+     * counted.
+     *
+     * @param group            the group to count
+     * @param visibilityFilter the optional visibility filter
+     * @return the number of elements in the group
+     */
+    long countElements(final String group, final Predicate<Object> visibilityFilter) {
+        long totalCount = 0;
+
+        final Map<ElementKey, GroupedProperties> aggMap = aggElements.get(group);
+        if (null != aggMap) {
+            if (null == visibilityFilter) {
+                totalCount += aggMap.size();
+            } else {
+                final String visibilityProperty = schema.getVisibilityProperty();
+                for (final Map.Entry<ElementKey, GroupedProperties> entry : aggMap.entrySet()) {
+                    Object visibility = entry.getValue().get(visibilityProperty);
+                    if (null == visibility) {
+                        visibility = entry.getKey().getElement().getProperty(visibilityProperty);
+                    }
+                    if (visibilityFilter.test(visibility)) {
+                        totalCount++;
+                    }
+                }
+            }
+        }
+
+        final Map<ElementKey, Long> nonAggMap = nonAggElements.get(group);
+        if (null != nonAggMap) {
+            final String visibilityProperty = schema.getVisibilityProperty();
+            for (final Map.Entry<ElementKey, Long> entry : nonAggMap.entrySet()) {
+                if (null != entry.getValue()
+                        && (null == visibilityFilter || visibilityFilter.test(entry.getKey().getElement().getProperty(visibilityProperty)))) {
+                    totalCount += entry.getValue();
+                }
+            }
+        }
+
+        return totalCount;
+    }
+
     private MapFactory createMapFactory(final Schema schema,
                                         final MapStoreProperties mapStoreProperties) {
         final MapFactory mapFactory;
@@ -299,5 +421,14 @@ public class MapImpl {
         final Set<String> nonGroupByProperties = new HashSet<>(sed.getProperties());
         nonGroupByProperties.removeAll(sed.getGroupBy());
         groupToNonGroupByProperties.put(group, nonGroupByProperties);
+        groupToProperties.put(group, sed.getProperties());
+    }
+
+    private ElementKey toAggKey(final Element element) {
+        return ElementKey.create(element, groupToGroupByProperties.get(element.getGroup()));
+    }
+
+    private ElementKey toNonAggKey(final Element element) {
+        return ElementKey.create(element, groupToProperties.get(element.getGroup()));
     }
 }
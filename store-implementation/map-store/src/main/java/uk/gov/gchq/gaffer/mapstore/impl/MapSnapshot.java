@@ -0,0 +1,663 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.ElementKey;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.data.element.GroupedProperties;
+import uk.gov.gchq.gaffer.data.element.IdentifierType;
+import uk.gov.gchq.gaffer.data.element.Properties;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.serialisation.Serialiser;
+import uk.gov.gchq.gaffer.serialisation.ToBytesSerialiser;
+import uk.gov.gchq.gaffer.store.SerialisationFactory;
+import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saves the contents of a {@link MapImpl} to a snapshot file and restores it
+ * again, optionally with an append only change log of the elements added and
+ * deleted since the last snapshot.
+ * <p>
+ * The snapshot contains the aggregated and non aggregated maps as they are
+ * held in memory, with the identifiers and properties serialised using the
+ * serialisers in the schema. Restoring a snapshot puts the entries straight
+ * back into the maps and rebuilds the indexes, so no aggregation is replayed.
+ * The files are read using memory mapped I/O.
+ * <p>
+ * Each snapshot has a generation which is also written to the change log. A
+ * change log is only replayed if it belongs to the restored snapshot, so a
+ * change log left over from an older snapshot is ignored.
+ * <p>
+ * An open change log is closed when the snapshot is closed or, failing that,
+ * when the JVM shuts down.
+ * <p>
+ * Saving a snapshot must not be done at the same time as elements are added
+ * to or deleted from the store.
+ */
+class MapSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MapSnapshot.class);
+
+    private static final int SNAPSHOT_MAGIC = 0x47534e50;
+    private static final int CHANGE_LOG_MAGIC = 0x47434c47;
+    private static final int VERSION = 1;
+
+    private static final byte END = 0;
+    private static final byte AGG_ELEMENT = 1;
+    private static final byte NON_AGG_ELEMENT = 2;
+    private static final byte ADD = 3;
+    private static final byte DELETE = 4;
+    private static final byte CLEAR = 5;
+
+    // Snapshots with an open change log, so they can be closed on shutdown
+    private static final Set<MapSnapshot> OPEN_CHANGE_LOGS = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(MapSnapshot::closeAll, "MapSnapshot-shutdown"));
+    }
+
+    private final Schema schema;
+    private final Path snapshotPath;
+    private final Path changeLogPath;
+    private final List<GroupDefinition> groups = new ArrayList<>();
+    private final Map<String, Integer> groupIndexes = new HashMap<>();
+    private long generation;
+    private DataOutputStream changeLog;
+
+    MapSnapshot(final Schema schema, final MapStoreProperties properties) {
+        this.schema = schema;
+        this.snapshotPath = Paths.get(properties.getSnapshotPath());
+        this.changeLogPath = properties.isSnapshotChangeLog()
+                ? snapshotPath.resolveSibling(snapshotPath.getFileName() + ".changelog")
+                : null;
+
+        final SerialisationFactory serialisationFactory = new SerialisationFactory();
+        for (final String group : schema.getGroups()) {
+            groupIndexes.put(group, groups.size());
+            groups.add(new GroupDefinition(group, schema.getElement(group), schema.getVertexSerialiser(), serialisationFactory));
+        }
+    }
+
+    Path getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    Path getChangeLogPath() {
+        return changeLogPath;
+    }
+
+    /**
+     * Saves the contents of the maps to the snapshot file. The snapshot is
+     * written to a temporary file first and then moved over the previous
+     * snapshot. If the change log is enabled it is then reset.
+     *
+     * @param mapImpl the maps to save
+     * @throws StoreException if the snapshot could not be written
+     */
+    synchronized void save(final MapImpl mapImpl) throws StoreException {
+        final long newGeneration = generation + 1;
+        final Path tmpPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        long count = 0;
+        try {
+            if (null != snapshotPath.toAbsolutePath().getParent()) {
+                Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+            }
+            try (final FileChannel channel = FileChannel.open(tmpPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+                writeHeader(out, SNAPSHOT_MAGIC, newGeneration);
+                for (int i = 0; i < groups.size(); i++) {
+                    count += writeGroup(out, i, mapImpl);
+                }
+                out.writeByte(END);
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(tmpPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            generation = newGeneration;
+
+            if (null != changeLogPath) {
+                closeChangeLog();
+                openChangeLog(false);
+            }
+        } catch (final IOException e) {
+            throw new StoreException("Unable to save snapshot to " + snapshotPath, e);
+        }
+        LOGGER.info("Saved {} map entries to snapshot {}", count, snapshotPath);
+    }
+
+    /**
+     * Restores the maps from the snapshot file, if it exists, and then replays
+     * the change log. Once restored, any further changes are written to the
+     * change log.
+     *
+     * @param mapImpl the maps to restore into
+     * @throws StoreException if the snapshot or change log could not be read
+     */
+    synchronized void restore(final MapImpl mapImpl) throws StoreException {
+        if (Files.exists(snapshotPath)) {
+            try (final MappedInput in = new MappedInput(snapshotPath)) {
+                generation = readHeader(in, SNAPSHOT_MAGIC);
+                final long count = readSnapshot(in, readGroups(in), mapImpl);
+                LOGGER.info("Restored {} map entries from snapshot {}", count, snapshotPath);
+            } catch (final IOException e) {
+                throw new StoreException("Unable to restore snapshot from " + snapshotPath, e);
+            }
+        }
+
+        if (null != changeLogPath) {
+            try {
+                openChangeLog(Files.exists(changeLogPath) && replayChangeLog(mapImpl));
+            } catch (final IOException e) {
+                throw new StoreException("Unable to replay change log " + changeLogPath, e);
+            }
+        }
+    }
+
+    synchronized void logAdd(final Element element) throws OperationException {
+        log(ADD, element);
+    }
+
+    synchronized void logDelete(final Element element) throws OperationException {
+        log(DELETE, element);
+    }
+
+    synchronized void logClear() throws OperationException {
+        if (null != changeLog) {
+            try {
+                changeLog.writeByte(CLEAR);
+            } catch (final IOException e) {
+                throw new OperationException("Unable to write to change log " + changeLogPath, e);
+            }
+        }
+    }
+
+    synchronized void flushChangeLog() throws OperationException {
+        if (null != changeLog) {
+            try {
+                changeLog.flush();
+            } catch (final IOException e) {
+                throw new OperationException("Unable to write to change log " + changeLogPath, e);
+            }
+        }
+    }
+
+    synchronized void close() throws IOException {
+        closeChangeLog();
+    }
+
+    private void log(final byte operation, final Element element) throws OperationException {
+        if (null != changeLog) {
+            final Integer groupIndex = groupIndexes.get(element.getGroup());
+            if (null == groupIndex) {
+                return;
+            }
+            try {
+                changeLog.writeByte(operation);
+                changeLog.writeInt(groupIndex);
+                writeIdentifiers(changeLog, groups.get(groupIndex), element);
+                writeProperties(changeLog, groups.get(groupIndex), element.getProperties());
+            } catch (final IOException e) {
+                throw new OperationException("Unable to write to change log " + changeLogPath, e);
+            }
+        }
+    }
+
+    private long writeGroup(final DataOutputStream out, final int groupIndex, final MapImpl mapImpl) throws IOException {
+        final GroupDefinition groupDef = groups.get(groupIndex);
+        long count = 0;
+
+        final Map<ElementKey, GroupedProperties> aggMap = mapImpl.getAggElementMap(groupDef.group);
+        if (null != aggMap) {
+            for (final Map.Entry<ElementKey, GroupedProperties> entry : aggMap.entrySet()) {
+                out.writeByte(AGG_ELEMENT);
+                out.writeInt(groupIndex);
+                writeIdentifiers(out, groupDef, entry.getKey().getElement());
+                writeProperties(out, groupDef, entry.getKey().getElement().getProperties());
+                writeProperties(out, groupDef, entry.getValue());
+                count++;
+            }
+        }
+
+        final Map<ElementKey, Long> nonAggMap = mapImpl.getNonAggElementMap(groupDef.group);
+        if (null != nonAggMap) {
+            for (final Map.Entry<ElementKey, Long> entry : nonAggMap.entrySet()) {
+                out.writeByte(NON_AGG_ELEMENT);
+                out.writeInt(groupIndex);
+                writeIdentifiers(out, groupDef, entry.getKey().getElement());
+                writeProperties(out, groupDef, entry.getKey().getElement().getProperties());
+                out.writeLong(entry.getValue());
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private long readSnapshot(final MappedInput in, final List<GroupDefinition> fileGroups, final MapImpl mapImpl) throws IOException {
+        final AddElementsHandler addElementsHandler = new AddElementsHandler();
+        long count = 0;
+        byte recordType = in.readByte();
+        while (END != recordType) {
+            final GroupDefinition groupDef = getGroup(fileGroups, in.readInt());
+            final Element element = readIdentifiers(in, groupDef);
+            readProperties(in, groupDef, element.getProperties());
+            if (AGG_ELEMENT == recordType) {
+                final GroupedProperties properties = new GroupedProperties(groupDef.group);
+                readProperties(in, groupDef, properties);
+                mapImpl.putAggElement(element, properties);
+            } else if (NON_AGG_ELEMENT == recordType) {
+                mapImpl.putNonAggElement(element, in.readLong());
+            } else {
+                throw new IOException("Unknown snapshot record type: " + recordType);
+            }
+
+            if (mapImpl.isMaintainIndex()) {
+                addElementsHandler.updateElementIndex(element, mapImpl);
+            }
+            count++;
+            recordType = in.readByte();
+        }
+
+        return count;
+    }
+
+    private boolean replayChangeLog(final MapImpl mapImpl) throws IOException {
+        final AddElementsHandler addElementsHandler = new AddElementsHandler();
+        final DeleteElementsHandler deleteElementsHandler = new DeleteElementsHandler();
+        long validLength;
+        long count = 0;
+        try (final MappedInput in = new MappedInput(changeLogPath)) {
+            final long logGeneration;
+            final List<GroupDefinition> fileGroups;
+            try {
+                logGeneration = readHeader(in, CHANGE_LOG_MAGIC);
+                fileGroups = readGroups(in);
+            } catch (final EOFException e) {
+                // The log was cut off while the header was being written, so it has no changes
+                LOGGER.warn("Change log {} has an incomplete header, a new change log will be started", changeLogPath);
+                return false;
+            }
+            if (logGeneration != generation) {
+                LOGGER.warn("Ignoring change log {} as it does not belong to the snapshot {}", changeLogPath, snapshotPath);
+                return false;
+            }
+            validLength = in.position();
+            try {
+                while (in.hasRemaining()) {
+                    final byte operation = in.readByte();
+                    if (CLEAR == operation) {
+                        mapImpl.clear();
+                    } else {
+                        final GroupDefinition groupDef = getGroup(fileGroups, in.readInt());
+                        final Element element = readIdentifiers(in, groupDef);
+                        readProperties(in, groupDef, element.getProperties());
+                        if (ADD == operation) {
+                            addElementsHandler.addBatch(mapImpl, schema, Collections.singletonList(element));
+                        } else if (DELETE == operation) {
+                            deleteElementsHandler.deleteBatch(mapImpl, schema, Collections.singletonList(element));
+                        } else {
+                            throw new IOException("Unknown change log record type: " + operation);
+                        }
+                    }
+                    validLength = in.position();
+                    count++;
+                }
+            } catch (final EOFException e) {
+                LOGGER.warn("Change log {} ends with an incomplete record, it will be truncated", changeLogPath);
+            } catch (final OperationException e) {
+                throw new IOException("Unable to replay change log record", e);
+            }
+        }
+
+        // Remove any incomplete record so new records can be appended
+        try (final FileChannel channel = FileChannel.open(changeLogPath, StandardOpenOption.WRITE)) {
+            channel.truncate(validLength);
+        }
+        LOGGER.info("Replayed {} changes from change log {}", count, changeLogPath);
+        return true;
+    }
+
+    private void openChangeLog(final boolean append) throws IOException {
+        if (append) {
+            changeLog = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(changeLogPath, StandardOpenOption.APPEND)));
+        } else {
+            changeLog = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(changeLogPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)));
+            writeHeader(changeLog, CHANGE_LOG_MAGIC, generation);
+            changeLog.flush();
+        }
+        OPEN_CHANGE_LOGS.add(this);
+    }
+
+    private void closeChangeLog() throws IOException {
+        if (null != changeLog) {
+            OPEN_CHANGE_LOGS.remove(this);
+            try {
+                changeLog.close();
+            } finally {
+                changeLog = null;
+            }
+        }
+    }
+
+    private static void closeAll() {
+        for (final MapSnapshot snapshot : OPEN_CHANGE_LOGS) {
+            try {
+                snapshot.close();
+            } catch (final IOException e) {
+                LOGGER.warn("Unable to close change log {}", snapshot.changeLogPath, e);
+            }
+        }
+    }
+
+    private void writeHeader(final DataOutputStream out, final int magic, final long headerGeneration) throws IOException {
+        out.writeInt(magic);
+        out.writeInt(VERSION);
+        out.writeLong(headerGeneration);
+        out.writeInt(groups.size());
+        for (final GroupDefinition groupDef : groups) {
+            writeString(out, groupDef.group);
+            out.writeBoolean(groupDef.entity);
+            out.writeInt(groupDef.properties.size());
+            for (final String property : groupDef.properties) {
+                writeString(out, property);
+            }
+        }
+    }
+
+    private long readHeader(final MappedInput in, final int magic) throws IOException {
+        if (magic != in.readInt()) {
+            throw new IOException("File is not a valid snapshot or change log");
+        }
+        final int version = in.readInt();
+        if (VERSION != version) {
+            throw new IOException("Unsupported version: " + version);
+        }
+        return in.readLong();
+    }
+
+    // Reads the groups and properties the file was written with and matches
+    // them against the current schema, so the file can still be read if the
+    // order of the groups or properties in the schema has changed.
+    private List<GroupDefinition> readGroups(final MappedInput in) throws IOException {
+        final int groupCount = in.readInt();
+        final List<GroupDefinition> fileGroups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            final String group = in.readString();
+            final boolean entity = in.readBoolean();
+            final int propertyCount = in.readInt();
+            final List<String> properties = new ArrayList<>(propertyCount);
+            for (int j = 0; j < propertyCount; j++) {
+                properties.add(in.readString());
+            }
+
+            final Integer groupIndex = groupIndexes.get(group);
+            if (null == groupIndex || entity != groups.get(groupIndex).entity) {
+                throw new IOException("Group " + group + " is not in the schema");
+            }
+            fileGroups.add(new GroupDefinition(groups.get(groupIndex), properties));
+        }
+
+        return fileGroups;
+    }
+
+    private void writeIdentifiers(final DataOutputStream out, final GroupDefinition groupDef, final Element element) throws IOException {
+        if (element instanceof Entity) {
+            writeBytes(out, groupDef.vertexSerialiser.serialise(((Entity) element).getVertex()));
+        } else {
+            final Edge edge = (Edge) element;
+            writeBytes(out, groupDef.vertexSerialiser.serialise(edge.getSource()));
+            writeBytes(out, groupDef.destinationSerialiser.serialise(edge.getDestination()));
+            out.writeBoolean(edge.isDirected());
+        }
+    }
+
+    private Element readIdentifiers(final MappedInput in, final GroupDefinition groupDef) throws IOException {
+        if (groupDef.entity) {
+            return new Entity(groupDef.group, in.readObject(groupDef.vertexSerialiser));
+        }
+
+        final Object source = in.readObject(groupDef.vertexSerialiser);
+        final Object destination = in.readObject(groupDef.destinationSerialiser);
+        return new Edge(groupDef.group, source, destination, in.readBoolean());
+    }
+
+    // Only the properties that are set are written, so properties that are
+    // missing are still missing once they have been read back in.
+    private void writeProperties(final DataOutputStream out, final GroupDefinition groupDef, final Properties properties) throws IOException {
+        int count = 0;
+        for (final String property : groupDef.properties) {
+            if (null != properties.get(property)) {
+                count++;
+            }
+        }
+
+        out.writeInt(count);
+        for (int i = 0; i < groupDef.properties.size(); i++) {
+            final Object value = properties.get(groupDef.properties.get(i));
+            if (null != value) {
+                out.writeInt(i);
+                writeBytes(out, groupDef.serialisers.get(i).serialise(value));
+            }
+        }
+    }
+
+    private void readProperties(final MappedInput in, final GroupDefinition groupDef, final Properties properties) throws IOException {
+        final int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            final int propertyIndex = in.readInt();
+            if (propertyIndex < 0 || propertyIndex >= groupDef.properties.size()) {
+                throw new IOException("Invalid property index: " + propertyIndex);
+            }
+            properties.put(groupDef.properties.get(propertyIndex),
+                    in.readObject(groupDef.serialisers.get(propertyIndex)));
+        }
+    }
+
+    private static GroupDefinition getGroup(final List<GroupDefinition> fileGroups, final int groupIndex) throws IOException {
+        if (groupIndex < 0 || groupIndex >= fileGroups.size()) {
+            throw new IOException("Invalid group index: " + groupIndex);
+        }
+        return fileGroups.get(groupIndex);
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        writeBytes(out, StringUtil.toBytes(value));
+    }
+
+    private static void writeBytes(final DataOutputStream out, final byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // Uses the serialiser from the schema, or the default serialiser for the
+    // class if the schema does not have a ToBytesSerialiser for it.
+    @SuppressWarnings("unchecked")
+    private static ToBytesSerialiser<Object> toBytesSerialiser(final Serialiser serialiser, final Class<?> clazz,
+                                                               final SerialisationFactory serialisationFactory) {
+        if (serialiser instanceof ToBytesSerialiser) {
+            return (ToBytesSerialiser<Object>) serialiser;
+        }
+
+        final Serialiser defaultSerialiser = null != clazz ? serialisationFactory.getSerialiser(clazz) : null;
+        if (!(defaultSerialiser instanceof ToBytesSerialiser)) {
+            throw new IllegalArgumentException("Snapshots require a ToBytesSerialiser but none was found for class: " + clazz);
+        }
+        return (ToBytesSerialiser<Object>) defaultSerialiser;
+    }
+
+    private static final class GroupDefinition {
+        private final String group;
+        private final boolean entity;
+        private final ToBytesSerialiser<Object> vertexSerialiser;
+        private final ToBytesSerialiser<Object> destinationSerialiser;
+        private final List<String> properties;
+        private final List<ToBytesSerialiser<Object>> serialisers;
+
+        private GroupDefinition(final String group, final SchemaElementDefinition elementDef, final Serialiser schemaVertexSerialiser,
+                                final SerialisationFactory serialisationFactory) {
+            this.group = group;
+            this.entity = elementDef instanceof SchemaEntityDefinition;
+            if (entity) {
+                this.vertexSerialiser = toBytesSerialiser(schemaVertexSerialiser,
+                        elementDef.getIdentifierClass(IdentifierType.VERTEX), serialisationFactory);
+                this.destinationSerialiser = null;
+            } else {
+                this.vertexSerialiser = toBytesSerialiser(schemaVertexSerialiser,
+                        elementDef.getIdentifierClass(IdentifierType.SOURCE), serialisationFactory);
+                this.destinationSerialiser = toBytesSerialiser(schemaVertexSerialiser,
+                        elementDef.getIdentifierClass(IdentifierType.DESTINATION), serialisationFactory);
+            }
+            this.properties = new ArrayList<>(elementDef.getProperties());
+            this.serialisers = new ArrayList<>(properties.size());
+            for (final String property : properties) {
+                final TypeDefinition typeDef = elementDef.getPropertyTypeDef(property);
+                serialisers.add(toBytesSerialiser(null == typeDef ? null : typeDef.getSerialiser(),
+                        elementDef.getPropertyClass(property), serialisationFactory));
+            }
+        }
+
+        private GroupDefinition(final GroupDefinition schemaGroupDef, final List<String> properties) throws IOException {
+            this.group = schemaGroupDef.group;
+            this.entity = schemaGroupDef.entity;
+            this.vertexSerialiser = schemaGroupDef.vertexSerialiser;
+            this.destinationSerialiser = schemaGroupDef.destinationSerialiser;
+            this.properties = properties;
+            this.serialisers = new ArrayList<>(properties.size());
+            for (final String property : properties) {
+                final int index = schemaGroupDef.properties.indexOf(property);
+                if (index < 0) {
+                    throw new IOException("Property " + property + " in group " + group + " is not in the schema");
+                }
+                serialisers.add(schemaGroupDef.serialisers.get(index));
+            }
+        }
+    }
+
+    /**
+     * Reads a file through a memory mapped window, which is moved along the
+     * file as it is read so files larger than a single mapping can be read.
+     */
+    private static final class MappedInput implements Closeable {
+        private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+        private final FileChannel channel;
+        private final long size;
+        private long windowStart;
+        private MappedByteBuffer buffer;
+
+        private MappedInput(final Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            size = channel.size();
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, WINDOW_SIZE));
+        }
+
+        private long position() {
+            return windowStart + buffer.position();
+        }
+
+        private boolean hasRemaining() {
+            return position() < size;
+        }
+
+        private byte readByte() throws IOException {
+            require(Byte.BYTES);
+            return buffer.get();
+        }
+
+        private boolean readBoolean() throws IOException {
+            return 0 != readByte();
+        }
+
+        private int readInt() throws IOException {
+            require(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        private long readLong() throws IOException {
+            require(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        private byte[] readBytes() throws IOException {
+            final int length = readInt();
+            if (length < 0) {
+                throw new IOException("Invalid length: " + length);
+            }
+            require(length);
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        private Object readObject(final ToBytesSerialiser<Object> serialiser) throws IOException {
+            final byte[] bytes = readBytes();
+            return serialiser.deserialise(bytes, 0, bytes.length);
+        }
+
+        private String readString() throws IOException {
+            return StringUtil.toString(readBytes());
+        }
+
+        private void require(final int length) throws IOException {
+            if (buffer.remaining() < length) {
+                final long position = position();
+                if (position + length > size) {
+                    throw new EOFException("Unexpected end of file at position " + position);
+                }
+                windowStart = position;
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, Math.max(WINDOW_SIZE, length)));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -27,10 +27,13 @@ import uk.gov.gchq.koryphe.Since;
 import uk.gov.gchq.koryphe.Summary;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A {@code CountAllElementsDefaultView} operation counts all of the {@link Element}s
- * present in a {@link uk.gov.gchq.gaffer.mapstore.MapStore}.
+ * present in a {@link uk.gov.gchq.gaffer.mapstore.MapStore}. The count can
+ * optionally be restricted to a set of groups, if no groups are provided then
+ * all groups in the schema are counted.
  */
 @JsonPropertyOrder(value = {"class", "input"}, alphabetic = true)
 @Since("1.0.0")
@@ -40,6 +43,7 @@ public class CountAllElementsDefaultView implements
         MultiInput<Element> {
     private Iterable<? extends Element> input;
     private Map<String, String> options;
+    private Set<String> groups;
 
     @Override
     public Iterable<? extends Element> getInput() {
@@ -61,6 +65,7 @@ public class CountAllElementsDefaultView implements
         return new CountAllElementsDefaultView.Builder()
                 .input(input)
                 .options(options)
+                .groups(groups)
                 .build();
     }
 
@@ -74,6 +79,14 @@ public class CountAllElementsDefaultView implements
         this.options = options;
     }
 
+    public Set<String> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(final Set<String> groups) {
+        this.groups = groups;
+    }
+
     public static final class Builder
             extends Operation.BaseBuilder<CountAllElementsDefaultView, Builder>
             implements InputOutput.Builder<CountAllElementsDefaultView, Iterable<? extends Element>, Long, Builder>,
@@ -81,5 +94,10 @@ public class CountAllElementsDefaultView implements
         public Builder() {
             super(new CountAllElementsDefaultView());
         }
+
+        public Builder groups(final Set<String> groups) {
+            _getOp().setGroups(groups);
+            return _self();
+        }
     }
 }
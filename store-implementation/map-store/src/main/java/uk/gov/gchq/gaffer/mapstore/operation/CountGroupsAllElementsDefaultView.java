@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.operation;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import uk.gov.gchq.gaffer.data.GroupCounts;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.io.InputOutput;
+import uk.gov.gchq.gaffer.operation.io.MultiInput;
+import uk.gov.gchq.gaffer.operation.serialisation.TypeReferenceImpl;
+import uk.gov.gchq.koryphe.Since;
+import uk.gov.gchq.koryphe.Summary;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@code CountGroupsAllElementsDefaultView} operation counts the number of
+ * {@link Element}s in each group present in a {@link uk.gov.gchq.gaffer.mapstore.MapStore}.
+ * The counts are read from the store's internal maps rather than by iterating
+ * over the elements. The count can optionally be restricted to a set of groups,
+ * if no groups are provided then all groups in the schema are counted.
+ */
+@JsonPropertyOrder(value = {"class", "input"}, alphabetic = true)
+@Since("2.4.0")
+@Summary("Counts the elements in each group")
+public class CountGroupsAllElementsDefaultView implements
+        InputOutput<Iterable<? extends Element>, GroupCounts>,
+        MultiInput<Element> {
+    private Iterable<? extends Element> input;
+    private Map<String, String> options;
+    private Set<String> groups;
+
+    @Override
+    public Iterable<? extends Element> getInput() {
+        return input;
+    }
+
+    @Override
+    public void setInput(final Iterable<? extends Element> input) {
+        this.input = input;
+    }
+
+    @Override
+    public TypeReference<GroupCounts> getOutputTypeReference() {
+        return new TypeReferenceImpl.CountGroups();
+    }
+
+    @Override
+    public CountGroupsAllElementsDefaultView shallowClone() {
+        return new CountGroupsAllElementsDefaultView.Builder()
+                .input(input)
+                .options(options)
+                .groups(groups)
+                .build();
+    }
+
+    @Override
+    public Map<String, String> getOptions() {
+        return options;
+    }
+
+    @Override
+    public void setOptions(final Map<String, String> options) {
+        this.options = options;
+    }
+
+    public Set<String> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(final Set<String> groups) {
+        this.groups = groups;
+    }
+
+    public static final class Builder
+            extends Operation.BaseBuilder<CountGroupsAllElementsDefaultView, Builder>
+            implements InputOutput.Builder<CountGroupsAllElementsDefaultView, Iterable<? extends Element>, GroupCounts, Builder>,
+            MultiInput.Builder<CountGroupsAllElementsDefaultView, Element, Builder> {
+        public Builder() {
+            super(new CountGroupsAllElementsDefaultView());
+        }
+
+        public Builder groups(final Set<String> groups) {
+            _getOp().setGroups(groups);
+            return _self();
+        }
+    }
+}
@@ -16,18 +16,32 @@
 
 package uk.gov.gchq.gaffer.mapstore.optimiser;
 
+import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewUtil;
 import uk.gov.gchq.gaffer.mapstore.operation.CountAllElementsDefaultView;
+import uk.gov.gchq.gaffer.mapstore.operation.CountGroupsAllElementsDefaultView;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.impl.Count;
+import uk.gov.gchq.gaffer.operation.impl.CountGroups;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.store.optimiser.AbstractOperationChainOptimiser;
 
 import java.util.List;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static uk.gov.gchq.gaffer.data.element.id.DirectedType.EITHER;
 
+/**
+ * A {@code CountAllElementsOperationChainOptimiser} replaces a {@link GetAllElements}
+ * followed by a {@link Count} or {@link CountGroups} with a {@link CountAllElementsDefaultView}
+ * or {@link CountGroupsAllElementsDefaultView}, which count the elements from the
+ * sizes of the MapStore's maps rather than by iterating over every element.
+ * <p>
+ * The {@link GetAllElements} must not filter or transform the elements, although its
+ * {@link View} may select which groups are counted.
+ */
 public class CountAllElementsOperationChainOptimiser extends AbstractOperationChainOptimiser {
 
     @Override
@@ -38,9 +52,16 @@ public class CountAllElementsOperationChainOptimiser extends AbstractOperationCh
     @Override
     protected List<Operation> optimiseCurrentOperation(final Operation previousOp, final Operation currentOp, final Operation nextOp) {
         if (isNonFilteringGetAllElementsOperation(previousOp) && isCountOperation(currentOp)) {
-            return singletonList(new CountAllElementsDefaultView.Builder().build());
+            return singletonList(new CountAllElementsDefaultView.Builder()
+                    .groups(getGroups((GetAllElements) previousOp))
+                    .build());
+        }
+        if (isNonFilteringGetAllElementsOperation(previousOp) && isCountGroupsOperation(currentOp)) {
+            return singletonList(new CountGroupsAllElementsDefaultView.Builder()
+                    .groups(getGroups((GetAllElements) previousOp))
+                    .build());
         }
-        if (isNonFilteringGetAllElementsOperation(currentOp) && isCountOperation(nextOp)) {
+        if (isNonFilteringGetAllElementsOperation(currentOp) && (isCountOperation(nextOp) || isCountGroupsOperation(nextOp))) {
             return emptyList();
         }
         return singletonList(currentOp);
@@ -59,14 +80,26 @@ public class CountAllElementsOperationChainOptimiser extends AbstractOperationCh
     private boolean isNonFilteringGetAllElementsOperation(final Operation operation) {
         if (null != operation && GetAllElements.class.equals(operation.getClass())) {
             final GetAllElements getAllElements = GetAllElements.class.cast(operation);
-            return (null == getAllElements.getView()
-                    && (null == getAllElements.getDirectedType() || getAllElements.getDirectedType().equals(EITHER)));
+            return (null == getAllElements.getView() || ViewUtil.isGroupSelectionOnly(getAllElements.getView()))
+                    && (null == getAllElements.getDirectedType() || getAllElements.getDirectedType().equals(EITHER));
         }
         return false;
     }
 
+    private Set<String> getGroups(final GetAllElements getAllElements) {
+        final View view = getAllElements.getView();
+        return null != view ? view.getGroups() : null;
+    }
+
     private boolean isCountOperation(final Operation operation) {
-        return null != operation && Count.class.equals(operation.getClass());
+        return null != operation && Count.class.equals(operation.getClass())
+                && null == ((Count<?>) operation).getInput();
+    }
+
+    private boolean isCountGroupsOperation(final Operation operation) {
+        return null != operation && CountGroups.class.equals(operation.getClass())
+                && null == ((CountGroups) operation).getInput()
+                && null == ((CountGroups) operation).getLimit();
     }
 
     @Override
@@ -15,21 +15,48 @@
  */
 package uk.gov.gchq.gaffer.mapstore.utils;
 
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import uk.gov.gchq.gaffer.commonutil.ImmutableClassUtil;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
 import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+import uk.gov.gchq.koryphe.serialisation.json.SimpleClassNameIdResolver;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Utility class to create a clone of an {@link Element}.
+ * <p>
+ * Properties are cloned by serialising and deserialising them, unless they
+ * are an instance of one of the immutable property classes. Immutable
+ * properties can safely be shared between the original and the clone so they
+ * are not copied.
  */
 public class ElementCloner {
     private static final Logger LOGGER = LoggerFactory.getLogger(ElementCloner.class);
 
+    private Set<Class<?>> immutablePropertyClasses;
+
+    public ElementCloner() {
+        this(new HashSet<>(ImmutableClassUtil.IMMUTABLE_CLASSES));
+    }
+
+    public ElementCloner(final Set<Class<?>> immutablePropertyClasses) {
+        this.immutablePropertyClasses = immutablePropertyClasses;
+    }
+
+    public void initialise(final MapStoreProperties properties) {
+        immutablePropertyClasses = getImmutablePropertyClasses(properties.getImmutablePropertyClasses());
+    }
+
     /**
      * Clone an {@link Element}, based on a target {@link Schema}.
      *
@@ -43,7 +70,9 @@ public class ElementCloner {
             final SchemaElementDefinition sed = schema.getElement(clone.getGroup());
             for (final String propertyName : element.getProperties().keySet()) {
                 final Object property = element.getProperty(propertyName);
-                if (null == sed.getPropertyTypeDef(propertyName) || null == sed.getPropertyTypeDef(propertyName).getSerialiser()) {
+                if (null != property && immutablePropertyClasses.contains(property.getClass())) {
+                    clone.putProperty(propertyName, property);
+                } else if (null == sed.getPropertyTypeDef(propertyName) || null == sed.getPropertyTypeDef(propertyName).getSerialiser()) {
                     // This can happen if transient properties are derived - they will not have serialisers.
                     LOGGER.warn("Can't find Serialisation for {}, returning uncloned property", propertyName);
                     clone.putProperty(propertyName, property);
@@ -59,4 +88,28 @@ public class ElementCloner {
             throw new RuntimeException("SerialisationException converting elements", e);
         }
     }
+
+    public Set<Class<?>> getImmutablePropertyClasses() {
+        return Collections.unmodifiableSet(immutablePropertyClasses);
+    }
+
+    private static Set<Class<?>> getImmutablePropertyClasses(final String classNames) {
+        final Set<Class<?>> classes = new HashSet<>();
+        if (null != classNames) {
+            for (final String className : classNames.split(",")) {
+                if (StringUtils.isNotBlank(className)) {
+                    classes.add(getClass(className.trim()));
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static Class<?> getClass(final String className) {
+        try {
+            return Class.forName(SimpleClassNameIdResolver.getClassName(className));
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalArgumentException("Immutable property class is invalid: " + className, e);
+        }
+    }
 }
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import uk.gov.gchq.gaffer.mapstore.optimiser.CountAllElementsOperationChainOptimiser;
 import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.StoreTrait;
+import uk.gov.gchq.gaffer.store.optimiser.FilterToViewOperationChainOptimiser;
+import uk.gov.gchq.gaffer.store.optimiser.RedundantToListOperationChainOptimiser;
 import uk.gov.gchq.gaffer.store.schema.Schema;
 
 import java.util.Arrays;
@@ -56,7 +58,20 @@ class MapStoreTest {
         mapStore.initialise("graphId", new Schema(), new MapStoreProperties());
 
         // Then
-        assertThat(mapStore.getOperationChainOptimisers()).hasSize(1);
         assertThat(mapStore.getOperationChainOptimisers()).contains(new CountAllElementsOperationChainOptimiser());
     }
+
+    @Test
+    void shouldConfigureSupportedGenericOperationChainOptimisers() throws Exception {
+        // Given
+        final MapStore mapStore = new MapStore();
+
+        // When
+        mapStore.initialise("graphId", new Schema(), new MapStoreProperties());
+
+        // Then
+        assertThat(mapStore.getOperationChainOptimisers())
+                .hasSize(3)
+                .contains(new FilterToViewOperationChainOptimiser(), new RedundantToListOperationChainOptimiser());
+    }
 }
@@ -16,12 +16,16 @@
 
 package uk.gov.gchq.gaffer.mapstore.impl;
 
+import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.mapstore.operation.CountAllElementsDefaultView;
+import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.Count;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.user.User;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,6 +52,47 @@ class CountAllElementsDefaultViewHandlerTest {
         assertThat((long) result).isEqualTo((long) GetAllElementsHandlerTest.getElements().size());
     }
 
+    @Test
+    void shouldOnlyCountRequestedGroups() throws OperationException {
+        // Given
+        final Graph graph = GetAllElementsHandlerTest.getGraph();
+        final AddElements addElements = new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build();
+        graph.execute(addElements, new User());
+
+        // When
+        final CountAllElementsDefaultView countAllElementsDefaultView = new CountAllElementsDefaultView.Builder()
+                .groups(Sets.newHashSet(GetAllElementsHandlerTest.BASIC_EDGE1, "unknownGroup"))
+                .build();
+        final Long result = graph.execute(countAllElementsDefaultView, new User());
+
+        // Then
+        assertThat(result).isEqualTo(GetAllElementsHandlerTest.getElements().stream()
+                .filter(e -> GetAllElementsHandlerTest.BASIC_EDGE1.equals(e.getGroup()))
+                .count());
+    }
+
+    @Test
+    void shouldCountRepeatedNonAggregatedElements() throws OperationException {
+        // Given
+        final Graph graph = GetAllElementsHandlerTest.getGraphNoAggregation();
+        final AddElements addElements = new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build();
+        graph.execute(addElements, new User());
+        graph.execute(addElements, new User());
+
+        // When
+        final Long result = graph.execute(new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new Count<>())
+                .build(), new User());
+
+        // Then
+        assertThat(result).isEqualTo(2L * GetAllElementsHandlerTest.getElements().size());
+    }
+
     @Test
     void shouldApplyVisibilityTraitToOperationResults() throws OperationException {
         VisibilityTest.executeOperation(
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.data.GroupCounts;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.mapstore.operation.CountGroupsAllElementsDefaultView;
+import uk.gov.gchq.gaffer.operation.OperationChain;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.impl.CountGroups;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.user.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountGroupsAllElementsDefaultViewHandlerTest {
+
+    @Test
+    void shouldCountGroupsOfAllElements() throws OperationException {
+        // Given
+        final Graph graph = GetAllElementsHandlerTest.getGraph();
+        final AddElements addElements = new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build();
+        graph.execute(addElements, new User());
+
+        // When
+        final GroupCounts result = graph.execute(new CountGroupsAllElementsDefaultView(), new User());
+
+        // Then
+        final GroupCounts expected = getGroupCounts(graph.execute(new GetAllElements(), new User()));
+        assertThat(result.getEntityGroups()).isEqualTo(expected.getEntityGroups());
+        assertThat(result.getEdgeGroups()).isEqualTo(expected.getEdgeGroups());
+        assertThat(result.isLimitHit()).isFalse();
+    }
+
+    @Test
+    void shouldOnlyCountRequestedGroups() throws OperationException {
+        // Given
+        final Graph graph = GetAllElementsHandlerTest.getGraph();
+        final AddElements addElements = new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build();
+        graph.execute(addElements, new User());
+
+        // When
+        final GroupCounts result = graph.execute(new CountGroupsAllElementsDefaultView.Builder()
+                .groups(Sets.newHashSet(GetAllElementsHandlerTest.BASIC_EDGE2))
+                .build(), new User());
+
+        // Then
+        assertThat(result.getEntityGroups()).isEmpty();
+        assertThat(result.getEdgeGroups()).containsOnlyKeys(GetAllElementsHandlerTest.BASIC_EDGE2);
+    }
+
+    @Test
+    void shouldReturnSameCountsWhenCountGroupsChainIsOptimised() throws OperationException {
+        // Given
+        final Graph graph = GetAllElementsHandlerTest.getGraphNoAggregation();
+        final AddElements addElements = new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build();
+        graph.execute(addElements, new User());
+
+        // When
+        final GroupCounts result = graph.execute(new OperationChain.Builder()
+                .first(new GetAllElements())
+                .then(new CountGroups())
+                .build(), new User());
+
+        // Then
+        final GroupCounts expected = getGroupCounts(GetAllElementsHandlerTest.getElements());
+        assertThat(result.getEntityGroups()).isEqualTo(expected.getEntityGroups());
+        assertThat(result.getEdgeGroups()).isEqualTo(expected.getEdgeGroups());
+    }
+
+    @Test
+    void shouldApplyVisibilityTraitToOperationResults() throws OperationException {
+        VisibilityTest.executeOperation(
+                new CountGroupsAllElementsDefaultView(),
+                VisibilityTest::groupCountsResultConsumer);
+    }
+
+    private GroupCounts getGroupCounts(final Iterable<? extends Element> elements) {
+        final GroupCounts groupCounts = new GroupCounts();
+        for (final Element element : elements) {
+            if (element instanceof Entity) {
+                groupCounts.addEntityGroup(element.getGroup());
+            } else {
+                groupCounts.addEdgeGroup(element.getGroup());
+            }
+        }
+        return groupCounts;
+    }
+}
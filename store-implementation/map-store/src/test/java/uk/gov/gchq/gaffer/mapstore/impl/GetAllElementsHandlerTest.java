@@ -30,11 +30,15 @@ import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.graph.Graph;
 import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStore;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
 import uk.gov.gchq.gaffer.operation.OperationException;
 import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.store.Context;
+import uk.gov.gchq.gaffer.store.StoreException;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
 import uk.gov.gchq.gaffer.user.User;
 import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
@@ -57,6 +61,7 @@ public class GetAllElementsHandlerTest {
     static final String PROPERTY1 = "property1";
     static final String PROPERTY2 = "property2";
     static final String COUNT = "count";
+    static final String VISIBILITY = "visibility";
     private static final int NUM_LOOPS = 10;
 
     @Test
@@ -510,4 +515,48 @@ public class GetAllElementsHandlerTest {
                 new GetAllElements.Builder().build(),
                 VisibilityTest::elementIterableResultConsumer);
     }
+
+    @Test
+    void shouldNotModifyStoredElementsWhenApplyingVisibility() throws StoreException, OperationException {
+        // Given
+        final Schema schema = new Schema.Builder()
+                .entity(BASIC_ENTITY, new SchemaEntityDefinition.Builder()
+                        .vertex("vertex.string")
+                        .property(VISIBILITY, "visibility.string")
+                        .aggregate(false)
+                        .build())
+                .type("vertex.string", String.class)
+                .type("visibility.string", String.class)
+                .visibilityProperty(VISIBILITY)
+                .build();
+        final MapStore store = new MapStore();
+        store.initialise("graphWithVisibility", schema, new MapStoreProperties());
+        final Entity entity = new Entity.Builder()
+                .group(BASIC_ENTITY)
+                .vertex("0")
+                .build();
+        store.execute(new AddElements.Builder().input(entity).build(), new Context(new User()));
+
+        // When
+        final List<Element> firstResults = new ArrayList<>();
+        final GetAllElements getAllElements = new GetAllElements.Builder()
+                .view(new View.Builder()
+                        .entity(BASIC_ENTITY)
+                        .build())
+                .build();
+        store.execute(getAllElements, new Context(new User())).forEach(firstResults::add);
+        store.execute(new AddElements.Builder().input(entity).build(), new Context(new User()));
+
+        // Then
+        final Entity expected = new Entity.Builder()
+                .group(BASIC_ENTITY)
+                .vertex("0")
+                .property(VISIBILITY, "")
+                .build();
+        assertThat(firstResults).containsExactly(expected);
+        assertThat(store.getMapImpl().getNonAggElementMap(BASIC_ENTITY))
+                .hasSize(1)
+                .containsValue(2L)
+                .allSatisfy((key, count) -> assertThat(key.getElement().getProperties()).doesNotContainKey(VISIBILITY));
+    }
 }
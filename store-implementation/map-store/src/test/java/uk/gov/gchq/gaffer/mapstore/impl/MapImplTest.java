@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.TestGroups;
 import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.ElementKey;
 import uk.gov.gchq.gaffer.data.element.GroupedProperties;
 import uk.gov.gchq.gaffer.data.element.id.EdgeId;
 import uk.gov.gchq.gaffer.data.element.id.EntityId;
@@ -56,16 +57,16 @@ class MapImplTest {
         // Given
         final Schema schema = mock(Schema.class);
         final MapStoreProperties properties = mock(MapStoreProperties.class);
-        final Map<Element, GroupedProperties> aggElements = mock(Map.class);
-        final Map<Element, Integer> nonAggElements = mock(Map.class);
+        final Map<ElementKey, GroupedProperties> aggElements = mock(Map.class);
+        final Map<ElementKey, Integer> nonAggElements = mock(Map.class);
         final MultiMap<EntityId, Element> entityIdToElements = mock(MultiMap.class);
         final MultiMap<EdgeId, Element> edgeIdToElements = mock(MultiMap.class);
 
         given(schema.getGroups()).willReturn(Sets.newHashSet(TestGroups.EDGE));
         given(properties.getMapFactory()).willReturn(TestMapFactory.class.getName());
         given(properties.getCreateIndex()).willReturn(true);
-        given(mockMapFactory.getMap(TestGroups.EDGE + "|" + MapImpl.AGG_ELEMENTS, Element.class, GroupedProperties.class)).willReturn(aggElements);
-        given(mockMapFactory.getMap(TestGroups.EDGE + "|" + MapImpl.NON_AGG_ELEMENTS, Element.class, Integer.class)).willReturn(nonAggElements);
+        given(mockMapFactory.getMap(TestGroups.EDGE + "|" + MapImpl.AGG_ELEMENTS, ElementKey.class, GroupedProperties.class)).willReturn(aggElements);
+        given(mockMapFactory.getMap(TestGroups.EDGE + "|" + MapImpl.NON_AGG_ELEMENTS, ElementKey.class, Integer.class)).willReturn(nonAggElements);
         given(mockMapFactory.getMultiMap(MapImpl.ENTITY_ID_TO_ELEMENTS, EntityId.class, Element.class)).willReturn(entityIdToElements);
         given(mockMapFactory.getMultiMap(MapImpl.EDGE_ID_TO_ELEMENTS, EdgeId.class, Element.class)).willReturn(edgeIdToElements);
 
@@ -73,8 +74,8 @@ class MapImplTest {
         new MapImpl(schema, properties);
 
         // Then
-        verify(mockMapFactory).getMap(TestGroups.EDGE + "|" + MapImpl.AGG_ELEMENTS, Element.class, GroupedProperties.class);
-        verify(mockMapFactory).getMap(TestGroups.EDGE + "|" + MapImpl.NON_AGG_ELEMENTS, Element.class, Long.class);
+        verify(mockMapFactory).getMap(TestGroups.EDGE + "|" + MapImpl.AGG_ELEMENTS, ElementKey.class, GroupedProperties.class);
+        verify(mockMapFactory).getMap(TestGroups.EDGE + "|" + MapImpl.NON_AGG_ELEMENTS, ElementKey.class, Long.class);
         verify(mockMapFactory).getMultiMap(MapImpl.ENTITY_ID_TO_ELEMENTS, EntityId.class, Element.class);
         verify(mockMapFactory).getMultiMap(MapImpl.EDGE_ID_TO_ELEMENTS, EdgeId.class, Element.class);
     }
@@ -84,21 +85,21 @@ class MapImplTest {
         // Given
         final Schema schema = mock(Schema.class);
         final MapStoreProperties properties = mock(MapStoreProperties.class);
-        final Map<Element, GroupedProperties> aggElements = mock(Map.class);
-        final Map<Element, Integer> nonAggElements = mock(Map.class);
+        final Map<ElementKey, GroupedProperties> aggElements = mock(Map.class);
+        final Map<ElementKey, Integer> nonAggElements = mock(Map.class);
 
         given(schema.getGroups()).willReturn(Sets.newHashSet(TestGroups.EDGE));
         given(properties.getMapFactory()).willReturn(TestMapFactory.class.getName());
         given(properties.getCreateIndex()).willReturn(false);
-        given(mockMapFactory.getMap(TestGroups.EDGE + "|" + MapImpl.AGG_ELEMENTS, Element.class, GroupedProperties.class)).willReturn(aggElements);
-        given(mockMapFactory.getMap(TestGroups.EDGE + "|" + MapImpl.NON_AGG_ELEMENTS, Element.class, Integer.class)).willReturn(nonAggElements);
+        given(mockMapFactory.getMap(TestGroups.EDGE + "|" + MapImpl.AGG_ELEMENTS, ElementKey.class, GroupedProperties.class)).willReturn(aggElements);
+        given(mockMapFactory.getMap(TestGroups.EDGE + "|" + MapImpl.NON_AGG_ELEMENTS, ElementKey.class, Integer.class)).willReturn(nonAggElements);
 
         // When
         new MapImpl(schema, properties);
 
         // Then
-        verify(mockMapFactory).getMap(TestGroups.EDGE + "|" + MapImpl.AGG_ELEMENTS, Element.class, GroupedProperties.class);
-        verify(mockMapFactory).getMap(TestGroups.EDGE + "|" + MapImpl.NON_AGG_ELEMENTS, Element.class, Long.class);
+        verify(mockMapFactory).getMap(TestGroups.EDGE + "|" + MapImpl.AGG_ELEMENTS, ElementKey.class, GroupedProperties.class);
+        verify(mockMapFactory).getMap(TestGroups.EDGE + "|" + MapImpl.NON_AGG_ELEMENTS, ElementKey.class, Long.class);
         verify(mockMapFactory, never()).getMultiMap(MapImpl.ENTITY_ID_TO_ELEMENTS, EntityId.class, Element.class);
         verify(mockMapFactory, never()).getMultiMap(MapImpl.EDGE_ID_TO_ELEMENTS, EdgeId.class, Element.class);
     }
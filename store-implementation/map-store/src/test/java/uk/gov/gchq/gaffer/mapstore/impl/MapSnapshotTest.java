@@ -0,0 +1,264 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.mapstore.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.graph.Graph;
+import uk.gov.gchq.gaffer.graph.GraphConfig;
+import uk.gov.gchq.gaffer.mapstore.MapStore;
+import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
+import uk.gov.gchq.gaffer.operation.Operation;
+import uk.gov.gchq.gaffer.operation.OperationException;
+import uk.gov.gchq.gaffer.operation.data.EntitySeed;
+import uk.gov.gchq.gaffer.operation.impl.add.AddElements;
+import uk.gov.gchq.gaffer.operation.impl.delete.DeleteElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
+import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.gaffer.store.StoreException;
+import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.user.User;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.BASIC_EDGE1;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.COUNT;
+import static uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest.PROPERTY1;
+
+class MapSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRestoreAggregatedElementsFromSnapshot() throws Exception {
+        // Given
+        final MapStoreProperties properties = getProperties(false);
+        final MapStore store = createStore(GetAllElementsHandlerTest.getSchema(), properties);
+        execute(store, new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build());
+        execute(store, new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getDuplicateElements())
+                .build());
+        store.saveSnapshot();
+
+        // When
+        final MapStore restored = createStore(GetAllElementsHandlerTest.getSchema(), properties);
+
+        // Then
+        assertThat(getAllElements(restored)).containsExactlyInAnyOrderElementsOf(getAllElements(store));
+        assertThat(getElements(restored, "A")).containsExactlyInAnyOrderElementsOf(getElements(store, "A"));
+        assertThat(getElements(restored, "A")).isNotEmpty();
+    }
+
+    @Test
+    void shouldRestoreNonAggregatedElementsFromSnapshot() throws Exception {
+        // Given
+        final MapStoreProperties properties = getProperties(false);
+        final MapStore store = createStore(GetAllElementsHandlerTest.getSchemaNoAggregation(), properties);
+        execute(store, new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getDuplicateElements())
+                .build());
+        store.saveSnapshot();
+
+        // When
+        final MapStore restored = createStore(GetAllElementsHandlerTest.getSchemaNoAggregation(), properties);
+
+        // Then
+        assertThat(getAllElements(restored))
+                .hasSize(GetAllElementsHandlerTest.getDuplicateElements().size())
+                .containsExactlyInAnyOrderElementsOf(getAllElements(store));
+    }
+
+    @Test
+    void shouldReplayChangesMadeAfterTheSnapshot() throws Exception {
+        // Given
+        final MapStoreProperties properties = getProperties(true);
+        final MapStore store = createStore(GetAllElementsHandlerTest.getSchema(), properties);
+        execute(store, new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build());
+        store.saveSnapshot();
+        execute(store, new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build());
+        execute(store, new DeleteElements.Builder()
+                .input(getEdge())
+                .build());
+
+        // When
+        final MapStore restored = createStore(GetAllElementsHandlerTest.getSchema(), properties);
+
+        // Then
+        assertThat(getAllElements(restored))
+                .containsExactlyInAnyOrderElementsOf(getAllElements(store))
+                .doesNotContain(getEdge());
+    }
+
+    @Test
+    void shouldIgnoreIncompleteRecordAtTheEndOfTheChangeLog() throws Exception {
+        // Given
+        final MapStoreProperties properties = getProperties(true);
+        final MapStore store = createStore(GetAllElementsHandlerTest.getSchema(), properties);
+        execute(store, new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build());
+        final Path changeLog = tempDir.resolve("snapshot.changelog");
+        final long validLength = Files.size(changeLog);
+        Files.write(changeLog, new byte[]{3, 0, 0}, StandardOpenOption.APPEND);
+
+        // When
+        final MapStore restored = createStore(GetAllElementsHandlerTest.getSchema(), properties);
+
+        // Then
+        assertThat(getAllElements(restored)).containsExactlyInAnyOrderElementsOf(getAllElements(store));
+        assertThat(Files.size(changeLog)).isEqualTo(validLength);
+    }
+
+    @Test
+    void shouldStartANewChangeLogWhenTheHeaderIsIncomplete() throws Exception {
+        // Given
+        final MapStoreProperties properties = getProperties(true);
+        createStore(GetAllElementsHandlerTest.getSchema(), properties).closeSnapshot();
+        final Path changeLog = tempDir.resolve("snapshot.changelog");
+        final long headerLength = Files.size(changeLog);
+        try (final FileChannel channel = FileChannel.open(changeLog, StandardOpenOption.WRITE)) {
+            channel.truncate(headerLength - 1);
+        }
+
+        // When
+        final MapStore restored = createStore(GetAllElementsHandlerTest.getSchema(), properties);
+        execute(restored, new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build());
+        restored.closeSnapshot();
+
+        // Then
+        assertThat(getAllElements(createStore(GetAllElementsHandlerTest.getSchema(), properties)))
+                .containsExactlyInAnyOrderElementsOf(getAllElements(restored));
+    }
+
+    @Test
+    void shouldStartANewChangeLogWhenTheChangeLogIsEmpty() throws Exception {
+        // Given
+        final MapStoreProperties properties = getProperties(true);
+        Files.createFile(tempDir.resolve("snapshot.changelog"));
+
+        // When
+        final MapStore restored = createStore(GetAllElementsHandlerTest.getSchema(), properties);
+
+        // Then
+        assertThat(getAllElements(restored)).isEmpty();
+        assertThat(Files.size(tempDir.resolve("snapshot.changelog"))).isPositive();
+    }
+
+    @Test
+    void shouldNotWriteToTheChangeLogAfterItIsClosed() throws Exception {
+        // Given
+        final MapStoreProperties properties = getProperties(true);
+        final MapStore store = createStore(GetAllElementsHandlerTest.getSchema(), properties);
+        execute(store, new AddElements.Builder()
+                .input(GetAllElementsHandlerTest.getElements())
+                .build());
+        final Path changeLog = tempDir.resolve("snapshot.changelog");
+
+        // When
+        store.closeSnapshot();
+        final long closedLength = Files.size(changeLog);
+        execute(store, new AddElements.Builder()
+                .input(getEdge())
+                .build());
+
+        // Then
+        assertThat(Files.size(changeLog)).isEqualTo(closedLength);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSavingWithoutSnapshotPath() throws StoreException {
+        // Given
+        final MapStore store = createStore(GetAllElementsHandlerTest.getSchema(), new MapStoreProperties());
+
+        // When / Then
+        assertThatExceptionOfType(StoreException.class)
+                .isThrownBy(store::saveSnapshot)
+                .withMessageContaining(MapStoreProperties.SNAPSHOT_PATH);
+    }
+
+    private MapStoreProperties getProperties(final boolean changeLog) {
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setSnapshotPath(tempDir.resolve("snapshot").toString());
+        properties.setSnapshotChangeLog(changeLog);
+        return properties;
+    }
+
+    private static MapStore createStore(final Schema schema, final MapStoreProperties properties) throws StoreException {
+        final MapStore store = new MapStore();
+        store.initialise("graph1", schema, properties);
+        return store;
+    }
+
+    private static void execute(final MapStore store, final Operation operation) throws OperationException {
+        createGraph(store).execute(operation, new User());
+    }
+
+    private static List<Element> getAllElements(final MapStore store) throws OperationException {
+        return toList(createGraph(store).execute(new GetAllElements(), new User()));
+    }
+
+    private static List<Element> getElements(final MapStore store, final String vertex) throws OperationException {
+        return toList(createGraph(store).execute(new GetElements.Builder()
+                .input(new EntitySeed(vertex))
+                .build(), new User()));
+    }
+
+    private static Graph createGraph(final MapStore store) {
+        return new Graph.Builder()
+                .config(new GraphConfig.Builder()
+                        .graphId("graph1")
+                        .build())
+                .store(store)
+                .build();
+    }
+
+    private static List<Element> toList(final Iterable<? extends Element> elements) {
+        final List<Element> list = new ArrayList<>();
+        elements.forEach(list::add);
+        return list;
+    }
+
+    private static Edge getEdge() {
+        return new Edge.Builder()
+                .group(BASIC_EDGE1)
+                .source("A")
+                .dest("B0")
+                .directed(true)
+                .property(PROPERTY1, "q")
+                .property(COUNT, 0)
+                .build();
+    }
+}
@@ -19,6 +19,7 @@ import com.google.common.collect.Lists;
 
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
+import uk.gov.gchq.gaffer.data.GroupCounts;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
@@ -223,6 +224,19 @@ public final class VisibilityTest {
         assertThat((long) getExpectedElementsFor(SCHEMA, dataAuths).size()).isEqualTo(output);
     }
 
+    public static <OUTPUT> void groupCountsResultConsumer(final OUTPUT output, final String... dataAuths) {
+        final GroupCounts expected = new GroupCounts();
+        for (final Element element : getExpectedElementsFor(SCHEMA, dataAuths)) {
+            if (element instanceof Entity) {
+                expected.addEntityGroup(element.getGroup());
+            } else {
+                expected.addEdgeGroup(element.getGroup());
+            }
+        }
+        assertThat(((GroupCounts) output).getEntityGroups()).isEqualTo(expected.getEntityGroups());
+        assertThat(((GroupCounts) output).getEdgeGroups()).isEqualTo(expected.getEdgeGroups());
+    }
+
     @SuppressWarnings("unchecked")
     public static <OUTPUT> void elementIterableResultConsumer(final OUTPUT output, final String... dataAuths) {
         ElementUtil.assertElementEquals(getExpectedElementsFor(SCHEMA, dataAuths), (Iterable<Element>) output);
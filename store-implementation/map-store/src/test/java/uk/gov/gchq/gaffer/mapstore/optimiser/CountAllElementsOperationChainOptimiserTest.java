@@ -20,15 +20,21 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.commonutil.TestPropertyNames;
+import uk.gov.gchq.gaffer.data.element.function.ElementFilter;
 import uk.gov.gchq.gaffer.data.element.id.DirectedType;
 import uk.gov.gchq.gaffer.data.elementdefinition.view.View;
+import uk.gov.gchq.gaffer.data.elementdefinition.view.ViewElementDefinition;
 import uk.gov.gchq.gaffer.mapstore.operation.CountAllElementsDefaultView;
+import uk.gov.gchq.gaffer.mapstore.operation.CountGroupsAllElementsDefaultView;
 import uk.gov.gchq.gaffer.operation.Operation;
 import uk.gov.gchq.gaffer.operation.OperationChain;
 import uk.gov.gchq.gaffer.operation.impl.Count;
 import uk.gov.gchq.gaffer.operation.impl.CountGroups;
 import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
+import uk.gov.gchq.koryphe.impl.predicate.IsMoreThan;
 
 import java.util.Iterator;
 import java.util.stream.Stream;
@@ -41,12 +47,24 @@ class CountAllElementsOperationChainOptimiserTest {
     private static final Operation COUNT_ALL_ELEMENTS_DEFAULT_VIEW = new CountAllElementsDefaultView.Builder().build();
     private static final Operation GET_ALL_ELEMENTS_DEFAULT_VIEW = new GetAllElements.Builder().build();
     private static final Operation COUNT = new Count<>();
-    private static final Operation GET_ALL_ELEMENTS_NON_DEFAULT_VIEW = new GetAllElements.Builder().view(new View.Builder().build()).build();
+    private static final Operation GET_ALL_ELEMENTS_GROUPS_VIEW = new GetAllElements.Builder().view(new View.Builder().edge(TestGroups.EDGE).build()).build();
+    private static final Operation GET_ALL_ELEMENTS_FILTERING_VIEW = new GetAllElements.Builder()
+            .view(new View.Builder()
+                    .edge(TestGroups.EDGE, new ViewElementDefinition.Builder()
+                            .preAggregationFilter(new ElementFilter.Builder()
+                                    .select(TestPropertyNames.COUNT)
+                                    .execute(new IsMoreThan(1L))
+                                    .build())
+                            .build())
+                    .build())
+            .build();
     private static final Operation GET_ALL_ELEMENTS_DIRECTED = new GetAllElements.Builder().directedType(DirectedType.DIRECTED).build();
     private static final Operation GET_ALL_ELEMENTS_UNDIRECTED = new GetAllElements.Builder().directedType(DirectedType.UNDIRECTED).build();
     private static final Operation GET_ALL_ELEMENTS_EITHER_DIRECTED = new GetAllElements.Builder().directedType(DirectedType.EITHER).build();
     private static final Operation GET_ELEMENTS_DEFAULT_VIEW = new GetElements.Builder().build();
     private static final Operation COUNT_GROUPS = new CountGroups();
+    private static final Operation COUNT_GROUPS_WITH_LIMIT = new CountGroups(10);
+    private static final Operation COUNT_GROUPS_ALL_ELEMENTS_DEFAULT_VIEW = new CountGroupsAllElementsDefaultView.Builder().build();
 
     @ParameterizedTest
     @MethodSource("inputOperationChainAndExpectedOptimizedOperationChain")
@@ -76,6 +94,18 @@ class CountAllElementsOperationChainOptimiserTest {
                 arguments(
                         new OperationChain(GET_ALL_ELEMENTS_EITHER_DIRECTED, COUNT),
                         new OperationChain(COUNT_ALL_ELEMENTS_DEFAULT_VIEW)
+                ),
+                arguments(
+                        new OperationChain(GET_ALL_ELEMENTS_GROUPS_VIEW, COUNT),
+                        new OperationChain(COUNT_ALL_ELEMENTS_DEFAULT_VIEW)
+                ),
+                arguments(
+                        new OperationChain(GET_ALL_ELEMENTS_DEFAULT_VIEW, COUNT_GROUPS),
+                        new OperationChain(COUNT_GROUPS_ALL_ELEMENTS_DEFAULT_VIEW)
+                ),
+                arguments(
+                        new OperationChain(GET_ALL_ELEMENTS_GROUPS_VIEW, COUNT_GROUPS),
+                        new OperationChain(COUNT_GROUPS_ALL_ELEMENTS_DEFAULT_VIEW)
                 )
         );
     }
@@ -96,9 +126,10 @@ class CountAllElementsOperationChainOptimiserTest {
     static Stream<Arguments> nonOptimisableInputOperationChain() {
         return Stream.of(
                 /* OperationChain's which should not be optimised */
-                arguments(new OperationChain(GET_ALL_ELEMENTS_DEFAULT_VIEW, COUNT_GROUPS)),
+                arguments(new OperationChain(GET_ALL_ELEMENTS_DEFAULT_VIEW, COUNT_GROUPS_WITH_LIMIT)),
                 arguments(new OperationChain(GET_ELEMENTS_DEFAULT_VIEW, COUNT)),
-                arguments(new OperationChain(GET_ALL_ELEMENTS_NON_DEFAULT_VIEW, COUNT)),
+                arguments(new OperationChain(GET_ALL_ELEMENTS_FILTERING_VIEW, COUNT)),
+                arguments(new OperationChain(GET_ALL_ELEMENTS_FILTERING_VIEW, COUNT_GROUPS)),
                 arguments(new OperationChain(GET_ALL_ELEMENTS_DIRECTED, COUNT)),
                 arguments(new OperationChain(GET_ALL_ELEMENTS_UNDIRECTED, COUNT))
         );
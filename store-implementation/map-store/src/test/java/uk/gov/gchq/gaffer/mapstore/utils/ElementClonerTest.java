@@ -20,14 +20,21 @@ import org.junit.jupiter.api.Test;
 
 import uk.gov.gchq.gaffer.commonutil.pair.Pair;
 import uk.gov.gchq.gaffer.commonutil.stream.Streams;
+import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.mapstore.MapStore;
 import uk.gov.gchq.gaffer.mapstore.MapStoreProperties;
 import uk.gov.gchq.gaffer.mapstore.impl.GetAllElementsHandlerTest;
 import uk.gov.gchq.gaffer.store.StoreException;
 
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class ElementClonerTest {
+    private static final String PROPERTY1 = "property1";
+
 
     @Test
     void testElementCloner() throws StoreException {
@@ -41,4 +48,69 @@ class ElementClonerTest {
                 .map(element -> new Pair<>(element, cloner.cloneElement(element, mapStore.getSchema())))
                 .forEach(pair -> assertEquals(pair.getFirst(), pair.getSecond()));
     }
+
+    @Test
+    void shouldShareImmutableProperties() throws StoreException {
+        // Given
+        final ElementCloner cloner = new ElementCloner();
+        final MapStore mapStore = new MapStore();
+        mapStore.initialise("graphId", GetAllElementsHandlerTest.getSchema(), new MapStoreProperties());
+        final Element element = GetAllElementsHandlerTest.getElements().get(0);
+
+        // When
+        final Element clone = cloner.cloneElement(element, mapStore.getSchema());
+
+        // Then
+        assertThat(clone).isEqualTo(element).isNotSameAs(element);
+        assertThat(clone.getProperty(PROPERTY1)).isSameAs(element.getProperty(PROPERTY1));
+    }
+
+    @Test
+    void shouldClonePropertiesNotConfiguredAsImmutable() throws StoreException {
+        // Given
+        final ElementCloner cloner = new ElementCloner();
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setImmutablePropertyClasses("");
+        cloner.initialise(properties);
+        final MapStore mapStore = new MapStore();
+        mapStore.initialise("graphId", GetAllElementsHandlerTest.getSchema(), properties);
+        final Element element = GetAllElementsHandlerTest.getElements().get(0);
+
+        // When
+        final Element clone = cloner.cloneElement(element, mapStore.getSchema());
+
+        // Then
+        assertThat(cloner.getImmutablePropertyClasses()).isEmpty();
+        assertThat(clone).isEqualTo(element);
+        assertThat(clone.getProperty(PROPERTY1))
+                .isEqualTo(element.getProperty(PROPERTY1))
+                .isNotSameAs(element.getProperty(PROPERTY1));
+    }
+
+    @Test
+    void shouldReadImmutablePropertyClassesFromStoreProperties() {
+        // Given
+        final ElementCloner cloner = new ElementCloner();
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setImmutablePropertyClasses(Collections.singleton(Long.class));
+
+        // When
+        cloner.initialise(properties);
+
+        // Then
+        assertThat(cloner.getImmutablePropertyClasses()).containsExactly(Long.class);
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidImmutablePropertyClass() {
+        // Given
+        final ElementCloner cloner = new ElementCloner();
+        final MapStoreProperties properties = new MapStoreProperties();
+        properties.setImmutablePropertyClasses("not.a.Class");
+
+        // When / Then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> cloner.initialise(properties))
+                .withMessageContaining("not.a.Class");
+    }
 }
@@ -37,11 +37,48 @@ public class ProxyProperties extends StoreProperties {
     public static final String CONNECT_TIMEOUT = "gaffer.connect-timeout";
     public static final String READ_TIMEOUT = "gaffer.read-timeout";
 
+    /**
+     * If true, operation chains that output elements are executed using the
+     * chunked endpoint of the remote REST API and the elements are
+     * deserialised lazily as they are read from the response.
+     */
+    public static final String STREAMING_ENABLED = "gaffer.streaming-enabled";
+
+    /**
+     * If true, the remote REST API is asked to gzip its responses.
+     */
+    public static final String RESPONSE_COMPRESSION_ENABLED = "gaffer.response-compression-enabled";
+
+    /**
+     * If true, request bodies are gzipped. The remote REST API must support
+     * decompressing requests.
+     */
+    public static final String REQUEST_COMPRESSION_ENABLED = "gaffer.request-compression-enabled";
+
+    /**
+     * The class name of the Jersey {@link org.glassfish.jersey.client.spi.ConnectorProvider}
+     * used to create the HTTP client, e.g. a connector that provides a pool of
+     * connections. If not set the default Jersey connector is used, which
+     * reuses keep-alive connections.
+     */
+    public static final String CONNECTOR_PROVIDER = "gaffer.connector-provider";
+
+    /**
+     * The time in milliseconds that metadata fetched from the remote store,
+     * such as the schema and traits, is cached for. Identical concurrent
+     * requests for metadata are always combined into a single request.
+     */
+    public static final String METADATA_CACHE_TTL = "gaffer.metadata-cache-ttl";
+
     public static final String DEFAULT_GAFFER_HOST = "localhost";
     public static final String DEFAULT_GAFFER_CONTEXT_ROOT = "/rest";
     public static final int DEFAULT_GAFFER_PORT = 8080;
     public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
     public static final int DEFAULT_READ_TIMEOUT = 10000;
+    public static final boolean DEFAULT_STREAMING_ENABLED = false;
+    public static final boolean DEFAULT_RESPONSE_COMPRESSION_ENABLED = false;
+    public static final boolean DEFAULT_REQUEST_COMPRESSION_ENABLED = false;
+    public static final long DEFAULT_METADATA_CACHE_TTL = 0;
 
 
     public ProxyProperties() {
@@ -94,6 +131,51 @@ public class ProxyProperties extends StoreProperties {
         set(READ_TIMEOUT, String.valueOf(timeout));
     }
 
+    public boolean isStreamingEnabled() {
+        return Boolean.parseBoolean(get(STREAMING_ENABLED, String.valueOf(DEFAULT_STREAMING_ENABLED)));
+    }
+
+    public void setStreamingEnabled(final boolean streamingEnabled) {
+        set(STREAMING_ENABLED, String.valueOf(streamingEnabled));
+    }
+
+    public boolean isResponseCompressionEnabled() {
+        return Boolean.parseBoolean(get(RESPONSE_COMPRESSION_ENABLED, String.valueOf(DEFAULT_RESPONSE_COMPRESSION_ENABLED)));
+    }
+
+    public void setResponseCompressionEnabled(final boolean responseCompressionEnabled) {
+        set(RESPONSE_COMPRESSION_ENABLED, String.valueOf(responseCompressionEnabled));
+    }
+
+    public boolean isRequestCompressionEnabled() {
+        return Boolean.parseBoolean(get(REQUEST_COMPRESSION_ENABLED, String.valueOf(DEFAULT_REQUEST_COMPRESSION_ENABLED)));
+    }
+
+    public void setRequestCompressionEnabled(final boolean requestCompressionEnabled) {
+        set(REQUEST_COMPRESSION_ENABLED, String.valueOf(requestCompressionEnabled));
+    }
+
+    public String getConnectorProvider() {
+        return get(CONNECTOR_PROVIDER, null);
+    }
+
+    public void setConnectorProvider(final String connectorProvider) {
+        set(CONNECTOR_PROVIDER, connectorProvider);
+    }
+
+    public long getMetadataCacheTimeToLive() {
+        final String timeToLive = get(METADATA_CACHE_TTL, null);
+        try {
+            return null == timeToLive ? DEFAULT_METADATA_CACHE_TTL : Long.parseLong(timeToLive);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Unable to convert metadata cache time to live into a long", e);
+        }
+    }
+
+    public void setMetadataCacheTimeToLive(final long timeToLive) {
+        set(METADATA_CACHE_TTL, String.valueOf(timeToLive));
+    }
+
     public String getGafferHost() {
         return get(GAFFER_HOST, DEFAULT_GAFFER_HOST);
     }
@@ -17,8 +17,13 @@
 package uk.gov.gchq.gaffer.proxystore;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.Lists;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.filter.EncodingFilter;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.message.GZipEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +37,7 @@ import uk.gov.gchq.gaffer.exception.SerialisationException;
 import uk.gov.gchq.gaffer.jobtracker.JobDetail;
 import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
 import uk.gov.gchq.gaffer.named.operation.AddNamedOperation;
+import uk.gov.gchq.gaffer.named.operation.DeleteNamedOperation;
 import uk.gov.gchq.gaffer.named.operation.GetAllNamedOperations;
 import uk.gov.gchq.gaffer.named.operation.NamedOperation;
 import uk.gov.gchq.gaffer.named.operation.NamedOperationDetail;
@@ -47,6 +53,7 @@ import uk.gov.gchq.gaffer.operation.impl.get.GetAllElements;
 import uk.gov.gchq.gaffer.operation.impl.get.GetElements;
 import uk.gov.gchq.gaffer.operation.serialisation.TypeReferenceImpl;
 import uk.gov.gchq.gaffer.proxystore.operation.handler.OperationChainHandler;
+import uk.gov.gchq.gaffer.proxystore.response.ChunkedResponseIterable;
 import uk.gov.gchq.gaffer.proxystore.response.deserialiser.ResponseDeserialiser;
 import uk.gov.gchq.gaffer.proxystore.response.deserialiser.impl.DefaultResponseDeserialiser;
 import uk.gov.gchq.gaffer.proxystore.response.deserialiser.impl.OperationsResponseDeserialiser;
@@ -77,6 +84,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Set;
 
 import static java.util.Objects.nonNull;
@@ -90,7 +98,12 @@ import static java.util.Objects.nonNull;
 public class ProxyStore extends Store {
     private static final Logger LOGGER = LoggerFactory.getLogger(ProxyStore.class);
     public static final String ERROR_FETCHING_SCHEMA_FROM_REMOTE_STORE = "Error fetching schema from remote store.";
+    private static final String OPERATIONS_KEY = "operations";
+    private static final String TRAITS_KEY = "traits|currentTraits=";
+    private static final String SCHEMA_KEY = "schema|compact=";
+    private static final String NAMED_OPERATIONS_KEY = "namedOperations|user=";
     private Client client;
+    private RemoteMetadataCache metadataCache;
 
     public ProxyStore() {
         super(false);
@@ -101,6 +114,7 @@ public class ProxyStore extends Store {
     public void initialise(final String graphId, final Schema unusedSchema, final StoreProperties properties) throws StoreException {
         setProperties(properties);
         client = createClient();
+        metadataCache = new RemoteMetadataCache(getProperties().getMetadataCacheTimeToLive());
 
         super.initialise(graphId, new Schema(), getProperties());
         checkDelegateStoreStatus();
@@ -117,10 +131,16 @@ public class ProxyStore extends Store {
     @SuppressFBWarnings(value = "SIC_INNER_SHOULD_BE_STATIC_ANON")
     protected Set<Class<? extends Operation>> fetchOperations() {
         try {
-            final URL url = getProperties().getGafferUrl("graph/operations");
-            final ResponseDeserialiser<Set<Class<? extends Operation>>> responseDeserialiser = getOperationsResponseDeserialiser();
-            return Collections.unmodifiableSet(doGet(url, responseDeserialiser, null));
-        } catch (final StoreException e) {
+            return metadataCache.get(OPERATIONS_KEY, () -> {
+                try {
+                    final URL url = getProperties().getGafferUrl("graph/operations");
+                    final ResponseDeserialiser<Set<Class<? extends Operation>>> responseDeserialiser = getOperationsResponseDeserialiser();
+                    return Collections.unmodifiableSet(doGet(url, responseDeserialiser, null));
+                } catch (final StoreException e) {
+                    throw new OperationException(e.getMessage(), e);
+                }
+            });
+        } catch (final OperationException e) {
             throw new GafferRuntimeException("Failed to fetch operations from remote store.", e);
         }
     }
@@ -134,7 +154,11 @@ public class ProxyStore extends Store {
     }
 
     protected ResponseDeserialiser getResponseDeserialiserForNamedOperation(final NamedOperation operation, final Context context) throws OperationException {
-        Iterable<NamedOperationDetail> namedOpDetails = executeOpChainViaUrl(OperationChain.wrap(new GetAllNamedOperations()), context);
+        final String key = NAMED_OPERATIONS_KEY + (nonNull(context.getUser()) ? context.getUser().getUserId() : null);
+        final List<NamedOperationDetail> namedOpDetails = metadataCache.get(key, () -> {
+            final Iterable<NamedOperationDetail> details = executeOpChainViaUrl(OperationChain.wrap(new GetAllNamedOperations()), context);
+            return nonNull(details) ? Lists.newArrayList(details) : Collections.emptyList();
+        });
         for (final NamedOperationDetail detail : namedOpDetails) {
             if (detail.getOperationName().equals(operation.getOperationName())) {
                 return getResponseDeserialiserFor(detail.getOperationChainWithDefaultParams().getOutputTypeReference());
@@ -161,23 +185,32 @@ public class ProxyStore extends Store {
 
     protected Set<StoreTrait> fetchTraits(final Operation operation) throws OperationException {
         try {
-            Set<StoreTrait> newTraits = executeOpChainViaUrl(new OperationChain<>(operation), new Context());
-            if (newTraits == null) {
-                newTraits = new HashSet<>(0);
-            } else {
-                // This proxy store cannot handle visibility due to the simple rest api using a default user.
-                newTraits.remove(StoreTrait.VISIBILITY);
-            }
-            return newTraits;
+            final String key = TRAITS_KEY + (operation instanceof GetTraits && ((GetTraits) operation).isCurrentTraits());
+            final Set<StoreTrait> traits = metadataCache.get(key, () -> {
+                Set<StoreTrait> newTraits = executeOpChainViaUrl(new OperationChain<>(operation), new Context());
+                if (newTraits == null) {
+                    newTraits = new HashSet<>(0);
+                } else {
+                    // This proxy store cannot handle visibility due to the simple rest api using a default user.
+                    newTraits.remove(StoreTrait.VISIBILITY);
+                }
+                return newTraits;
+            });
+            // Return a copy so the cached traits cannot be modified
+            return new HashSet<>(traits);
         } catch (final Exception e) {
             throw new OperationException("Proxy Store failed to fetch traits from remote store", e);
         }
     }
 
     protected Schema fetchSchema(final boolean getCompactSchema) throws OperationException {
-        final GetSchema.Builder getSchema = new GetSchema.Builder();
-        getSchema.compact(getCompactSchema);
-        return executeOpChainViaUrl(new OperationChain<>(getSchema.build()), new Context());
+        final Schema schema = metadataCache.get(SCHEMA_KEY + getCompactSchema, () -> {
+            final GetSchema.Builder getSchema = new GetSchema.Builder();
+            getSchema.compact(getCompactSchema);
+            return executeOpChainViaUrl(new OperationChain<>(getSchema.build()), new Context());
+        });
+        // Return a copy so the cached schema cannot be modified
+        return null != schema ? schema.clone() : null;
     }
 
     /**
@@ -225,8 +258,26 @@ public class ProxyStore extends Store {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <O> O executeOpChainViaUrl(final OperationChain<O> opChain, final Context context)
             throws OperationException {
+        final boolean modifiesNamedOperations = opChain.getOperations().stream().anyMatch(op -> op instanceof AddNamedOperation || op instanceof DeleteNamedOperation);
+        if (modifiesNamedOperations) {
+            metadataCache.invalidateAll();
+        }
+        try {
+            return doExecuteOpChainViaUrl(opChain, context);
+        } finally {
+            // Invalidate again in case the old metadata was cached while the chain was running
+            if (modifiesNamedOperations) {
+                metadataCache.invalidateAll();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <O> O doExecuteOpChainViaUrl(final OperationChain<O> opChain, final Context context)
+            throws OperationException {
         final String opChainJson;
         try {
             opChainJson = new String(JSONSerialiser.serialise(opChain), StandardCharsets.UTF_8);
@@ -240,6 +291,8 @@ public class ProxyStore extends Store {
             final Operation lastOp = opChain.getOperations().get(opChain.getOperations().size() - 1);
             if (lastOp instanceof NamedOperation) {
                 responseDeserialiser = getResponseDeserialiserForNamedOperation((NamedOperation) lastOp, context);
+            } else if (getProperties().isStreamingEnabled() && opChain.getOutputTypeReference() instanceof TypeReferenceImpl.IterableElement) {
+                return (O) doPostChunked(getProperties().getGafferUrl("graph/operations/execute/chunked"), opChainJson, Element.class, context);
             } else {
                 responseDeserialiser = getResponseDeserialiserFor(opChain.getOutputTypeReference());
             }
@@ -276,6 +329,35 @@ public class ProxyStore extends Store {
         return handleResponse(response, responseDeserialiser);
     }
 
+    /**
+     * Posts the json body to a chunked endpoint of the remote REST API. The
+     * items in the response are deserialised lazily, so the returned iterable
+     * must be closed if it is not fully iterated over.
+     *
+     * @param url       the url of the chunked endpoint
+     * @param jsonBody  the json body
+     * @param itemClass the class of the items in the response
+     * @param context   the context
+     * @param <T>       the type of the items in the response
+     * @return a lazy iterable of the items in the response
+     * @throws StoreException if the request fails
+     */
+    protected <T> ChunkedResponseIterable<T> doPostChunked(final URL url, final String jsonBody,
+                                                           final Class<T> itemClass,
+                                                           final Context context)
+            throws StoreException {
+        final Invocation.Builder request = createRequest(jsonBody, url, context);
+        final Response response;
+        try {
+            response = request.post(Entity.json(jsonBody));
+        } catch (final Exception e) {
+            throw new StoreException(String.format("Failed to execute post via the Gaffer URL %s", url.toExternalForm()), e);
+        }
+
+        checkResponseStatus(response);
+        return new ChunkedResponseIterable<>(response, itemClass);
+    }
+
     protected <O> O doGet(final URL url, final ResponseDeserialiser<O> responseDeserialiser, final Context context) throws StoreException {
         final Invocation.Builder request = createRequest(null, url, context);
         final Response response;
@@ -291,18 +373,9 @@ public class ProxyStore extends Store {
     protected <O> O handleResponse(final Response response,
                                    final ResponseDeserialiser<O> responseDeserialiser)
             throws StoreException {
-        final String outputJson = response.hasEntity() ? response.readEntity(String.class) : null;
-        if (Family.SUCCESSFUL != response.getStatusInfo().getFamily()) {
-            final Error error;
-            try {
-                error = JSONSerialiser.deserialise(StringUtil.toBytes(outputJson), Error.class);
-            } catch (final Exception e) {
-                LOGGER.warn("Gaffer bad status {}. Detail: {}", response.getStatus(), outputJson);
-                throw new StoreException(String.format("Delegate Gaffer store returned status: %s. Response content was: %s", response.getStatus(), outputJson), e);
-            }
-            throw new GafferWrappedErrorRuntimeException(error);
-        }
+        checkResponseStatus(response);
 
+        final String outputJson = response.hasEntity() ? response.readEntity(String.class) : null;
         O output = null;
         if (nonNull(outputJson)) {
             try {
@@ -315,6 +388,20 @@ public class ProxyStore extends Store {
         return output;
     }
 
+    private void checkResponseStatus(final Response response) throws StoreException {
+        if (Family.SUCCESSFUL != response.getStatusInfo().getFamily()) {
+            final String outputJson = response.hasEntity() ? response.readEntity(String.class) : null;
+            final Error error;
+            try {
+                error = JSONSerialiser.deserialise(StringUtil.toBytes(outputJson), Error.class);
+            } catch (final Exception e) {
+                LOGGER.warn("Gaffer bad status {}. Detail: {}", response.getStatus(), outputJson);
+                throw new StoreException(String.format("Delegate Gaffer store returned status: %s. Response content was: %s", response.getStatus(), outputJson), e);
+            }
+            throw new GafferWrappedErrorRuntimeException(error);
+        }
+    }
+
     protected Invocation.Builder createRequest(final String body, final URL url, final Context context) {
         final Invocation.Builder request = client.target(url.toString())
                 .request();
@@ -386,10 +473,28 @@ public class ProxyStore extends Store {
         return null;
     }
 
-    protected Client createClient() {
-        final Client client = ClientBuilder.newClient();
+    protected Client createClient() throws StoreException {
+        final ClientConfig config = new ClientConfig();
+        final String connectorProvider = getProperties().getConnectorProvider();
+        if (nonNull(connectorProvider)) {
+            try {
+                config.connectorProvider(Class.forName(connectorProvider).asSubclass(ConnectorProvider.class)
+                        .getDeclaredConstructor().newInstance());
+            } catch (final ReflectiveOperationException | ClassCastException e) {
+                throw new StoreException("Connector provider is invalid: " + connectorProvider, e);
+            }
+        }
+
+        final Client client = ClientBuilder.newClient(config);
         client.property(ClientProperties.CONNECT_TIMEOUT, getProperties().getConnectTimeout());
         client.property(ClientProperties.READ_TIMEOUT, getProperties().getReadTimeout());
+        if (getProperties().isResponseCompressionEnabled() || getProperties().isRequestCompressionEnabled()) {
+            client.register(GZipEncoder.class);
+            client.register(EncodingFilter.class);
+            if (getProperties().isRequestCompressionEnabled()) {
+                client.property(ClientProperties.USE_ENCODING, "gzip");
+            }
+        }
         return client;
     }
 
@@ -436,6 +541,16 @@ public class ProxyStore extends Store {
             return this;
         }
 
+        public Builder streaming(final boolean streamingEnabled) {
+            properties.setStreamingEnabled(streamingEnabled);
+            return this;
+        }
+
+        public Builder responseCompression(final boolean responseCompressionEnabled) {
+            properties.setResponseCompressionEnabled(responseCompressionEnabled);
+            return this;
+        }
+
         public Builder jsonSerialiser(final Class<? extends JSONSerialiser> serialiserClass) {
             properties.setJsonSerialiserClass(serialiserClass);
             return this;
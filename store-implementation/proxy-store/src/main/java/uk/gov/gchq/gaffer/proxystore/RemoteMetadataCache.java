@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.proxystore;
+
+import uk.gov.gchq.gaffer.operation.OperationException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches metadata fetched from the remote store of a {@link ProxyStore}, such
+ * as the schema and traits, for a time to live.
+ * <p>
+ * Identical requests that are in flight at the same time are coalesced, so
+ * only one request is sent to the remote store and all the callers share the
+ * result. This is also done when the time to live is 0 and no values are
+ * cached. A value that was being fetched when the cache was invalidated is
+ * returned to its callers but is not cached.
+ */
+class RemoteMetadataCache {
+    private final long timeToLive;
+    private final LongSupplier clock;
+    private final Map<String, CachedValue> values = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    RemoteMetadataCache(final long timeToLive) {
+        this(timeToLive, System::currentTimeMillis);
+    }
+
+    RemoteMetadataCache(final long timeToLive, final LongSupplier clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the cached value for a key, if there is no value or it has expired
+     * then the value is fetched using the loader.
+     *
+     * @param key    the key
+     * @param loader the loader to fetch the value from the remote store
+     * @param <T>    the type of the value
+     * @return the value
+     * @throws OperationException if the value could not be fetched
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(final String key, final Loader<T> loader) throws OperationException {
+        final CachedValue cached = values.get(key);
+        if (null != cached && cached.expiry > clock.getAsLong()) {
+            return (T) cached.value;
+        }
+
+        final long loadGeneration = generation.get();
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (null != existing) {
+            return (T) await(existing);
+        }
+
+        try {
+            final T value = loader.load();
+            if (timeToLive > 0) {
+                final CachedValue newValue = new CachedValue(value, clock.getAsLong() + timeToLive);
+                values.put(key, newValue);
+                if (loadGeneration != generation.get()) {
+                    // The cache was invalidated during the load so the value may be stale
+                    values.remove(key, newValue);
+                }
+            }
+            future.complete(value);
+            return value;
+        } catch (final OperationException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    void invalidate(final String key) {
+        generation.incrementAndGet();
+        inFlight.remove(key);
+        values.remove(key);
+    }
+
+    void invalidateAll() {
+        generation.incrementAndGet();
+        inFlight.clear();
+        values.clear();
+    }
+
+    private static Object await(final CompletableFuture<Object> future) throws OperationException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationException("Interrupted while waiting for metadata from remote store", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof OperationException) {
+                throw (OperationException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OperationException("Failed to fetch metadata from remote store", e);
+        }
+    }
+
+    /**
+     * Fetches a value from the remote store.
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+        T load() throws OperationException;
+    }
+
+    private static final class CachedValue {
+        private final Object value;
+        private final long expiry;
+
+        private CachedValue(final Object value, final long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+    }
+}
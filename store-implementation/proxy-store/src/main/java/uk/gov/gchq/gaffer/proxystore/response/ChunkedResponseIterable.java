@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.proxystore.response;
+
+import org.apache.commons.lang3.StringUtils;
+
+import uk.gov.gchq.gaffer.commonutil.StringUtil;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+
+import javax.ws.rs.core.Response;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A lazy {@link Iterable} over the items in a response from the chunked
+ * endpoint of a Gaffer REST API. Each chunk is a single JSON item and the items
+ * are only deserialised as they are iterated over, so the whole response is
+ * never held in memory.
+ * <p>
+ * The response can only be iterated over once. The response is closed once
+ * all the items have been read, or when this iterable is closed.
+ *
+ * @param <T> the type of the items in the response
+ */
+public class ChunkedResponseIterable<T> implements Iterable<T>, Closeable {
+    private final Response response;
+    private final Class<T> itemClass;
+    private boolean iterated;
+
+    public ChunkedResponseIterable(final Response response, final Class<T> itemClass) {
+        this.response = response;
+        this.itemClass = itemClass;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("A chunked response can only be iterated over once");
+        }
+        iterated = true;
+        return new ChunkedResponseIterator();
+    }
+
+    @Override
+    public void close() {
+        response.close();
+    }
+
+    private class ChunkedResponseIterator implements Iterator<T> {
+        private BufferedReader reader;
+        private String nextChunk;
+        private boolean finished;
+
+        @Override
+        public boolean hasNext() {
+            if (null == nextChunk && !finished) {
+                nextChunk = readChunk();
+            }
+            return null != nextChunk;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final String chunk = nextChunk;
+            nextChunk = null;
+            try {
+                return JSONSerialiser.deserialise(StringUtil.toBytes(chunk), itemClass);
+            } catch (final SerialisationException e) {
+                close();
+                throw new GafferRuntimeException("Unable to deserialise chunk from remote store: " + chunk, e);
+            }
+        }
+
+        private String readChunk() {
+            try {
+                if (null == reader) {
+                    if (!response.hasEntity()) {
+                        finish();
+                        return null;
+                    }
+                    reader = new BufferedReader(new InputStreamReader(response.readEntity(InputStream.class), StandardCharsets.UTF_8));
+                }
+                String line = reader.readLine();
+                while (null != line && StringUtils.isBlank(line)) {
+                    line = reader.readLine();
+                }
+                if (null == line) {
+                    finish();
+                }
+                return line;
+            } catch (final IOException e) {
+                finish();
+                throw new UncheckedIOException("Unable to read chunk from remote store", e);
+            }
+        }
+
+        private void finish() {
+            finished = true;
+            close();
+        }
+    }
+}
@@ -23,13 +23,18 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static uk.gov.gchq.gaffer.proxystore.ProxyProperties.CONNECT_TIMEOUT;
 import static uk.gov.gchq.gaffer.proxystore.ProxyProperties.DEFAULT_CONNECT_TIMEOUT;
 import static uk.gov.gchq.gaffer.proxystore.ProxyProperties.DEFAULT_GAFFER_CONTEXT_ROOT;
 import static uk.gov.gchq.gaffer.proxystore.ProxyProperties.DEFAULT_GAFFER_PORT;
+import static uk.gov.gchq.gaffer.proxystore.ProxyProperties.DEFAULT_METADATA_CACHE_TTL;
 import static uk.gov.gchq.gaffer.proxystore.ProxyProperties.DEFAULT_READ_TIMEOUT;
 import static uk.gov.gchq.gaffer.proxystore.ProxyProperties.GAFFER_PORT;
+import static uk.gov.gchq.gaffer.proxystore.ProxyProperties.METADATA_CACHE_TTL;
 import static uk.gov.gchq.gaffer.proxystore.ProxyProperties.READ_TIMEOUT;
 
 public class ProxyPropertiesTest {
@@ -87,6 +92,46 @@ public class ProxyPropertiesTest {
         assertEquals("Unable to convert gaffer timeout into an integer", e.getMessage());
     }
 
+    @Test
+    public void shouldSetAndGetTransportOptions() {
+        // Given
+        ProxyProperties defaultProxy = new ProxyProperties();
+        ProxyProperties proxy = new ProxyProperties();
+
+        // When
+        proxy.setStreamingEnabled(true);
+        proxy.setResponseCompressionEnabled(true);
+        proxy.setRequestCompressionEnabled(true);
+        proxy.setConnectorProvider("test.ConnectorProvider");
+
+        // Then
+        assertFalse(defaultProxy.isStreamingEnabled());
+        assertFalse(defaultProxy.isResponseCompressionEnabled());
+        assertFalse(defaultProxy.isRequestCompressionEnabled());
+        assertNull(defaultProxy.getConnectorProvider());
+        assertTrue(proxy.isStreamingEnabled());
+        assertTrue(proxy.isResponseCompressionEnabled());
+        assertTrue(proxy.isRequestCompressionEnabled());
+        assertEquals("test.ConnectorProvider", proxy.getConnectorProvider());
+    }
+
+    @Test
+    public void shouldSetAndGetMetadataCacheTimeToLive() {
+        // Given
+        ProxyProperties defaultProxy = new ProxyProperties();
+        ProxyProperties validProxy = new ProxyProperties();
+        ProxyProperties invalidProxy = new ProxyProperties();
+
+        // When
+        validProxy.setMetadataCacheTimeToLive(60000L);
+        invalidProxy.set(METADATA_CACHE_TTL, "1 minute");
+
+        // Then
+        assertEquals(DEFAULT_METADATA_CACHE_TTL, defaultProxy.getMetadataCacheTimeToLive());
+        assertEquals(60000L, validProxy.getMetadataCacheTimeToLive());
+        assertThrows(IllegalArgumentException.class, invalidProxy::getMetadataCacheTimeToLive);
+    }
+
     @Test
     public void shouldSetAndGetReadTimeout() {
         // Given
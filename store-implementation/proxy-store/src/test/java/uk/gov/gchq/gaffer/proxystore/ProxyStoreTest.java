@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.proxystore;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.store.StoreException;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ProxyStoreTest {
+
+    @Test
+    void shouldThrowStoreExceptionWhenConnectorProviderIsInvalid() {
+        // Given
+        final ProxyProperties properties = new ProxyProperties();
+        properties.setConnectorProvider(String.class.getName());
+        final ProxyStore store = new ProxyStore();
+
+        // When / Then
+        assertThatExceptionOfType(StoreException.class)
+                .isThrownBy(() -> store.initialise("graphId", null, properties))
+                .withMessage("Connector provider is invalid: " + String.class.getName());
+    }
+
+    @Test
+    void shouldThrowStoreExceptionWhenConnectorProviderClassDoesNotExist() {
+        // Given
+        final ProxyProperties properties = new ProxyProperties();
+        properties.setConnectorProvider("not.a.ConnectorProvider");
+        final ProxyStore store = new ProxyStore();
+
+        // When / Then
+        assertThatExceptionOfType(StoreException.class)
+                .isThrownBy(() -> store.initialise("graphId", null, properties))
+                .withCauseInstanceOf(ClassNotFoundException.class);
+    }
+}
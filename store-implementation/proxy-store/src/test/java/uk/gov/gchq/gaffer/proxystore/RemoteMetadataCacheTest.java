@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.proxystore;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.operation.OperationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class RemoteMetadataCacheTest {
+
+    @Test
+    void shouldCacheValuesUntilTheyExpire() throws OperationException {
+        // Given
+        final AtomicLong time = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final RemoteMetadataCache cache = new RemoteMetadataCache(100, time::get);
+
+        // When
+        final int first = cache.get("key", loads::incrementAndGet);
+        time.set(99);
+        final int cached = cache.get("key", loads::incrementAndGet);
+        time.set(100);
+        final int expired = cache.get("key", loads::incrementAndGet);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(cached).isEqualTo(1);
+        assertThat(expired).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheValuesWhenTimeToLiveIsZero() throws OperationException {
+        // Given
+        final AtomicInteger loads = new AtomicInteger();
+        final RemoteMetadataCache cache = new RemoteMetadataCache(0);
+
+        // When
+        cache.get("key", loads::incrementAndGet);
+        cache.get("key", loads::incrementAndGet);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldReloadInvalidatedValues() throws OperationException {
+        // Given
+        final AtomicInteger loads = new AtomicInteger();
+        final RemoteMetadataCache cache = new RemoteMetadataCache(Long.MAX_VALUE / 2);
+        cache.get("key1", loads::incrementAndGet);
+        cache.get("key2", loads::incrementAndGet);
+
+        // When
+        cache.invalidate("key1");
+        final int key1 = cache.get("key1", loads::incrementAndGet);
+        final int key2 = cache.get("key2", loads::incrementAndGet);
+        cache.invalidateAll();
+        final int key2AfterInvalidateAll = cache.get("key2", loads::incrementAndGet);
+
+        // Then
+        assertThat(key1).isEqualTo(3);
+        assertThat(key2).isEqualTo(2);
+        assertThat(key2AfterInvalidateAll).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotCacheValuesLoadedWhileInvalidating() throws OperationException {
+        // Given
+        final AtomicInteger loads = new AtomicInteger();
+        final RemoteMetadataCache cache = new RemoteMetadataCache(Long.MAX_VALUE / 2);
+
+        // When
+        final int loadedDuringInvalidate = cache.get("key", () -> {
+            final int value = loads.incrementAndGet();
+            cache.invalidateAll();
+            return value;
+        });
+        final int reloaded = cache.get("key", loads::incrementAndGet);
+        final int cached = cache.get("key", loads::incrementAndGet);
+
+        // Then
+        assertThat(loadedDuringInvalidate).isEqualTo(1);
+        assertThat(reloaded).isEqualTo(2);
+        assertThat(cached).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentRequestsForTheSameKey() throws Exception {
+        // Given
+        final int threads = 5;
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final RemoteMetadataCache cache = new RemoteMetadataCache(0);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // When
+            final List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("key", () -> {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    throw new OperationException(e.getMessage(), e);
+                }
+                return loads.incrementAndGet();
+            })));
+            loading.await();
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get("key", loads::incrementAndGet)));
+            }
+            // Give the other requests time to join the in flight request
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            for (final Future<Integer> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotCacheFailures() throws OperationException {
+        // Given
+        final RemoteMetadataCache cache = new RemoteMetadataCache(Long.MAX_VALUE / 2);
+
+        // When / Then
+        assertThatExceptionOfType(OperationException.class)
+                .isThrownBy(() -> cache.get("key", () -> {
+                    throw new OperationException("Remote store unavailable");
+                }))
+                .withMessage("Remote store unavailable");
+        assertThat((String) cache.get("key", () -> "value")).isEqualTo("value");
+    }
+}
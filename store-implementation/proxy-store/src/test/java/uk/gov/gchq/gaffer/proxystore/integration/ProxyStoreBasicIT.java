@@ -48,6 +48,7 @@ import uk.gov.gchq.gaffer.operation.impl.job.GetJobDetails;
 import uk.gov.gchq.gaffer.operation.impl.output.ToList;
 import uk.gov.gchq.gaffer.proxystore.ProxyStore;
 import uk.gov.gchq.gaffer.proxystore.SingleUseMapProxyStore;
+import uk.gov.gchq.gaffer.proxystore.response.ChunkedResponseIterable;
 import uk.gov.gchq.gaffer.rest.RestApiTestClient;
 import uk.gov.gchq.gaffer.rest.service.v2.RestApiV2TestClient;
 import uk.gov.gchq.gaffer.store.Context;
@@ -147,6 +148,30 @@ public class ProxyStoreBasicIT {
         assertThat(results).asInstanceOf(InstanceOfAssertFactories.iterable(Element.class)).contains(DEFAULT_ELEMENTS);
     }
 
+    @Test
+    public void shouldStreamAllElementsFromChunkedEndpoint() throws Exception {
+        // Given
+        addDefaultElements();
+        final Graph streamingGraph = new Graph.Builder()
+                .store(new ProxyStore.Builder()
+                        .graphId("graph1")
+                        .host("localhost")
+                        .port(8080)
+                        .contextRoot("rest/v2")
+                        .streaming(true)
+                        .responseCompression(true)
+                        .build())
+                .build();
+
+        // When
+        final Iterable<? extends Element> results = streamingGraph.execute(new GetAllElements(), USER);
+
+        // Then
+        assertThat(results).isInstanceOf(ChunkedResponseIterable.class);
+        assertThat(results).asInstanceOf(InstanceOfAssertFactories.iterable(Element.class))
+                .containsExactlyInAnyOrder(DEFAULT_ELEMENTS);
+    }
+
     @Test
     public void shouldAddElementsAndGetRelatedElements() throws Exception {
         // Given
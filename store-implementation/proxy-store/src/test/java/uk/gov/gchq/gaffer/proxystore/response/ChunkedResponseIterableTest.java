@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 Crown Copyright
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package uk.gov.gchq.gaffer.proxystore.response;
+
+import org.junit.jupiter.api.Test;
+
+import uk.gov.gchq.gaffer.commonutil.TestGroups;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
+import uk.gov.gchq.gaffer.data.element.Edge;
+import uk.gov.gchq.gaffer.data.element.Element;
+import uk.gov.gchq.gaffer.data.element.Entity;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+
+import javax.ws.rs.core.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ChunkedResponseIterableTest {
+
+    @Test
+    void shouldLazilyDeserialiseChunksAndCloseResponseWhenFinished() throws Exception {
+        // Given
+        final Entity entity = new Entity(TestGroups.ENTITY, "1");
+        final Edge edge = new Edge(TestGroups.EDGE, "1", "2", true);
+        final Response response = mockResponse(toChunk(entity) + "\r\n" + toChunk(edge) + "\r\n");
+        final ChunkedResponseIterable<Element> iterable = new ChunkedResponseIterable<>(response, Element.class);
+
+        // When
+        final Iterator<Element> iterator = iterable.iterator();
+
+        // Then
+        assertThat(iterator.next()).isEqualTo(entity);
+        verify(response, never()).close();
+        assertThat(iterator.next()).isEqualTo(edge);
+        assertThat(iterator.hasNext()).isFalse();
+        verify(response).close();
+    }
+
+    @Test
+    void shouldOnlyBeIteratedOnce() {
+        // Given
+        final ChunkedResponseIterable<Element> iterable = new ChunkedResponseIterable<>(mockResponse(""), Element.class);
+
+        // When
+        iterable.iterator();
+
+        // Then
+        assertThatIllegalStateException().isThrownBy(iterable::iterator);
+    }
+
+    @Test
+    void shouldCloseResponseIfChunkCannotBeDeserialised() {
+        // Given
+        final Response response = mockResponse("not json\r\n");
+        final Iterator<Element> iterator = new ChunkedResponseIterable<>(response, Element.class).iterator();
+
+        // When / Then
+        assertThatExceptionOfType(GafferRuntimeException.class).isThrownBy(iterator::next);
+        verify(response).close();
+    }
+
+    private static String toChunk(final Element element) throws Exception {
+        return new String(JSONSerialiser.serialise(element), StandardCharsets.UTF_8);
+    }
+
+    private static Response mockResponse(final String body) {
+        final Response response = mock(Response.class);
+        given(response.hasEntity()).willReturn(true);
+        given(response.readEntity(InputStream.class)).willReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        return response;
+    }
+}
@@ -18,15 +18,26 @@ package uk.gov.gchq.gaffer.federated.simple.merge.operator;
 
 import org.apache.commons.collections4.IterableUtils;
 
+import uk.gov.gchq.gaffer.commonutil.ImmutableClassUtil;
+import uk.gov.gchq.gaffer.core.exception.GafferRuntimeException;
 import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Element;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.function.ElementAggregator;
+import uk.gov.gchq.gaffer.exception.SerialisationException;
+import uk.gov.gchq.gaffer.jsonserialisation.JSONSerialiser;
+import uk.gov.gchq.gaffer.serialisation.Serialiser;
 import uk.gov.gchq.gaffer.store.schema.Schema;
-
-import java.util.Iterator;
+import uk.gov.gchq.gaffer.store.schema.SchemaElementDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BinaryOperator;
-import java.util.stream.StreamSupport;
 
 /**
  * Operator for aggregating two iterables of {@link Element}s together, this
@@ -50,60 +61,88 @@ public class ElementAggregateOperator implements BinaryOperator<Iterable<Element
     @Override
     public Iterable<Element> apply(final Iterable<Element> update, final Iterable<Element> state) {
         // Just append the state and update so we can loop over it to do accurate merging
-        Iterable<Element> chainedMerge = IterableUtils.chainedIterable(update, state);
-
-        // Custom merge iterable for lazy processing
-        Iterable<Element> mergeIterable = () ->
-            new Iterator<Element>() {
-                // An iterator over the chained state and update iterables gives an accurate hasNext
-                Iterator<Element> chainedMergeIterator = chainedMerge.iterator();
-
-                @Override
-                public boolean hasNext() {
-                    return chainedMergeIterator.hasNext();
+        final Iterable<Element> chainedMerge = IterableUtils.chainedIterable(update, state);
+
+        // Group similar elements by their key so each element is only visited once
+        return () -> {
+            final Map<List<Object>, Element> merged = new LinkedHashMap<>();
+            final Set<List<Object>> aggregated = new HashSet<>();
+            for (final Element element : chainedMerge) {
+                final List<Object> key = getKey(element);
+                final Element current = merged.get(key);
+                if (current == null) {
+                    merged.put(key, element);
+                } else if (aggregated.add(key)) {
+                    // Clone so the aggregation does not modify the original element
+                    merged.put(key, getAggregator(element.getGroup()).apply(cloneForAggregation(current), element));
+                } else {
+                    merged.put(key, getAggregator(element.getGroup()).apply(current, element));
                 }
+            }
+            return merged.values().iterator();
+        };
+    }
 
-                @Override
-                public Element next() {
-                    // When requested do element aggregation on for the current element if required
-                    Element current = chainedMergeIterator.next();
-                    Element result = current;
-
-                    // Set up the aggregator for this group based on the schema
-                    ElementAggregator aggregator = new ElementAggregator();
-                    if (schema != null) {
-                        aggregator = schema.getElement(current.getGroup()).getIngestAggregator();
-                    }
-
-                    // Compare the current element with all others to do a full merge
-                    for (final Element inner : chainedMerge) {
-                        // No merge required if not in same group
-                        if (!current.getGroup().equals(inner.getGroup())) {
-                            continue;
-                        }
-
-                        if ((current instanceof Entity)
-                                && (inner instanceof Entity)
-                                && ((Entity) current).getVertex().equals(((Entity) inner).getVertex())) {
-                            result = aggregator.apply(inner, result);
-
-                        }
+    /**
+     * Gets the key used to find similar elements. Entities are similar if they
+     * have the same group and vertex, edges are similar if they have the same
+     * group, source and destination.
+     *
+     * @param element The element.
+     * @return The key.
+     */
+    private static List<Object> getKey(final Element element) {
+        if (element instanceof Entity) {
+            return Arrays.asList(element.getGroup(), ((Entity) element).getVertex());
+        }
+        final Edge edge = (Edge) element;
+        return Arrays.asList(edge.getGroup(), edge.getSource(), edge.getDestination());
+    }
 
-                        if ((current instanceof Edge)
-                                && (inner instanceof Edge)
-                                && ((Edge) current).getSource().equals(((Edge) inner).getSource())
-                                && ((Edge) current).getDestination().equals(((Edge) inner).getDestination())) {
-                            result = aggregator.apply(inner, result);
-                        }
-                    }
-                    return result;
-                }
-            };
+    /**
+     * Clones an element so it can be used as the first argument to an
+     * aggregator. The values of the properties that will be aggregated are
+     * copied, as aggregation functions can modify them in place.
+     *
+     * @param element The element to clone.
+     * @return The clone.
+     */
+    private Element cloneForAggregation(final Element element) {
+        final Element clone = element.shallowClone();
+        if (schema == null) {
+            return clone;
+        }
+
+        final SchemaElementDefinition elementDef = schema.getElement(element.getGroup());
+        for (final Map.Entry<String, Object> entry : element.getProperties().entrySet()) {
+            final Object value = entry.getValue();
+            // Immutable properties can be shared as aggregation cannot modify them
+            if (!ImmutableClassUtil.isImmutable(value)
+                    && !elementDef.getGroupBy().contains(entry.getKey())) {
+                clone.putProperty(entry.getKey(), cloneProperty(elementDef.getPropertyTypeDef(entry.getKey()), value));
+            }
+        }
+        return clone;
+    }
 
-        // Use stream to dedupe the merged result
-        return () -> StreamSupport.stream(mergeIterable.spliterator(), false)
-                .distinct()
-                .iterator();
+    @SuppressWarnings("unchecked")
+    private static Object cloneProperty(final TypeDefinition typeDef, final Object value) {
+        try {
+            if (typeDef != null && typeDef.getSerialiser() != null) {
+                final Serialiser<Object, Object> serialiser = typeDef.getSerialiser();
+                return serialiser.deserialise(serialiser.serialise(value));
+            }
+            return JSONSerialiser.deserialise(JSONSerialiser.serialise(value), value.getClass());
+        } catch (final SerialisationException e) {
+            throw new GafferRuntimeException("Unable to clone property of class " + value.getClass().getName() + " for aggregation", e);
+        }
     }
 
+    private ElementAggregator getAggregator(final String group) {
+        // Set up the aggregator for this group based on the schema
+        if (schema != null) {
+            return schema.getElement(group).getIngestAggregator();
+        }
+        return new ElementAggregator();
+    }
 }
@@ -23,12 +23,17 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import uk.gov.gchq.gaffer.commonutil.StreamUtil;
+import uk.gov.gchq.gaffer.data.element.Edge;
 import uk.gov.gchq.gaffer.data.element.Entity;
 import uk.gov.gchq.gaffer.data.element.Properties;
 import uk.gov.gchq.gaffer.store.schema.Schema;
+import uk.gov.gchq.gaffer.store.schema.SchemaEntityDefinition;
+import uk.gov.gchq.gaffer.store.schema.TypeDefinition;
+import uk.gov.gchq.koryphe.impl.binaryoperator.CollectionConcat;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.TreeSet;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -123,4 +128,66 @@ class DefaultResultAccumulatorTest {
         // Then
         assertThat(accumulator.apply(iter1, iter2)).containsExactlyElementsOf(expected);
     }
+
+    @Test
+    void shouldAggregateEdgesWithSameSourceAndDestinationRegardlessOfDirection() {
+        // Given
+        Schema schema = Schema.fromJson(StreamUtil.openStreams(this.getClass(), "/modern/schema"));
+        Edge directedEdge = new Edge.Builder()
+            .group("knows").source("1").dest("2").directed(true)
+            .property("weight", 0.5)
+            .build();
+        Edge undirectedEdge = new Edge.Builder()
+            .group("knows").source("1").dest("2").directed(false)
+            .property("weight", 1.0)
+            .build();
+        Iterable<Edge> iter1 = () -> Arrays.asList(directedEdge).iterator();
+        Iterable<Edge> iter2 = () -> Arrays.asList(undirectedEdge).iterator();
+
+        // When
+        FederatedResultAccumulator<Iterable<Edge>> accumulator = new DefaultResultAccumulator<>();
+        accumulator.aggregateElements(true);
+        accumulator.setSchema(schema);
+
+        // Then
+        assertThat(accumulator.apply(iter1, iter2)).containsExactly(directedEdge);
+    }
+
+    @Test
+    void shouldNotModifyPropertiesOfOriginalElementsWhenAggregating() {
+        // Given
+        Schema schema = new Schema.Builder()
+            .entity("person", new SchemaEntityDefinition.Builder()
+                .vertex("string.id")
+                .property("names", "set.string")
+                .build())
+            .type("string.id", String.class)
+            .type("set.string", new TypeDefinition.Builder()
+                .clazz(TreeSet.class)
+                .aggregateFunction(new CollectionConcat<>())
+                .build())
+            .build();
+        Entity entity1 = new Entity.Builder()
+            .group("person").vertex("1")
+            .property("names", new TreeSet<>(Arrays.asList("marko")))
+            .build();
+        Entity entity2 = new Entity.Builder()
+            .group("person").vertex("1")
+            .property("names", new TreeSet<>(Arrays.asList("vadas")))
+            .build();
+        Iterable<Entity> iter1 = () -> Arrays.asList(entity1).iterator();
+        Iterable<Entity> iter2 = () -> Arrays.asList(entity2).iterator();
+
+        // When
+        FederatedResultAccumulator<Iterable<Entity>> accumulator = new DefaultResultAccumulator<>();
+        accumulator.aggregateElements(true);
+        accumulator.setSchema(schema);
+        Iterable<Entity> result = accumulator.apply(iter1, iter2);
+
+        // Then
+        assertThat(result).extracting(e -> e.getProperty("names"))
+            .containsExactly(new TreeSet<>(Arrays.asList("marko", "vadas")));
+        assertThat(entity1.getProperty("names")).isEqualTo(new TreeSet<>(Arrays.asList("marko")));
+        assertThat(entity2.getProperty("names")).isEqualTo(new TreeSet<>(Arrays.asList("vadas")));
+    }
 }